@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Asynchronous variant of {@link CqlOperations} returning {@link CompletableFuture}s. Statements are executed with
+ * {@link com.datastax.driver.core.Session#executeAsync(Statement)}, results spanning multiple pages are fetched with
+ * {@link com.datastax.driver.core.ResultSet#fetchMoreResults()} so no thread blocks on driver I/O.
+ * {@link CompletableFuture#cancel(boolean) Cancelling} a returned future cancels the {@link ResultSetFuture} of the
+ * page currently in flight. Failures are translated into {@link DataAccessException}s.
+ *
+ * @since 1.6
+ * @see CqlOperations
+ */
+public interface AsyncCqlOperations {
+
+	/**
+	 * Executes the given CQL statement.
+	 *
+	 * @param cql static CQL statement, must not be empty or {@literal null}.
+	 * @return a {@link CompletableFuture} completed with {@literal true} if the statement was applied.
+	 */
+	CompletableFuture<Boolean> execute(String cql);
+
+	/**
+	 * Executes the given {@link Statement}.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with {@literal true} if the statement was applied.
+	 */
+	CompletableFuture<Boolean> execute(Statement statement);
+
+	/**
+	 * Prepares the given CQL using a {@link CachedPreparedStatementCreator}, binds its values with the
+	 * {@link PreparedStatementBinder} and executes the bound statement. Preparing does not block.
+	 *
+	 * @param cql CQL statement to prepare, must not be empty or {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values, may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with {@literal true} if the statement was applied.
+	 */
+	CompletableFuture<Boolean> execute(String cql, PreparedStatementBinder psb);
+
+	/**
+	 * Executes the given CQL query and maps each {@link Row} of all result pages using the {@link RowMapper}.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the mapped objects.
+	 */
+	<T> CompletableFuture<List<T>> query(String cql, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given {@link Statement} and maps each {@link Row} of all result pages using the {@link RowMapper}.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the mapped objects.
+	 */
+	<T> CompletableFuture<List<T>> query(Statement statement, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given {@link Statement} and maps at most {@code maxRows} {@link Row}s using the {@link RowMapper}.
+	 * Result pages beyond {@code maxRows} are not fetched.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @param maxRows maximum number of rows to map, must be greater than zero.
+	 * @return a {@link CompletableFuture} completed with the mapped objects.
+	 */
+	<T> CompletableFuture<List<T>> query(Statement statement, RowMapper<T> rowMapper, int maxRows);
+
+	/**
+	 * Prepares the given CQL using a {@link CachedPreparedStatementCreator}, binds its values with the
+	 * {@link PreparedStatementBinder}, executes the bound statement and maps each {@link Row} of all result pages using
+	 * the {@link RowMapper}. Preparing does not block.
+	 *
+	 * @param cql CQL query to prepare, must not be empty or {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values, may be {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the mapped objects.
+	 */
+	<T> CompletableFuture<List<T>> query(String cql, PreparedStatementBinder psb, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given CQL query expecting exactly one {@link Row} and maps it using the {@link RowMapper}.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping the {@link Row}, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the mapped object or exceptionally with
+	 *         {@link IncorrectResultSizeDataAccessException} if the query does not return exactly one row.
+	 */
+	<T> CompletableFuture<T> queryForObject(String cql, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given {@link Statement} expecting exactly one {@link Row} and maps it using the {@link RowMapper}.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping the {@link Row}, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the mapped object or exceptionally with
+	 *         {@link IncorrectResultSizeDataAccessException} if the query does not return exactly one row.
+	 */
+	<T> CompletableFuture<T> queryForObject(Statement statement, RowMapper<T> rowMapper);
+}
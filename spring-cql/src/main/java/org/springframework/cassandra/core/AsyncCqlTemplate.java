@@ -0,0 +1,366 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+
+import org.springframework.cassandra.core.util.ListenableFutures;
+import org.springframework.cassandra.support.CassandraAccessor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Default implementation of {@link AsyncCqlOperations}. Results are consumed page by page from the rows available
+ * without fetching, continuations run on the thread completing the driver future and never block.
+ *
+ * @since 1.6
+ * @see AsyncCqlOperations
+ * @see CqlTemplate
+ */
+public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOperations {
+
+	private PreparedStatementCache preparedStatementCache;
+
+	/**
+	 * Default constructor used to wire in the required components later.
+	 */
+	public AsyncCqlTemplate() {}
+
+	/**
+	 * Creates a new {@link AsyncCqlTemplate} for the given {@link Session}.
+	 *
+	 * @param session {@link Session} used to interact with Cassandra, must not be {@literal null}.
+	 */
+	public AsyncCqlTemplate(Session session) {
+		setSession(session);
+	}
+
+	/**
+	 * Sets the {@link PreparedStatementCache} used to cache {@link PreparedStatement}s created from CQL strings. Uses the
+	 * {@link CachedPreparedStatementCreator#getDefaultCache() shared default cache} if not configured.
+	 *
+	 * @param preparedStatementCache the {@link PreparedStatementCache}, may be {@literal null}.
+	 * @see LruPreparedStatementCache
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link PreparedStatementCache} used to cache {@link PreparedStatement}s created from CQL strings.
+	 *
+	 * @return the configured {@link PreparedStatementCache} or the shared default cache if not configured.
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return (preparedStatementCache != null ? preparedStatementCache : CachedPreparedStatementCreator.getDefaultCache());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#execute(java.lang.String)
+	 */
+	@Override
+	public CompletableFuture<Boolean> execute(String cql) {
+		return execute(newStatement(cql));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#execute(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public CompletableFuture<Boolean> execute(Statement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		try {
+			return toCompletableFuture(wasApplied(doExecuteAsync(statement)));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#execute(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder)
+	 */
+	@Override
+	public CompletableFuture<Boolean> execute(String cql, PreparedStatementBinder psb) {
+
+		try {
+			return toCompletableFuture(wasApplied(doExecuteAsync(cql, psb)));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#query(java.lang.String, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> query(String cql, RowMapper<T> rowMapper) {
+		return query(newStatement(cql), rowMapper);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#query(com.datastax.driver.core.Statement, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> query(Statement statement, RowMapper<T> rowMapper) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		try {
+			return toCompletableFuture(collect(doExecuteAsync(statement), rowMapper, Integer.MAX_VALUE));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#query(com.datastax.driver.core.Statement, org.springframework.cassandra.core.RowMapper, int)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> query(Statement statement, RowMapper<T> rowMapper, int maxRows) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+		Assert.isTrue(maxRows > 0, "Maximum rows must be greater than zero");
+
+		try {
+			return toCompletableFuture(collect(doExecuteAsync(statement), rowMapper, maxRows));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#query(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> query(String cql, PreparedStatementBinder psb, RowMapper<T> rowMapper) {
+
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		try {
+			return toCompletableFuture(collect(doExecuteAsync(cql, psb), rowMapper, Integer.MAX_VALUE));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#queryForObject(java.lang.String, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> CompletableFuture<T> queryForObject(String cql, RowMapper<T> rowMapper) {
+		return queryForObject(newStatement(cql), rowMapper);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncCqlOperations#queryForObject(com.datastax.driver.core.Statement, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> CompletableFuture<T> queryForObject(Statement statement, RowMapper<T> rowMapper) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		try {
+
+			// two rows are enough to detect a non-unique result, remaining pages are not fetched
+			ListenableFuture<List<T>> rows = collect(doExecuteAsync(statement), rowMapper, 2);
+
+			return toCompletableFuture(ListenableFutures.transformAsync(rows, new AsyncFunction<List<T>, T>() {
+
+				@Override
+				public ListenableFuture<T> apply(List<T> result) {
+
+					if (result.isEmpty()) {
+						throw new IncorrectResultSizeDataAccessException(1, 0);
+					}
+
+					if (result.size() > 1) {
+						throw new IncorrectResultSizeDataAccessException("ResultSet size exceeds 1", 1);
+					}
+
+					return Futures.immediateFuture(result.get(0));
+				}
+			}));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/**
+	 * Executes the {@link Statement} asynchronously.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link ListenableFuture} for the first result page.
+	 */
+	protected ListenableFuture<ResultSet> doExecuteAsync(Statement statement) {
+
+		logDebug("executing [{}]", statement);
+
+		return getSession().executeAsync(statement);
+	}
+
+	/**
+	 * Prepares the given CQL asynchronously, binds its values with the {@link PreparedStatementBinder} and executes the
+	 * bound statement.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @param psb may be {@literal null}.
+	 * @return the {@link ListenableFuture} for the first result page.
+	 */
+	protected ListenableFuture<ResultSet> doExecuteAsync(String cql, final PreparedStatementBinder psb) {
+
+		Assert.isTrue(StringUtils.hasText(cql), "CQL must not be empty");
+
+		CachedPreparedStatementCreator creator = new CachedPreparedStatementCreator(cql, getPreparedStatementCache());
+
+		return ListenableFutures.transformAsync(creator.createPreparedStatementAsync(getSession()),
+				new AsyncFunction<PreparedStatement, ResultSet>() {
+
+					@Override
+					public ListenableFuture<ResultSet> apply(PreparedStatement preparedStatement) {
+						return doExecuteAsync(psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
+					}
+				});
+	}
+
+	private static ListenableFuture<Boolean> wasApplied(ListenableFuture<ResultSet> future) {
+
+		return ListenableFutures.transformAsync(future, new AsyncFunction<ResultSet, Boolean>() {
+
+			@Override
+			public ListenableFuture<Boolean> apply(ResultSet resultSet) {
+				return Futures.immediateFuture(resultSet.wasApplied());
+			}
+		});
+	}
+
+	private static <T> ListenableFuture<List<T>> collect(ListenableFuture<ResultSet> firstPage, RowMapper<T> rowMapper,
+			int maxRows) {
+		return ListenableFutures.transformAsync(firstPage, new PageCollector<T>(rowMapper, maxRows));
+	}
+
+	/**
+	 * Adapts the {@link ListenableFuture} to a {@link CompletableFuture}. Failures are translated, cancelling the
+	 * {@link CompletableFuture} cancels {@code future}.
+	 */
+	private <T> CompletableFuture<T> toCompletableFuture(final ListenableFuture<T> future) {
+
+		final CompletableFuture<T> result = new CompletableFuture<T>();
+
+		result.whenComplete(new BiConsumer<T, Throwable>() {
+
+			@Override
+			public void accept(T value, Throwable throwable) {
+
+				if (result.isCancelled()) {
+					future.cancel(false);
+				}
+			}
+		});
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					result.complete(Uninterruptibles.getUninterruptibly(future));
+				} catch (ExecutionException e) {
+					result.completeExceptionally(translate(e.getCause()));
+				} catch (CancellationException e) {
+					result.cancel(false);
+				} catch (Throwable t) {
+					result.completeExceptionally(translate(t));
+				}
+			}
+		}, CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+
+		return result;
+	}
+
+	private <T> CompletableFuture<T> failed(Throwable t) {
+
+		CompletableFuture<T> result = new CompletableFuture<T>();
+		result.completeExceptionally(translate(t));
+
+		return result;
+	}
+
+	private RuntimeException translate(Throwable t) {
+		return CqlTemplate.translateExceptionIfPossible(t, getExceptionTranslator());
+	}
+
+	private static Statement newStatement(String cql) {
+
+		Assert.isTrue(StringUtils.hasText(cql), "CQL must not be empty");
+
+		return new SimpleStatement(cql);
+	}
+
+	/**
+	 * Maps the rows available without fetching and requests the next page until the {@link ResultSet} is fully
+	 * fetched or {@code maxRows} are collected.
+	 */
+	private static class PageCollector<T> implements AsyncFunction<ResultSet, List<T>> {
+
+		private final RowMapper<T> rowMapper;
+		private final int maxRows;
+		private final List<T> rows = new ArrayList<T>();
+
+		PageCollector(RowMapper<T> rowMapper, int maxRows) {
+			this.rowMapper = rowMapper;
+			this.maxRows = maxRows;
+		}
+
+		/* (non-Javadoc)
+		 * @see com.google.common.util.concurrent.AsyncFunction#apply(java.lang.Object)
+		 */
+		@Override
+		public ListenableFuture<List<T>> apply(ResultSet resultSet) {
+
+			for (int available = resultSet.getAvailableWithoutFetching(); available > 0
+					&& rows.size() < maxRows; available--) {
+				rows.add(rowMapper.mapRow(resultSet.one(), rows.size()));
+			}
+
+			if (rows.size() >= maxRows || resultSet.isFullyFetched()) {
+				return Futures.immediateFuture(rows);
+			}
+
+			return ListenableFutures.transformAsync(resultSet.fetchMoreResults(), this);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * {@link PreparedStatementCreator} that is able to create a {@link PreparedStatement} without blocking the calling
+ * thread. {@link CqlTemplate} chains asynchronous queries on the returned {@link ListenableFuture} instead of waiting
+ * for the prepare to complete.
+ *
+ * @since 1.6
+ * @see Session#prepareAsync(String)
+ */
+public interface AsyncPreparedStatementCreator extends PreparedStatementCreator {
+
+	/**
+	 * Create a {@link PreparedStatement} asynchronously in the given {@link Session}.
+	 *
+	 * @param session the {@link Session} to use to create the statement.
+	 * @return a {@link ListenableFuture} completing with the {@link PreparedStatement}.
+	 */
+	ListenableFuture<PreparedStatement> createPreparedStatementAsync(Session session);
+}
@@ -15,9 +15,6 @@
  */
 package org.springframework.cassandra.core;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -25,36 +22,65 @@ import org.springframework.util.Assert;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
- * This {@link PreparedStatementCreator} maintains a static cache of all prepared statements for the duration of the JVM
- * runtime, more specific the lifecycle of the associated {@link ClassLoader}. When preparing statements with Cassandra,
- * each Statement should be prepared once and only once due to the overhead of preparing the statement.
+ * This {@link PreparedStatementCreator} obtains {@link PreparedStatement}s from a {@link PreparedStatementCache}. When
+ * preparing statements with Cassandra, each Statement should be prepared once and only once due to the overhead of
+ * preparing the statement. Unless a {@link PreparedStatementCache} is given, statements are cached in a shared
+ * {@link LruPreparedStatementCache} for the lifecycle of the associated {@link ClassLoader}.
  * <p>
  * {@link CachedPreparedStatementCreator} is thread-safe and does not require external synchronization when used by
  * concurrent threads.
  * 
  * @author David Webb
  * @author Mark Paluch
+ * @see PreparedStatementCache
  */
-public class CachedPreparedStatementCreator implements PreparedStatementCreator {
+public class CachedPreparedStatementCreator implements AsyncPreparedStatementCreator {
 
-	private static final Map<Session, Map<String, PreparedStatement>> CACHE = new ConcurrentHashMap<Session, Map<String, PreparedStatement>>();
+	private static final PreparedStatementCache DEFAULT_CACHE = new LruPreparedStatementCache();
 
 	protected final Logger log = LoggerFactory.getLogger(getClass());
 
 	private final String cql;
 
+	private final PreparedStatementCache cache;
+
 	/**
-	 * Create a {@link PreparedStatementCreator} from the provided CQL.
+	 * Create a {@link PreparedStatementCreator} from the provided CQL using the shared default
+	 * {@link PreparedStatementCache}.
 	 * 
 	 * @param cql must not be empty or {@literal null}.
 	 */
 	public CachedPreparedStatementCreator(String cql) {
+		this(cql, DEFAULT_CACHE);
+	}
+
+	/**
+	 * Create a {@link PreparedStatementCreator} from the provided CQL using the given {@link PreparedStatementCache}.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 * @since 1.6
+	 */
+	public CachedPreparedStatementCreator(String cql, PreparedStatementCache cache) {
 
 		Assert.hasText(cql, "CQL is required to create a PreparedStatement");
+		Assert.notNull(cache, "PreparedStatementCache must not be null");
 
 		this.cql = cql;
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the shared default {@link PreparedStatementCache} used if no cache is configured.
+	 *
+	 * @return the shared default {@link PreparedStatementCache}.
+	 * @since 1.6
+	 */
+	public static PreparedStatementCache getDefaultCache() {
+		return DEFAULT_CACHE;
 	}
 
 	/**
@@ -66,64 +92,39 @@ public class CachedPreparedStatementCreator implements PreparedStatementCreator
 		return this.cql;
 	}
 
+	/**
+	 * Returns the {@link PreparedStatementCache} used to cache the {@link PreparedStatement}.
+	 *
+	 * @return the {@link PreparedStatementCache}.
+	 * @since 1.6
+	 */
+	public PreparedStatementCache getCache() {
+		return this.cache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.cassandra.core.PreparedStatementCreator#createPreparedStatement(com.datastax.driver.core.Session)
 	 */
 	@Override
 	public PreparedStatement createPreparedStatement(Session session) throws DriverException {
 
-		String cacheKey = String.valueOf(session.getLoggedKeyspace()).concat("|").concat(this.cql);
-
-		log.debug("Cacheable PreparedStatement in Keyspace {}", session.getLoggedKeyspace());
-
-		Map<String, PreparedStatement> sessionCache = getOrCreateSessionLocalCache(session);
-
-		return getOrPrepareStatement(session, cacheKey, sessionCache);
-	}
-
-	@SuppressWarnings("all")
-	private Map<String, PreparedStatement> getOrCreateSessionLocalCache(Session session) {
-
-		Map<String, PreparedStatement> sessionMap = CACHE.get(session);
-
-		if (sessionMap == null) {
-
-			synchronized (session) {
-
-				if (CACHE.containsKey(session)) {
-					sessionMap = CACHE.get(session);
-				} else {
-					sessionMap = new ConcurrentHashMap<String, PreparedStatement>();
-					CACHE.put(session, sessionMap);
-				}
-			}
+		if (log.isDebugEnabled()) {
+			log.debug("Cacheable PreparedStatement in Keyspace {}", session.getLoggedKeyspace());
 		}
 
-		return sessionMap;
+		return cache.getPreparedStatement(session, this.cql);
 	}
 
-	@SuppressWarnings("all")
-	private PreparedStatement getOrPrepareStatement(Session session, String cacheKey,
-			Map<String, PreparedStatement> sessionCache) {
-
-		PreparedStatement preparedStatement = sessionCache.get(cacheKey);
-
-		if (preparedStatement == null) {
-
-			synchronized (sessionCache) {
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.AsyncPreparedStatementCreator#createPreparedStatementAsync(com.datastax.driver.core.Session)
+	 */
+	@Override
+	public ListenableFuture<PreparedStatement> createPreparedStatementAsync(Session session) {
 
-				if (sessionCache.containsKey(cacheKey)) {
-					log.debug("Found cached PreparedStatement");
-					preparedStatement = sessionCache.get(cacheKey);
-				}
-				else {
-					log.debug("No cached PreparedStatement found... creating and caching");
-					preparedStatement = session.prepare(this.cql);
-					sessionCache.put(cacheKey, preparedStatement);
-				}
-			}
+		if (log.isDebugEnabled()) {
+			log.debug("Cacheable asynchronous PreparedStatement in Keyspace {}", session.getLoggedKeyspace());
 		}
 
-		return preparedStatement;
+		return cache.getPreparedStatementAsync(session, this.cql);
 	}
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link Executor} dispatching asynchronous query callbacks off the driver I/O threads. Callbacks are queued
+ * into a fixed-capacity queue served by a fixed number of daemon threads, idle threads time out.
+ * <p>
+ * If the queue is full the callback is rejected with a {@link RejectedExecutionException} instead of running on the
+ * submitting thread, which is typically a driver I/O thread. Callers owning a future fail it with the rejection.
+ * {@link CqlTemplate} runs rejected listener callbacks on the completing thread so listeners are never dropped.
+ * Rejections are counted; a growing {@link #getRejectedCount() rejected count} indicates the pool or queue is too small
+ * for the callback load.
+ *
+ * @since 1.6
+ */
+public class CallbackExecutor implements Executor {
+
+	/**
+	 * Default number of callback threads.
+	 */
+	public static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Default capacity of the callback queue.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final ThreadPoolExecutor executor;
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	/**
+	 * Creates a new {@link CallbackExecutor} using {@link #DEFAULT_POOL_SIZE} and {@link #DEFAULT_QUEUE_CAPACITY}.
+	 */
+	public CallbackExecutor() {
+		this(DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link CallbackExecutor}.
+	 *
+	 * @param poolSize number of callback threads, must be greater than zero.
+	 * @param queueCapacity capacity of the callback queue, must be greater than zero.
+	 */
+	public CallbackExecutor(int poolSize, int queueCapacity) {
+
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than zero");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero");
+
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), new CallbackThreadFactory(), new RejectedExecutionHandler() {
+
+					@Override
+					public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+						rejectedCount.incrementAndGet();
+
+						throw new RejectedExecutionException(String.format(
+								"Callback queue is full (%d callbacks queued), rejecting callback", executor.getQueue().size()));
+					}
+				});
+
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Queues the given callback.
+	 *
+	 * @param command the callback to run.
+	 * @throws RejectedExecutionException if the callback queue is full or the executor is shut down.
+	 */
+	@Override
+	public void execute(Runnable command) {
+		executor.execute(command);
+	}
+
+	/**
+	 * Returns the number of callbacks waiting in the queue.
+	 *
+	 * @return the current queue depth.
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * Returns the number of callbacks that were rejected because the callback queue was full.
+	 *
+	 * @return the number of rejected callbacks.
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	/**
+	 * Returns the approximate number of threads currently running callbacks.
+	 *
+	 * @return the number of active threads.
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * Shuts down the callback threads after running already queued callbacks.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static class CallbackThreadFactory implements ThreadFactory {
+
+		private final String prefix = String.format("cassandra-callback-%d-", POOL_NUMBER.incrementAndGet());
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		/* (non-Javadoc)
+		 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+		 */
+		@Override
+		public Thread newThread(Runnable runnable) {
+
+			Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
@@ -44,6 +44,7 @@ import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Truncate;
 import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Operations for interacting with Cassandra at the lowest level. This interface provides Exception Translation.
@@ -494,6 +495,58 @@ public interface CqlOperations {
 	Cancellable queryAsynchronously(String cql, AsynchronousQueryListener listener, QueryOptions options,
 			Executor executor);
 
+	/**
+	 * Prepares the provided CQL asynchronously using a {@link CachedPreparedStatementCreator}, binds its values with the
+	 * {@link PreparedStatementBinder} and executes the bound statement asynchronously. No thread is blocked while the
+	 * statement is prepared or executed.
+	 * 
+	 * @param cql The Query to Prepare
+	 * @param psb The Binding implementation; may be null.
+	 * @return A {@link ListenableFuture} completing with the {@link ResultSet}.
+	 * @since 1.6
+	 */
+	ListenableFuture<ResultSet> queryAsynchronously(String cql, PreparedStatementBinder psb);
+
+	/**
+	 * Prepares the provided CQL asynchronously using a {@link CachedPreparedStatementCreator}, binds its values with the
+	 * {@link PreparedStatementBinder} and executes the bound statement asynchronously with the given
+	 * {@link QueryOptions}. No thread is blocked while the statement is prepared or executed.
+	 * 
+	 * @param cql The Query to Prepare
+	 * @param psb The Binding implementation; may be null.
+	 * @param options The {@link QueryOptions}; may be null.
+	 * @return A {@link ListenableFuture} completing with the {@link ResultSet}.
+	 * @since 1.6
+	 */
+	ListenableFuture<ResultSet> queryAsynchronously(String cql, PreparedStatementBinder psb, QueryOptions options);
+
+	/**
+	 * Uses the provided {@link PreparedStatementCreator} to create a {@link PreparedStatement}, binds its values with
+	 * the {@link PreparedStatementBinder} and executes the bound statement asynchronously. Preparing does not block if
+	 * the {@link PreparedStatementCreator} is an {@link AsyncPreparedStatementCreator}.
+	 * 
+	 * @param psc The {@link PreparedStatementCreator}
+	 * @param psb The Binding implementation; may be null.
+	 * @return A {@link ListenableFuture} completing with the {@link ResultSet}.
+	 * @since 1.6
+	 */
+	ListenableFuture<ResultSet> queryAsynchronously(PreparedStatementCreator psc, PreparedStatementBinder psb);
+
+	/**
+	 * Uses the provided {@link PreparedStatementCreator} to create a {@link PreparedStatement}, binds its values with
+	 * the {@link PreparedStatementBinder} and executes the bound statement asynchronously with the given
+	 * {@link QueryOptions}. Preparing does not block if the {@link PreparedStatementCreator} is an
+	 * {@link AsyncPreparedStatementCreator}.
+	 * 
+	 * @param psc The {@link PreparedStatementCreator}
+	 * @param psb The Binding implementation; may be null.
+	 * @param options The {@link QueryOptions}; may be null.
+	 * @return A {@link ListenableFuture} completing with the {@link ResultSet}.
+	 * @since 1.6
+	 */
+	ListenableFuture<ResultSet> queryAsynchronously(PreparedStatementCreator psc, PreparedStatementBinder psb,
+			QueryOptions options);
+
 	/**
 	 * Executes the provided CQL query and returns the {@link ResultSet}.
 	 * 
@@ -1347,6 +1400,42 @@ public interface CqlOperations {
 	 */
 	void ingest(String cql, Object[][] rows, WriteOptions options);
 
+	/**
+	 * Flow-controlled variant of {@link #ingest(String, RowIterator, WriteOptions)}. The CQL is used to create a
+	 * {@link PreparedStatement} once, then all row values are bound to that {@link PreparedStatement} and executed
+	 * asynchronously while limiting the number of in-flight requests and, optionally, the request rate according to the
+	 * given {@link IngestOptions}. Failed requests are retried up to {@link IngestOptions#getMaxRetries()} times with an
+	 * exponential backoff starting at {@link IngestOptions#getRetryBackoff()}.
+	 * <p>
+	 * This method blocks until all rows are either written or failed.
+	 * </p>
+	 * 
+	 * @param cql The CQL
+	 * @param rowIterator Implementation to provide the Object[] to be bound to the CQL.
+	 * @param options The Write Options Object; may be null.
+	 * @param ingestOptions The flow control options, must not be null.
+	 * @return the {@link IngestResult} reporting successful and failed rows, throughput and latencies.
+	 * @since 1.6
+	 */
+	IngestResult ingest(String cql, RowIterator rowIterator, WriteOptions options, IngestOptions ingestOptions);
+
+	/**
+	 * Flow-controlled variant of {@link #ingest(String, List, WriteOptions)}. The List<?> length must match the number
+	 * of bind variables in the CQL.
+	 * <p>
+	 * This method blocks until all rows are either written or failed.
+	 * </p>
+	 * 
+	 * @param cql The CQL
+	 * @param rows List of List<?> with data to bind to the CQL.
+	 * @param options The Write Options Object; may be null.
+	 * @param ingestOptions The flow control options, must not be null.
+	 * @return the {@link IngestResult} reporting successful and failed rows, throughput and latencies.
+	 * @since 1.6
+	 * @see #ingest(String, RowIterator, WriteOptions, IngestOptions)
+	 */
+	IngestResult ingest(String cql, List<List<?>> rows, WriteOptions options, IngestOptions ingestOptions);
+
 	/**
 	 * Delete all rows in the table
 	 * 
@@ -1377,6 +1466,39 @@ public interface CqlOperations {
 	 */
 	long count(String tableName);
 
+	/**
+	 * Counts all rows of the given table with a parallel token range scan. The token ring is split into sub-ranges
+	 * that are counted concurrently, so no single coordinator has to count the whole table. Counting does not support
+	 * {@link ScanOptions#isCheckpointing() checkpointing} as a resumed count would only cover the remaining sub-ranges.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param options the scan options, must not be {@literal null}.
+	 * @return the number of rows.
+	 * @since 1.6
+	 * @see #scan(CqlIdentifier, RowCallbackHandler, ScanOptions)
+	 */
+	long count(CqlIdentifier tableName, ScanOptions options);
+
+	/**
+	 * Reads all rows of the given table with a parallel token range scan and passes each row to the
+	 * {@link RowCallbackHandler}. The token ring is split into sub-ranges that are queried concurrently. Rows of
+	 * different sub-ranges are processed concurrently and in no particular order, so the {@link RowCallbackHandler} must
+	 * be thread-safe. Blocks until all rows are processed; the first failure that is not
+	 * {@link ScanOptions#getMaxRetries() retried} stops the scan and is rethrown.
+	 * <p>
+	 * A scan using a {@link ScanCheckpointStore} resumes from the checkpoint of a previous failed scan with the same
+	 * scan id. Rows read after the last checkpoint of the failed scan are passed to the {@link RowCallbackHandler}
+	 * again.
+	 * <p>
+	 * The table must be part of the keyspace the {@link com.datastax.driver.core.Session} is connected to.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param rch the {@link RowCallbackHandler} processing each row, must not be {@literal null}.
+	 * @param options the scan options, must not be {@literal null}.
+	 * @since 1.6
+	 */
+	void scan(CqlIdentifier tableName, RowCallbackHandler rch, ScanOptions options);
+
 	/**
 	 * Convenience method to convert the given specification to CQL and execute it.
 	 * 
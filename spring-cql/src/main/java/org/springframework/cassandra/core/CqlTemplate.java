@@ -25,10 +25,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.core.cql.generator.AlterKeyspaceCqlGenerator;
@@ -47,6 +50,7 @@ import org.springframework.cassandra.core.keyspace.CreateTableSpecification;
 import org.springframework.cassandra.core.keyspace.DropIndexSpecification;
 import org.springframework.cassandra.core.keyspace.DropKeyspaceSpecification;
 import org.springframework.cassandra.core.keyspace.DropTableSpecification;
+import org.springframework.cassandra.core.util.ListenableFutures;
 import org.springframework.cassandra.support.CassandraAccessor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -77,6 +81,11 @@ import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Truncate;
 import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * <b>This is the central class in the Cassandra core package.</b> {@link CqlTemplate} simplifies the use of Cassandra
@@ -116,6 +125,28 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	};
 
+	private PreparedStatementCache preparedStatementCache;
+
+	private volatile Executor callbackExecutor;
+
+	private final Executor listenerExecutor = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+
+			try {
+				getCallbackExecutor().execute(command);
+			} catch (RejectedExecutionException e) {
+
+				if (logger.isWarnEnabled()) {
+					logger.warn("Callback Executor rejected listener callback, running it on the completing thread", e);
+				}
+
+				command.run();
+			}
+		}
+	};
+
 	protected String logCql(String cql) {
 		return logCql("executing CQL [{}]", cql);
 	}
@@ -261,6 +292,122 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		setSession(session);
 	}
 
+	/**
+	 * Sets the {@link PreparedStatementCache} used to cache {@link PreparedStatement}s created from CQL strings. Uses the
+	 * {@link CachedPreparedStatementCreator#getDefaultCache() shared default cache} if not configured.
+	 *
+	 * @param preparedStatementCache the {@link PreparedStatementCache}, may be {@literal null}.
+	 * @see LruPreparedStatementCache
+	 * @since 1.6
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link PreparedStatementCache} used to cache {@link PreparedStatement}s created from CQL strings.
+	 *
+	 * @return the configured {@link PreparedStatementCache} or the shared default cache if not configured.
+	 * @since 1.6
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return (preparedStatementCache != null ? preparedStatementCache : CachedPreparedStatementCreator.getDefaultCache());
+	}
+
+	/**
+	 * Sets the {@link Executor} running {@link AsynchronousQueryListener} and {@link Runnable} callbacks of asynchronous
+	 * queries that are not given an explicit {@link Executor}. Defaults to a bounded {@link CallbackExecutor} so
+	 * callbacks and the row mapping they perform do not run on the driver I/O threads. Use a same-thread
+	 * {@link Executor} to restore inline dispatch. Listener callbacks the {@link Executor} rejects run on the completing
+	 * thread.
+	 *
+	 * @param callbackExecutor the callback {@link Executor}, must not be {@literal null}.
+	 * @see CallbackExecutor
+	 * @since 1.6
+	 */
+	public void setCallbackExecutor(Executor callbackExecutor) {
+
+		Assert.notNull(callbackExecutor, "Callback Executor must not be null");
+
+		this.callbackExecutor = callbackExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} running callbacks of asynchronous queries. Creates the default
+	 * {@link CallbackExecutor} on first use if none is configured.
+	 *
+	 * @return the callback {@link Executor}.
+	 * @since 1.6
+	 */
+	public Executor getCallbackExecutor() {
+
+		Executor executor = this.callbackExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+
+				if (this.callbackExecutor == null) {
+					this.callbackExecutor = new CallbackExecutor();
+				}
+
+				executor = this.callbackExecutor;
+			}
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} dispatching listener callbacks of asynchronous queries on the
+	 * {@link #getCallbackExecutor() callback Executor}. Listener callbacks the callback {@link Executor} rejects, because
+	 * it is saturated or shut down, run on the completing thread so listeners are never dropped.
+	 *
+	 * @return the listener {@link Executor}.
+	 * @since 1.6
+	 */
+	protected Executor getListenerExecutor() {
+		return listenerExecutor;
+	}
+
+	/**
+	 * Returns the number of callbacks waiting for a callback thread.
+	 *
+	 * @return the callback queue depth, {@literal 0} if the callback {@link Executor} is not a {@link CallbackExecutor}.
+	 * @since 1.6
+	 */
+	public int getCallbackQueueDepth() {
+
+		Executor executor = this.callbackExecutor;
+
+		return (executor instanceof CallbackExecutor ? ((CallbackExecutor) executor).getQueueDepth() : 0);
+	}
+
+	/**
+	 * Returns the number of callbacks that were rejected because they exceeded the callback queue capacity.
+	 *
+	 * @return the number of rejected callbacks, {@literal 0} if the callback {@link Executor} is not a
+	 *         {@link CallbackExecutor}.
+	 * @since 1.6
+	 */
+	public long getCallbackRejectedCount() {
+
+		Executor executor = this.callbackExecutor;
+
+		return (executor instanceof CallbackExecutor ? ((CallbackExecutor) executor).getRejectedCount() : 0);
+	}
+
+	/**
+	 * Creates a new {@link CachedPreparedStatementCreator} for the given {@code cql} that uses the
+	 * {@link #getPreparedStatementCache() configured cache}.
+	 *
+	 * @param cql must not be empty or {@literal null}.
+	 * @return a new {@link CachedPreparedStatementCreator}.
+	 * @since 1.6
+	 */
+	protected CachedPreparedStatementCreator newCachedPreparedStatementCreator(String cql) {
+		return new CachedPreparedStatementCreator(cql, getPreparedStatementCache());
+	}
+
 	/**
 	 * Executes the given command in a Cassandra {@link Session}.
 	 *
@@ -380,22 +527,22 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, Runnable listener) {
-		return queryAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, getListenerExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, AsynchronousQueryListener listener) {
-		return queryAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, getListenerExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, Runnable listener, QueryOptions queryOptions) {
-		return queryAsynchronously(cql, listener, queryOptions, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, queryOptions, getListenerExecutor());
 	}
 
 	@Override
 	public Cancellable queryAsynchronously(String cql, AsynchronousQueryListener listener, QueryOptions queryOptions) {
-		return queryAsynchronously(cql, listener, queryOptions, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(cql, listener, queryOptions, getListenerExecutor());
 	}
 
 	@Override
@@ -454,6 +601,120 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		});
 	}
 
+	@Override
+	public ListenableFuture<ResultSet> queryAsynchronously(String cql, PreparedStatementBinder preparedStatementBinder) {
+		return queryAsynchronously(cql, preparedStatementBinder, null);
+	}
+
+	@Override
+	public ListenableFuture<ResultSet> queryAsynchronously(String cql, PreparedStatementBinder preparedStatementBinder,
+			QueryOptions queryOptions) {
+
+		return queryAsynchronously(newCachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder,
+				queryOptions);
+	}
+
+	@Override
+	public ListenableFuture<ResultSet> queryAsynchronously(PreparedStatementCreator preparedStatementCreator,
+			PreparedStatementBinder preparedStatementBinder) {
+
+		return queryAsynchronously(preparedStatementCreator, preparedStatementBinder, null);
+	}
+
+	@Override
+	public ListenableFuture<ResultSet> queryAsynchronously(PreparedStatementCreator preparedStatementCreator,
+			final PreparedStatementBinder preparedStatementBinder, final QueryOptions queryOptions) {
+
+		Assert.notNull(preparedStatementCreator, "PreparedStatementCreator must not be null");
+
+		final Session session = getSession();
+
+		ListenableFuture<ResultSet> resultSetFuture = ListenableFutures.transformAsync(
+				doPrepareAsync(preparedStatementCreator, session), new AsyncFunction<PreparedStatement, ResultSet>() {
+
+					@Override
+					public ListenableFuture<ResultSet> apply(PreparedStatement preparedStatement) {
+
+						BoundStatement boundStatement = (preparedStatementBinder != null
+								? preparedStatementBinder.bindValues(preparedStatement) : preparedStatement.bind());
+
+						logDebug("async execute [{}]", preparedStatement.getQueryString());
+
+						return session.executeAsync(addQueryOptions(boundStatement, queryOptions));
+					}
+				});
+
+		return translateExceptions(resultSetFuture);
+	}
+
+	/**
+	 * Creates a {@link PreparedStatement} using the given {@link PreparedStatementCreator}. Does not block if the
+	 * {@link PreparedStatementCreator} is an {@link AsyncPreparedStatementCreator}, otherwise the
+	 * {@link PreparedStatement} is created on the calling thread.
+	 *
+	 * @param preparedStatementCreator must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the {@link PreparedStatement}.
+	 * @since 1.6
+	 */
+	protected ListenableFuture<PreparedStatement> doPrepareAsync(PreparedStatementCreator preparedStatementCreator,
+			Session session) {
+
+		try {
+
+			if (preparedStatementCreator instanceof AsyncPreparedStatementCreator) {
+				return ((AsyncPreparedStatementCreator) preparedStatementCreator).createPreparedStatementAsync(session);
+			}
+
+			return Futures.immediateFuture(preparedStatementCreator.createPreparedStatement(session));
+		} catch (Throwable t) {
+			return Futures.immediateFailedFuture(t);
+		}
+	}
+
+	/**
+	 * Returns a {@link ListenableFuture} that translates failures of the given {@code future} using the configured
+	 * {@link PersistenceExceptionTranslator}.
+	 *
+	 * @param future must not be {@literal null}.
+	 * @return the translating {@link ListenableFuture}.
+	 * @since 1.6
+	 */
+	protected <T> ListenableFuture<T> translateExceptions(final ListenableFuture<T> future) {
+
+		final SettableFuture<T> translated = SettableFuture.create();
+
+		translated.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (translated.isCancelled()) {
+					future.cancel(false);
+				}
+			}
+		}, RUN_RUNNABLE_EXECUTOR);
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					translated.set(Uninterruptibles.getUninterruptibly(future));
+				} catch (ExecutionException e) {
+					translated.setException(translateExceptionIfPossible(e.getCause()));
+				} catch (CancellationException e) {
+					translated.cancel(false);
+				} catch (Throwable t) {
+					translated.setException(translateExceptionIfPossible(t));
+				}
+			}
+		}, RUN_RUNNABLE_EXECUTOR);
+
+		return translated;
+	}
+
 	@SuppressWarnings("unused")
 	public <T> T queryAsynchronously(String cql, ResultSetFutureExtractor<T> resultSetFutureExtractor) {
 		return queryAsynchronously(cql, resultSetFutureExtractor, null);
@@ -601,7 +862,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 						public void run() {
 							listener.onQueryComplete(resultSetFuture);
 						}
-					}, RUN_RUNNABLE_EXECUTOR);
+					}, getListenerExecutor());
 				}
 
 				return new ResultSetFutureCancellable(resultSetFuture);
@@ -672,7 +933,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable executeAsynchronously(String cql, Runnable listener) {
-		return executeAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(cql, listener, getListenerExecutor());
 	}
 
 	@Override
@@ -696,7 +957,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@Override
 	public Cancellable executeAsynchronously(String cql, AsynchronousQueryListener listener) {
 
-		return executeAsynchronously(cql, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(cql, listener, getListenerExecutor());
 	}
 
 	@Override
@@ -733,13 +994,13 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable executeAsynchronously(Statement statement, Runnable listener) {
-		return executeAsynchronously(statement, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(statement, listener, getListenerExecutor());
 	}
 
 	@Override
 	public Cancellable executeAsynchronously(Statement statement, AsynchronousQueryListener listener) {
 
-		return executeAsynchronously(statement, listener, RUN_RUNNABLE_EXECUTOR);
+		return executeAsynchronously(statement, listener, getListenerExecutor());
 	}
 
 	@Override
@@ -965,7 +1226,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public <T> T execute(String cql, PreparedStatementCallback<T> callback) {
-		return execute(new CachedPreparedStatementCreator(logCql(cql)), callback);
+		return execute(newCachedPreparedStatementCreator(logCql(cql)), callback);
 	}
 
 	@Override
@@ -1012,7 +1273,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public <T> T query(String cql, PreparedStatementBinder preparedStatementBinder,
 			ResultSetExtractor<T> resultSetExtractor, QueryOptions queryOptions) {
 
-		return query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, resultSetExtractor,
+		return query(newCachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, resultSetExtractor,
 				queryOptions);
 	}
 
@@ -1027,7 +1288,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public void query(String cql, PreparedStatementBinder preparedStatementBinder, RowCallbackHandler rowCallbackHandler,
 			QueryOptions queryOptions) {
 
-		query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowCallbackHandler, queryOptions);
+		query(newCachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowCallbackHandler, queryOptions);
 	}
 
 	@Override
@@ -1039,14 +1300,13 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	public <T> List<T> query(String cql, PreparedStatementBinder preparedStatementBinder, RowMapper<T> rowMapper,
 			QueryOptions queryOptions) {
 
-		return query(new CachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowMapper, queryOptions);
+		return query(newCachedPreparedStatementCreator(logCql(cql)), preparedStatementBinder, rowMapper, queryOptions);
 	}
 
 	@Override
 	public void ingest(String cql, RowIterator rowIterator, WriteOptions options) {
 
-		CachedPreparedStatementCreator cachedPreparedStatementCreator =
-				new CachedPreparedStatementCreator(logCql(cql));
+		CachedPreparedStatementCreator cachedPreparedStatementCreator = newCachedPreparedStatementCreator(logCql(cql));
 
 		PreparedStatement preparedStatement = addPreparedStatementOptions(
 				cachedPreparedStatementCreator.createPreparedStatement(getSession()), options);
@@ -1069,26 +1329,12 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	}
 
 	@Override
-	public void ingest(String cql, final List<List<?>> rows, WriteOptions writeOptions) {
+	public void ingest(String cql, List<List<?>> rows, WriteOptions writeOptions) {
 
 		Assert.notNull(rows, "Rows must not be null");
 		Assert.notEmpty(rows, "Rows must not be empty");
 
-		ingest(cql, new RowIterator() {
-
-			Iterator<List<?>> rowIterator = rows.iterator();
-
-			@Override
-			public Object[] next() {
-				return rowIterator.next().toArray();
-			}
-
-			@Override
-			public boolean hasNext() {
-				return rowIterator.hasNext();
-			}
-
-		}, writeOptions);
+		ingest(cql, toRowIterator(rows), writeOptions);
 	}
 
 	@Override
@@ -1119,6 +1365,52 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}, writeOptions);
 	}
 
+	@Override
+	public IngestResult ingest(String cql, RowIterator rowIterator, WriteOptions options, IngestOptions ingestOptions) {
+
+		Assert.notNull(rowIterator, "RowIterator must not be null");
+		Assert.notNull(ingestOptions, "IngestOptions must not be null");
+
+		try {
+
+			Session session = getSession();
+
+			PreparedStatement preparedStatement = addPreparedStatementOptions(
+					newCachedPreparedStatementCreator(logCql(cql)).createPreparedStatement(session), options);
+
+			return new FlowControlledIngest(session, preparedStatement, ingestOptions, getExceptionTranslator())
+					.ingest(rowIterator);
+		} catch (DriverException e) {
+			throw translateExceptionIfPossible(e);
+		}
+	}
+
+	@Override
+	public IngestResult ingest(String cql, List<List<?>> rows, WriteOptions options, IngestOptions ingestOptions) {
+
+		Assert.notNull(rows, "Rows must not be null");
+
+		return ingest(cql, toRowIterator(rows), options, ingestOptions);
+	}
+
+	private static RowIterator toRowIterator(final List<List<?>> rows) {
+
+		return new RowIterator() {
+
+			Iterator<List<?>> rowIterator = rows.iterator();
+
+			@Override
+			public Object[] next() {
+				return rowIterator.next().toArray();
+			}
+
+			@Override
+			public boolean hasNext() {
+				return rowIterator.hasNext();
+			}
+		};
+	}
+
 	@Override
 	public void truncate(String tableName) {
 		truncate(cqlId(tableName));
@@ -1343,6 +1635,63 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return selectCount(QueryBuilder.select().countAll().from(tableName.toCql()));
 	}
 
+	@Override
+	public long count(CqlIdentifier tableName, ScanOptions options) {
+
+		Assert.notNull(options, "ScanOptions must not be null");
+		Assert.isTrue(!options.isCheckpointing(), "Counting does not support checkpointing");
+
+		final AtomicLong count = new AtomicLong();
+
+		doScan(tableName, "count(*)", new RowCallbackHandler() {
+
+			@Override
+			public void processRow(Row row) {
+				count.addAndGet(row.getLong(0));
+			}
+		}, options);
+
+		return count.get();
+	}
+
+	@Override
+	public void scan(CqlIdentifier tableName, RowCallbackHandler rch, ScanOptions options) {
+		doScan(tableName, "*", rch, options);
+	}
+
+	/**
+	 * Scans the given table with a parallel token range scan and passes each row to the {@link RowCallbackHandler}.
+	 *
+	 * @param tableName must not be {@literal null}.
+	 * @param selection the CQL selection clause, must not be empty.
+	 * @param rch must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the number of processed rows.
+	 * @since 1.6
+	 */
+	protected long doScan(final CqlIdentifier tableName, final String selection, final RowCallbackHandler rch,
+			final ScanOptions options) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.notNull(rch, "RowCallbackHandler must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		return doExecute(new SessionCallback<Long>() {
+
+			@Override
+			public Long doInSession(Session session) {
+
+				TokenRangeScan scan = new TokenRangeScan(session, options, getCallbackExecutor(), getExceptionTranslator());
+				List<TokenRangeScan.RangeQuery> queries = scan.createQueries(getPreparedStatementCache(), tableName,
+						selection);
+
+				logDebug("scanning [{}] using {} token ranges", tableName, queries.size());
+
+				return scan.scan(queries, rch);
+			}
+		});
+	}
+
 	protected long selectCount(final Select select) {
 
 		return query(select, new ResultSetExtractor<Long>() {
@@ -1427,7 +1776,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(Select select, AsynchronousQueryListener listener) {
-		return queryAsynchronously(select, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(select, listener, getListenerExecutor());
 	}
 
 	@Override
@@ -1460,7 +1809,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 	@Override
 	public Cancellable queryAsynchronously(Select select, Runnable listener) {
-		return queryAsynchronously(select, listener, RUN_RUNNABLE_EXECUTOR);
+		return queryAsynchronously(select, listener, getListenerExecutor());
 	}
 
 	@Override
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ScanCheckpointStore} keeping each checkpoint in a properties file {@code <scanId>.checkpoint} inside a
+ * directory. Checkpoints are written to a temporary file first and then moved into place, so a crash while saving
+ * leaves the previous checkpoint intact.
+ *
+ * @since 1.6
+ */
+public class FileSystemScanCheckpointStore implements ScanCheckpointStore {
+
+	private static final String COMPLETED_PREFIX = "completed.";
+	private static final String PAGING_STATE_PREFIX = "paging.";
+
+	private final Path directory;
+
+	/**
+	 * Creates a new {@link FileSystemScanCheckpointStore} storing checkpoints in the given {@code directory}. The
+	 * directory is created if it does not exist.
+	 *
+	 * @param directory must not be {@literal null}.
+	 */
+	public FileSystemScanCheckpointStore(Path directory) {
+
+		Assert.notNull(directory, "Directory must not be null");
+
+		this.directory = directory;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ScanCheckpointStore#load(java.lang.String)
+	 */
+	@Override
+	public ScanCheckpoint load(String scanId) {
+
+		Path file = getFile(scanId);
+
+		if (!Files.exists(file)) {
+			return null;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		} catch (IOException e) {
+			throw new UncheckedIOException(String.format("Cannot read checkpoint [%s]", file), e);
+		}
+
+		Set<String> completedRanges = new LinkedHashSet<String>();
+		Map<String, String> pagingStates = new LinkedHashMap<String, String>();
+
+		for (String name : properties.stringPropertyNames()) {
+
+			if (name.startsWith(COMPLETED_PREFIX)) {
+				completedRanges.add(name.substring(COMPLETED_PREFIX.length()));
+			} else if (name.startsWith(PAGING_STATE_PREFIX)) {
+				pagingStates.put(name.substring(PAGING_STATE_PREFIX.length()), properties.getProperty(name));
+			}
+		}
+
+		return new ScanCheckpoint(completedRanges, pagingStates);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ScanCheckpointStore#save(java.lang.String, org.springframework.cassandra.core.ScanCheckpoint)
+	 */
+	@Override
+	public synchronized void save(String scanId, ScanCheckpoint checkpoint) {
+
+		Assert.notNull(checkpoint, "ScanCheckpoint must not be null");
+
+		Path file = getFile(scanId);
+		Properties properties = new Properties();
+
+		for (String range : checkpoint.getCompletedRanges()) {
+			properties.setProperty(COMPLETED_PREFIX + range, "true");
+		}
+
+		for (Map.Entry<String, String> entry : checkpoint.getPagingStates().entrySet()) {
+			properties.setProperty(PAGING_STATE_PREFIX + entry.getKey(), entry.getValue());
+		}
+
+		try {
+
+			Files.createDirectories(directory);
+
+			Path temp = Files.createTempFile(directory, scanId, ".tmp");
+
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				properties.store(out, "Scan checkpoint " + scanId);
+			}
+
+			try {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(String.format("Cannot write checkpoint [%s]", file), e);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ScanCheckpointStore#delete(java.lang.String)
+	 */
+	@Override
+	public synchronized void delete(String scanId) {
+
+		Path file = getFile(scanId);
+
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(String.format("Cannot delete checkpoint [%s]", file), e);
+		}
+	}
+
+	private Path getFile(String scanId) {
+
+		Assert.hasText(scanId, "Scan id must not be empty");
+		Assert.isTrue(scanId.matches("[A-Za-z0-9._-]+"),
+				"Scan id must only contain letters, digits, dots, underscores and dashes");
+
+		return directory.resolve(scanId + ".checkpoint");
+	}
+}
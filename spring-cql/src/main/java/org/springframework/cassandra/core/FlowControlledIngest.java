@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.QueryValidationException;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Executes a {@link PreparedStatement} for each row of a {@link RowIterator} while limiting the number of in-flight
+ * requests with a {@link Semaphore}. The calling thread blocks once the limit is reached and resumes as requests
+ * complete. Failed requests are retried after an exponential backoff with random jitter without consuming additional
+ * permits. Retries are scheduled on a dedicated thread instead of being issued from the driver thread completing the
+ * failed request.
+ * <p>
+ * {@link FlowControlledIngest} is intended for a single {@link #ingest(RowIterator)} run.
+ *
+ * @since 1.6
+ * @see IngestOptions
+ */
+class FlowControlledIngest {
+
+	private static final int MAX_BACKOFF_SHIFT = 5;
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private final Session session;
+
+	private final PreparedStatement preparedStatement;
+
+	private final IngestOptions options;
+
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private final Semaphore permits;
+
+	private final RateLimiter rateLimiter;
+
+	private final AtomicLong successCount = new AtomicLong();
+
+	private final AtomicLong failureCount = new AtomicLong();
+
+	private final AtomicLong retryCount = new AtomicLong();
+
+	private final AtomicReference<Throwable> firstFailure = new AtomicReference<Throwable>();
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a new {@link FlowControlledIngest}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param preparedStatement must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 */
+	FlowControlledIngest(Session session, PreparedStatement preparedStatement, IngestOptions options,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(preparedStatement, "PreparedStatement must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+		this.session = session;
+		this.preparedStatement = preparedStatement;
+		this.options = options;
+		this.exceptionTranslator = exceptionTranslator;
+		this.permits = new Semaphore(options.getMaxInFlightRequests());
+		this.rateLimiter = (options.isRateLimited() ? RateLimiter.create(options.getRequestsPerSecond()) : null);
+	}
+
+	/**
+	 * Binds and executes each row of the given {@link RowIterator} and awaits completion of all requests.
+	 *
+	 * @param rowIterator must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 */
+	IngestResult ingest(RowIterator rowIterator) {
+
+		Assert.notNull(rowIterator, "RowIterator must not be null");
+
+		long started = System.nanoTime();
+
+		if (options.getMaxRetries() > 0) {
+			startScheduler();
+		}
+
+		try {
+			while (rowIterator.hasNext()) {
+
+				Object[] values = rowIterator.next();
+
+				permits.acquireUninterruptibly();
+
+				try {
+
+					if (rateLimiter != null) {
+						rateLimiter.acquire();
+					}
+
+					execute(preparedStatement.bind(values), 0);
+				} catch (RuntimeException e) {
+
+					permits.release();
+					throw e;
+				}
+			}
+		} finally {
+			awaitCompletion();
+			stopScheduler();
+		}
+
+		return new IngestResult(successCount.get(), failureCount.get(), retryCount.get(), System.nanoTime() - started,
+				latencies, firstFailure.get());
+	}
+
+	private void execute(final BoundStatement statement, final int attempt) {
+
+		final long started = System.nanoTime();
+		final ResultSetFuture future;
+
+		try {
+			future = session.executeAsync(statement);
+		} catch (RuntimeException e) {
+
+			onFailure(statement, attempt, e);
+			return;
+		}
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					Uninterruptibles.getUninterruptibly(future);
+				} catch (ExecutionException e) {
+
+					onFailure(statement, attempt, e.getCause());
+					return;
+				} catch (RuntimeException e) {
+
+					onFailure(statement, attempt, e);
+					return;
+				}
+
+				onSuccess(System.nanoTime() - started);
+			}
+		}, DIRECT_EXECUTOR);
+	}
+
+	private void onSuccess(long latencyNanos) {
+
+		latencies.record(latencyNanos, TimeUnit.NANOSECONDS);
+		successCount.incrementAndGet();
+		permits.release();
+	}
+
+	private void onFailure(final BoundStatement statement, final int attempt, Throwable cause) {
+
+		if (attempt < options.getMaxRetries() && isRetryable(cause)) {
+
+			retryCount.incrementAndGet();
+
+			try {
+				scheduler.schedule(new Runnable() {
+
+					@Override
+					public void run() {
+						execute(statement, attempt + 1);
+					}
+				}, getRetryDelay(attempt), TimeUnit.MILLISECONDS);
+
+				return;
+			} catch (RuntimeException e) {
+				// fall through and record the original failure
+			}
+		}
+
+		firstFailure.compareAndSet(null, CqlTemplate.translateExceptionIfPossible(cause, exceptionTranslator));
+		failureCount.incrementAndGet();
+		permits.release();
+	}
+
+	/**
+	 * Returns the delay before retrying a request that failed {@code attempt + 1} times. The backoff doubles with each
+	 * attempt and the delay is chosen randomly between half of and the full backoff.
+	 *
+	 * @param attempt zero-based number of the failed attempt.
+	 * @return the retry delay in milliseconds.
+	 */
+	long getRetryDelay(int attempt) {
+
+		long backoff = options.getRetryBackoff() << Math.min(attempt, MAX_BACKOFF_SHIFT);
+		long half = backoff / 2;
+
+		return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+	}
+
+	private void awaitCompletion() {
+
+		int maxInFlightRequests = options.getMaxInFlightRequests();
+
+		permits.acquireUninterruptibly(maxInFlightRequests);
+		permits.release(maxInFlightRequests);
+	}
+
+	private void startScheduler() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("flow-controlled-ingest-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		this.scheduler = scheduler;
+	}
+
+	private void stopScheduler() {
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	private static boolean isRetryable(Throwable cause) {
+		return !(cause instanceof QueryValidationException);
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.Future;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Cancellable} that cancels an arbitrary {@link Future}, e.g. a future aggregating multiple queries.
+ *
+ * @since 1.6
+ * @see ResultSetFutureCancellable
+ */
+public class FutureCancellable implements Cancellable {
+
+	private final Future<?> future;
+
+	/**
+	 * Creates a new {@link FutureCancellable} for the given {@link Future}.
+	 *
+	 * @param future must not be {@literal null}.
+	 */
+	public FutureCancellable(Future<?> future) {
+
+		Assert.notNull(future, "Future must not be null");
+
+		this.future = future;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.Cancellable#cancel()
+	 */
+	@Override
+	public void cancel() {
+		future.cancel(true);
+	}
+}
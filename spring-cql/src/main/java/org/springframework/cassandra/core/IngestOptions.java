@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Flow control options for {@link CqlOperations#ingest(String, RowIterator, WriteOptions, IngestOptions) ingest}
+ * operations. {@link IngestOptions} limit the number of concurrently executing requests, optionally throttle the
+ * request rate and configure how often and after which backoff failed requests are retried.
+ *
+ * @since 1.6
+ * @see IngestResult
+ */
+public class IngestOptions {
+
+	/**
+	 * Default maximum number of in-flight requests.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 128;
+
+	/**
+	 * Default backoff before the first retry of a failed request in milliseconds.
+	 */
+	public static final long DEFAULT_RETRY_BACKOFF = 100;
+
+	private final int maxInFlightRequests;
+
+	private final double requestsPerSecond;
+
+	private final int maxRetries;
+
+	private final long retryBackoff;
+
+	private IngestOptions(int maxInFlightRequests, double requestsPerSecond, int maxRetries, long retryBackoff) {
+
+		this.maxInFlightRequests = maxInFlightRequests;
+		this.requestsPerSecond = requestsPerSecond;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+	}
+
+	/**
+	 * Creates new {@link IngestOptions} using {@link #DEFAULT_MAX_IN_FLIGHT_REQUESTS}, no rate limit and no retries.
+	 *
+	 * @return new default {@link IngestOptions}.
+	 */
+	public static IngestOptions defaults() {
+		return builder().build();
+	}
+
+	/**
+	 * Creates a new {@link IngestOptionsBuilder}.
+	 *
+	 * @return a new {@link IngestOptionsBuilder}.
+	 */
+	public static IngestOptionsBuilder builder() {
+		return new IngestOptionsBuilder();
+	}
+
+	/**
+	 * @return the maximum number of requests executing concurrently.
+	 */
+	public int getMaxInFlightRequests() {
+		return maxInFlightRequests;
+	}
+
+	/**
+	 * @return the maximum number of requests per second. Zero if the request rate is not limited.
+	 */
+	public double getRequestsPerSecond() {
+		return requestsPerSecond;
+	}
+
+	/**
+	 * @return {@literal true} if the request rate is limited.
+	 */
+	public boolean isRateLimited() {
+		return requestsPerSecond > 0;
+	}
+
+	/**
+	 * @return the maximum number of retries of a failed request.
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the backoff before the first retry in milliseconds. The backoff doubles with each consecutive retry.
+	 */
+	public long getRetryBackoff() {
+		return retryBackoff;
+	}
+
+	/**
+	 * Builder for {@link IngestOptions}.
+	 *
+	 * @since 1.6
+	 */
+	public static class IngestOptionsBuilder {
+
+		private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+
+		private double requestsPerSecond;
+
+		private int maxRetries;
+
+		private long retryBackoff = DEFAULT_RETRY_BACKOFF;
+
+		private IngestOptionsBuilder() {}
+
+		/**
+		 * Sets the maximum number of requests executing concurrently. Ingestion blocks the calling thread once this
+		 * number of requests is in flight.
+		 *
+		 * @param maxInFlightRequests must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder maxInFlightRequests(int maxInFlightRequests) {
+
+			Assert.isTrue(maxInFlightRequests > 0, "Maximum in-flight requests must be greater than zero");
+
+			this.maxInFlightRequests = maxInFlightRequests;
+			return this;
+		}
+
+		/**
+		 * Limits the number of requests per second. Retries are not subject to the rate limit.
+		 *
+		 * @param requestsPerSecond must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder rateLimit(double requestsPerSecond) {
+
+			Assert.isTrue(requestsPerSecond > 0, "Requests per second must be greater than zero");
+
+			this.requestsPerSecond = requestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of retries of a failed request. Requests failing with a query validation error (syntax
+		 * errors, invalid queries, missing authorization) are not retried.
+		 *
+		 * @param maxRetries must not be negative.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder maxRetries(int maxRetries) {
+
+			Assert.isTrue(maxRetries >= 0, "Maximum retries must not be negative");
+
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		/**
+		 * Sets the backoff before the first retry of a failed request. The backoff doubles with each consecutive retry up
+		 * to 32 times the initial backoff. Each retry is delayed by a random duration between half of and the full backoff
+		 * so requests failing at the same time are not retried at the same time.
+		 *
+		 * @param backoff must not be negative.
+		 * @param unit must not be {@literal null}.
+		 * @return {@code this} {@link IngestOptionsBuilder}
+		 */
+		public IngestOptionsBuilder retryBackoff(long backoff, TimeUnit unit) {
+
+			Assert.isTrue(backoff >= 0, "Retry backoff must not be negative");
+			Assert.notNull(unit, "TimeUnit must not be null");
+
+			this.retryBackoff = unit.toMillis(backoff);
+			return this;
+		}
+
+		/**
+		 * Builds new {@link IngestOptions} with the configured values.
+		 *
+		 * @return new {@link IngestOptions} with the configured values.
+		 */
+		public IngestOptions build() {
+			return new IngestOptions(maxInFlightRequests, requestsPerSecond, maxRetries, retryBackoff);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Outcome of a flow-controlled {@link CqlOperations#ingest(String, RowIterator, WriteOptions, IngestOptions) ingest}
+ * operation reporting the number of successful and failed rows, throughput and request latency percentiles.
+ *
+ * @since 1.6
+ * @see IngestOptions
+ */
+public class IngestResult {
+
+	private final long successCount;
+
+	private final long failureCount;
+
+	private final long retryCount;
+
+	private final long elapsedNanos;
+
+	private final LatencyHistogram latencies;
+
+	private final Throwable firstFailure;
+
+	IngestResult(long successCount, long failureCount, long retryCount, long elapsedNanos, LatencyHistogram latencies,
+			Throwable firstFailure) {
+
+		this.successCount = successCount;
+		this.failureCount = failureCount;
+		this.retryCount = retryCount;
+		this.elapsedNanos = elapsedNanos;
+		this.latencies = latencies;
+		this.firstFailure = firstFailure;
+	}
+
+	/**
+	 * @return the number of rows written successfully.
+	 */
+	public long getSuccessCount() {
+		return successCount;
+	}
+
+	/**
+	 * @return the number of rows that could not be written after exhausting all retries.
+	 */
+	public long getFailureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * @return the number of retried requests.
+	 */
+	public long getRetryCount() {
+		return retryCount;
+	}
+
+	/**
+	 * @return the total number of ingested rows.
+	 */
+	public long getTotalCount() {
+		return successCount + failureCount;
+	}
+
+	/**
+	 * @return {@literal true} if at least one row could not be written.
+	 */
+	public boolean hasFailures() {
+		return failureCount != 0;
+	}
+
+	/**
+	 * @return the cause of the first failed row, may be {@literal null} if all rows were written successfully.
+	 */
+	public Throwable getFirstFailure() {
+		return firstFailure;
+	}
+
+	/**
+	 * Returns the time elapsed between submitting the first row and completion of the last row.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the elapsed time in the given {@link TimeUnit}.
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of successfully written rows per second.
+	 */
+	public double getThroughput() {
+		return (elapsedNanos > 0 ? successCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0);
+	}
+
+	/**
+	 * Returns the request latency below which the given {@code percentile} of successful requests completed. Latencies
+	 * are measured per attempt and recorded with microsecond resolution and a relative error of about 6%.
+	 *
+	 * @param percentile the percentile between {@code 0} and {@code 100}, e.g. {@code 99.9}.
+	 * @param unit must not be {@literal null}.
+	 * @return the latency in the given {@link TimeUnit}.
+	 */
+	public long getLatency(double percentile, TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(latencies.getPercentile(percentile), TimeUnit.MICROSECONDS);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"IngestResult [success=%d, failures=%d, retries=%d, elapsed=%d ms, throughput=%.1f/s, p50=%d us, p99=%d us]",
+				successCount, failureCount, retryCount, getElapsedTime(TimeUnit.MILLISECONDS), getThroughput(),
+				latencies.getPercentile(50), latencies.getPercentile(99));
+	}
+}
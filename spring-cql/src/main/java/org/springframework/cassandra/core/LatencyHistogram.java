@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free histogram of latencies in microseconds. Values are recorded into logarithmic buckets with 16 linear
+ * sub-buckets per power of two, bounding the relative error of reported percentiles to about 6%.
+ *
+ * @since 1.6
+ */
+class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param duration the duration.
+	 * @param unit the {@link TimeUnit} of {@code duration}.
+	 */
+	void record(long duration, TimeUnit unit) {
+		counts.incrementAndGet(indexOf(Math.max(0, unit.toMicros(duration))));
+	}
+
+	/**
+	 * Returns the total number of recorded values.
+	 *
+	 * @return the total number of recorded values.
+	 */
+	long getCount() {
+
+		long count = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts.get(i);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the value in microseconds below which the given {@code percentile} of recorded values fall.
+	 *
+	 * @param percentile the percentile between {@code 0} and {@code 100}.
+	 * @return the upper bound of the bucket containing the percentile, zero if no values were recorded.
+	 */
+	long getPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+
+		long total = getCount();
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long threshold = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+
+			seen += counts.get(i);
+
+			if (seen >= threshold) {
+				return upperBoundOf(i);
+			}
+		}
+
+		return upperBoundOf(BUCKET_COUNT - 1);
+	}
+
+	static int indexOf(long micros) {
+
+		if (micros < SUB_BUCKETS) {
+			return (int) micros;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int index) {
+
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		if (index >= BUCKET_COUNT - 1) {
+			return Long.MAX_VALUE;
+		}
+
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKETS;
+
+		return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cassandra.core.util.ListenableFutures;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Bounded {@link PreparedStatementCache} evicting least recently used {@link PreparedStatement}s once a
+ * {@link Session} holds more than {@link #getMaximumSize() maximum size} statements. {@link Session}s are referenced
+ * weakly so closed and discarded sessions can be garbage-collected along with their statements.
+ * <p>
+ * Concurrent requests for the same CQL are coalesced into a single prepare: the first caller prepares the statement
+ * while other callers await its result without holding a lock. Asynchronous lookups share the same in-flight prepare
+ * and do not block at all. Each asynchronous caller receives its own future, so cancelling it does not affect the
+ * shared prepare or other callers. Failed and cancelled prepares are not cached.
+ * <p>
+ * {@link LruPreparedStatementCache} exposes hit, miss and eviction counters to monitor its effectiveness.
+ *
+ * @since 1.6
+ */
+public class LruPreparedStatementCache implements PreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached {@link PreparedStatement}s per {@link Session}.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	private static final Logger log = LoggerFactory.getLogger(LruPreparedStatementCache.class);
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	private final int maximumSize;
+
+	private final LoadingCache<Session, Cache<CacheKey, ListenableFuture<PreparedStatement>>> sessions;
+
+	/**
+	 * Creates a new {@link LruPreparedStatementCache} using {@link #DEFAULT_MAXIMUM_SIZE}.
+	 */
+	public LruPreparedStatementCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link LruPreparedStatementCache} holding at most {@code maximumSize} statements per {@link Session}.
+	 *
+	 * @param maximumSize maximum number of statements per {@link Session}, must be greater than zero.
+	 */
+	public LruPreparedStatementCache(final int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.maximumSize = maximumSize;
+
+		final RemovalListener<CacheKey, ListenableFuture<PreparedStatement>> evictionListener = new RemovalListener<CacheKey, ListenableFuture<PreparedStatement>>() {
+
+			@Override
+			public void onRemoval(RemovalNotification<CacheKey, ListenableFuture<PreparedStatement>> notification) {
+
+				if (notification.wasEvicted()) {
+					evictionCount.incrementAndGet();
+				}
+			}
+		};
+
+		this.sessions = CacheBuilder.newBuilder().weakKeys()
+				.build(new CacheLoader<Session, Cache<CacheKey, ListenableFuture<PreparedStatement>>>() {
+
+					@Override
+					public Cache<CacheKey, ListenableFuture<PreparedStatement>> load(Session key) {
+						return CacheBuilder.newBuilder().maximumSize(maximumSize).removalListener(evictionListener).build();
+					}
+				});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#getPreparedStatement(com.datastax.driver.core.Session, java.lang.String)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(Session session, String cql) throws DriverException {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.hasText(cql, "CQL must not be empty");
+
+		ConcurrentMap<CacheKey, ListenableFuture<PreparedStatement>> cache = sessions.getUnchecked(session).asMap();
+		CacheKey cacheKey = new CacheKey(session.getLoggedKeyspace(), cql);
+
+		ListenableFuture<PreparedStatement> future = getActiveFuture(cache, cacheKey);
+
+		if (future == null) {
+
+			SettableFuture<PreparedStatement> settableFuture = SettableFuture.create();
+			future = cache.putIfAbsent(cacheKey, settableFuture);
+
+			if (future == null) {
+
+				missCount.incrementAndGet();
+				log.debug("No cached PreparedStatement found... creating and caching");
+
+				return prepare(session, cql, cache, cacheKey, settableFuture);
+			}
+		}
+
+		hitCount.incrementAndGet();
+
+		return getUninterruptibly(future);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#getPreparedStatementAsync(com.datastax.driver.core.Session, java.lang.String)
+	 */
+	@Override
+	public ListenableFuture<PreparedStatement> getPreparedStatementAsync(Session session, String cql) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.hasText(cql, "CQL must not be empty");
+
+		ConcurrentMap<CacheKey, ListenableFuture<PreparedStatement>> cache = sessions.getUnchecked(session).asMap();
+		CacheKey cacheKey = new CacheKey(session.getLoggedKeyspace(), cql);
+
+		ListenableFuture<PreparedStatement> future = getActiveFuture(cache, cacheKey);
+
+		if (future == null) {
+
+			SettableFuture<PreparedStatement> settableFuture = SettableFuture.create();
+			future = cache.putIfAbsent(cacheKey, settableFuture);
+
+			if (future == null) {
+
+				missCount.incrementAndGet();
+				log.debug("No cached PreparedStatement found... preparing asynchronously and caching");
+
+				prepareAsync(session, cql, cache, cacheKey, settableFuture);
+
+				return newChildFuture(settableFuture);
+			}
+		}
+
+		hitCount.incrementAndGet();
+
+		return newChildFuture(future);
+	}
+
+	/**
+	 * Returns the cached future for {@code cacheKey}. Removes futures that completed by cancellation so the next lookup
+	 * prepares the statement again.
+	 */
+	private static ListenableFuture<PreparedStatement> getActiveFuture(
+			ConcurrentMap<CacheKey, ListenableFuture<PreparedStatement>> cache, CacheKey cacheKey) {
+
+		ListenableFuture<PreparedStatement> future = cache.get(cacheKey);
+
+		if (future != null && future.isCancelled()) {
+
+			cache.remove(cacheKey, future);
+			return null;
+		}
+
+		return future;
+	}
+
+	/**
+	 * Creates a future completing with the outcome of the shared {@code future}. Cancelling the returned future does not
+	 * propagate to the shared future.
+	 */
+	private static ListenableFuture<PreparedStatement> newChildFuture(ListenableFuture<PreparedStatement> future) {
+
+		SettableFuture<PreparedStatement> child = SettableFuture.create();
+		ListenableFutures.propagate(future, child);
+
+		return child;
+	}
+
+	private static void prepareAsync(Session session, String cql,
+			final ConcurrentMap<CacheKey, ListenableFuture<PreparedStatement>> cache, final CacheKey cacheKey,
+			final SettableFuture<PreparedStatement> future) {
+
+		future.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (future.isCancelled()) {
+					cache.remove(cacheKey, future);
+				}
+			}
+		}, DIRECT_EXECUTOR);
+
+		final ListenableFuture<PreparedStatement> prepared;
+
+		try {
+			prepared = session.prepareAsync(cql);
+		} catch (Throwable t) {
+
+			cache.remove(cacheKey, future);
+			future.setException(t);
+
+			return;
+		}
+
+		prepared.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					future.set(Uninterruptibles.getUninterruptibly(prepared));
+				} catch (ExecutionException e) {
+
+					cache.remove(cacheKey, future);
+					future.setException(e.getCause());
+				} catch (Throwable t) {
+
+					cache.remove(cacheKey, future);
+					future.setException(t);
+				}
+			}
+		}, DIRECT_EXECUTOR);
+	}
+
+	private static PreparedStatement prepare(Session session, String cql,
+			ConcurrentMap<CacheKey, ListenableFuture<PreparedStatement>> cache, CacheKey cacheKey,
+			SettableFuture<PreparedStatement> future) {
+
+		try {
+
+			PreparedStatement preparedStatement = session.prepare(cql);
+			future.set(preparedStatement);
+
+			return preparedStatement;
+		} catch (RuntimeException e) {
+
+			cache.remove(cacheKey, future);
+			future.setException(e);
+
+			throw e;
+		} catch (Error e) {
+
+			cache.remove(cacheKey, future);
+			future.setException(e);
+
+			throw e;
+		}
+	}
+
+	private static PreparedStatement getUninterruptibly(ListenableFuture<PreparedStatement> future) {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(future);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw new CassandraUncategorizedDataAccessException("Cannot prepare statement", e.getCause());
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementCache#clear()
+	 */
+	@Override
+	public void clear() {
+		sessions.invalidateAll();
+	}
+
+	/**
+	 * Returns the maximum number of cached {@link PreparedStatement}s per {@link Session}.
+	 *
+	 * @return the maximum number of cached {@link PreparedStatement}s per {@link Session}.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the number of cached {@link PreparedStatement}s across all {@link Session}s.
+	 *
+	 * @return the number of cached {@link PreparedStatement}s.
+	 */
+	public long size() {
+
+		long size = 0;
+
+		for (Cache<CacheKey, ListenableFuture<PreparedStatement>> cache : sessions.asMap().values()) {
+			size += cache.size();
+		}
+
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups that were served from the cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required preparing a statement.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of {@link PreparedStatement}s evicted because a {@link Session} exceeded the maximum size.
+	 *
+	 * @return the number of evictions.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Cache key consisting of the logged keyspace and the CQL. The hash code is computed once.
+	 */
+	static class CacheKey {
+
+		private final String keyspace;
+		private final String cql;
+		private final int hashCode;
+
+		CacheKey(String keyspace, String cql) {
+
+			this.keyspace = keyspace;
+			this.cql = cql;
+			this.hashCode = 31 * ObjectUtils.nullSafeHashCode(keyspace) + cql.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return this.hashCode == that.hashCode && this.cql.equals(that.cql)
+					&& ObjectUtils.nullSafeEquals(this.keyspace, that.keyspace);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Cache of {@link PreparedStatement}s scoped to a {@link Session}. Implementations prepare a CQL statement on a cache
+ * miss and return the cached {@link PreparedStatement} for subsequent requests of the same CQL within the same
+ * {@link Session} and keyspace.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @since 1.6
+ * @see CachedPreparedStatementCreator
+ * @see LruPreparedStatementCache
+ */
+public interface PreparedStatementCache {
+
+	/**
+	 * Obtain the {@link PreparedStatement} for the given {@code cql}. Prepares the statement using {@link Session} if it
+	 * is not cached yet.
+	 *
+	 * @param session the {@link Session} to prepare the statement with, must not be {@literal null}.
+	 * @param cql the CQL to prepare, must not be empty or {@literal null}.
+	 * @return the cached or newly prepared {@link PreparedStatement}.
+	 * @throws DriverException if preparing the statement fails.
+	 */
+	PreparedStatement getPreparedStatement(Session session, String cql) throws DriverException;
+
+	/**
+	 * Obtain the {@link PreparedStatement} for the given {@code cql} without blocking. Prepares the statement using
+	 * {@link Session#prepareAsync(String)} if it is not cached yet. Concurrent requests for the same CQL share a single
+	 * in-flight prepare.
+	 *
+	 * @param session the {@link Session} to prepare the statement with, must not be {@literal null}.
+	 * @param cql the CQL to prepare, must not be empty or {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the cached or newly prepared {@link PreparedStatement}.
+	 */
+	ListenableFuture<PreparedStatement> getPreparedStatementAsync(Session session, String cql);
+
+	/**
+	 * Removes all cached {@link PreparedStatement}s.
+	 */
+	void clear();
+}
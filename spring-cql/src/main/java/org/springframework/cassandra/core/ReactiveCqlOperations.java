@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.DataAccessException;
+
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Non-blocking variant of {@link CqlOperations} returning Reactive Streams {@link Publisher}s. Queries are executed
+ * using {@link com.datastax.driver.core.Session#executeAsync(Statement)} once a subscriber signals demand. Rows are
+ * emitted page by page, the next page is requested only if the current page is consumed and
+ * {@link Subscription#request(long)} demands further rows. Errors are translated into {@link DataAccessException}s
+ * and signalled to the subscriber.
+ *
+ * @since 1.6
+ * @see CqlOperations
+ * @see ResultSetFuture
+ */
+public interface ReactiveCqlOperations {
+
+	/**
+	 * Executes the given CQL query and emits each {@link Row} of the result.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @return a {@link Publisher} emitting the {@link Row}s of the result.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the query.
+	 */
+	Publisher<Row> query(String cql);
+
+	/**
+	 * Executes the given {@link Statement} and emits each {@link Row} of the result.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the {@link Row}s of the result.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the query.
+	 */
+	Publisher<Row> query(Statement statement);
+
+	/**
+	 * Executes the given CQL query and maps each {@link Row} of the result using the {@link RowMapper}.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the mapped objects.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the query.
+	 */
+	<T> Publisher<T> query(String cql, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given {@link Statement} and maps each {@link Row} of the result using the {@link RowMapper}.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @param rowMapper {@link RowMapper} mapping each {@link Row}, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the mapped objects.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the query.
+	 */
+	<T> Publisher<T> query(Statement statement, RowMapper<T> rowMapper);
+
+	/**
+	 * Executes the given CQL statement and emits whether it was applied.
+	 *
+	 * @param cql static CQL statement, must not be empty or {@literal null}.
+	 * @return a {@link Publisher} emitting a single {@link Boolean} that is {@literal true} if the statement was
+	 *         applied.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the statement.
+	 */
+	Publisher<Boolean> execute(String cql);
+
+	/**
+	 * Executes the given {@link Statement} and emits whether it was applied.
+	 *
+	 * @param statement the {@link Statement} to execute, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting a single {@link Boolean} that is {@literal true} if the statement was
+	 *         applied.
+	 * @throws DataAccessException signalled to the subscriber if there is any problem executing the statement.
+	 */
+	Publisher<Boolean> execute(Statement statement);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.support.CassandraAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Default implementation of {@link ReactiveCqlOperations}. Each subscription executes the statement asynchronously
+ * using {@link Session#executeAsync(Statement)} and fetches further pages only while the subscriber demands rows; no
+ * thread is blocked waiting for results.
+ *
+ * @since 1.6
+ * @see ReactiveCqlOperations
+ * @see CqlTemplate
+ */
+public class ReactiveCqlTemplate extends CassandraAccessor implements ReactiveCqlOperations {
+
+	private static final RowMapper<Row> ROW_RETURNING_MAPPER = new RowMapper<Row>() {
+
+		@Override
+		public Row mapRow(Row row, int rowNum) {
+			return row;
+		}
+	};
+
+	/**
+	 * Default constructor used to wire in the required components later.
+	 */
+	public ReactiveCqlTemplate() {}
+
+	/**
+	 * Creates a new {@link ReactiveCqlTemplate} for the given {@link Session}.
+	 *
+	 * @param session {@link Session} used to interact with Cassandra, must not be {@literal null}.
+	 */
+	public ReactiveCqlTemplate(Session session) {
+		setSession(session);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(java.lang.String)
+	 */
+	@Override
+	public Publisher<Row> query(String cql) {
+		return query(cql, ROW_RETURNING_MAPPER);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public Publisher<Row> query(Statement statement) {
+		return query(statement, ROW_RETURNING_MAPPER);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(java.lang.String, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> Publisher<T> query(String cql, RowMapper<T> rowMapper) {
+		return query(newStatement(cql), rowMapper);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#query(com.datastax.driver.core.Statement, org.springframework.cassandra.core.RowMapper)
+	 */
+	@Override
+	public <T> Publisher<T> query(Statement statement, RowMapper<T> rowMapper) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		logDebug("executing [{}]", statement);
+
+		return ResultSetPublisher.rows(getSession(), statement, rowMapper, getExceptionTranslator());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#execute(java.lang.String)
+	 */
+	@Override
+	public Publisher<Boolean> execute(String cql) {
+		return execute(newStatement(cql));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.ReactiveCqlOperations#execute(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public Publisher<Boolean> execute(Statement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		logDebug("executing [{}]", statement);
+
+		return ResultSetPublisher.applied(getSession(), statement, getExceptionTranslator());
+	}
+
+	private static Statement newStatement(String cql) {
+
+		Assert.isTrue(StringUtils.hasText(cql), "CQL must not be empty");
+
+		return new SimpleStatement(cql);
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+
+/**
+ * {@link Publisher} executing a {@link Statement} asynchronously for each {@link Subscriber}. The statement is executed
+ * on the first {@link Subscription#request(long) request}. Only rows available without fetching are emitted, the
+ * next page is requested using {@link ResultSet#fetchMoreResults()} once the current page is drained and there is
+ * outstanding demand. Signals are serialized using a work-in-progress counter so page callbacks on driver threads and
+ * requests on subscriber threads never emit concurrently.
+ *
+ * @since 1.6
+ */
+class ResultSetPublisher<T> implements Publisher<T> {
+
+	private final Session session;
+	private final Statement statement;
+	private final RowMapper<T> rowMapper;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private ResultSetPublisher(Session session, Statement statement, RowMapper<T> rowMapper,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+		this.session = session;
+		this.statement = statement;
+		this.rowMapper = rowMapper;
+		this.exceptionTranslator = exceptionTranslator;
+	}
+
+	/**
+	 * Creates a {@link Publisher} emitting each {@link Row} mapped with the given {@link RowMapper}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @return the {@link ResultSetPublisher}.
+	 */
+	static <T> ResultSetPublisher<T> rows(Session session, Statement statement, RowMapper<T> rowMapper,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		return new ResultSetPublisher<T>(session, statement, rowMapper, exceptionTranslator);
+	}
+
+	/**
+	 * Creates a {@link Publisher} emitting a single {@link ResultSet#wasApplied()} flag.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 * @return the {@link ResultSetPublisher}.
+	 */
+	static ResultSetPublisher<Boolean> applied(Session session, Statement statement,
+			PersistenceExceptionTranslator exceptionTranslator) {
+		return new ResultSetPublisher<Boolean>(session, statement, null, exceptionTranslator);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+
+		Assert.notNull(subscriber, "Subscriber must not be null");
+
+		subscriber.onSubscribe(new ResultSetSubscription(subscriber));
+	}
+
+	/**
+	 * Per-subscriber state. {@link #drain()} is the only place emitting signals.
+	 */
+	class ResultSetSubscription implements Subscription, FutureCallback<ResultSet> {
+
+		private final Subscriber<? super T> subscriber;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile ResultSet resultSet;
+		private volatile Throwable error;
+		private volatile boolean fetching;
+		private volatile boolean cancelled;
+
+		private boolean executed;
+		private int rowNum;
+
+		ResultSetSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				error = new IllegalArgumentException(
+						String.format("Rule 3.9: Subscription.request(n) requires n > 0 but was %d", n));
+			} else {
+				addDemand(n);
+			}
+
+			drain();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/* (non-Javadoc)
+		 * @see com.google.common.util.concurrent.FutureCallback#onSuccess(java.lang.Object)
+		 */
+		@Override
+		public void onSuccess(ResultSet resultSet) {
+
+			this.resultSet = resultSet;
+			this.fetching = false;
+
+			drain();
+		}
+
+		/* (non-Javadoc)
+		 * @see com.google.common.util.concurrent.FutureCallback#onFailure(java.lang.Throwable)
+		 */
+		@Override
+		public void onFailure(Throwable t) {
+
+			this.error = CqlTemplate.translateExceptionIfPossible(t, exceptionTranslator);
+			this.fetching = false;
+
+			drain();
+		}
+
+		private void addDemand(long n) {
+
+			for (;;) {
+
+				long current = requested.get();
+
+				if (current == Long.MAX_VALUE) {
+					return;
+				}
+
+				long next = current + n;
+
+				if (requested.compareAndSet(current, next < 0 ? Long.MAX_VALUE : next)) {
+					return;
+				}
+			}
+		}
+
+		private void drain() {
+
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			do {
+
+				if (cancelled) {
+					return;
+				}
+
+				if (error != null) {
+					terminate(error);
+					return;
+				}
+
+				if (requested.get() > 0) {
+
+					ResultSet current = resultSet;
+
+					if (current == null) {
+
+						if (!executed) {
+							executed = true;
+							fetching = true;
+							startFetch(new Runnable() {
+
+								@Override
+								public void run() {
+									Futures.addCallback(session.executeAsync(statement), ResultSetSubscription.this,
+											CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+								}
+							});
+						}
+					} else if (!fetching && emit(current)) {
+						return;
+					}
+				}
+
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * Emits rows of the current page up to the requested amount.
+		 *
+		 * @return {@literal true} if the subscription is terminated.
+		 */
+		@SuppressWarnings("unchecked")
+		private boolean emit(ResultSet current) {
+
+			if (rowMapper == null) {
+				subscriber.onNext((T) Boolean.valueOf(current.wasApplied()));
+				return terminate(null);
+			}
+
+			long demand = requested.get();
+			long emitted = 0;
+
+			while (emitted != demand && current.getAvailableWithoutFetching() > 0) {
+
+				if (cancelled) {
+					return true;
+				}
+
+				T value;
+
+				try {
+					value = rowMapper.mapRow(current.one(), rowNum++);
+				} catch (Throwable t) {
+					return terminate(CqlTemplate.translateExceptionIfPossible(t, exceptionTranslator));
+				}
+
+				subscriber.onNext(value);
+				emitted++;
+			}
+
+			if (emitted != 0 && demand != Long.MAX_VALUE) {
+				demand = requested.addAndGet(-emitted);
+			}
+
+			if (current.getAvailableWithoutFetching() == 0) {
+
+				if (current.isFullyFetched()) {
+					return terminate(null);
+				}
+
+				if (demand > 0 && !cancelled) {
+					fetching = true;
+					startFetch(new Runnable() {
+
+						@Override
+						public void run() {
+							Futures.addCallback(resultSet.fetchMoreResults(), ResultSetSubscription.this,
+									CqlTemplate.RUN_RUNNABLE_EXECUTOR);
+						}
+					});
+				}
+			}
+
+			return false;
+		}
+
+		private void startFetch(Runnable fetch) {
+
+			try {
+				fetch.run();
+			} catch (RuntimeException e) {
+				onFailure(e);
+			}
+		}
+
+		private boolean terminate(Throwable t) {
+
+			cancelled = true;
+
+			if (t != null) {
+				subscriber.onError(t);
+			} else {
+				subscriber.onComplete();
+			}
+
+			return true;
+		}
+	}
+}
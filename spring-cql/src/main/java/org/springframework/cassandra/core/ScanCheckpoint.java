@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Progress of a token range {@link CqlOperations#scan(org.springframework.cassandra.core.cql.CqlIdentifier,
+ * RowCallbackHandler, ScanOptions) scan}: the token sub-ranges that were read completely and the
+ * {@link com.datastax.driver.core.PagingState} of the next page of each partially read sub-range. Sub-ranges are
+ * identified by their token bounds, paging states are stored in their {@link String} representation.
+ * <p>
+ * {@link ScanCheckpoint} is immutable.
+ *
+ * @since 1.6
+ * @see ScanCheckpointStore
+ */
+public class ScanCheckpoint {
+
+	private static final ScanCheckpoint EMPTY = new ScanCheckpoint(Collections.<String> emptySet(),
+			Collections.<String, String> emptyMap());
+
+	private final Set<String> completedRanges;
+
+	private final Map<String, String> pagingStates;
+
+	/**
+	 * Creates a new {@link ScanCheckpoint}.
+	 *
+	 * @param completedRanges identifiers of completely read sub-ranges, must not be {@literal null}.
+	 * @param pagingStates paging state of the next page keyed by sub-range identifier, must not be {@literal null}.
+	 */
+	public ScanCheckpoint(Set<String> completedRanges, Map<String, String> pagingStates) {
+
+		Assert.notNull(completedRanges, "Completed ranges must not be null");
+		Assert.notNull(pagingStates, "Paging states must not be null");
+
+		this.completedRanges = Collections.unmodifiableSet(new LinkedHashSet<String>(completedRanges));
+		this.pagingStates = Collections.unmodifiableMap(new LinkedHashMap<String, String>(pagingStates));
+	}
+
+	/**
+	 * Returns an empty {@link ScanCheckpoint} that starts the scan from the beginning.
+	 *
+	 * @return the empty {@link ScanCheckpoint}.
+	 */
+	public static ScanCheckpoint empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @return identifiers of completely read sub-ranges.
+	 */
+	public Set<String> getCompletedRanges() {
+		return completedRanges;
+	}
+
+	/**
+	 * @return the paging state of the next page keyed by identifier of partially read sub-ranges.
+	 */
+	public Map<String, String> getPagingStates() {
+		return pagingStates;
+	}
+
+	/**
+	 * @return {@literal true} if the checkpoint does not record any progress.
+	 */
+	public boolean isEmpty() {
+		return completedRanges.isEmpty() && pagingStates.isEmpty();
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+/**
+ * Store for {@link ScanCheckpoint}s allowing a failed token range scan to resume where it stopped. Checkpoints are
+ * identified by a scan id chosen by the application, e.g. the name of a nightly job.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @since 1.6
+ * @see ScanOptions.ScanOptionsBuilder#checkpoint(String, ScanCheckpointStore)
+ * @see FileSystemScanCheckpointStore
+ */
+public interface ScanCheckpointStore {
+
+	/**
+	 * Loads the checkpoint of the given scan.
+	 *
+	 * @param scanId must not be {@literal null}.
+	 * @return the {@link ScanCheckpoint} or {@literal null} if no checkpoint was saved.
+	 */
+	ScanCheckpoint load(String scanId);
+
+	/**
+	 * Saves the checkpoint of the given scan, replacing a previously saved checkpoint.
+	 *
+	 * @param scanId must not be {@literal null}.
+	 * @param checkpoint must not be {@literal null}.
+	 */
+	void save(String scanId, ScanCheckpoint checkpoint);
+
+	/**
+	 * Removes the checkpoint of the given scan. Called once the scan completed.
+	 *
+	 * @param scanId must not be {@literal null}.
+	 */
+	void delete(String scanId);
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for parallel full-table {@link CqlOperations#scan(org.springframework.cassandra.core.cql.CqlIdentifier,
+ * RowCallbackHandler, ScanOptions) scans}. A scan splits each token range of the ring into
+ * {@link #getSplitsPerRange()} sub-ranges and queries at most {@link #getMaxConcurrentRanges()} sub-ranges
+ * concurrently.
+ * <p>
+ * Failed page reads can be retried with exponential backoff, see {@link ScanOptionsBuilder#maxRetries(int)}. A scan
+ * configured with a {@link ScanOptionsBuilder#checkpoint(String, ScanCheckpointStore) checkpoint store} periodically
+ * records its progress and resumes from the last checkpoint when it is started again after a failure.
+ *
+ * @since 1.6
+ */
+public class ScanOptions {
+
+	/**
+	 * Default number of sub-ranges per token range.
+	 */
+	public static final int DEFAULT_SPLITS_PER_RANGE = 4;
+
+	/**
+	 * Default maximum number of sub-ranges queried concurrently.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_RANGES = 16;
+
+	/**
+	 * Default backoff before the first retry of a failed page read in milliseconds.
+	 */
+	public static final long DEFAULT_RETRY_BACKOFF = 100;
+
+	/**
+	 * Default interval between checkpoints in milliseconds.
+	 */
+	public static final long DEFAULT_CHECKPOINT_INTERVAL = 10000;
+
+	private final int splitsPerRange;
+
+	private final int maxConcurrentRanges;
+
+	private final int fetchSize;
+
+	private final int maxRetries;
+
+	private final long retryBackoff;
+
+	private final String scanId;
+
+	private final ScanCheckpointStore checkpointStore;
+
+	private final long checkpointInterval;
+
+	private ScanOptions(int splitsPerRange, int maxConcurrentRanges, int fetchSize, int maxRetries, long retryBackoff,
+			String scanId, ScanCheckpointStore checkpointStore, long checkpointInterval) {
+
+		this.splitsPerRange = splitsPerRange;
+		this.maxConcurrentRanges = maxConcurrentRanges;
+		this.fetchSize = fetchSize;
+		this.maxRetries = maxRetries;
+		this.retryBackoff = retryBackoff;
+		this.scanId = scanId;
+		this.checkpointStore = checkpointStore;
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	/**
+	 * Creates new {@link ScanOptions} using {@link #DEFAULT_SPLITS_PER_RANGE}, {@link #DEFAULT_MAX_CONCURRENT_RANGES}
+	 * and the fetch size configured on the driver.
+	 *
+	 * @return new default {@link ScanOptions}.
+	 */
+	public static ScanOptions defaults() {
+		return builder().build();
+	}
+
+	/**
+	 * Creates a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the ring is split into.
+	 */
+	public int getSplitsPerRange() {
+		return splitsPerRange;
+	}
+
+	/**
+	 * @return the maximum number of sub-ranges queried concurrently.
+	 */
+	public int getMaxConcurrentRanges() {
+		return maxConcurrentRanges;
+	}
+
+	/**
+	 * @return the fetch size of each sub-range query. Zero to use the fetch size configured on the driver.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * @return the maximum number of consecutive retries of a failed page read. Zero if failed reads are not retried.
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the backoff before the first retry in milliseconds. The backoff doubles with each consecutive retry.
+	 */
+	public long getRetryBackoff() {
+		return retryBackoff;
+	}
+
+	/**
+	 * @return the id under which the scan progress is checkpointed, may be {@literal null}.
+	 */
+	public String getScanId() {
+		return scanId;
+	}
+
+	/**
+	 * @return the {@link ScanCheckpointStore}, may be {@literal null}.
+	 */
+	public ScanCheckpointStore getCheckpointStore() {
+		return checkpointStore;
+	}
+
+	/**
+	 * @return the interval between checkpoints in milliseconds.
+	 */
+	public long getCheckpointInterval() {
+		return checkpointInterval;
+	}
+
+	/**
+	 * @return {@literal true} if the scan progress is checkpointed.
+	 */
+	public boolean isCheckpointing() {
+		return checkpointStore != null;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 *
+	 * @since 1.6
+	 */
+	public static class ScanOptionsBuilder {
+
+		private int splitsPerRange = DEFAULT_SPLITS_PER_RANGE;
+
+		private int maxConcurrentRanges = DEFAULT_MAX_CONCURRENT_RANGES;
+
+		private int fetchSize;
+
+		private int maxRetries;
+
+		private long retryBackoff = DEFAULT_RETRY_BACKOFF;
+
+		private String scanId;
+
+		private ScanCheckpointStore checkpointStore;
+
+		private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+
+		private ScanOptionsBuilder() {}
+
+		/**
+		 * Sets the number of sub-ranges each token range of the ring is split into. More sub-ranges result in smaller
+		 * queries that are less likely to time out.
+		 *
+		 * @param splitsPerRange must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sub-ranges queried concurrently. The calling thread blocks once this number of
+		 * sub-ranges is in flight.
+		 *
+		 * @param maxConcurrentRanges must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder maxConcurrentRanges(int maxConcurrentRanges) {
+
+			Assert.isTrue(maxConcurrentRanges > 0, "Maximum concurrent ranges must be greater than zero");
+
+			this.maxConcurrentRanges = maxConcurrentRanges;
+			return this;
+		}
+
+		/**
+		 * Sets the fetch size of each sub-range query.
+		 *
+		 * @param fetchSize must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder fetchSize(int fetchSize) {
+
+			Assert.isTrue(fetchSize > 0, "Fetch size must be greater than zero");
+
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of consecutive retries of a failed page read. A retry re-reads the page that failed
+		 * and does not affect other sub-ranges. The scan fails once a page read fails more than {@code maxRetries} times
+		 * in a row. Invalid queries are not retried.
+		 *
+		 * @param maxRetries must not be negative.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder maxRetries(int maxRetries) {
+
+			Assert.isTrue(maxRetries >= 0, "Maximum retries must not be negative");
+
+			this.maxRetries = maxRetries;
+			return this;
+		}
+
+		/**
+		 * Sets the backoff before the first retry of a failed page read. The backoff doubles with each consecutive retry
+		 * up to 32 times the initial backoff.
+		 *
+		 * @param backoff must not be negative.
+		 * @param unit must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder retryBackoff(long backoff, TimeUnit unit) {
+
+			Assert.isTrue(backoff >= 0, "Retry backoff must not be negative");
+			Assert.notNull(unit, "TimeUnit must not be null");
+
+			this.retryBackoff = unit.toMillis(backoff);
+			return this;
+		}
+
+		/**
+		 * Records the progress of the scan in the given {@link ScanCheckpointStore}. A scan started with the same
+		 * {@code scanId} skips sub-ranges that were read completely and continues partially read sub-ranges from their
+		 * last recorded page. The checkpoint is removed once the scan completes.
+		 *
+		 * @param scanId must not be empty.
+		 * @param checkpointStore must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder checkpoint(String scanId, ScanCheckpointStore checkpointStore) {
+
+			Assert.hasText(scanId, "Scan id must not be empty");
+			Assert.notNull(checkpointStore, "ScanCheckpointStore must not be null");
+
+			this.scanId = scanId;
+			this.checkpointStore = checkpointStore;
+			return this;
+		}
+
+		/**
+		 * Sets the interval between checkpoints. Checkpoints are saved in the background and do not delay page
+		 * processing.
+		 *
+		 * @param interval must be greater than zero.
+		 * @param unit must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder checkpointInterval(long interval, TimeUnit unit) {
+
+			Assert.isTrue(interval > 0, "Checkpoint interval must be greater than zero");
+			Assert.notNull(unit, "TimeUnit must not be null");
+
+			this.checkpointInterval = Math.max(1, unit.toMillis(interval));
+			return this;
+		}
+
+		/**
+		 * Builds new {@link ScanOptions} with the configured values.
+		 *
+		 * @return new {@link ScanOptions} with the configured values.
+		 */
+		public ScanOptions build() {
+			return new ScanOptions(splitsPerRange, maxConcurrentRanges, fetchSize, maxRetries, retryBackoff, scanId,
+					checkpointStore, checkpointInterval);
+		}
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.util.Assert;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * This Prepared Statement Creator simply prepares a statement from the CQL string. This should not be used in
@@ -29,7 +30,7 @@ import com.datastax.driver.core.exceptions.DriverException;
  * 
  * @author David Webb
  */
-public class SimplePreparedStatementCreator implements PreparedStatementCreator {
+public class SimplePreparedStatementCreator implements AsyncPreparedStatementCreator {
 
 	private final String cql;
 
@@ -52,4 +53,9 @@ public class SimplePreparedStatementCreator implements PreparedStatementCreator
 		return session.prepare(this.cql);
 	}
 
+	@Override
+	public ListenableFuture<PreparedStatement> createPreparedStatementAsync(Session session) {
+		return session.prepareAsync(this.cql);
+	}
+
 }
@@ -0,0 +1,616 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.exceptions.QueryValidationException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Parallel full-table scan splitting the token ring into sub-ranges. Each token range reported by
+ * {@link Metadata#getTokenRanges()} is split into {@link ScanOptions#getSplitsPerRange()} sub-ranges and each sub-range
+ * is read with a {@code token(partition key) > ? AND token(partition key) <= ?} query. Sub-ranges are ordered
+ * round-robin across their primary replicas so concurrently running queries spread over the cluster instead of
+ * hitting a single node.
+ * <p>
+ * The number of sub-ranges in flight is limited with a {@link Semaphore}; the calling thread blocks once the limit is
+ * reached. Result pages are processed on the callback {@link Executor} and the next page of a sub-range is requested
+ * once the current page is processed. The first failure that is not retried stops the scan; this includes pages the
+ * callback {@link Executor} rejects because it is saturated.
+ * <p>
+ * A failed page read is retried from the {@link PagingState} of the last processed page of its sub-range after an
+ * exponential backoff, other sub-ranges continue meanwhile. With a {@link ScanCheckpointStore} configured, completed
+ * sub-ranges and the paging state of partially read sub-ranges are saved periodically in the background and when the
+ * scan fails. A subsequent scan with the same scan id resumes from that checkpoint. Rows processed after the last
+ * checkpoint are read again on resume.
+ * <p>
+ * {@link TokenRangeScan} is intended for a single {@link #scan(List, RowCallbackHandler)} run.
+ *
+ * @since 1.6
+ * @see ScanOptions
+ */
+class TokenRangeScan {
+
+	private static final Logger log = LoggerFactory.getLogger(TokenRangeScan.class);
+
+	private static final int MAX_BACKOFF_SHIFT = 5;
+
+	private final Session session;
+
+	private final ScanOptions options;
+
+	private final Executor pageExecutor;
+
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private final Semaphore permits;
+
+	private final AtomicLong rowCount = new AtomicLong();
+
+	private final AtomicReference<RuntimeException> firstFailure = new AtomicReference<RuntimeException>();
+
+	private final Set<String> completedRanges = ConcurrentHashMap.<String> newKeySet();
+
+	private final ConcurrentMap<String, String> pagingStates = new ConcurrentHashMap<String, String>();
+
+	private volatile ScheduledExecutorService scheduler;
+
+	private boolean finished;
+
+	/**
+	 * Creates a new {@link TokenRangeScan}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param callbackExecutor {@link Executor} processing result pages, must not be {@literal null}.
+	 * @param exceptionTranslator must not be {@literal null}.
+	 */
+	TokenRangeScan(Session session, ScanOptions options, final Executor callbackExecutor,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+		Assert.notNull(callbackExecutor, "Executor must not be null");
+		Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+		this.session = session;
+		this.options = options;
+		this.pageExecutor = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+
+				try {
+					callbackExecutor.execute(command);
+				} catch (RejectedExecutionException e) {
+					fail(e);
+				}
+			}
+		};
+		this.exceptionTranslator = exceptionTranslator;
+		this.permits = new Semaphore(options.getMaxConcurrentRanges());
+	}
+
+	/**
+	 * Creates one query per token sub-range of the table in the keyspace the {@link Session} is connected to.
+	 *
+	 * @param cache {@link PreparedStatementCache} to prepare the range queries, must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @param selection the CQL selection clause, e.g. {@code *} or {@code count(*)}, must not be empty.
+	 * @return the sub-range queries.
+	 */
+	List<RangeQuery> createQueries(PreparedStatementCache cache, CqlIdentifier tableName, String selection) {
+
+		Assert.notNull(cache, "PreparedStatementCache must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.hasText(selection, "Selection must not be empty");
+
+		String keyspace = session.getLoggedKeyspace();
+
+		if (!StringUtils.hasText(keyspace)) {
+			throw new InvalidDataAccessApiUsageException("Scanning a table requires a Session connected to a keyspace");
+		}
+
+		Metadata metadata = session.getCluster().getMetadata();
+		List<String> partitionKeyColumns = getPartitionKeyColumns(metadata, keyspace, tableName);
+
+		String boundedCql = createCql(selection, tableName, partitionKeyColumns, true, true);
+		String afterCql = createCql(selection, tableName, partitionKeyColumns, true, false);
+		String upToCql = createCql(selection, tableName, partitionKeyColumns, false, true);
+
+		List<RangeQuery> queries = new ArrayList<RangeQuery>();
+
+		for (TokenRange range : getSubRanges(metadata, keyspace, options.getSplitsPerRange())) {
+
+			int comparison = range.getEnd().compareTo(range.getStart());
+
+			if (comparison > 0) {
+				queries.add(new RangeQuery(getRangeId(range.getStart(), range.getEnd()),
+						cache.getPreparedStatement(session, boundedCql).bind() //
+								.setToken(0, range.getStart()).setToken(1, range.getEnd())));
+			} else if (comparison < 0) {
+				// unwrapped range ending at the minimum token: covers the end of the ring
+				queries.add(new RangeQuery(getRangeId(range.getStart(), null),
+						cache.getPreparedStatement(session, afterCql).bind().setToken(0, range.getStart())));
+			} else {
+				// range spanning the whole ring
+				queries.add(new RangeQuery(getRangeId(range.getStart(), null),
+						cache.getPreparedStatement(session, afterCql).bind().setToken(0, range.getStart())));
+				queries.add(new RangeQuery(getRangeId(null, range.getEnd()),
+						cache.getPreparedStatement(session, upToCql).bind().setToken(0, range.getEnd())));
+			}
+		}
+
+		return queries;
+	}
+
+	/**
+	 * Executes {@code queries} keeping at most {@link ScanOptions#getMaxConcurrentRanges()} queries in flight and passes
+	 * each row to {@code rowCallbackHandler}. {@code rowCallbackHandler} is called concurrently for rows of different
+	 * sub-ranges. Blocks until all queries are completed.
+	 *
+	 * @param queries must not be {@literal null}.
+	 * @param rowCallbackHandler must not be {@literal null}.
+	 * @return the number of processed rows.
+	 */
+	long scan(List<RangeQuery> queries, RowCallbackHandler rowCallbackHandler) {
+
+		Assert.notNull(queries, "Queries must not be null");
+		Assert.notNull(rowCallbackHandler, "RowCallbackHandler must not be null");
+
+		List<RangeQuery> pending = resume(queries);
+
+		if (options.getMaxRetries() > 0 || options.isCheckpointing()) {
+			startScheduler();
+		}
+
+		try {
+			for (RangeQuery query : pending) {
+
+				permits.acquireUninterruptibly();
+
+				if (firstFailure.get() != null) {
+					permits.release();
+					break;
+				}
+
+				execute(new RangeExecution(query, rowCallbackHandler));
+			}
+		} finally {
+			awaitCompletion();
+			stopScheduler();
+		}
+
+		RuntimeException failure = firstFailure.get();
+
+		if (options.isCheckpointing()) {
+			finishCheckpointing(failure == null);
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		return rowCount.get();
+	}
+
+	/**
+	 * Applies the checkpoint of a previous run: skips completed sub-ranges and continues partially read sub-ranges
+	 * from their recorded paging state.
+	 */
+	private List<RangeQuery> resume(List<RangeQuery> queries) {
+
+		ScanCheckpoint checkpoint = (options.isCheckpointing()
+				? options.getCheckpointStore().load(options.getScanId()) : null);
+
+		if (checkpoint == null || checkpoint.isEmpty()) {
+			return queries;
+		}
+
+		List<RangeQuery> pending = new ArrayList<RangeQuery>(queries.size());
+
+		for (RangeQuery query : queries) {
+
+			if (checkpoint.getCompletedRanges().contains(query.getRange())) {
+				completedRanges.add(query.getRange());
+				continue;
+			}
+
+			String pagingState = checkpoint.getPagingStates().get(query.getRange());
+
+			if (pagingState != null) {
+				query.getStatement().setPagingState(PagingState.fromString(pagingState));
+				pagingStates.put(query.getRange(), pagingState);
+			}
+
+			pending.add(query);
+		}
+
+		log.debug("Resuming scan [{}]: {} of {} token ranges completed, {} partially read", options.getScanId(),
+				completedRanges.size(), queries.size(), pagingStates.size());
+
+		return pending;
+	}
+
+	private void execute(RangeExecution execution) {
+
+		Statement statement = execution.query.getStatement();
+
+		if (options.getFetchSize() > 0) {
+			statement.setFetchSize(options.getFetchSize());
+		}
+
+		ListenableFuture<ResultSet> future;
+
+		try {
+			future = session.executeAsync(statement);
+		} catch (RuntimeException e) {
+
+			onReadFailure(execution, e);
+			return;
+		}
+
+		processPage(execution, future);
+	}
+
+	private void processPage(final RangeExecution execution, ListenableFuture<ResultSet> page) {
+
+		Futures.addCallback(page, new FutureCallback<ResultSet>() {
+
+			@Override
+			public void onSuccess(ResultSet resultSet) {
+
+				try {
+
+					for (int available = resultSet.getAvailableWithoutFetching(); available > 0
+							&& firstFailure.get() == null; available--) {
+
+						execution.rowCallbackHandler.processRow(resultSet.one());
+						rowCount.incrementAndGet();
+					}
+
+					if (firstFailure.get() != null) {
+						permits.release();
+						return;
+					}
+
+					execution.attempts = 0;
+
+					if (resultSet.isFullyFetched()) {
+
+						completedRanges.add(execution.query.getRange());
+						pagingStates.remove(execution.query.getRange());
+						permits.release();
+						return;
+					}
+
+					if (options.getMaxRetries() > 0 || options.isCheckpointing()) {
+						recordProgress(execution, resultSet.getExecutionInfo().getPagingState());
+					}
+
+					processPage(execution, resultSet.fetchMoreResults());
+				} catch (RuntimeException e) {
+					fail(e);
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				onReadFailure(execution, t);
+			}
+		}, pageExecutor);
+	}
+
+	private void recordProgress(RangeExecution execution, PagingState pagingState) {
+
+		if (pagingState == null) {
+			return;
+		}
+
+		execution.query.getStatement().setPagingState(pagingState);
+		pagingStates.put(execution.query.getRange(), pagingState.toString());
+	}
+
+	private void onReadFailure(final RangeExecution execution, Throwable cause) {
+
+		if (firstFailure.get() != null || cause instanceof QueryValidationException
+				|| execution.attempts >= options.getMaxRetries()) {
+
+			fail(cause);
+			return;
+		}
+
+		long backoff = options.getRetryBackoff() << Math.min(execution.attempts, MAX_BACKOFF_SHIFT);
+		execution.attempts++;
+
+		log.debug("Retrying token range {} in {} ms (attempt {} of {})", execution.query.getRange(), backoff,
+				execution.attempts, options.getMaxRetries(), cause);
+
+		try {
+			scheduler.schedule(new Runnable() {
+
+				@Override
+				public void run() {
+					execute(execution);
+				}
+			}, backoff, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			fail(cause);
+		}
+	}
+
+	private void fail(Throwable cause) {
+
+		firstFailure.compareAndSet(null, CqlTemplate.translateExceptionIfPossible(cause, exceptionTranslator));
+		permits.release();
+	}
+
+	private void awaitCompletion() {
+
+		int maxConcurrentRanges = options.getMaxConcurrentRanges();
+
+		permits.acquireUninterruptibly(maxConcurrentRanges);
+		permits.release(maxConcurrentRanges);
+	}
+
+	private void startScheduler() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("token-range-scan-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		this.scheduler = scheduler;
+
+		if (options.isCheckpointing()) {
+
+			long interval = options.getCheckpointInterval();
+
+			scheduler.scheduleWithFixedDelay(new Runnable() {
+
+				@Override
+				public void run() {
+					saveCheckpoint();
+				}
+			}, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void stopScheduler() {
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Saves the current progress unless the scan is finished. Paging states are captured before completed ranges so a
+	 * sub-range completing concurrently is recorded either as completed or with its last paging state.
+	 */
+	private synchronized void saveCheckpoint() {
+
+		if (finished) {
+			return;
+		}
+
+		Map<String, String> pagingStates = new LinkedHashMap<String, String>(this.pagingStates);
+		Set<String> completedRanges = new LinkedHashSet<String>(this.completedRanges);
+
+		try {
+			options.getCheckpointStore().save(options.getScanId(), new ScanCheckpoint(completedRanges, pagingStates));
+		} catch (RuntimeException e) {
+			log.warn(String.format("Cannot save checkpoint of scan [%s]", options.getScanId()), e);
+		}
+	}
+
+	/**
+	 * Removes the checkpoint of a completed scan or saves the final progress of a failed scan.
+	 */
+	private synchronized void finishCheckpointing(boolean completed) {
+
+		if (completed) {
+			finished = true;
+			options.getCheckpointStore().delete(options.getScanId());
+		} else {
+			saveCheckpoint();
+			finished = true;
+		}
+	}
+
+	/**
+	 * Renders a query restricting the token of the partition key. Bind markers for the lower and upper bound are
+	 * rendered in that order.
+	 */
+	static String createCql(String selection, CqlIdentifier tableName, List<String> partitionKeyColumns,
+			boolean lowerBound, boolean upperBound) {
+
+		String token = String.format("token(%s)", StringUtils.collectionToDelimitedString(partitionKeyColumns, ", "));
+
+		StringBuilder cql = new StringBuilder("SELECT ").append(selection).append(" FROM ").append(tableName.toCql())
+				.append(" WHERE ");
+
+		if (lowerBound) {
+			cql.append(token).append(" > ?");
+		}
+
+		if (lowerBound && upperBound) {
+			cql.append(" AND ");
+		}
+
+		if (upperBound) {
+			cql.append(token).append(" <= ?");
+		}
+
+		return cql.append(';').toString();
+	}
+
+	private static List<String> getPartitionKeyColumns(Metadata metadata, String keyspace, CqlIdentifier tableName) {
+
+		KeyspaceMetadata keyspaceMetadata = metadata.getKeyspace(keyspace);
+		TableMetadata table = (keyspaceMetadata != null ? keyspaceMetadata.getTable(tableName.toCql()) : null);
+
+		if (table == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Table [%s] not found in keyspace [%s]", tableName.toCql(), keyspace));
+		}
+
+		List<String> columns = new ArrayList<String>();
+
+		for (ColumnMetadata column : table.getPartitionKey()) {
+			columns.add(Metadata.quote(column.getName()));
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Splits the token ranges of the ring into unwrapped sub-ranges ordered round-robin across the primary replica of
+	 * each range.
+	 */
+	private static List<TokenRange> getSubRanges(Metadata metadata, String keyspace, int splitsPerRange) {
+
+		Map<Host, List<TokenRange>> rangesByReplica = new LinkedHashMap<Host, List<TokenRange>>();
+		int count = 0;
+
+		for (TokenRange range : metadata.getTokenRanges()) {
+
+			Set<Host> replicas = metadata.getReplicas(keyspace, range);
+			Host primary = (replicas.isEmpty() ? null : replicas.iterator().next());
+
+			List<TokenRange> ranges = rangesByReplica.get(primary);
+
+			if (ranges == null) {
+				ranges = new ArrayList<TokenRange>();
+				rangesByReplica.put(primary, ranges);
+			}
+
+			for (TokenRange split : range.splitEvenly(splitsPerRange)) {
+				for (TokenRange unwrapped : split.unwrap()) {
+					ranges.add(unwrapped);
+					count++;
+				}
+			}
+		}
+
+		List<Iterator<TokenRange>> iterators = new ArrayList<Iterator<TokenRange>>();
+
+		for (List<TokenRange> ranges : rangesByReplica.values()) {
+			iterators.add(ranges.iterator());
+		}
+
+		List<TokenRange> subRanges = new ArrayList<TokenRange>(count);
+
+		while (subRanges.size() < count) {
+			for (Iterator<TokenRange> iterator : iterators) {
+				if (iterator.hasNext()) {
+					subRanges.add(iterator.next());
+				}
+			}
+		}
+
+		return subRanges;
+	}
+
+	private static String getRangeId(Token start, Token end) {
+		return String.format("(%s,%s]", start != null ? start : "", end != null ? end : "");
+	}
+
+	/**
+	 * Query reading a token sub-range identified by its bounds.
+	 */
+	static class RangeQuery {
+
+		private final String range;
+
+		private final Statement statement;
+
+		RangeQuery(String range, Statement statement) {
+
+			this.range = range;
+			this.statement = statement;
+		}
+
+		String getRange() {
+			return range;
+		}
+
+		Statement getStatement() {
+			return statement;
+		}
+	}
+
+	/**
+	 * Execution state of a {@link RangeQuery}.
+	 */
+	private static class RangeExecution {
+
+		private final RangeQuery query;
+
+		private final RowCallbackHandler rowCallbackHandler;
+
+		/**
+		 * Consecutive failed attempts to read the current page. Accessed by one thread at a time as pages of a sub-range
+		 * are read sequentially.
+		 */
+		private volatile int attempts;
+
+		RangeExecution(RangeQuery query, RowCallbackHandler rowCallbackHandler) {
+
+			this.query = query;
+			this.rowCallbackHandler = rowCallbackHandler;
+		}
+	}
+}
@@ -2,8 +2,28 @@ package org.springframework.cassandra.core.converter;
 
 import java.nio.ByteBuffer;
 
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+
+/**
+ * {@link AbstractResultSetConverter} to {@link ByteBuffer}. A {@link ResultSet} consisting of a single row with a
+ * single {@code blob} column is converted to a view over the row's bytes without going through the codec and without
+ * materializing the row.
+ */
 public class ResultSetToByteBufferConverter extends AbstractResultSetConverter<ByteBuffer> {
 
+	@Override
+	public ByteBuffer convert(ResultSet source) {
+
+		if (source != null && source.getColumnDefinitions().size() == 1
+				&& DataType.blob().equals(source.getColumnDefinitions().getType(0)) && source.isFullyFetched()
+				&& source.getAvailableWithoutFetching() == 1) {
+			return source.one().getBytesUnsafe(0);
+		}
+
+		return super.convert(source);
+	}
+
 	@Override
 	protected ByteBuffer doConvertSingleValue(Object object) {
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.util.Assert;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Utility methods to compose {@link ListenableFuture}s. Continuations run on the thread that completes the upstream
+ * future. Cancelling a composed future cancels the stage that is currently in progress.
+ * <p>
+ * These methods rely only on {@link ListenableFuture#addListener(Runnable, Executor)} and {@link SettableFuture} to
+ * remain compatible across Guava versions.
+ *
+ * @since 1.6
+ */
+public abstract class ListenableFutures {
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	/**
+	 * Returns a new {@link ListenableFuture} whose value is obtained by applying the given {@link AsyncFunction} to the
+	 * result of {@code input}. Failures of {@code input} and of the {@link AsyncFunction} are propagated to the returned
+	 * future.
+	 *
+	 * @param input must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return the composed {@link ListenableFuture}.
+	 */
+	public static <I, O> ListenableFuture<O> transformAsync(final ListenableFuture<I> input,
+			final AsyncFunction<? super I, ? extends O> function) {
+
+		Assert.notNull(input, "Input future must not be null");
+		Assert.notNull(function, "AsyncFunction must not be null");
+
+		final SettableFuture<O> output = SettableFuture.create();
+		final AtomicReference<Future<?>> current = new AtomicReference<Future<?>>(input);
+
+		output.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (output.isCancelled()) {
+					current.get().cancel(false);
+				}
+			}
+		}, DIRECT_EXECUTOR);
+
+		input.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (output.isDone()) {
+					return;
+				}
+
+				ListenableFuture<? extends O> next;
+
+				try {
+					next = function.apply(Uninterruptibles.getUninterruptibly(input));
+				} catch (ExecutionException e) {
+					output.setException(e.getCause());
+					return;
+				} catch (CancellationException e) {
+					output.cancel(false);
+					return;
+				} catch (Throwable t) {
+					output.setException(t);
+					return;
+				}
+
+				if (next == null) {
+					output.setException(new NullPointerException("AsyncFunction returned null instead of a ListenableFuture"));
+					return;
+				}
+
+				current.set(next);
+
+				if (output.isCancelled()) {
+					next.cancel(false);
+					return;
+				}
+
+				propagate(next, output);
+			}
+		}, DIRECT_EXECUTOR);
+
+		return output;
+	}
+
+	/**
+	 * Completes {@code target} with the outcome of {@code source} once {@code source} is done.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	public static <T> void propagate(final ListenableFuture<? extends T> source, final SettableFuture<T> target) {
+
+		Assert.notNull(source, "Source future must not be null");
+		Assert.notNull(target, "Target future must not be null");
+
+		source.addListener(new Runnable() {
+
+			@Override
+			public void run() {
+
+				try {
+					target.set(Uninterruptibles.getUninterruptibly(source));
+				} catch (ExecutionException e) {
+					target.setException(e.getCause());
+				} catch (CancellationException e) {
+					target.cancel(false);
+				} catch (Throwable t) {
+					target.setException(t);
+				}
+			}
+		}, DIRECT_EXECUTOR);
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.CqlTemplateUnitTests.SettableResultSetFuture;
+import org.springframework.cassandra.support.exception.CassandraInvalidQueryException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.google.common.util.concurrent.Futures;
+
+/**
+ * Unit tests for {@link AsyncCqlTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncCqlTemplateUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+
+	SettableResultSetFuture nextPage = new SettableResultSetFuture();
+	AsyncCqlTemplate template;
+
+	RowMapper<Integer> rowNumMapper = new RowMapper<Integer>() {
+
+		@Override
+		public Integer mapRow(Row row, int rowNum) {
+			return rowNum;
+		}
+	};
+
+	@Before
+	public void setUp() {
+		template = new AsyncCqlTemplate(session);
+	}
+
+	@Test
+	public void queryShouldCollectAllPages() throws Exception {
+
+		givenResultSet();
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2, 2, 0);
+		when(resultSet.isFullyFetched()).thenReturn(false, true);
+		when(resultSet.fetchMoreResults()).thenReturn(nextPage);
+		when(resultSet.one()).thenReturn(row);
+
+		CompletableFuture<List<Integer>> future = template.query("SELECT * FROM person", rowNumMapper);
+
+		assertThat(future).isNotDone();
+
+		nextPage.set(resultSet);
+
+		assertThat(future.get()).containsExactly(0, 1, 2, 3);
+	}
+
+	@Test
+	public void queryForObjectShouldNotFetchMorePagesThanNecessary() throws Exception {
+
+		givenResultSet();
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(5);
+		when(resultSet.one()).thenReturn(row);
+
+		CompletableFuture<Integer> future = template.queryForObject("SELECT * FROM person", rowNumMapper);
+
+		try {
+			future.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+
+		verify(resultSet, times(2)).one();
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void queryShouldNotFetchMoreThanMaxRows() throws Exception {
+
+		givenResultSet();
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(5);
+		when(resultSet.one()).thenReturn(row);
+
+		CompletableFuture<List<Integer>> future = template.query(new SimpleStatement("SELECT * FROM person"),
+				rowNumMapper, 2);
+
+		assertThat(future.get()).containsExactly(0, 1);
+		verify(resultSet, times(2)).one();
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void queryForObjectShouldFailForEmptyResult() throws Exception {
+
+		givenResultSet();
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		CompletableFuture<Integer> future = template.queryForObject("SELECT * FROM person", rowNumMapper);
+
+		try {
+			future.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+	}
+
+	@Test
+	public void executeShouldReturnWasApplied() throws Exception {
+
+		givenResultSet();
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		assertThat(template.execute("UPDATE person SET age = 42 WHERE id = 'foo' IF EXISTS").get()).isTrue();
+	}
+
+	@Test
+	public void executeShouldBindPreparedStatement() throws Exception {
+
+		final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(session.prepareAsync("UPDATE person SET age = 42 WHERE id = ?"))
+				.thenReturn(Futures.immediateFuture(preparedStatement));
+		when(preparedStatement.bind("foo")).thenReturn(boundStatement);
+		givenResultSet();
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		CompletableFuture<Boolean> future = template.execute("UPDATE person SET age = 42 WHERE id = ?",
+				new PreparedStatementBinder() {
+
+					@Override
+					public BoundStatement bindValues(PreparedStatement ps) {
+						return ps.bind("foo");
+					}
+				});
+
+		assertThat(future.get()).isTrue();
+		verify(session).executeAsync(boundStatement);
+	}
+
+	@Test
+	public void cancelShouldCancelResultSetFuture() {
+
+		SettableResultSetFuture resultSetFuture = new SettableResultSetFuture();
+		when(session.executeAsync(any(Statement.class))).thenReturn(resultSetFuture);
+
+		CompletableFuture<List<Integer>> future = template.query("SELECT * FROM person", rowNumMapper);
+		future.cancel(true);
+
+		assertThat(resultSetFuture.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void cancelShouldCancelPageInFlight() {
+
+		givenResultSet();
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+		when(resultSet.fetchMoreResults()).thenReturn(nextPage);
+
+		CompletableFuture<List<Integer>> future = template.query("SELECT * FROM person", rowNumMapper);
+		future.cancel(true);
+
+		assertThat(nextPage.isCancelled()).isTrue();
+	}
+
+	@Test
+	public void shouldTranslateExceptions() throws Exception {
+
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(SettableResultSetFuture.failed(new InvalidQueryException("boom")));
+
+		CompletableFuture<Boolean> future = template.execute("DELETE FROM person");
+
+		try {
+			future.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(CassandraInvalidQueryException.class);
+		}
+	}
+
+	private void givenResultSet() {
+
+		SettableResultSetFuture future = new SettableResultSetFuture();
+		future.set(resultSet);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(future);
+	}
+}
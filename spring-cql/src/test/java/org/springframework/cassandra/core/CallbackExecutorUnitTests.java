@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CallbackExecutor}.
+ */
+public class CallbackExecutorUnitTests {
+
+	CallbackExecutor executor = new CallbackExecutor(1, 1);
+	CountDownLatch release = new CountDownLatch(1);
+
+	@After
+	public void tearDown() {
+
+		release.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	public void shouldRunCallbacksOffCallingThread() throws Exception {
+
+		final AtomicReference<Thread> thread = new AtomicReference<Thread>();
+		final CountDownLatch done = new CountDownLatch(1);
+
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				thread.set(Thread.currentThread());
+				done.countDown();
+			}
+		});
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(thread.get()).isNotSameAs(Thread.currentThread());
+		assertThat(thread.get().getName()).startsWith("cassandra-callback-");
+		assertThat(thread.get().isDaemon()).isTrue();
+	}
+
+	@Test
+	public void shouldRejectCallbacksIfQueueIsFull() throws Exception {
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+
+				started.countDown();
+
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {}
+		});
+
+		assertThat(executor.getQueueDepth()).isEqualTo(1);
+
+		final AtomicBoolean ran = new AtomicBoolean();
+
+		try {
+			executor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					ran.set(true);
+				}
+			});
+			fail("Missing RejectedExecutionException");
+		} catch (RejectedExecutionException e) {
+			assertThat(e).hasMessageContaining("queue is full");
+		}
+
+		assertThat(ran.get()).isFalse();
+		assertThat(executor.getRejectedCount()).isEqualTo(1);
+		assertThat(executor.getQueueDepth()).isEqualTo(1);
+	}
+}
@@ -18,8 +18,21 @@ package org.springframework.cassandra.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,27 +41,37 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraQuerySyntaxException;
 import org.springframework.cassandra.support.exception.CassandraReadTimeoutException;
 import org.springframework.cassandra.support.exception.CassandraUncategorizedException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.SyntaxError;
 import com.datastax.driver.core.policies.FallthroughRetryPolicy;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Using;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * The CqlTemplateUnitTests class is a test suite of test cases testing the contract and functionality of the
@@ -495,4 +518,320 @@ public class CqlTemplateUnitTests {
 		verify(mockUpdate).using(Mockito.any(Using.class));
 		verify(mockUpdate).disableTracing();
 	}
+
+	@Test
+	public void queryAsynchronouslyShouldChainOnAsynchronousPrepare() throws Exception {
+
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(mockSession.prepareAsync("SELECT * FROM person")).thenReturn(prepareFuture);
+		when(mockPreparedStatement.bind()).thenReturn(boundStatement);
+		when(mockSession.executeAsync(boundStatement)).thenReturn(completedResultSetFuture(resultSet));
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		ListenableFuture<ResultSet> result = template.queryAsynchronously("SELECT * FROM person",
+				(PreparedStatementBinder) null);
+
+		assertThat(result.isDone()).isFalse();
+		verify(mockSession, never()).prepare(anyString());
+		verify(mockSession, never()).executeAsync(any(Statement.class));
+
+		prepareFuture.set(mockPreparedStatement);
+
+		assertThat(result.isDone()).isTrue();
+		assertThat(result.get()).isSameAs(resultSet);
+	}
+
+	@Test
+	public void executeAsynchronouslyShouldDispatchListenerOnCallbackExecutor() {
+
+		final List<Runnable> dispatched = new ArrayList<Runnable>();
+		SettableResultSetFuture resultSetFuture = new SettableResultSetFuture();
+		AsynchronousQueryListener listener = mock(AsynchronousQueryListener.class);
+
+		when(mockSession.executeAsync(mockStatement)).thenReturn(resultSetFuture);
+
+		template.setCallbackExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				dispatched.add(command);
+			}
+		});
+
+		template.executeAsynchronously(mockStatement, listener);
+		resultSetFuture.set(mock(ResultSet.class));
+
+		verifyZeroInteractions(listener);
+		assertThat(dispatched).hasSize(1);
+
+		dispatched.get(0).run();
+
+		verify(listener).onQueryComplete(resultSetFuture);
+	}
+
+	@Test
+	public void executeAsynchronouslyShouldRunListenerIfCallbackQueueIsFull() throws Exception {
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		CallbackExecutor callbackExecutor = new CallbackExecutor(1, 1);
+
+		try {
+
+			Runnable blocking = new Runnable() {
+
+				@Override
+				public void run() {
+
+					started.countDown();
+					Uninterruptibles.awaitUninterruptibly(release);
+				}
+			};
+
+			callbackExecutor.execute(blocking);
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			callbackExecutor.execute(blocking);
+
+			SettableResultSetFuture resultSetFuture = new SettableResultSetFuture();
+			AsynchronousQueryListener listener = mock(AsynchronousQueryListener.class);
+
+			when(mockSession.executeAsync(mockStatement)).thenReturn(resultSetFuture);
+
+			template.setCallbackExecutor(callbackExecutor);
+			template.executeAsynchronously(mockStatement, listener);
+			resultSetFuture.set(mock(ResultSet.class));
+
+			verify(listener).onQueryComplete(resultSetFuture);
+			assertThat(template.getCallbackRejectedCount()).isEqualTo(1);
+		} finally {
+			release.countDown();
+			callbackExecutor.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldCreateDefaultCallbackExecutor() {
+		assertThat(template.getCallbackExecutor()).isInstanceOf(CallbackExecutor.class);
+	}
+
+	@Test
+	public void queryAsynchronouslyShouldShareInFlightPrepare() {
+
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+
+		when(mockSession.prepareAsync("SELECT * FROM person")).thenReturn(prepareFuture);
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		template.queryAsynchronously("SELECT * FROM person", (PreparedStatementBinder) null);
+		template.queryAsynchronously("SELECT * FROM person", (PreparedStatementBinder) null);
+
+		verify(mockSession, times(1)).prepareAsync("SELECT * FROM person");
+	}
+
+	@Test
+	public void queryAsynchronouslyShouldTranslatePrepareFailure() throws Exception {
+
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+
+		when(mockSession.prepareAsync("SELECT * FROM person")).thenReturn(prepareFuture);
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		ListenableFuture<ResultSet> result = template.queryAsynchronously("SELECT * FROM person",
+				(PreparedStatementBinder) null);
+
+		prepareFuture.setException(new SyntaxError(null, "bad query"));
+
+		try {
+			result.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(CassandraQuerySyntaxException.class);
+		}
+	}
+
+	private static ResultSetFuture completedResultSetFuture(ResultSet resultSet) throws Exception {
+
+		ResultSetFuture future = mock(ResultSetFuture.class);
+
+		when(future.isDone()).thenReturn(true);
+		when(future.get()).thenReturn(resultSet);
+		doAnswer(new Answer<Void>() {
+
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(future).addListener(any(Runnable.class), any(Executor.class));
+
+		return future;
+	}
+
+	@Test
+	public void ingestShouldRetryFailedRequests() {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+		when(mockSession.executeAsync(boundStatement)).thenReturn(
+				SettableResultSetFuture.failed(new DriverException("boom")), SettableResultSetFuture.completed(),
+				SettableResultSetFuture.completed(), SettableResultSetFuture.completed());
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		IngestResult result = template.ingest("INSERT INTO person (id) VALUES (?)", rows("1", "2", "3"), null,
+				IngestOptions.builder().maxRetries(1).build());
+
+		assertThat(result.getSuccessCount()).isEqualTo(3);
+		assertThat(result.getFailureCount()).isZero();
+		assertThat(result.getRetryCount()).isEqualTo(1);
+		assertThat(result.hasFailures()).isFalse();
+		verify(mockSession, times(4)).executeAsync(boundStatement);
+	}
+
+	@Test
+	public void ingestShouldNotRetryQueryValidationErrors() {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+		when(mockSession.executeAsync(boundStatement))
+				.thenReturn(SettableResultSetFuture.failed(new SyntaxError(null, "bad query")));
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		IngestResult result = template.ingest("INSERT INTO person (id) VALUES (?)", rows("1"), null,
+				IngestOptions.builder().maxRetries(3).build());
+
+		assertThat(result.getSuccessCount()).isZero();
+		assertThat(result.getFailureCount()).isEqualTo(1);
+		assertThat(result.getRetryCount()).isZero();
+		assertThat(result.getFirstFailure()).isInstanceOf(CassandraQuerySyntaxException.class);
+	}
+
+	@Test
+	public void ingestShouldLimitInFlightRequests() throws Exception {
+
+		final BlockingQueue<SettableResultSetFuture> inFlight = new LinkedBlockingQueue<SettableResultSetFuture>();
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(mockSession.prepare(anyString())).thenReturn(mockPreparedStatement);
+		when(mockPreparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+		when(mockSession.executeAsync(boundStatement)).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				inFlight.add(future);
+
+				return future;
+			}
+		});
+
+		template.setPreparedStatementCache(new LruPreparedStatementCache());
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			Future<IngestResult> ingest = executor.submit(new Callable<IngestResult>() {
+
+				@Override
+				public IngestResult call() {
+					return template.ingest("INSERT INTO person (id) VALUES (?)", rows("1", "2", "3", "4", "5"), null,
+							IngestOptions.builder().maxInFlightRequests(2).build());
+				}
+			});
+
+			SettableResultSetFuture first = inFlight.poll(5, TimeUnit.SECONDS);
+			SettableResultSetFuture second = inFlight.poll(5, TimeUnit.SECONDS);
+
+			assertThat(first).isNotNull();
+			assertThat(second).isNotNull();
+			assertThat(inFlight.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+			first.set(mock(ResultSet.class));
+			second.set(mock(ResultSet.class));
+
+			for (int i = 0; i < 3; i++) {
+				inFlight.poll(5, TimeUnit.SECONDS).set(mock(ResultSet.class));
+			}
+
+			IngestResult result = ingest.get(5, TimeUnit.SECONDS);
+
+			assertThat(result.getSuccessCount()).isEqualTo(5);
+			assertThat(result.getLatency(50, TimeUnit.MICROSECONDS)).isGreaterThanOrEqualTo(0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<List<?>> rows(String... ids) {
+
+		List<List<?>> rows = new ArrayList<List<?>>();
+
+		for (String id : ids) {
+			rows.add(Collections.singletonList(id));
+		}
+
+		return rows;
+	}
+
+	static class SettableResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+		static SettableResultSetFuture completed() {
+
+			SettableResultSetFuture future = new SettableResultSetFuture();
+			future.set(mock(ResultSet.class));
+
+			return future;
+		}
+
+		static SettableResultSetFuture failed(Throwable cause) {
+
+			SettableResultSetFuture future = new SettableResultSetFuture();
+			future.setException(cause);
+
+			return future;
+		}
+
+		@Override
+		public boolean set(ResultSet value) {
+			return super.set(value);
+		}
+
+		@Override
+		public boolean setException(Throwable throwable) {
+			return super.setException(throwable);
+		}
+
+		@Override
+		public ResultSet getUninterruptibly() {
+
+			try {
+				return Uninterruptibles.getUninterruptibly(this);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+
+		@Override
+		public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+
+			try {
+				return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link FileSystemScanCheckpointStore}.
+ */
+public class FileSystemScanCheckpointStoreUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	FileSystemScanCheckpointStore store;
+
+	@Before
+	public void setUp() {
+		store = new FileSystemScanCheckpointStore(folder.getRoot().toPath().resolve("checkpoints"));
+	}
+
+	@Test
+	public void shouldReturnNullForUnknownScan() {
+		assertThat(store.load("nightly")).isNull();
+	}
+
+	@Test
+	public void shouldSaveAndLoadCheckpoint() {
+
+		ScanCheckpoint checkpoint = new ScanCheckpoint(
+				new LinkedHashSet<String>(Arrays.asList("(-9223372036854775808,-4611686018427387904]", "(100,]")),
+				Collections.singletonMap("(,100]", "001c0010"));
+
+		store.save("nightly", checkpoint);
+		store.save("nightly", checkpoint);
+
+		ScanCheckpoint loaded = store.load("nightly");
+
+		assertThat(loaded.getCompletedRanges()).containsOnly("(-9223372036854775808,-4611686018427387904]", "(100,]");
+		assertThat(loaded.getPagingStates()).containsEntry("(,100]", "001c0010").hasSize(1);
+		assertThat(folder.getRoot().toPath().resolve("checkpoints").toFile().list()).containsOnly("nightly.checkpoint");
+	}
+
+	@Test
+	public void shouldDeleteCheckpoint() {
+
+		store.save("nightly", ScanCheckpoint.empty());
+		store.delete("nightly");
+		store.delete("nightly");
+
+		assertThat(store.load("nightly")).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectScanIdContainingPathSeparator() {
+		store.load("../nightly");
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.CqlTemplateUnitTests.SettableResultSetFuture;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Unit tests for {@link FlowControlledIngest}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FlowControlledIngestUnitTests {
+
+	@Mock Session session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
+
+	@Test
+	public void retryDelayShouldDoubleWithJitter() {
+
+		FlowControlledIngest ingest = newIngest(
+				IngestOptions.builder().maxRetries(10).retryBackoff(100, TimeUnit.MILLISECONDS).build());
+
+		for (int i = 0; i < 100; i++) {
+
+			assertThat(ingest.getRetryDelay(0)).isBetween(50L, 100L);
+			assertThat(ingest.getRetryDelay(1)).isBetween(100L, 200L);
+			assertThat(ingest.getRetryDelay(3)).isBetween(400L, 800L);
+			assertThat(ingest.getRetryDelay(9)).isBetween(1600L, 3200L);
+		}
+	}
+
+	@Test
+	public void shouldRetryAfterBackoffOnSchedulerThread() {
+
+		final List<Long> executions = Collections.synchronizedList(new ArrayList<Long>());
+		final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+
+		when(preparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+		when(session.executeAsync(boundStatement)).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				executions.add(System.nanoTime());
+				threads.add(Thread.currentThread().getName());
+
+				return executions.size() == 1 ? SettableResultSetFuture.failed(new DriverException("boom"))
+						: SettableResultSetFuture.completed();
+			}
+		});
+
+		IngestResult result = newIngest(
+				IngestOptions.builder().maxRetries(1).retryBackoff(200, TimeUnit.MILLISECONDS).build())
+						.ingest(new ArrayRowIterator(new Object[] { "1" }));
+
+		assertThat(result.getSuccessCount()).isEqualTo(1);
+		assertThat(result.getRetryCount()).isEqualTo(1);
+		assertThat(executions).hasSize(2);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(executions.get(1) - executions.get(0))).isGreaterThanOrEqualTo(100);
+		assertThat(threads.get(1)).startsWith("flow-controlled-ingest-");
+	}
+
+	private FlowControlledIngest newIngest(IngestOptions options) {
+		return new FlowControlledIngest(session, preparedStatement, options, new CassandraExceptionTranslator());
+	}
+
+	static class ArrayRowIterator implements RowIterator {
+
+		private final Object[][] rows;
+		private int index;
+
+		ArrayRowIterator(Object[]... rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < rows.length;
+		}
+
+		@Override
+		public Object[] next() {
+			return rows[index++];
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void emptyHistogramShouldReportZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getPercentile(99)).isZero();
+	}
+
+	@Test
+	public void shouldReportExactSmallValues() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 10; i++) {
+			histogram.record(i, TimeUnit.MICROSECONDS);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(10);
+		assertThat(histogram.getPercentile(50)).isEqualTo(5);
+		assertThat(histogram.getPercentile(100)).isEqualTo(10);
+	}
+
+	@Test
+	public void shouldReportPercentilesWithinRelativeError() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i, TimeUnit.MILLISECONDS);
+		}
+
+		assertThat(histogram.getPercentile(50)).isBetween(500000L, 531250L);
+		assertThat(histogram.getPercentile(99)).isBetween(990000L, 1051875L);
+	}
+
+	@Test
+	public void bucketsShouldBeContiguous() {
+
+		for (long value = 0; value < 100000; value++) {
+
+			int index = LatencyHistogram.indexOf(value);
+
+			assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+			assertThat(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value).isTrue();
+		}
+
+		assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidPercentile() {
+		new LatencyHistogram().getPercentile(101);
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.SyntaxError;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Unit tests for {@link LruPreparedStatementCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LruPreparedStatementCacheUnitTests {
+
+	@Mock Session session;
+	@Mock Session otherSession;
+	@Mock PreparedStatement preparedStatement;
+
+	@Before
+	public void before() {
+
+		when(session.prepare(anyString())).thenReturn(preparedStatement);
+		when(otherSession.prepare(anyString())).thenReturn(preparedStatement);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectZeroMaximumSize() {
+		new LruPreparedStatementCache(0);
+	}
+
+	@Test
+	public void shouldCachePreparedStatementPerSession() {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+
+		assertThat(cache.getPreparedStatement(session, "my cql")).isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, "my cql")).isSameAs(preparedStatement);
+		cache.getPreparedStatement(otherSession, "my cql");
+
+		verify(session, times(1)).prepare("my cql");
+		verify(otherSession, times(1)).prepare("my cql");
+
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldDistinguishKeyspaces() {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+
+		when(session.getLoggedKeyspace()).thenReturn("ks1");
+		cache.getPreparedStatement(session, "my cql");
+
+		when(session.getLoggedKeyspace()).thenReturn("ks2");
+		cache.getPreparedStatement(session, "my cql");
+
+		verify(session, times(2)).prepare("my cql");
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedStatements() {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache(2);
+
+		cache.getPreparedStatement(session, "cql 1");
+		cache.getPreparedStatement(session, "cql 2");
+		cache.getPreparedStatement(session, "cql 1");
+		cache.getPreparedStatement(session, "cql 3");
+		cache.getPreparedStatement(session, "cql 1");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		verify(session, times(1)).prepare("cql 1");
+	}
+
+	@Test
+	public void shouldNotCacheFailedPrepare() {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+
+		when(session.prepare("broken")).thenThrow(new SyntaxError(null, "broken")).thenReturn(preparedStatement);
+
+		try {
+			cache.getPreparedStatement(session, "broken");
+			fail("Missing SyntaxError");
+		} catch (SyntaxError e) {
+			assertThat(cache.size()).isZero();
+		}
+
+		assertThat(cache.getPreparedStatement(session, "broken")).isSameAs(preparedStatement);
+	}
+
+	@Test
+	public void clearShouldRemoveCachedStatements() {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+
+		cache.getPreparedStatement(session, "my cql");
+		cache.clear();
+		cache.getPreparedStatement(session, "my cql");
+
+		verify(session, times(2)).prepare("my cql");
+	}
+
+	@Test
+	public void shouldShareInFlightAsynchronousPrepare() throws Exception {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+
+		when(session.prepareAsync("my cql")).thenReturn(prepareFuture);
+
+		ListenableFuture<PreparedStatement> first = cache.getPreparedStatementAsync(session, "my cql");
+		ListenableFuture<PreparedStatement> second = cache.getPreparedStatementAsync(session, "my cql");
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.isDone()).isFalse();
+
+		prepareFuture.set(preparedStatement);
+
+		assertThat(first.get()).isSameAs(preparedStatement);
+		assertThat(second.get()).isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, "my cql")).isSameAs(preparedStatement);
+
+		verify(session, times(1)).prepareAsync("my cql");
+		verify(session, never()).prepare(anyString());
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldNotPropagateCallerCancellationToSharedPrepare() throws Exception {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+
+		when(session.prepareAsync("my cql")).thenReturn(prepareFuture);
+
+		ListenableFuture<PreparedStatement> first = cache.getPreparedStatementAsync(session, "my cql");
+		ListenableFuture<PreparedStatement> second = cache.getPreparedStatementAsync(session, "my cql");
+
+		first.cancel(false);
+
+		assertThat(prepareFuture.isCancelled()).isFalse();
+		assertThat(second.isCancelled()).isFalse();
+
+		prepareFuture.set(preparedStatement);
+
+		assertThat(second.get()).isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatementAsync(session, "my cql").get()).isSameAs(preparedStatement);
+
+		verify(session, times(1)).prepareAsync("my cql");
+	}
+
+	@Test
+	public void shouldPrepareAgainAfterCancelledPrepare() throws Exception {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+		SettableFuture<PreparedStatement> cancelled = SettableFuture.create();
+		SettableFuture<PreparedStatement> prepared = SettableFuture.create();
+
+		when(session.prepareAsync("my cql")).thenReturn(cancelled, prepared);
+
+		ListenableFuture<PreparedStatement> first = cache.getPreparedStatementAsync(session, "my cql");
+		cancelled.cancel(false);
+
+		assertThat(first.isDone()).isTrue();
+		assertThat(cache.size()).isZero();
+
+		ListenableFuture<PreparedStatement> second = cache.getPreparedStatementAsync(session, "my cql");
+		prepared.set(preparedStatement);
+
+		assertThat(second.get()).isSameAs(preparedStatement);
+		verify(session, times(2)).prepareAsync("my cql");
+	}
+
+	@Test
+	public void shouldNotCacheFailedAsynchronousPrepare() throws Exception {
+
+		LruPreparedStatementCache cache = new LruPreparedStatementCache();
+		SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+
+		when(session.prepareAsync("broken")).thenReturn(prepareFuture);
+
+		ListenableFuture<PreparedStatement> future = cache.getPreparedStatementAsync(session, "broken");
+		prepareFuture.setException(new SyntaxError(null, "broken"));
+
+		try {
+			future.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(SyntaxError.class);
+		}
+
+		assertThat(cache.size()).isZero();
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.cassandra.core.CqlTemplateUnitTests.SettableResultSetFuture;
+import org.springframework.cassandra.support.exception.CassandraInvalidQueryException;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link ReactiveCqlTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCqlTemplateUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+
+	ReactiveCqlTemplate template;
+
+	AtomicInteger available = new AtomicInteger();
+	AtomicInteger remainingPages = new AtomicInteger();
+
+	@Before
+	public void setUp() {
+
+		template = new ReactiveCqlTemplate(session);
+
+		when(resultSet.getAvailableWithoutFetching()).thenAnswer(new Answer<Integer>() {
+
+			@Override
+			public Integer answer(InvocationOnMock invocation) {
+				return available.get();
+			}
+		});
+
+		when(resultSet.one()).thenAnswer(new Answer<Row>() {
+
+			@Override
+			public Row answer(InvocationOnMock invocation) {
+				return available.getAndDecrement() > 0 ? row : null;
+			}
+		});
+
+		when(resultSet.isFullyFetched()).thenAnswer(new Answer<Boolean>() {
+
+			@Override
+			public Boolean answer(InvocationOnMock invocation) {
+				return remainingPages.get() == 0;
+			}
+		});
+
+		when(resultSet.fetchMoreResults()).thenAnswer(new Answer<ListenableFuture<ResultSet>>() {
+
+			@Override
+			public ListenableFuture<ResultSet> answer(InvocationOnMock invocation) {
+
+				remainingPages.decrementAndGet();
+				available.set(2);
+
+				return Futures.immediateFuture(resultSet);
+			}
+		});
+	}
+
+	@Test
+	public void shouldNotExecuteWithoutDemand() {
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+
+		template.query("SELECT * FROM person").subscribe(subscriber);
+
+		verify(session, never()).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldEmitRequestedRowsOnly() {
+
+		givenPages(2, 1);
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+		template.query("SELECT * FROM person").subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).hasSize(1);
+		assertThat(subscriber.completed).isFalse();
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldFetchNextPageOnlyOnDemand() {
+
+		givenPages(2, 2);
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+		template.query("SELECT * FROM person").subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.values).hasSize(2);
+		verify(resultSet, never()).fetchMoreResults();
+
+		subscriber.subscription.request(3);
+
+		verify(resultSet).fetchMoreResults();
+		assertThat(subscriber.values).hasSize(4);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void shouldEmitRowsWhenResultArrivesLater() {
+
+		SettableResultSetFuture future = new SettableResultSetFuture();
+		when(session.executeAsync(any(Statement.class))).thenReturn(future);
+		available.set(1);
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+		template.query("SELECT * FROM person").subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.values).isEmpty();
+
+		future.set(resultSet);
+
+		assertThat(subscriber.values).containsExactly(row);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void shouldMapRows() {
+
+		givenPages(2, 1);
+
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		template.query("SELECT * FROM person", new RowMapper<Integer>() {
+
+			@Override
+			public Integer mapRow(Row row, int rowNum) {
+				return rowNum;
+			}
+		}).subscribe(subscriber);
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.values).containsExactly(0, 1);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	@Test
+	public void shouldStopEmittingOnCancel() {
+
+		givenPages(2, 1);
+
+		final RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>() {
+
+			@Override
+			public void onNext(Row row) {
+				super.onNext(row);
+				subscription.cancel();
+			}
+		};
+
+		template.query("SELECT * FROM person").subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.values).hasSize(1);
+		assertThat(subscriber.completed).isFalse();
+	}
+
+	@Test
+	public void shouldTranslateExceptions() {
+
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(SettableResultSetFuture.failed(new InvalidQueryException("boom")));
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+		template.query("SELECT * FROM person").subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.error).isInstanceOf(CassandraInvalidQueryException.class);
+	}
+
+	@Test
+	public void shouldRejectNonPositiveRequest() {
+
+		RecordingSubscriber<Row> subscriber = new RecordingSubscriber<Row>();
+		template.query("SELECT * FROM person").subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		verify(session, never()).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldEmitWasApplied() {
+
+		givenPages(0, 1);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		RecordingSubscriber<Boolean> subscriber = new RecordingSubscriber<Boolean>();
+		template.execute("UPDATE person SET age = 42 WHERE id = 'foo' IF EXISTS").subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.values).containsExactly(true);
+		assertThat(subscriber.completed).isTrue();
+	}
+
+	private void givenPages(int pageSize, int pages) {
+
+		SettableResultSetFuture future = new SettableResultSetFuture();
+		future.set(resultSet);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(future);
+
+		available.set(pageSize);
+		remainingPages.set(pages - 1);
+	}
+
+	static class RecordingSubscriber<T> implements Subscriber<T> {
+
+		Subscription subscription;
+		List<T> values = new ArrayList<T>();
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T value) {
+			values.add(value);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
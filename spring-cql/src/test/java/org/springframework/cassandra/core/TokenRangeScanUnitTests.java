@@ -0,0 +1,296 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.cassandra.core.cql.CqlIdentifier.*;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.CqlTemplateUnitTests.SettableResultSetFuture;
+import org.springframework.cassandra.core.TokenRangeScan.RangeQuery;
+import org.springframework.cassandra.support.CassandraExceptionTranslator;
+import org.springframework.cassandra.support.exception.CassandraConnectionFailureException;
+import org.springframework.cassandra.support.exception.CassandraInvalidQueryException;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+
+/**
+ * Unit tests for {@link TokenRangeScan}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TokenRangeScanUnitTests {
+
+	static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+	@Mock ScanCheckpointStore checkpointStore;
+
+	List<SettableResultSetFuture> futures = new ArrayList<SettableResultSetFuture>();
+	List<Row> processed = Collections.synchronizedList(new ArrayList<Row>());
+
+	RowCallbackHandler collector = new RowCallbackHandler() {
+
+		@Override
+		public void processRow(Row row) {
+			processed.add(row);
+		}
+	};
+
+	@Before
+	public void setUp() {
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				future.set(resultSet);
+				futures.add(future);
+
+				return future;
+			}
+		});
+	}
+
+	@Test
+	public void shouldRenderTokenRangeQueries() {
+
+		List<String> partitionKey = Arrays.asList("\"user\"", "\"bucket\"");
+
+		assertThat(TokenRangeScan.createCql("*", cqlId("events"), partitionKey, true, true))
+				.isEqualTo("SELECT * FROM events WHERE token(\"user\", \"bucket\") > ? AND token(\"user\", \"bucket\") <= ?;");
+		assertThat(TokenRangeScan.createCql("count(*)", cqlId("events"), partitionKey, true, false))
+				.isEqualTo("SELECT count(*) FROM events WHERE token(\"user\", \"bucket\") > ?;");
+		assertThat(TokenRangeScan.createCql("*", cqlId("events"), partitionKey, false, true))
+				.isEqualTo("SELECT * FROM events WHERE token(\"user\", \"bucket\") <= ?;");
+	}
+
+	@Test
+	public void shouldProcessAllPagesOfEachRange() {
+
+		SettableResultSetFuture nextPage = new SettableResultSetFuture();
+		nextPage.set(resultSet);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2, 1, 2);
+		when(resultSet.isFullyFetched()).thenReturn(false, true, true);
+		when(resultSet.fetchMoreResults()).thenReturn(nextPage);
+		when(resultSet.one()).thenReturn(row);
+
+		long rows = newScan(2).scan(Arrays.asList(query("(1,2]"), query("(2,3]")), collector);
+
+		assertThat(rows).isEqualTo(5);
+		assertThat(processed).hasSize(5);
+		verify(resultSet, times(1)).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldApplyFetchSize() {
+
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		Statement statement = mock(Statement.class);
+
+		new TokenRangeScan(session, ScanOptions.builder().fetchSize(500).build(), DIRECT_EXECUTOR,
+				new CassandraExceptionTranslator()).scan(Collections.singletonList(new RangeQuery("(1,2]", statement)),
+						collector);
+
+		verify(statement).setFetchSize(500);
+	}
+
+	@Test
+	public void shouldStopScanOnFirstFailure() {
+
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(SettableResultSetFuture.failed(new InvalidQueryException("Undefined column")));
+
+		try {
+			newScan(ScanOptions.builder().maxConcurrentRanges(1).maxRetries(3).build())
+					.scan(Arrays.asList(query("(1,2]"), query("(2,3]")), collector);
+			fail("Missing CassandraInvalidQueryException");
+		} catch (CassandraInvalidQueryException e) {
+			assertThat(e).hasMessageContaining("Undefined column");
+		}
+
+		verify(session, times(1)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldFailScanIfCallbackExecutorRejectsPage() {
+
+		Executor saturated = new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException("Callback queue is full");
+			}
+		};
+
+		try {
+			new TokenRangeScan(session, ScanOptions.builder().maxConcurrentRanges(1).build(), saturated,
+					new CassandraExceptionTranslator()).scan(Collections.singletonList(query("(1,2]")), collector);
+			fail("Missing RejectedExecutionException");
+		} catch (RejectedExecutionException e) {
+			assertThat(e).hasMessageContaining("queue is full");
+		}
+
+		assertThat(processed).isEmpty();
+	}
+
+	@Test
+	public void shouldRetryFailedPageRead() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(resultSet.isFullyFetched()).thenReturn(true);
+		when(resultSet.one()).thenReturn(row);
+		when(session.executeAsync(any(Statement.class))).thenReturn(SettableResultSetFuture.failed(noHostAvailable()))
+				.thenReturn(completed(resultSet));
+
+		long rows = newScan(retrying(2)).scan(Collections.singletonList(query("(1,2]")), collector);
+
+		assertThat(rows).isEqualTo(1);
+		verify(session, times(2)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldFailAfterMaxRetries() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(SettableResultSetFuture.failed(noHostAvailable()));
+
+		try {
+			newScan(retrying(2)).scan(Collections.singletonList(query("(1,2]")), collector);
+			fail("Missing CassandraConnectionFailureException");
+		} catch (CassandraConnectionFailureException e) {}
+
+		verify(session, times(3)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldSkipCompletedRangesAndRemoveCheckpointOnCompletion() {
+
+		when(resultSet.isFullyFetched()).thenReturn(true);
+		when(checkpointStore.load("nightly")).thenReturn(new ScanCheckpoint(Collections.singleton("(1,2]"),
+				Collections.<String, String> emptyMap()));
+
+		RangeQuery completed = query("(1,2]");
+		RangeQuery pending = query("(2,3]");
+
+		newScan(checkpointing()).scan(Arrays.asList(completed, pending), collector);
+
+		verify(session, never()).executeAsync(completed.getStatement());
+		verify(session).executeAsync(pending.getStatement());
+		verify(checkpointStore).delete("nightly");
+		verify(checkpointStore, never()).save(anyString(), any(ScanCheckpoint.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldSaveProgressOfFailedScan() {
+
+		PagingState pagingState = mock(PagingState.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		when(pagingState.toString()).thenReturn("0001");
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(resultSet.one()).thenReturn(row);
+		when(resultSet.isFullyFetched()).thenReturn(true, false);
+		when(resultSet.fetchMoreResults()).thenReturn(SettableResultSetFuture.failed(noHostAvailable()));
+
+		RangeQuery partial = query("(2,3]");
+
+		try {
+			newScan(checkpointing()).scan(Arrays.asList(query("(1,2]"), partial), collector);
+			fail("Missing CassandraConnectionFailureException");
+		} catch (CassandraConnectionFailureException e) {}
+
+		ArgumentCaptor<ScanCheckpoint> captor = ArgumentCaptor.forClass(ScanCheckpoint.class);
+
+		verify(partial.getStatement()).setPagingState(pagingState);
+		verify(checkpointStore).save(eq("nightly"), captor.capture());
+		verify(checkpointStore, never()).delete(anyString());
+
+		assertThat(captor.getValue().getCompletedRanges()).containsOnly("(1,2]");
+		assertThat(captor.getValue().getPagingStates()).containsEntry("(2,3]", "0001").hasSize(1);
+	}
+
+	private TokenRangeScan newScan(int maxConcurrentRanges) {
+		return newScan(ScanOptions.builder().maxConcurrentRanges(maxConcurrentRanges).build());
+	}
+
+	private TokenRangeScan newScan(ScanOptions options) {
+		return new TokenRangeScan(session, options, DIRECT_EXECUTOR, new CassandraExceptionTranslator());
+	}
+
+	private ScanOptions checkpointing() {
+		return ScanOptions.builder().maxConcurrentRanges(1).checkpoint("nightly", checkpointStore).build();
+	}
+
+	private static ScanOptions retrying(int maxRetries) {
+		return ScanOptions.builder().maxRetries(maxRetries).retryBackoff(1, TimeUnit.MILLISECONDS).build();
+	}
+
+	private static RangeQuery query(String range) {
+		return new RangeQuery(range, mock(Statement.class));
+	}
+
+	private static SettableResultSetFuture completed(ResultSet resultSet) {
+
+		SettableResultSetFuture future = new SettableResultSetFuture();
+		future.set(resultSet);
+
+		return future;
+	}
+
+	private static NoHostAvailableException noHostAvailable() {
+		return new NoHostAvailableException(Collections.<InetSocketAddress, Throwable> emptyMap());
+	}
+}
@@ -33,6 +33,7 @@ import com.datastax.driver.core.Row;
 public class BasicCassandraRowValueProvider implements CassandraRowValueProvider {
 
 	private final ColumnReader reader;
+	private final ColumnReadPlan plan;
 	private final SpELExpressionEvaluator evaluator;
 
 	/**
@@ -43,11 +44,25 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 	 * @param evaluator must not be {@literal null}.
 	 */
 	public BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator) {
+		this(source, evaluator, null);
+	}
+
+	/**
+	 * Creates a new {@link BasicCassandraRowValueProvider} with the given {@link Row},
+	 * {@link DefaultSpELExpressionEvaluator} and a {@link ColumnReadPlan} shared by all rows of the result set.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param plan may be {@literal null} to look up columns on the {@link Row} directly.
+	 * @since 1.6
+	 */
+	BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator, ColumnReadPlan plan) {
 
 		Assert.notNull(source, "Source Row must not be null");
 		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
 
-		this.reader = new ColumnReader(source);
+		this.reader = new ColumnReader(source, plan);
+		this.plan = plan;
 		this.evaluator = evaluator;
 	}
 
@@ -63,7 +78,13 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 			return evaluator.evaluate(expression);
 		}
 
-		return reader.get(property.getColumnName());
+		if (plan == null) {
+			return reader.get(property.getColumnName());
+		}
+
+		int index = plan.getIndex(property);
+
+		return (index != -1 ? reader.get(index) : reader.get(property.getColumnName()));
 	}
 
 	/* (non-Javadoc)
@@ -82,6 +103,10 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 		Assert.notNull(property, "CassandraPersistentProperty must not be null");
 
-		return getRow().getColumnDefinitions().contains(property.getColumnName().toCql());
+		if (plan == null) {
+			return getRow().getColumnDefinitions().contains(property.getColumnName().toCql());
+		}
+
+		return plan.getIndex(property) != -1;
 	}
 }
@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.convert;
 
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
+import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.util.Assert;
 
@@ -34,7 +35,9 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 
 	private final UDTValue udtValue;
 	private final CodecRegistry codecRegistry;
-	private final SpELExpressionEvaluator evaluator;
+	private final SpELContext spELContext;
+	private final UserTypePlan plan;
+	private SpELExpressionEvaluator evaluator;
 
 	/**
 	 * Creates a new {@link CassandraUDTValueProvider} with the given {@link UDTValue} and
@@ -54,6 +57,31 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 		this.udtValue = udtValue;
 		this.codecRegistry = codecRegistry;
 		this.evaluator = evaluator;
+		this.spELContext = null;
+		this.plan = null;
+	}
+
+	/**
+	 * Creates a new {@link CassandraUDTValueProvider} with the given {@link UDTValue}, {@link SpELContext} and a
+	 * {@link UserTypePlan} shared by all values of the {@link com.datastax.driver.core.UserType}. Fields are read by index
+	 * using the codecs cached by the plan. The {@link SpELExpressionEvaluator} is created on first use of a property
+	 * expression.
+	 *
+	 * @param udtValue must not be {@literal null}.
+	 * @param spELContext must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @since 1.6
+	 */
+	CassandraUDTValueProvider(UDTValue udtValue, SpELContext spELContext, UserTypePlan plan) {
+
+		Assert.notNull(udtValue, "UDTValue must not be null");
+		Assert.notNull(spELContext, "SpELContext must not be null");
+		Assert.notNull(plan, "UserTypePlan must not be null");
+
+		this.udtValue = udtValue;
+		this.codecRegistry = plan.getCodecRegistry();
+		this.spELContext = spELContext;
+		this.plan = plan;
 	}
 
 	/* (non-Javadoc)
@@ -65,7 +93,16 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 		String expression = property.getSpelExpression();
 
 		if (expression != null) {
-			return evaluator.evaluate(expression);
+			return getEvaluator().evaluate(expression);
+		}
+
+		if (plan != null) {
+
+			int index = plan.getIndex(property);
+
+			if (index != -1) {
+				return udtValue.get(index, plan.getCodec(index));
+			}
 		}
 
 		String name = property.getColumnName().toCql();
@@ -79,6 +116,20 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 	 */
 	@Override
 	public boolean hasProperty(CassandraPersistentProperty property) {
+
+		if (plan != null) {
+			return plan.getIndex(property) != -1;
+		}
+
 		return udtValue.getType().contains(property.getColumnName().toCql());
 	}
+
+	private SpELExpressionEvaluator getEvaluator() {
+
+		if (evaluator == null) {
+			evaluator = new DefaultSpELExpressionEvaluator(udtValue, spELContext);
+		}
+
+		return evaluator;
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+
+/**
+ * Column lookups resolved once per {@link ColumnDefinitions} and shared by all rows of a result set: the column index
+ * of each property and column name as well as the Java types of collection elements. Lookups are resolved on first
+ * use, so the first row pays for the name lookups and subsequent rows read columns by index.
+ * <p>
+ * {@link ColumnReadPlan} is thread-safe.
+ *
+ * @since 1.6
+ */
+class ColumnReadPlan {
+
+	private final ColumnDefinitions columns;
+
+	private final ConcurrentMap<CassandraPersistentProperty, Integer> propertyIndexes = new ConcurrentHashMap<CassandraPersistentProperty, Integer>();
+
+	private final ConcurrentMap<String, Integer> nameIndexes = new ConcurrentHashMap<String, Integer>();
+
+	private final AtomicReferenceArray<Class<?>[]> elementTypes;
+
+	/**
+	 * Creates a new {@link ColumnReadPlan} for the given {@link ColumnDefinitions}.
+	 *
+	 * @param columns must not be {@literal null}.
+	 */
+	ColumnReadPlan(ColumnDefinitions columns) {
+
+		Assert.notNull(columns, "ColumnDefinitions must not be null");
+
+		this.columns = columns;
+		this.elementTypes = new AtomicReferenceArray<Class<?>[]>(columns.size());
+	}
+
+	/**
+	 * Returns the index of the column the {@link CassandraPersistentProperty} is mapped to.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	int getIndex(CassandraPersistentProperty property) {
+
+		Integer index = propertyIndexes.get(property);
+
+		if (index == null) {
+			index = getIndex(property.getColumnName().toCql());
+			propertyIndexes.put(property, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the index of the column with the given {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	int getIndex(String name) {
+
+		Integer index = nameIndexes.get(name);
+
+		if (index == null) {
+			index = columns.getIndexOf(name);
+			nameIndexes.put(name, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the Java types of the elements of the collection column at {@code index}: the element type for lists and
+	 * sets, the key and value type for maps.
+	 *
+	 * @param index the column index.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the Java element types.
+	 */
+	Class<?>[] getElementTypes(int index, CodecRegistry codecRegistry) {
+
+		Class<?>[] types = (index < elementTypes.length() ? elementTypes.get(index) : null);
+
+		if (types == null) {
+
+			types = resolveElementTypes(columns.getType(index), codecRegistry);
+
+			if (index < elementTypes.length()) {
+				elementTypes.set(index, types);
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Resolves the Java types of the elements of a collection {@link DataType} without caching them.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the Java element types.
+	 */
+	static Class<?>[] resolveElementTypes(DataType type, CodecRegistry codecRegistry) {
+
+		List<DataType> typeArguments = type.getTypeArguments();
+		Class<?>[] types = new Class<?>[typeArguments.size()];
+
+		for (int i = 0; i < types.length; i++) {
+			types[i] = codecRegistry.codecFor(typeArguments.get(i)).getJavaType().getRawType();
+		}
+
+		return types;
+	}
+}
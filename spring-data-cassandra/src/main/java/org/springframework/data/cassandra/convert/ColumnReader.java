@@ -15,19 +15,24 @@
  */
 package org.springframework.data.cassandra.convert;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
 
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.TypeCodec;
 
 /**
  * Helpful class to read a column's value from a row, with possible type conversion.
+ * <p>
+ * {@code blob} columns are read as {@link ByteBuffer} views over the row's bytes without going through the codec and
+ * without copying. Use {@link #getBytes(String)} to obtain a read-only view and {@link #decode(String, Converter)} to
+ * deserialize a payload (e.g. Protobuf, Avro or JSON) directly from that view.
  *
  * @author Matthew T. Adams
  * @author Antoine Toulme
@@ -38,11 +43,26 @@ public class ColumnReader {
 	protected Row row;
 	protected ColumnDefinitions columns;
 	private final CodecRegistry codecRegistry;
+	private final ColumnReadPlan plan;
 
 	public ColumnReader(Row row) {
+		this(row, null);
+	}
+
+	/**
+	 * Creates a new {@link ColumnReader} reusing column lookups of a {@link ColumnReadPlan} shared by all rows of a
+	 * result set.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param plan must be created for the {@link ColumnDefinitions} of {@code row}, may be {@literal null} to look up
+	 *          columns on the {@link ColumnDefinitions} directly.
+	 */
+	ColumnReader(Row row, ColumnReadPlan plan) {
+
 		this.row = row;
 		this.columns = row.getColumnDefinitions();
 		this.codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+		this.plan = plan;
 	}
 
 	/**
@@ -86,37 +106,102 @@ public class ColumnReader {
 			return row.getUDTValue(index);
 		}
 
+		if (Name.BLOB.equals(type.getName())) {
+			return row.getBytesUnsafe(index);
+		}
+
 		return row.getObject(index);
 	}
 
+	/**
+	 * Returns a read-only {@link ByteBuffer} view over the raw bytes of the column.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the bytes or {@literal null} if the column value is {@literal null}.
+	 * @since 1.6
+	 */
+	public ByteBuffer getBytes(CqlIdentifier name) {
+		return getBytes(name.toCql());
+	}
+
+	/**
+	 * Returns a read-only {@link ByteBuffer} view over the raw bytes of the column.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the bytes or {@literal null} if the column value is {@literal null}.
+	 * @since 1.6
+	 */
+	public ByteBuffer getBytes(String name) {
+		return getBytes(getColumnIndex(name));
+	}
+
+	/**
+	 * Returns a read-only {@link ByteBuffer} view over the raw bytes of the column. The view shares the row's backing
+	 * bytes, no data is copied and no codec is involved.
+	 *
+	 * @param index the column index.
+	 * @return the bytes or {@literal null} if the column value is {@literal null}.
+	 * @since 1.6
+	 */
+	public ByteBuffer getBytes(int index) {
+
+		ByteBuffer bytes = row.getBytesUnsafe(index);
+
+		return (bytes != null ? bytes.asReadOnlyBuffer() : null);
+	}
+
+	/**
+	 * Decodes the raw bytes of the column with the given {@code decoder}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param decoder must not be {@literal null}.
+	 * @return the decoded value or {@literal null} if the column value is {@literal null}.
+	 * @since 1.6
+	 * @see #decode(int, Converter)
+	 */
+	public <T> T decode(String name, Converter<ByteBuffer, T> decoder) {
+		return decode(getColumnIndex(name), decoder);
+	}
+
+	/**
+	 * Decodes the raw bytes of the column with the given {@code decoder}. The decoder receives the
+	 * {@link #getBytes(int) read-only view} over the row's bytes, so payloads are deserialized without an intermediate
+	 * copy.
+	 *
+	 * @param index the column index.
+	 * @param decoder must not be {@literal null}.
+	 * @return the decoded value or {@literal null} if the column value is {@literal null}.
+	 * @since 1.6
+	 */
+	public <T> T decode(int index, Converter<ByteBuffer, T> decoder) {
+
+		Assert.notNull(decoder, "Decoder must not be null");
+
+		ByteBuffer bytes = getBytes(index);
+
+		return (bytes != null ? decoder.convert(bytes) : null);
+	}
+
 	public Object getCollection(int i, DataType type) {
 
-		List<DataType> collectionTypes = type.getTypeArguments();
+		Class<?>[] elementTypes = (plan != null ? plan.getElementTypes(i, codecRegistry)
+				: ColumnReadPlan.resolveElementTypes(type, codecRegistry));
 
 		// List/Set
-		if (collectionTypes.size() == 1) {
+		if (elementTypes.length == 1) {
 
-			DataType valueType = collectionTypes.get(0);
-			TypeCodec<Object> typeCodec = codecRegistry.codecFor(valueType);
-			if (type.equals(DataType.list(valueType))) {
-				return row.getList(i, typeCodec.getJavaType().getRawType());
+			if (Name.LIST.equals(type.getName())) {
+				return row.getList(i, elementTypes[0]);
 			}
 
-			if (type.equals(DataType.set(valueType))) {
-				return row.getSet(i, typeCodec.getJavaType().getRawType());
+			if (Name.SET.equals(type.getName())) {
+				return row.getSet(i, elementTypes[0]);
 			}
-
 		}
 
 		// Map
-		if (collectionTypes.size() == 2) {
-
-			DataType keyType = collectionTypes.get(0);
-			TypeCodec<Object> keyTypeCodec = codecRegistry.codecFor(keyType);
-
-			DataType valueType = collectionTypes.get(1);
-			TypeCodec<Object> valueTypeCodec = codecRegistry.codecFor(valueType);
-			return row.getMap(i, keyTypeCodec.getJavaType().getRawType(), valueTypeCodec.getJavaType().getRawType());
+		if (elementTypes.length == 2) {
+			return row.getMap(i, elementTypes[0], elementTypes[1]);
 		}
 
 		throw new IllegalStateException("Unknown Collection type encountered. Valid collections are Set, List and Map.");
@@ -141,7 +226,7 @@ public class ColumnReader {
 	 * @throws ClassCastException if the value cannot be converted to the requested type.
 	 */
 	public <T> T get(String name, Class<T> requestedType) {
-		return get(columns.getIndexOf(name), requestedType);
+		return get(indexOf(name), requestedType);
 	}
 
 	/**
@@ -163,11 +248,15 @@ public class ColumnReader {
 
 	private int getColumnIndex(String name) {
 
-		int indexOf = columns.getIndexOf(name);
+		int indexOf = indexOf(name);
 		if (indexOf == -1) {
 			throw new IllegalArgumentException("Column does not exist in Cassandra table: " + name);
 		}
 		return indexOf;
 	}
 
+	private int indexOf(String name) {
+		return (plan != null ? plan.getIndex(name) : columns.getIndexOf(name));
+	}
+
 }
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Specialized reader that materializes a {@link CassandraPersistentEntity} from a {@link Row} using {@link MethodHandle}s.
+ * Column indexes are resolved once per {@link ColumnDefinitions} and values are read with the typed {@link Row} getters
+ * and assigned directly to the entity fields.
+ * <p>
+ * Only simple entities are supported: a no-arg persistence constructor, no composite primary key, no SpEL expressions
+ * and only properties whose column type maps natively to the property type without custom conversions or user-defined
+ * types. {@link #create(CassandraPersistentEntity, CassandraMappingContext, CustomConversions)} returns
+ * {@link #unsupported()} for all other entities so callers fall back to the regular mapping path.
+ *
+ * @since 1.6
+ */
+class DirectEntityRowReader<T> {
+
+	private static final DirectEntityRowReader<Object> UNSUPPORTED = new DirectEntityRowReader<Object>(null,
+			new ColumnSlot[0]);
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final MethodHandle constructor;
+	private final ColumnSlot[] slots;
+
+	private final Map<ColumnDefinitions, ColumnBinding> bindings = new ConcurrentReferenceHashMap<ColumnDefinitions, ColumnBinding>(
+			16, ReferenceType.WEAK);
+
+	private DirectEntityRowReader(MethodHandle constructor, ColumnSlot[] slots) {
+
+		this.constructor = constructor;
+		this.slots = slots;
+	}
+
+	/**
+	 * @return a {@link DirectEntityRowReader} that cannot read any {@link Row}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> DirectEntityRowReader<T> unsupported() {
+		return (DirectEntityRowReader<T>) UNSUPPORTED;
+	}
+
+	/**
+	 * Creates a {@link DirectEntityRowReader} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @return the {@link DirectEntityRowReader} or {@link #unsupported()} if the entity requires the regular mapping
+	 *         path.
+	 */
+	static <T> DirectEntityRowReader<T> create(CassandraPersistentEntity<T> entity,
+			final CassandraMappingContext mappingContext, final CustomConversions conversions) {
+
+		if (entity.isUserDefinedType() || Modifier.isAbstract(entity.getType().getModifiers())) {
+			return unsupported();
+		}
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle constructor = getConstructor(entity, lookup);
+
+		if (constructor == null) {
+			return unsupported();
+		}
+
+		final List<ColumnSlot> slots = new ArrayList<ColumnSlot>();
+		final boolean[] supported = { true };
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (!supported[0]) {
+					return;
+				}
+
+				ColumnSlot slot = createSlot(property, mappingContext, conversions, lookup);
+
+				if (slot == null) {
+					supported[0] = false;
+				} else {
+					slots.add(slot);
+				}
+			}
+		});
+
+		return (supported[0] ? new DirectEntityRowReader<T>(constructor, slots.toArray(new ColumnSlot[slots.size()]))
+				: DirectEntityRowReader.<T> unsupported());
+	}
+
+	private static MethodHandle getConstructor(PersistentEntity<?, ?> entity, MethodHandles.Lookup lookup) {
+
+		PreferredConstructor<?, ?> persistenceConstructor = entity.getPersistenceConstructor();
+
+		if (persistenceConstructor == null || persistenceConstructor.hasParameters()) {
+			return null;
+		}
+
+		try {
+			Constructor<?> constructor = persistenceConstructor.getConstructor();
+			constructor.setAccessible(true);
+
+			return lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+		} catch (IllegalAccessException e) {
+			return null;
+		} catch (SecurityException e) {
+			return null;
+		}
+	}
+
+	private static ColumnSlot createSlot(CassandraPersistentProperty property, CassandraMappingContext mappingContext,
+			CustomConversions conversions, MethodHandles.Lookup lookup) {
+
+		Field field = property.getField();
+
+		if (field == null || Modifier.isFinal(field.getModifiers()) || property.getSpelExpression() != null
+				|| property.isCompositePrimaryKey() || property.isCollectionLike() || property.isMapLike()
+				|| mappingContext.getPersistentEntity(property.getActualType()) != null) {
+			return null;
+		}
+
+		DataType dataType = mappingContext.getDataType(property);
+		ColumnGetter getter = ColumnGetter.from(dataType.getName());
+		Class<?> propertyType = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+
+		if (getter == null || !propertyType.isAssignableFrom(getter.javaType)
+				|| conversions.hasCustomWriteTarget(property.getType())
+				|| conversions.hasCustomReadTarget(getter.javaType, property.getType())) {
+			return null;
+		}
+
+		try {
+			field.setAccessible(true);
+
+			return new ColumnSlot(property.getColumnName().toCql(), getter,
+					lookup.unreflectSetter(field).asType(SETTER_TYPE), field.getType().isPrimitive());
+		} catch (IllegalAccessException e) {
+			return null;
+		} catch (SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether this reader can read entities from rows with the given {@link ColumnDefinitions}. Resolves and
+	 * caches the column indexes for {@code columns}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return {@literal true} if {@link #read(Row)} can be used for the {@code row}.
+	 */
+	boolean canRead(Row row) {
+		return (constructor != null && getBinding(row.getColumnDefinitions()).supported);
+	}
+
+	/**
+	 * Reads the entity from the given {@link Row}. Must only be called if {@link #canRead(Row)} returned
+	 * {@literal true}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return the entity.
+	 */
+	@SuppressWarnings("unchecked")
+	T read(Row row) {
+
+		int[] indexes = getBinding(row.getColumnDefinitions()).indexes;
+
+		try {
+			Object instance = constructor.invokeExact();
+
+			for (int index = 0; index < slots.length; index++) {
+
+				int columnIndex = indexes[index];
+
+				if (columnIndex == -1) {
+					continue;
+				}
+
+				ColumnSlot slot = slots[index];
+
+				if (row.isNull(columnIndex)) {
+
+					// keep the default value of primitive fields
+					if (!slot.primitive) {
+						slot.setter.invokeExact(instance, (Object) null);
+					}
+
+					continue;
+				}
+
+				slot.setter.invokeExact(instance, slot.getter.get(row, columnIndex));
+			}
+
+			return (T) instance;
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new MappingException(String.format("Cannot read entity from row: %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Returns the {@link ColumnBinding} for the given {@link ColumnDefinitions}. Bindings are cached in a weak map keyed
+	 * by {@link ColumnDefinitions}, so concurrently read result sets selecting different columns keep their own binding.
+	 */
+	private ColumnBinding getBinding(ColumnDefinitions columns) {
+
+		ColumnBinding binding = bindings.get(columns);
+
+		if (binding == null) {
+			binding = ColumnBinding.resolve(columns, slots);
+			bindings.put(columns, binding);
+		}
+
+		return binding;
+	}
+
+	/**
+	 * Column indexes of the {@link ColumnSlot}s for a particular {@link ColumnDefinitions} instance.
+	 */
+	private static class ColumnBinding {
+
+		private final int[] indexes;
+		private final boolean supported;
+
+		private ColumnBinding(int[] indexes, boolean supported) {
+
+			this.indexes = indexes;
+			this.supported = supported;
+		}
+
+		static ColumnBinding resolve(ColumnDefinitions columns, ColumnSlot[] slots) {
+
+			int[] indexes = new int[slots.length];
+			boolean supported = true;
+
+			for (int index = 0; index < slots.length; index++) {
+
+				int columnIndex = columns.getIndexOf(slots[index].columnName);
+
+				// the result column type must match the mapped type, otherwise leave conversion to the regular path
+				if (columnIndex != -1 && ColumnGetter.from(columns.getType(columnIndex).getName()) != slots[index].getter) {
+					supported = false;
+				}
+
+				indexes[index] = columnIndex;
+			}
+
+			return new ColumnBinding(indexes, supported);
+		}
+	}
+
+	/**
+	 * A property along with its column and the {@link MethodHandle} to assign its value.
+	 */
+	private static class ColumnSlot {
+
+		private final String columnName;
+		private final ColumnGetter getter;
+		private final MethodHandle setter;
+		private final boolean primitive;
+
+		ColumnSlot(String columnName, ColumnGetter getter, MethodHandle setter, boolean primitive) {
+
+			this.columnName = columnName;
+			this.getter = getter;
+			this.setter = setter;
+			this.primitive = primitive;
+		}
+	}
+
+	/**
+	 * Typed {@link Row} getters for Cassandra types that map natively to a Java type.
+	 */
+	enum ColumnGetter {
+
+		STRING(String.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getString(index);
+			}
+		},
+
+		INT(Integer.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getInt(index);
+			}
+		},
+
+		LONG(Long.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getLong(index);
+			}
+		},
+
+		BOOLEAN(Boolean.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getBool(index);
+			}
+		},
+
+		DOUBLE(Double.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getDouble(index);
+			}
+		},
+
+		FLOAT(Float.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getFloat(index);
+			}
+		},
+
+		SHORT(Short.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getShort(index);
+			}
+		},
+
+		BYTE(Byte.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getByte(index);
+			}
+		},
+
+		UUID(java.util.UUID.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getUUID(index);
+			}
+		},
+
+		TIMESTAMP(java.util.Date.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getTimestamp(index);
+			}
+		},
+
+		DATE(com.datastax.driver.core.LocalDate.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getDate(index);
+			}
+		},
+
+		BYTES(java.nio.ByteBuffer.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getBytes(index);
+			}
+		},
+
+		DECIMAL(java.math.BigDecimal.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getDecimal(index);
+			}
+		},
+
+		VARINT(java.math.BigInteger.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getVarint(index);
+			}
+		},
+
+		INET(java.net.InetAddress.class) {
+			@Override
+			Object get(Row row, int index) {
+				return row.getInet(index);
+			}
+		};
+
+		private final Class<?> javaType;
+
+		ColumnGetter(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		abstract Object get(Row row, int index);
+
+		/**
+		 * @param name the {@link DataType.Name}.
+		 * @return the {@link ColumnGetter} for {@code name} or {@literal null} if the type has no native getter.
+		 */
+		static ColumnGetter from(DataType.Name name) {
+
+			switch (name) {
+				case ASCII:
+				case TEXT:
+				case VARCHAR:
+					return STRING;
+				case INT:
+					return INT;
+				case BIGINT:
+				case COUNTER:
+					return LONG;
+				case BOOLEAN:
+					return BOOLEAN;
+				case DOUBLE:
+					return DOUBLE;
+				case FLOAT:
+					return FLOAT;
+				case SMALLINT:
+					return SHORT;
+				case TINYINT:
+					return BYTE;
+				case UUID:
+				case TIMEUUID:
+					return UUID;
+				case TIMESTAMP:
+					return TIMESTAMP;
+				case DATE:
+					return DATE;
+				case BLOB:
+					return BYTES;
+				case DECIMAL:
+					return DECIMAL;
+				case VARINT:
+					return VARINT;
+				case INET:
+					return INET;
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.List;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Write metadata of an entity resolved once per {@link CassandraPersistentEntity}: a {@link ColumnWriter} per
+ * persistent property in property order holding the target type, column name and key membership of the property.
+ * Writing an entity then only performs the per-value conversion.
+ * <p>
+ * {@link EntityWritePlan} is immutable and thread-safe.
+ *
+ * @since 1.6
+ */
+class EntityWritePlan {
+
+	private final ColumnWriter[] writers;
+
+	/**
+	 * Creates a new {@link EntityWritePlan} for the given {@link ColumnWriter}s.
+	 *
+	 * @param writers must not be {@literal null}.
+	 */
+	EntityWritePlan(List<ColumnWriter> writers) {
+		this.writers = writers.toArray(new ColumnWriter[writers.size()]);
+	}
+
+	/**
+	 * @return the {@link ColumnWriter}s in property order.
+	 */
+	ColumnWriter[] getWriters() {
+		return writers;
+	}
+
+	/**
+	 * Resolved write metadata of a single {@link CassandraPersistentProperty}.
+	 */
+	static class ColumnWriter {
+
+		private final CassandraPersistentProperty property;
+
+		private final String columnName;
+
+		private final Class<?> targetType;
+
+		private final boolean primaryKeyPart;
+
+		private final CassandraPersistentEntity<?> compositePrimaryKeyEntity;
+
+		private final boolean simpleValue;
+
+		private final TypeCodec<Object> codec;
+
+		/**
+		 * Creates a new {@link ColumnWriter}.
+		 *
+		 * @param property the property to write.
+		 * @param targetType the type to read the property value as.
+		 * @param primaryKeyPart whether the property is part of the primary key.
+		 * @param simpleValue whether property values are written as-is without further conversion.
+		 * @param codec the codec to write the property into a user-defined type value, may be {@literal null}.
+		 */
+		ColumnWriter(CassandraPersistentProperty property, Class<?> targetType, boolean primaryKeyPart,
+				boolean simpleValue, TypeCodec<Object> codec) {
+
+			this.property = property;
+			this.columnName = property.getColumnName().toCql();
+			this.targetType = targetType;
+			this.primaryKeyPart = primaryKeyPart;
+			this.compositePrimaryKeyEntity = (property.isCompositePrimaryKey() ? property.getCompositePrimaryKeyEntity()
+					: null);
+			this.simpleValue = simpleValue;
+			this.codec = codec;
+		}
+
+		CassandraPersistentProperty getProperty() {
+			return property;
+		}
+
+		/**
+		 * @return the CQL representation of the column name.
+		 */
+		String getColumnName() {
+			return columnName;
+		}
+
+		Class<?> getTargetType() {
+			return targetType;
+		}
+
+		boolean isPrimaryKeyPart() {
+			return primaryKeyPart;
+		}
+
+		/**
+		 * @return {@literal true} if property values are written as-is, without custom conversions, enum mapping,
+		 *         collection or user-defined type handling.
+		 */
+		boolean isSimpleValue() {
+			return simpleValue;
+		}
+
+		/**
+		 * @return the {@link CassandraPersistentEntity} of the composite primary key or {@literal null} if the property
+		 *         is not a composite primary key.
+		 */
+		CassandraPersistentEntity<?> getCompositePrimaryKeyEntity() {
+			return compositePrimaryKeyEntity;
+		}
+
+		/**
+		 * @return the codec to write user-defined type fields, {@literal null} for properties of table entities.
+		 */
+		TypeCodec<Object> getCodec() {
+			return codec;
+		}
+	}
+}
@@ -15,15 +15,18 @@
  */
 package org.springframework.data.cassandra.convert;
 
-import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
-
 import lombok.AllArgsConstructor;
 
 import java.io.Serializable;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +37,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.EntityWritePlan.ColumnWriter;
 import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
@@ -41,8 +45,11 @@ import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.mapping.CassandraType;
 import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.repository.MapIdentifiable;
+import org.springframework.data.cassandra.repository.support.ArrayMapId;
+import org.springframework.data.cassandra.repository.support.MapIdLayout;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
@@ -54,9 +61,12 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ObjectUtils;
 
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
@@ -96,6 +106,20 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
+	private final Map<CassandraPersistentEntity<?>, DirectEntityRowReader<?>> directEntityRowReaders = new ConcurrentHashMap<CassandraPersistentEntity<?>, DirectEntityRowReader<?>>();
+
+	private final Map<CassandraPersistentEntity<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<CassandraPersistentEntity<?>, EntityWritePlan>();
+
+	private final Map<CassandraPersistentEntity<?>, PrimaryKeyLayout> primaryKeyLayouts = new ConcurrentHashMap<CassandraPersistentEntity<?>, PrimaryKeyLayout>();
+
+	private final Map<UserType, UserTypePlan> userTypePlans = new ConcurrentReferenceHashMap<UserType, UserTypePlan>(16,
+			ReferenceType.WEAK);
+
+	private boolean directEntityReading = false;
+
+	private final Map<ColumnDefinitions, ColumnReadPlan> columnReadPlans = new ConcurrentReferenceHashMap<ColumnDefinitions, ColumnReadPlan>(
+			16, ReferenceType.WEAK);
+
 	/**
 	 * Creates a new {@link MappingCassandraConverter} with a {@link BasicCassandraMappingContext}.
 	 */
@@ -118,6 +142,41 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		this.spELContext = new SpELContext(RowReaderPropertyAccessor.INSTANCE);
 	}
 
+	/**
+	 * Configures whether to read simple entities through specialized readers that resolve column indexes once per result
+	 * and assign typed column values directly to entity fields. Entities using SpEL, custom conversions, user-defined
+	 * types, collections, composite primary keys or persistence constructors with arguments are read through the regular
+	 * mapping path. Disabled by default.
+	 *
+	 * @param directEntityReading {@literal true} to enable direct entity reading.
+	 * @since 1.6
+	 */
+	public void setDirectEntityReading(boolean directEntityReading) {
+
+		this.directEntityReading = directEntityReading;
+		this.directEntityRowReaders.clear();
+	}
+
+	/**
+	 * @return {@literal true} if direct entity reading is enabled.
+	 * @since 1.6
+	 * @see #setDirectEntityReading(boolean)
+	 */
+	public boolean isDirectEntityReading() {
+		return directEntityReading;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.cassandra.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+		this.directEntityRowReaders.clear();
+		this.writePlans.clear();
+	}
+
 	@SuppressWarnings("unchecked")
 	public <R> R readRow(Class<R> type, Row row) {
 
@@ -146,9 +205,31 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			throw new MappingException(String.format("No mapping metadata found for %s", rawType.getName()));
 		}
 
+		if (directEntityReading) {
+
+			DirectEntityRowReader<R> reader = getDirectEntityRowReader(persistentEntity);
+
+			if (reader.canRead(row)) {
+				return reader.read(row);
+			}
+		}
+
 		return readEntityFromRow(persistentEntity, row);
 	}
 
+	@SuppressWarnings("unchecked")
+	private <R> DirectEntityRowReader<R> getDirectEntityRowReader(CassandraPersistentEntity<R> entity) {
+
+		DirectEntityRowReader<R> reader = (DirectEntityRowReader<R>) directEntityRowReaders.get(entity);
+
+		if (reader == null) {
+			reader = DirectEntityRowReader.create(entity, mappingContext, conversions);
+			directEntityRowReaders.put(entity, reader);
+		}
+
+		return reader;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
 	 */
@@ -161,7 +242,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected <S> S readEntityFromRow(final CassandraPersistentEntity<S> entity, final Row row) {
 
 		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
-		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator);
+		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator,
+				getColumnReadPlan(row.getColumnDefinitions()));
 
 		CassandraPersistentEntityParameterValueProvider parameterProvider = new CassandraPersistentEntityParameterValueProvider(
 				entity, new MappingAndConvertingValueProvider(rowValueProvider), null);
@@ -174,15 +256,37 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return instance;
 	}
 
+	/**
+	 * Returns the {@link ColumnReadPlan} for the given {@link ColumnDefinitions}. Rows of a result set share their
+	 * {@link ColumnDefinitions} instance so column lookups are resolved once and reused for all subsequent rows. Plans
+	 * are cached in a weak map keyed by {@link ColumnDefinitions}, so concurrently read result sets keep their own plan
+	 * and plans of discarded result sets can be garbage-collected.
+	 */
+	private ColumnReadPlan getColumnReadPlan(ColumnDefinitions columns) {
+
+		ColumnReadPlan plan = columnReadPlans.get(columns);
+
+		if (plan == null) {
+			plan = new ColumnReadPlan(columns);
+			columnReadPlans.put(columns, plan);
+		}
+
+		return plan;
+	}
+
 	protected <S> S readEntityFromUdt(CassandraPersistentEntity<S> entity, UDTValue udtValue) {
 
-		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(udtValue, spELContext);
+		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, spELContext,
+				getUserTypePlan(udtValue.getType()));
 
-		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, CodecRegistry.DEFAULT_INSTANCE,
-				expressionEvaluator);
+		PreferredConstructor<S, CassandraPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+		CassandraPersistentEntityParameterValueProvider parameterProvider = null;
 
-		CassandraPersistentEntityParameterValueProvider parameterProvider = new CassandraPersistentEntityParameterValueProvider(
-				entity, new MappingAndConvertingValueProvider(valueProvider), null);
+		// user-defined types are mostly created through their default constructor that does not consume parameter values
+		if (persistenceConstructor != null && persistenceConstructor.hasParameters()) {
+			parameterProvider = new CassandraPersistentEntityParameterValueProvider(entity,
+					new MappingAndConvertingValueProvider(valueProvider), null);
+		}
 
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
 		S instance = instantiator.createInstance(entity, parameterProvider);
@@ -192,6 +296,23 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return instance;
 	}
 
+	/**
+	 * Returns the {@link UserTypePlan} for the given {@link UserType}. Values of a result set share their
+	 * {@link UserType} so field lookups are resolved once and reused for all subsequent values. Plans are cached in a
+	 * weak map keyed by {@link UserType}, so user-defined types read concurrently keep their own plan.
+	 */
+	private UserTypePlan getUserTypePlan(UserType userType) {
+
+		UserTypePlan plan = userTypePlans.get(userType);
+
+		if (plan == null) {
+			plan = new UserTypePlan(userType, CodecRegistry.DEFAULT_INSTANCE);
+			userTypePlans.put(userType, plan);
+		}
+
+		return plan;
+	}
+
 	protected void readPropertiesFromRow(CassandraPersistentEntity<?> entity, CassandraRowValueProvider row,
 			PersistentPropertyAccessor propertyAccessor) {
 
@@ -303,6 +424,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public void write(Object source, Object sink, CassandraPersistentEntity<?> entity) {
 
 		if (source == null) {
@@ -323,6 +445,12 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			writeDeleteWhereFromObject(source, (Delete.Where) sink, entity);
 		} else if (sink instanceof UDTValue) {
 			writeUDTValueWhereFromObject(getConvertingAccessor(source, entity), (UDTValue) sink, entity);
+		} else if (sink instanceof Map) {
+			if (ClassUtils.isAssignableValue(entity.getType(), source)) {
+				writeMapFromWrapper(getConvertingAccessor(source, entity), (Map<String, Object>) sink, entity);
+			} else {
+				((Map<String, Object>) sink).putAll(getKeyColumns(source, entity));
+			}
 		} else {
 			throw new MappingException("Unknown write target " + sink.getClass().getName());
 		}
@@ -335,36 +463,32 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected void writeInsertFromWrapper(final ConvertingPropertyAccessor accessor, final Insert insert,
 			CassandraPersistentEntity<?> entity) {
 
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+		for (ColumnWriter writer : getWritePlan(entity).getWriters()) {
 
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+			Object value = getWriteValue(writer, accessor);
 
-				Object value = getWriteValue(property, accessor);
+			if (log.isDebugEnabled()) {
+				log.debug("doWithProperties Property.type {}, Property.value {}",
+						writer.getProperty().getType().getName(), value);
+			}
 
+			if (writer.getCompositePrimaryKeyEntity() != null) {
 				if (log.isDebugEnabled()) {
-					log.debug("doWithProperties Property.type {}, Property.value {}",
-							property.getType().getName(), value);
+					log.debug("Property is a compositeKey");
 				}
 
-				if (property.isCompositePrimaryKey()) {
-					if (log.isDebugEnabled()) {
-						log.debug("Property is a compositeKey");
-					}
-
-					writeInsertFromWrapper(getConvertingAccessor(value, property.getCompositePrimaryKeyEntity()),
-							insert, property.getCompositePrimaryKeyEntity());
+				writeInsertFromWrapper(getConvertingAccessor(value, writer.getCompositePrimaryKeyEntity()), insert,
+						writer.getCompositePrimaryKeyEntity());
 
-					return;
-				}
-
-				if (log.isDebugEnabled()) {
-					log.debug("Adding insert.value [{}] - [{}]", property.getColumnName().toCql(), value);
-				}
+				continue;
+			}
 
-				insert.value(property.getColumnName().toCql(), value);
+			if (log.isDebugEnabled()) {
+				log.debug("Adding insert.value [{}] - [{}]", writer.getColumnName(), value);
 			}
-		});
+
+			insert.value(writer.getColumnName(), value);
+		}
 	}
 
 	protected void writeUpdateFromObject(final Object object, final Update update, CassandraPersistentEntity<?> entity) {
@@ -374,26 +498,48 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected void writeUpdateFromWrapper(final ConvertingPropertyAccessor accessor, final Update update,
 			final CassandraPersistentEntity<?> entity) {
 
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+		for (ColumnWriter writer : getWritePlan(entity).getWriters()) {
 
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+			Object value = getWriteValue(writer, accessor);
 
-				Object value = getWriteValue(property, accessor);
+			if (writer.getCompositePrimaryKeyEntity() != null) {
+				CassandraPersistentEntity<?> keyEntity = writer.getCompositePrimaryKeyEntity();
+				writeUpdateFromWrapper(getConvertingAccessor(value, keyEntity), update, keyEntity);
+				continue;
+			}
 
-				if (property.isCompositePrimaryKey()) {
-					CassandraPersistentEntity<?> keyEntity = property.getCompositePrimaryKeyEntity();
-					writeUpdateFromWrapper(getConvertingAccessor(value, keyEntity), update, keyEntity);
-					return;
-				}
+			if (writer.isPrimaryKeyPart()) {
+				update.where(QueryBuilder.eq(writer.getColumnName(), value));
+			} else {
+				update.with(QueryBuilder.set(writer.getColumnName(), value));
+			}
+		}
+	}
 
-				if (isPrimaryKeyPart(property)) {
-					update.where(QueryBuilder.eq(property.getColumnName().toCql(), value));
-				} else {
-					update.with(QueryBuilder.set(property.getColumnName().toCql(), value));
-				}
+	/**
+	 * Writes the column values of the entity held by {@link ConvertingPropertyAccessor} into the given {@link Map} keyed
+	 * by the CQL representation of the column name. Composite primary keys are flattened into their key columns.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param columns must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @since 1.6
+	 */
+	protected void writeMapFromWrapper(final ConvertingPropertyAccessor accessor, final Map<String, Object> columns,
+			CassandraPersistentEntity<?> entity) {
+
+		for (ColumnWriter writer : getWritePlan(entity).getWriters()) {
+
+			Object value = getWriteValue(writer, accessor);
+
+			if (writer.getCompositePrimaryKeyEntity() != null) {
+				CassandraPersistentEntity<?> keyEntity = writer.getCompositePrimaryKeyEntity();
+				writeMapFromWrapper(getConvertingAccessor(value, keyEntity), columns, keyEntity);
+				continue;
 			}
-		});
+
+			columns.put(writer.getColumnName(), value);
+		}
 	}
 
 	protected void writeSelectWhereFromObject(final Object object, final Select.Where where,
@@ -419,32 +565,112 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected void writeUDTValueWhereFromObject(final ConvertingPropertyAccessor accessor, final UDTValue udtValue,
 			CassandraPersistentEntity<?> entity) {
 
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+		UserTypePlan plan = getUserTypePlan(udtValue.getType());
 
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+		for (ColumnWriter writer : getWritePlan(entity).getWriters()) {
 
-				Object value = getWriteValue(property, accessor);
+			Object value = getWriteValue(writer, accessor);
 
-				if (log.isDebugEnabled()) {
-					log.debug("writeUDTValueWhereFromObject Property.type {}, Property.value {}", property.getType().getName(),
-							value);
-				}
+			if (log.isDebugEnabled()) {
+				log.debug("writeUDTValueWhereFromObject Property.type {}, Property.value {}",
+						writer.getProperty().getType().getName(), value);
+			}
 
-				if (log.isDebugEnabled()) {
-					log.debug("Adding udt.value [{}] - [{}]", property.getColumnName().toCql(), value);
-				}
+			if (log.isDebugEnabled()) {
+				log.debug("Adding udt.value [{}] - [{}]", writer.getColumnName(), value);
+			}
+
+			TypeCodec<Object> typeCodec = (writer.getCodec() != null ? writer.getCodec()
+					: CodecRegistry.DEFAULT_INSTANCE.<Object> codecFor(getMappingContext().getDataType(writer.getProperty())));
 
-				TypeCodec<Object> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(
-						getMappingContext().getDataType(property));
+			int index = plan.getIndex(writer.getProperty());
 
-				udtValue.set(property.getColumnName().toCql(), value, typeCodec);
+			if (index != -1) {
+				udtValue.set(index, value, typeCodec);
+			} else {
+				udtValue.set(writer.getColumnName(), value, typeCodec);
 			}
-		});
+		}
+	}
+
+	/**
+	 * Returns the {@link EntityWritePlan} for the given {@link CassandraPersistentEntity}, resolving the target type and
+	 * key membership of each property on first use.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link EntityWritePlan}.
+	 */
+	EntityWritePlan getWritePlan(final CassandraPersistentEntity<?> entity) {
+
+		EntityWritePlan plan = writePlans.get(entity);
+
+		if (plan == null) {
+
+			final List<ColumnWriter> writers = new ArrayList<ColumnWriter>();
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					TypeCodec<Object> codec = (entity.isUserDefinedType()
+							? CodecRegistry.DEFAULT_INSTANCE.<Object> codecFor(getMappingContext().getDataType(property)) : null);
+
+					writers.add(new ColumnWriter(property, getTargetType(property), isPrimaryKeyPart(property),
+							isSimpleValue(property), codec));
+				}
+			});
+
+			plan = new EntityWritePlan(writers);
+			writePlans.put(entity, plan);
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Returns whether values of the given {@link CassandraPersistentProperty} are written as-is. This applies to final
+	 * simple types without custom conversions and without a {@link CassandraType} mapping because their runtime type
+	 * equals the property type.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return {@literal true} if property values do not require conversion.
+	 */
+	private boolean isSimpleValue(CassandraPersistentProperty property) {
+
+		Class<?> type = property.getType();
+		Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+
+		if (!Modifier.isFinal(valueType.getModifiers()) || valueType.isEnum() || property.isCompositePrimaryKey()
+				|| property.findAnnotation(CassandraType.class) != null) {
+			return false;
+		}
+
+		CustomConversions conversions = getCustomConversions();
+
+		return conversions.isSimpleType(valueType) && !conversions.hasCustomWriteTarget(type)
+				&& !conversions.hasCustomWriteTarget(valueType) && !conversions.hasCustomWriteTarget(valueType, type);
 	}
 
 	private Collection<Clause> getWhereClauses(Object source, CassandraPersistentEntity<?> entity) {
 
+		Collection<Clause> clauses = new ArrayList<Clause>();
+
+		for (Entry<String, Object> entry : getKeyColumns(source, entity).entrySet()) {
+			clauses.add(QueryBuilder.eq(entry.getKey(), entry.getValue()));
+		}
+
+		return clauses;
+	}
+
+	/**
+	 * Resolves the primary key column values identified by {@code source}, which is either an entity, a {@link MapId},
+	 * a {@link MapIdentifiable}, a composite primary key or a simple id value.
+	 *
+	 * @return the key column values keyed by the CQL representation of the column name.
+	 */
+	private Map<String, Object> getKeyColumns(Object source, CassandraPersistentEntity<?> entity) {
+
 		Assert.notNull(source, "Id source must not be null");
 
 		CassandraPersistentProperty idProperty = entity.getIdProperty();
@@ -454,7 +680,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		Assert.notNull(id, String.format("No Id value found in object %s", source));
 
 		if (id instanceof MapId) {
-			return getWhereClauses((MapId) id, idProperty != null && idProperty.isCompositePrimaryKey()
+			return getKeyColumns((MapId) id, idProperty != null && idProperty.isCompositePrimaryKey()
 					? idProperty.getCompositePrimaryKeyEntity() : entity);
 		}
 
@@ -466,7 +692,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		if (idProperty.isCompositePrimaryKey()) {
 
 			if (ClassUtils.isAssignableValue(idProperty.getType(), id)) {
-				return getWhereClauses(getConvertingAccessor(id, idProperty.getCompositePrimaryKeyEntity()),
+				return getKeyColumns(getConvertingAccessor(id, idProperty.getCompositePrimaryKeyEntity()),
 						idProperty.getCompositePrimaryKeyEntity());
 			} else {
 				throw new InvalidDataAccessApiUsageException(
@@ -477,11 +703,11 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		Class<?> targetType = getTargetType(idProperty);
 
 		if (getConversionService().canConvert(id.getClass(), targetType)) {
-			return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(),
-					getPotentiallyConvertedSimpleValue(id, targetType)));
+			return Collections.singletonMap(idProperty.getColumnName().toCql(),
+					getPotentiallyConvertedSimpleValue(id, targetType));
 		}
 
-		return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(), id));
+		return Collections.singletonMap(idProperty.getColumnName().toCql(), id);
 	}
 
 	private Object extractId(Object source, CassandraPersistentEntity<?> entity) {
@@ -497,13 +723,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return source;
 	}
 
-	private Collection<Clause> getWhereClauses(final ConvertingPropertyAccessor accessor,
+	private Map<String, Object> getKeyColumns(final ConvertingPropertyAccessor accessor,
 			CassandraPersistentEntity<?> entity) {
 
 		Assert.isTrue(entity.isCompositePrimaryKey(),
 				String.format("Entity [%s] is not a composite primary key", entity.getName()));
 
-		final Collection<Clause> clauses = new ArrayList<Clause>();
+		final Map<String, Object> columns = new LinkedHashMap<String, Object>();
 
 		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
 
@@ -511,31 +737,76 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			public void doWithPersistentProperty(CassandraPersistentProperty property) {
 				TypeCodec<Object> codec = getCodec(property);
 				Object value = accessor.getProperty(property, codec.getJavaType().getRawType());
-				clauses.add(QueryBuilder.eq(property.getColumnName().toCql(), value));
+				columns.put(property.getColumnName().toCql(), value);
 			}
 		});
 
-		return clauses;
+		return columns;
 	}
 
-	private Collection<Clause> getWhereClauses(MapId id, CassandraPersistentEntity<?> entity) {
+	private Map<String, Object> getKeyColumns(MapId id, CassandraPersistentEntity<?> entity) {
 
 		Assert.notNull(id, "MapId must not be null");
 
-		Collection<Clause> clauses = new ArrayList<Clause>();
+		if (id instanceof ArrayMapId) {
+			return getKeyColumns((ArrayMapId) id, entity);
+		}
+
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
 
 		for (Entry<String, Serializable> entry : id.entrySet()) {
-			CassandraPersistentProperty persistentProperty = entity.getPersistentProperty(entry.getKey());
+			addKeyColumn(columns, entry.getKey(), entry.getValue(), entity.getPersistentProperty(entry.getKey()), entity);
+		}
 
-			Assert.notNull(persistentProperty,
-					String.format("MapId contains references [%s] that is an unknown property of [%s]",
-						entry.getKey(), entity.getName()));
+		return columns;
+	}
+
+	private Map<String, Object> getKeyColumns(ArrayMapId id, CassandraPersistentEntity<?> entity) {
+
+		MapIdLayout layout = id.getLayout();
+		CassandraPersistentProperty[] properties = getPrimaryKeyLayout(entity).getProperties(layout);
 
-			clauses.add(QueryBuilder.eq(persistentProperty.getColumnName().toCql(),
-					getWriteValue(entry.getValue(), persistentProperty.getTypeInformation())));
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		int slotCount = 0;
+
+		for (int i = 0; i < properties.length; i++) {
+			if (id.hasValue(i)) {
+				addKeyColumn(columns, layout.getName(i), id.getValue(i), properties[i], entity);
+				slotCount++;
+			}
 		}
 
-		return clauses;
+		if (slotCount < id.size()) {
+			for (Entry<String, Serializable> entry : id.entrySet()) {
+				if (layout.indexOf(entry.getKey()) == -1) {
+					addKeyColumn(columns, entry.getKey(), entry.getValue(), entity.getPersistentProperty(entry.getKey()),
+							entity);
+				}
+			}
+		}
+
+		return columns;
+	}
+
+	private void addKeyColumn(Map<String, Object> columns, String name, Object value,
+			CassandraPersistentProperty property, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(property, String.format("MapId contains references [%s] that is an unknown property of [%s]",
+				name, entity.getName()));
+
+		columns.put(property.getColumnName().toCql(), getWriteValue(value, property.getTypeInformation()));
+	}
+
+	private PrimaryKeyLayout getPrimaryKeyLayout(CassandraPersistentEntity<?> entity) {
+
+		PrimaryKeyLayout primaryKeyLayout = primaryKeyLayouts.get(entity);
+
+		if (primaryKeyLayout == null) {
+			primaryKeyLayout = new PrimaryKeyLayout(entity);
+			primaryKeyLayouts.put(entity, primaryKeyLayout);
+		}
+
+		return primaryKeyLayout;
 	}
 
 	@Override
@@ -562,17 +833,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		}
 
 		// if the class doesn't have an id property, then it's using MapId
-		final MapId id = id();
-
-		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+		PrimaryKeyLayout primaryKeyLayout = getPrimaryKeyLayout(entity);
+		CassandraPersistentProperty[] properties = primaryKeyLayout.getProperties();
+		ArrayMapId id = primaryKeyLayout.newId();
 
-			@Override
-			public void doWithPersistentProperty(CassandraPersistentProperty property) {
-				if (property.isPrimaryKeyColumn()) {
-					id.with(property.getName(), (Serializable) getWriteValue(property, accessor));
-				}
-			}
-		});
+		for (int i = 0; i < properties.length; i++) {
+			id.setValue(i, (Serializable) getWriteValue(properties[i], accessor));
+		}
 
 		return id;
 	}
@@ -668,6 +935,25 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return getWriteValue(accessor.getProperty(property, getTargetType(property)), property.getTypeInformation());
 	}
 
+	/**
+	 * Retrieve the value to write for the given {@link ColumnWriter} from {@link ConvertingPropertyAccessor}. Simple
+	 * values are returned as-is.
+	 *
+	 * @param writer the column writer.
+	 * @param accessor the property accessor
+	 * @return the return value, may be {@literal null}.
+	 */
+	private Object getWriteValue(ColumnWriter writer, ConvertingPropertyAccessor accessor) {
+
+		CassandraPersistentProperty property = writer.getProperty();
+
+		if (writer.isSimpleValue()) {
+			return accessor.getProperty(property);
+		}
+
+		return getWriteValue(accessor.getProperty(property, writer.getTargetType()), property.getTypeInformation());
+	}
+
 	/**
 	 * Retrieve the value from {@code value} applying the given {@link TypeInformation} and perform optionally a
 	 * conversion of collection element types.
@@ -699,9 +985,15 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 			Collection<Object> original = (Collection<Object>) value;
 			Collection<Object> converted = CollectionFactory.createCollection(getCollectionType(type), original.size());
+			CassandraPersistentEntity<?> elementEntity = (original.isEmpty() ? null : getUserTypeElementEntity(actualType));
 
 			for (Object element : original) {
-				converted.add(convertToCassandraColumn(element, actualType));
+
+				if (elementEntity != null && element != null && element.getClass() == elementEntity.getType()) {
+					converted.add(writeUserTypeValue(element, elementEntity));
+				} else {
+					converted.add(convertToCassandraColumn(element, actualType));
+				}
 			}
 
 			return converted;
@@ -710,15 +1002,40 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getPersistentEntity(actualType.getType());
 
 		if (persistentEntity != null && persistentEntity.isUserDefinedType()) {
+			return writeUserTypeValue(value, persistentEntity);
+		}
 
-			UDTValue udtValue = persistentEntity.getUserType().newValue();
+		return value;
+	}
 
-			write(value, udtValue, persistentEntity);
+	/**
+	 * Returns the user-defined type {@link CassandraPersistentEntity} for collection elements of the given type if
+	 * elements of that type can be written without further conversion lookups.
+	 *
+	 * @param elementType must not be {@literal null}.
+	 * @return the {@link CassandraPersistentEntity} or {@literal null} if elements require the regular conversion.
+	 */
+	private CassandraPersistentEntity<?> getUserTypeElementEntity(TypeInformation<?> elementType) {
 
-			return udtValue;
+		Class<?> type = elementType.getType();
+
+		if (elementType.isCollectionLike() || elementType.isMap() || getCustomConversions().isSimpleType(type)
+				|| getCustomConversions().hasCustomWriteTarget(type)) {
+			return null;
 		}
 
-		return value;
+		CassandraPersistentEntity<?> entity = getMappingContext().getPersistentEntity(type);
+
+		return (entity != null && entity.isUserDefinedType() ? entity : null);
+	}
+
+	private UDTValue writeUserTypeValue(Object value, CassandraPersistentEntity<?> entity) {
+
+		UDTValue udtValue = entity.getUserType().newValue();
+
+		writeUDTValueWhereFromObject(getConvertingAccessor(value, entity), udtValue, entity);
+
+		return udtValue;
 	}
 
 	/**
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.support.ArrayMapId;
+import org.springframework.data.cassandra.repository.support.MapIdLayout;
+import org.springframework.data.mapping.PropertyHandler;
+
+/**
+ * Primary key properties of an entity or a composite primary key class along with the {@link MapIdLayout} used for
+ * {@link ArrayMapId}s created for the entity. Slots of {@link ArrayMapId}s are resolved to their properties once per
+ * {@link MapIdLayout}, so key columns of ids can be read by slot index without looking up properties by name.
+ *
+ * @since 1.6
+ */
+class PrimaryKeyLayout {
+
+	private final CassandraPersistentEntity<?> entity;
+
+	private final CassandraPersistentProperty[] properties;
+
+	private final MapIdLayout layout;
+
+	private final ConcurrentMap<MapIdLayout, CassandraPersistentProperty[]> slotProperties = new ConcurrentHashMap<MapIdLayout, CassandraPersistentProperty[]>();
+
+	/**
+	 * Creates a new {@link PrimaryKeyLayout} for the given {@link CassandraPersistentEntity}. Considers all properties
+	 * of composite primary key classes and the primary key columns of other entities.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	PrimaryKeyLayout(final CassandraPersistentEntity<?> entity) {
+
+		final List<CassandraPersistentProperty> properties = new ArrayList<CassandraPersistentProperty>();
+		final List<String> names = new ArrayList<String>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (entity.isCompositePrimaryKey() || property.isPrimaryKeyColumn()) {
+					properties.add(property);
+					names.add(property.getName());
+				}
+			}
+		});
+
+		this.entity = entity;
+		this.properties = properties.toArray(new CassandraPersistentProperty[properties.size()]);
+		this.layout = MapIdLayout.of(names);
+
+		slotProperties.put(layout, this.properties);
+	}
+
+	/**
+	 * @return a new, empty {@link ArrayMapId} using the primary key layout.
+	 */
+	ArrayMapId newId() {
+		return new ArrayMapId(layout);
+	}
+
+	/**
+	 * @return the primary key properties in slot order.
+	 */
+	CassandraPersistentProperty[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Resolves the slots of the given {@link MapIdLayout} to persistent properties of the entity.
+	 *
+	 * @param layout must not be {@literal null}.
+	 * @return the properties in slot order, containing {@literal null} for keys that do not name a property.
+	 */
+	CassandraPersistentProperty[] getProperties(MapIdLayout layout) {
+
+		CassandraPersistentProperty[] properties = slotProperties.get(layout);
+
+		if (properties == null) {
+
+			properties = new CassandraPersistentProperty[layout.size()];
+
+			for (int i = 0; i < properties.length; i++) {
+				properties[i] = entity.getPersistentProperty(layout.getName(i));
+			}
+
+			slotProperties.put(layout, properties);
+		}
+
+		return properties;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+/**
+ * Field lookups resolved once per {@link UserType} instance and shared by all {@link UDTValue}s of that type: the field
+ * index of each property and the codec of each field. {@link UDTValue}s read from a result set share their
+ * {@link UserType} instance, so collections of user-defined types resolve field names and codecs once for all elements.
+ * <p>
+ * {@link UserTypePlan} is thread-safe.
+ *
+ * @since 1.6
+ */
+class UserTypePlan {
+
+	private final CodecRegistry codecRegistry;
+
+	private final String[] fieldNames;
+
+	private final DataType[] fieldTypes;
+
+	private final ConcurrentMap<CassandraPersistentProperty, Integer> propertyIndexes = new ConcurrentHashMap<CassandraPersistentProperty, Integer>();
+
+	private final AtomicReferenceArray<TypeCodec<Object>> codecs;
+
+	/**
+	 * Creates a new {@link UserTypePlan} for the given {@link UserType}.
+	 *
+	 * @param userType must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	UserTypePlan(UserType userType, CodecRegistry codecRegistry) {
+
+		Assert.notNull(userType, "UserType must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.codecRegistry = codecRegistry;
+		this.fieldNames = new String[userType.size()];
+		this.fieldTypes = new DataType[userType.size()];
+		this.codecs = new AtomicReferenceArray<TypeCodec<Object>>(userType.size());
+
+		int index = 0;
+
+		for (UserType.Field field : userType) {
+
+			fieldNames[index] = field.getName();
+			fieldTypes[index] = field.getType();
+			index++;
+		}
+	}
+
+	/**
+	 * @return the {@link CodecRegistry} to resolve field codecs.
+	 */
+	CodecRegistry getCodecRegistry() {
+		return codecRegistry;
+	}
+
+	/**
+	 * Returns the index of the field the {@link CassandraPersistentProperty} is mapped to.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the field index or {@literal -1} if the field is not part of the {@link UserType}.
+	 */
+	int getIndex(CassandraPersistentProperty property) {
+
+		Integer index = propertyIndexes.get(property);
+
+		if (index == null) {
+			index = getIndex(property.getColumnName().toCql());
+			propertyIndexes.put(property, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Returns the codec for the field at {@code index} according to the field type declared by the {@link UserType}.
+	 *
+	 * @param index the field index.
+	 * @return the {@link TypeCodec}.
+	 */
+	TypeCodec<Object> getCodec(int index) {
+
+		TypeCodec<Object> codec = codecs.get(index);
+
+		if (codec == null) {
+			codec = codecRegistry.codecFor(fieldTypes[index]);
+			codecs.set(index, codec);
+		}
+
+		return codec;
+	}
+
+	private int getIndex(String cqlName) {
+
+		String name = getFieldName(cqlName);
+
+		for (int index = 0; index < fieldNames.length; index++) {
+			if (fieldNames[index].equals(name)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Resolves the field name from its CQL representation the same way {@link UDTValue} resolves field names: quoted
+	 * names are case-sensitive, unquoted names are case-insensitive.
+	 */
+	private static String getFieldName(String cqlName) {
+
+		if (cqlName.length() > 1 && cqlName.charAt(0) == '"' && cqlName.charAt(cqlName.length() - 1) == '"') {
+			return cqlName.substring(1, cqlName.length() - 1).replace("\"\"", "\"");
+		}
+
+		return cqlName.toLowerCase();
+	}
+}
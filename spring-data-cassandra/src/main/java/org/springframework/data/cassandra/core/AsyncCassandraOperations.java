@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.cassandra.core.AsyncCqlOperations;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Asynchronous variant of {@link CassandraOperations} returning {@link CompletableFuture}s, replacing the
+ * {@link org.springframework.cassandra.core.Cancellable} and listener based {@code *Asynchronously} methods.
+ * {@link CompletableFuture#cancel(boolean) Cancelling} a returned future cancels the underlying driver future.
+ *
+ * @since 1.6
+ * @see CassandraOperations
+ * @see AsyncCqlOperations
+ */
+public interface AsyncCassandraOperations {
+
+	/**
+	 * Selects all entities of the given type.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the converted entities.
+	 */
+	<T> CompletableFuture<List<T>> selectAll(Class<T> entityClass);
+
+	/**
+	 * Executes the given CQL query and converts each row into an entity of the given type.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the converted entities.
+	 */
+	<T> CompletableFuture<List<T>> select(String cql, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Select} query and converts each row into an entity of the given type.
+	 *
+	 * @param select the {@link Select} query, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the converted entities.
+	 */
+	<T> CompletableFuture<List<T>> select(Select select, Class<T> entityClass);
+
+	/**
+	 * Executes the given CQL query and converts the single resulting row into an entity of the given type.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the converted entity or {@literal null} if the query returned
+	 *         no rows.
+	 */
+	<T> CompletableFuture<T> selectOne(String cql, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Select} query and converts the single resulting row into an entity of the given type.
+	 *
+	 * @param select the {@link Select} query, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the converted entity or {@literal null} if the query returned
+	 *         no rows.
+	 */
+	<T> CompletableFuture<T> selectOne(Select select, Class<T> entityClass);
+
+	/**
+	 * Selects the entity of the given type by its id.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param id the id, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the entity or {@literal null} if not found.
+	 */
+	<T> CompletableFuture<T> selectOneById(Class<T> entityClass, Object id);
+
+	/**
+	 * Determines whether an entity of the given type with the given id exists.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param id the id, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with {@literal true} if the entity exists.
+	 */
+	CompletableFuture<Boolean> exists(Class<?> entityClass, Object id);
+
+	/**
+	 * Counts the rows of the table of the given entity type.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the number of rows.
+	 */
+	CompletableFuture<Long> count(Class<?> entityClass);
+
+	/**
+	 * Inserts the given entity.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the inserted entity.
+	 */
+	<T> CompletableFuture<T> insert(T entity);
+
+	/**
+	 * Inserts the given entity applying {@link WriteOptions}.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the inserted entity.
+	 */
+	<T> CompletableFuture<T> insert(T entity, WriteOptions options);
+
+	/**
+	 * Inserts the given entities in a single batch.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the inserted entities.
+	 */
+	<T> CompletableFuture<List<T>> insert(List<T> entities);
+
+	/**
+	 * Inserts the given entities in a single batch applying {@link WriteOptions}.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the inserted entities.
+	 */
+	<T> CompletableFuture<List<T>> insert(List<T> entities, WriteOptions options);
+
+	/**
+	 * Updates the given entity.
+	 *
+	 * @param entity the entity to update, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the updated entity.
+	 */
+	<T> CompletableFuture<T> update(T entity);
+
+	/**
+	 * Updates the given entity applying {@link WriteOptions}.
+	 *
+	 * @param entity the entity to update, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the updated entity.
+	 */
+	<T> CompletableFuture<T> update(T entity, WriteOptions options);
+
+	/**
+	 * Updates the given entities in a single batch.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the updated entities.
+	 */
+	<T> CompletableFuture<List<T>> update(List<T> entities);
+
+	/**
+	 * Updates the given entities in a single batch applying {@link WriteOptions}.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the updated entities.
+	 */
+	<T> CompletableFuture<List<T>> update(List<T> entities, WriteOptions options);
+
+	/**
+	 * Deletes the given entity.
+	 *
+	 * @param entity the entity to delete, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the deleted entity.
+	 */
+	<T> CompletableFuture<T> delete(T entity);
+
+	/**
+	 * Deletes the given entity applying {@link QueryOptions}.
+	 *
+	 * @param entity the entity to delete, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the deleted entity.
+	 */
+	<T> CompletableFuture<T> delete(T entity, QueryOptions options);
+
+	/**
+	 * Deletes the given entities in a single batch.
+	 *
+	 * @param entities the entities to delete, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the deleted entities.
+	 */
+	<T> CompletableFuture<List<T>> delete(List<T> entities);
+
+	/**
+	 * Deletes the given entities in a single batch applying {@link QueryOptions}.
+	 *
+	 * @param entities the entities to delete, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the deleted entities.
+	 */
+	<T> CompletableFuture<List<T>> delete(List<T> entities, QueryOptions options);
+
+	/**
+	 * Deletes the entity of the given type by its id.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param id the id, must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with {@literal true} if the statement was applied.
+	 */
+	CompletableFuture<Boolean> deleteById(Class<?> entityClass, Object id);
+
+	/**
+	 * Returns the underlying {@link AsyncCqlOperations}.
+	 *
+	 * @return the {@link AsyncCqlOperations}.
+	 */
+	AsyncCqlOperations getAsyncCqlOperations();
+
+	/**
+	 * Returns the underlying {@link CassandraConverter}.
+	 *
+	 * @return the {@link CassandraConverter}.
+	 */
+	CassandraConverter getConverter();
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.cassandra.core.AsyncCqlOperations;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.RowMapper;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Default implementation of {@link AsyncCassandraOperations} delegating statement execution to
+ * {@link AsyncCqlOperations} and converting rows and entities with a {@link CassandraConverter}. Statements are
+ * created the same way as by {@link CassandraTemplate}.
+ *
+ * @since 1.6
+ * @see AsyncCassandraOperations
+ * @see CassandraTemplate
+ */
+public class AsyncCassandraTemplate implements AsyncCassandraOperations {
+
+	private static final RowMapper<Long> FIRST_COLUMN_AS_LONG = new RowMapper<Long>() {
+
+		@Override
+		public Long mapRow(Row row, int rowNum) {
+			return row.getLong(0);
+		}
+	};
+
+	private final AsyncCqlOperations asyncCqlOperations;
+	private final CassandraConverter cassandraConverter;
+
+	/**
+	 * Creates a new {@link AsyncCassandraTemplate}.
+	 *
+	 * @param asyncCqlOperations must not be {@literal null}.
+	 * @param cassandraConverter must not be {@literal null}.
+	 */
+	public AsyncCassandraTemplate(AsyncCqlOperations asyncCqlOperations, CassandraConverter cassandraConverter) {
+
+		Assert.notNull(asyncCqlOperations, "AsyncCqlOperations must not be null");
+		Assert.notNull(cassandraConverter, "CassandraConverter must not be null");
+
+		this.asyncCqlOperations = asyncCqlOperations;
+		this.cassandraConverter = cassandraConverter;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectAll(java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> selectAll(Class<T> entityClass) {
+		return select(QueryBuilder.select().all().from(getTableName(entityClass)), entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#select(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> select(String cql, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return asyncCqlOperations.query(cql, new ConvertingRowMapper<T>(cassandraConverter, entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#select(com.datastax.driver.core.querybuilder.Select, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> select(Select select, Class<T> entityClass) {
+
+		Assert.notNull(select, "Select must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return asyncCqlOperations.query(select, new ConvertingRowMapper<T>(cassandraConverter, entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectOne(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<T> selectOne(String cql, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		return doSelectOne(new SimpleStatement(cql), entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectOne(com.datastax.driver.core.querybuilder.Select, java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<T> selectOne(Select select, Class<T> entityClass) {
+
+		Assert.notNull(select, "Select must not be null");
+
+		return doSelectOne(select, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectOneById(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public <T> CompletableFuture<T> selectOneById(Class<T> entityClass, Object id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		cassandraConverter.write(id, select.where(), entity);
+
+		return selectOne(select, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#exists(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public CompletableFuture<Boolean> exists(Class<?> entityClass, Object id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		Select select = QueryBuilder.select().countAll().from(entity.getTableName().toCql());
+
+		cassandraConverter.write(id, select.where(), entity);
+
+		return asyncCqlOperations.queryForObject(select, new RowMapper<Boolean>() {
+
+			@Override
+			public Boolean mapRow(Row row, int rowNum) {
+				return row.getLong(0) != 0;
+			}
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#count(java.lang.Class)
+	 */
+	@Override
+	public CompletableFuture<Long> count(Class<?> entityClass) {
+		return asyncCqlOperations.queryForObject(QueryBuilder.select().countAll().from(getTableName(entityClass)),
+				FIRST_COLUMN_AS_LONG);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#insert(java.lang.Object)
+	 */
+	@Override
+	public <T> CompletableFuture<T> insert(T entity) {
+		return insert(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#insert(java.lang.Object, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<T> insert(T entity, WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createInsertQuery(getTableName(entity.getClass()), entity, options,
+				cassandraConverter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#insert(java.util.List)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> insert(List<T> entities) {
+		return insert(entities, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#insert(java.util.List, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> insert(List<T> entities, WriteOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(entities);
+		}
+
+		return execute(CassandraTemplate.createInsertBatchQuery(getTableName(entities.get(0).getClass()), entities,
+				options, cassandraConverter), entities);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#update(java.lang.Object)
+	 */
+	@Override
+	public <T> CompletableFuture<T> update(T entity) {
+		return update(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#update(java.lang.Object, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<T> update(T entity, WriteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createUpdateQuery(getTableName(entity.getClass()), entity, options,
+				cassandraConverter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#update(java.util.List)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> update(List<T> entities) {
+		return update(entities, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#update(java.util.List, org.springframework.cassandra.core.WriteOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> update(List<T> entities, WriteOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(entities);
+		}
+
+		return execute(CassandraTemplate.createUpdateBatchQuery(getTableName(entities.get(0).getClass()), entities,
+				options, cassandraConverter), entities);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#delete(java.lang.Object)
+	 */
+	@Override
+	public <T> CompletableFuture<T> delete(T entity) {
+		return delete(entity, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#delete(java.lang.Object, org.springframework.cassandra.core.QueryOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<T> delete(T entity, QueryOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return execute(CassandraTemplate.createDeleteQuery(getTableName(entity.getClass()), entity, options,
+				cassandraConverter), entity);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#delete(java.util.List)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> delete(List<T> entities) {
+		return delete(entities, null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#delete(java.util.List, org.springframework.cassandra.core.QueryOptions)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> delete(List<T> entities, QueryOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(entities);
+		}
+
+		return execute(CassandraTemplate.createDeleteBatchQuery(getTableName(entities.get(0).getClass()), entities,
+				options, cassandraConverter), entities);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#deleteById(java.lang.Class, java.lang.Object)
+	 */
+	@Override
+	public CompletableFuture<Boolean> deleteById(Class<?> entityClass, Object id) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
+
+		cassandraConverter.write(id, delete.where(), entity);
+
+		return asyncCqlOperations.execute(delete);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#getAsyncCqlOperations()
+	 */
+	@Override
+	public AsyncCqlOperations getAsyncCqlOperations() {
+		return asyncCqlOperations;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#getConverter()
+	 */
+	@Override
+	public CassandraConverter getConverter() {
+		return cassandraConverter;
+	}
+
+	private <T> CompletableFuture<T> execute(Statement statement, final T entity) {
+
+		return transform(asyncCqlOperations.execute(statement), new Function<Boolean, T>() {
+
+			@Override
+			public T apply(Boolean applied) {
+				return entity;
+			}
+		});
+	}
+
+	private <T> CompletableFuture<T> doSelectOne(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		// two rows are enough to detect a non-unique result, remaining pages are not fetched
+		return singleOrNull(asyncCqlOperations.query(statement, new ConvertingRowMapper<T>(cassandraConverter, entityClass),
+				2));
+	}
+
+	private static <T> CompletableFuture<T> singleOrNull(CompletableFuture<List<T>> results) {
+
+		return transform(results, new Function<List<T>, T>() {
+
+			@Override
+			public T apply(List<T> entities) {
+
+				if (entities.size() > 1) {
+					throw new IncorrectResultSizeDataAccessException("ResultSet size exceeds 1", 1, entities.size());
+				}
+
+				return (entities.isEmpty() ? null : entities.get(0));
+			}
+		});
+	}
+
+	/**
+	 * Applies {@code function} to the result of {@code source}. Unlike {@link CompletableFuture#thenApply(Function)},
+	 * cancelling the returned future cancels {@code source} and with it the driver future.
+	 */
+	private static <S, T> CompletableFuture<T> transform(final CompletableFuture<S> source, final Function<S, T> function) {
+
+		final CompletableFuture<T> result = new CompletableFuture<T>();
+
+		result.whenComplete(new BiConsumer<T, Throwable>() {
+
+			@Override
+			public void accept(T value, Throwable throwable) {
+
+				if (result.isCancelled()) {
+					source.cancel(false);
+				}
+			}
+		});
+
+		source.whenComplete(new BiConsumer<S, Throwable>() {
+
+			@Override
+			public void accept(S value, Throwable throwable) {
+
+				if (throwable != null) {
+					result.completeExceptionally(throwable);
+					return;
+				}
+
+				try {
+					result.complete(function.apply(value));
+				} catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private String getTableName(Class<?> entityClass) {
+		return getPersistentEntity(entityClass).getTableName().toCql();
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		CassandraPersistentEntity<?> entity = cassandraConverter.getMappingContext().getPersistentEntity(entityClass);
+
+		if (entity == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("No Persistent Entity information found for the class [%s]", entityClass.getName()));
+		}
+
+		return entity;
+	}
+}
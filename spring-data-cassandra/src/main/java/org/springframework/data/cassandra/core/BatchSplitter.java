@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Splits statements into {@link BatchStatement}s that do not exceed a maximum number of statements and, optionally, a
+ * maximum estimated size in bytes. The size of each statement is estimated from its encoded form: the query string or
+ * prepared statement id along with its serialized values. Keeping batches below Cassandra's
+ * {@code batch_size_fail_threshold_in_kb} prevents writes of many entities from failing as a whole.
+ * <p>
+ * A single statement exceeding the maximum size is written in a batch of its own.
+ *
+ * @since 1.6
+ */
+class BatchSplitter {
+
+	/**
+	 * Size of a prepared statement id (MD5 digest).
+	 */
+	private static final int PREPARED_ID_SIZE = 16;
+
+	private final int maxStatementsPerBatch;
+	private final int maxBatchSizeInBytes;
+
+	/**
+	 * Creates a new {@link BatchSplitter}.
+	 *
+	 * @param maxStatementsPerBatch maximum number of statements per batch, must be greater than zero.
+	 * @param maxBatchSizeInBytes maximum estimated size of a batch in bytes, {@literal 0} to not limit the size.
+	 */
+	BatchSplitter(int maxStatementsPerBatch, int maxBatchSizeInBytes) {
+
+		Assert.isTrue(maxStatementsPerBatch > 0, "Maximum statements per batch must be greater than zero");
+		Assert.isTrue(maxBatchSizeInBytes >= 0, "Maximum batch size must not be negative");
+
+		this.maxStatementsPerBatch = maxStatementsPerBatch;
+		this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+	}
+
+	/**
+	 * Splits {@code statements} into batches of the given {@link BatchStatement.Type} retaining the order of statements.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param protocolVersion must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the batches.
+	 */
+	List<BatchStatement> split(List<? extends Statement> statements, BatchStatement.Type type,
+			ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+
+		Assert.notNull(statements, "Statements must not be null");
+		Assert.notNull(type, "Batch type must not be null");
+
+		List<BatchStatement> batches = new ArrayList<BatchStatement>();
+
+		BatchStatement batch = null;
+		int batchSize = 0;
+
+		for (Statement statement : statements) {
+
+			int size = (maxBatchSizeInBytes > 0 ? estimateSize(statement, protocolVersion, codecRegistry) : 0);
+
+			if (batch == null || batch.size() >= maxStatementsPerBatch
+					|| (maxBatchSizeInBytes > 0 && batchSize + size > maxBatchSizeInBytes)) {
+
+				batch = new BatchStatement(type);
+				batchSize = 0;
+				batches.add(batch);
+			}
+
+			batch.add(statement);
+			batchSize += size;
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Estimates the encoded size of the given {@link Statement} within a batch.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param protocolVersion must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the estimated size in bytes.
+	 */
+	static int estimateSize(Statement statement, ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+
+		if (statement instanceof BoundStatement) {
+
+			BoundStatement boundStatement = (BoundStatement) statement;
+
+			// kind, prepared id, value count
+			int size = 1 + 2 + PREPARED_ID_SIZE + 2;
+			int variables = boundStatement.preparedStatement().getVariables().size();
+
+			for (int index = 0; index < variables; index++) {
+				size += 4 + (boundStatement.isSet(index) ? sizeOf(boundStatement.getBytesUnsafe(index)) : 0);
+			}
+
+			return size;
+		}
+
+		if (statement instanceof BatchStatement) {
+
+			int size = 0;
+
+			for (Statement child : ((BatchStatement) statement).getStatements()) {
+				size += estimateSize(child, protocolVersion, codecRegistry);
+			}
+
+			return size;
+		}
+
+		if (statement instanceof RegularStatement) {
+
+			RegularStatement regularStatement = (RegularStatement) statement;
+
+			// kind, query string, value count
+			int size = 1 + 4 + utf8Length(regularStatement.getQueryString(codecRegistry)) + 2;
+			ByteBuffer[] values = regularStatement.getValues(protocolVersion, codecRegistry);
+
+			if (values != null) {
+				for (ByteBuffer value : values) {
+					size += 4 + sizeOf(value);
+				}
+			}
+
+			return size;
+		}
+
+		return utf8Length(statement.toString());
+	}
+
+	private static int sizeOf(ByteBuffer value) {
+		return (value != null ? value.remaining() : 0);
+	}
+
+	private static int utf8Length(CharSequence sequence) {
+
+		int length = 0;
+
+		for (int index = 0; index < sequence.length(); index++) {
+
+			char ch = sequence.charAt(index);
+
+			if (ch < 0x80) {
+				length++;
+			} else if (ch < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(ch)) {
+				length += 4;
+				index++;
+			} else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+}
@@ -15,17 +15,23 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
 /**
- * Default implementation for {@link CassandraBatchOperations}.
+ * Default implementation for {@link CassandraBatchOperations}. If {@link CassandraTemplate#isUsePartitionedBatches()
+ * partitioned batches} are enabled, statements are grouped by partition into unlogged batches that are executed
+ * concurrently. If a {@link CassandraTemplate#getMaxBatchSizeInBytes() maximum batch size} is configured, statements
+ * are split into multiple logged batches. Otherwise all statements are executed as a single logged batch.
  *
  * @author Mark Paluch
  * @author John Blum
@@ -41,12 +47,21 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final CassandraTemplate cassandraTemplate;
 
+	private final boolean splitBatches;
+
+	private final List<Object> entities = new ArrayList<Object>();
+
+	private final List<Statement> statements = new ArrayList<Statement>();
+
+	private Long timestamp;
+
 	public CassandraBatchTemplate(CassandraTemplate cassandraTemplate) {
 
 		Assert.notNull(cassandraTemplate, "CassandraTemplate must not be null");
 
 		this.cassandraTemplate = cassandraTemplate;
 		this.batch = QueryBuilder.batch();
+		this.splitBatches = cassandraTemplate.isSplitBatches();
 	}
 
 	/*
@@ -57,6 +72,17 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public void execute() {
 
 		if (executed.compareAndSet(false, true)) {
+
+			if (splitBatches) {
+
+				if (!statements.isEmpty()) {
+					cassandraTemplate.getUninterruptibly(
+							cassandraTemplate.executeBatches(entities, statements, null, timestamp));
+				}
+
+				return;
+			}
+
 			cassandraTemplate.execute(batch);
 			return;
 		}
@@ -73,6 +99,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		assertNotExecuted();
 
+		this.timestamp = timestamp;
 		batch.using(QueryBuilder.timestamp(timestamp));
 
 		return this;
@@ -98,7 +125,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(cassandraTemplate.createInsertQuery(entity, null));
+
+			if (splitBatches) {
+				add(entity, cassandraTemplate.createInsertStatement(entity, null));
+			} else {
+				batch.add(cassandraTemplate.createInsertQuery(entity, null));
+			}
 		}
 
 		return this;
@@ -124,7 +156,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(cassandraTemplate.createUpdateQuery(entity, null));
+
+			if (splitBatches) {
+				add(entity, cassandraTemplate.createUpdateStatement(entity, null));
+			} else {
+				batch.add(cassandraTemplate.createUpdateQuery(entity, null));
+			}
 		}
 
 		return this;
@@ -150,12 +187,23 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : nullSafeIterable(entities)) {
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(cassandraTemplate.createDeleteQuery(entity, null));
+
+			if (splitBatches) {
+				add(entity, cassandraTemplate.createDeleteStatement(entity, null));
+			} else {
+				batch.add(cassandraTemplate.createDeleteQuery(entity, null));
+			}
 		}
 
 		return this;
 	}
 
+	private void add(Object entity, Statement statement) {
+
+		entities.add(entity);
+		statements.add(statement);
+	}
+
 	private void assertNotExecuted() {
 		Assert.state(!executed.get(), "This Cassandra Batch was already executed");
 	}
@@ -17,14 +17,20 @@ package org.springframework.data.cassandra.core;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.cassandra.core.Cancellable;
 import org.springframework.cassandra.core.CqlOperations;
+import org.springframework.cassandra.core.PreparedStatementBinder;
 import org.springframework.cassandra.core.QueryForObjectListener;
 import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.RowCallbackHandler;
+import org.springframework.cassandra.core.ScanOptions;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -77,6 +83,22 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> Iterator<T> stream(String query, Class<T> entityClass);
 
+	/**
+	 * Prepares the given {@code cql} using a {@link org.springframework.cassandra.core.CachedPreparedStatementCreator},
+	 * binds its values with the given {@link PreparedStatementBinder} and executes the query on the entity table of the
+	 * specified {@code type}.
+	 * <p>
+	 * Returns a {@link java.util.Iterator} that wraps the Cassandra {@link com.datastax.driver.core.ResultSet}.
+	 *
+	 * @param <T> element return type.
+	 * @param cql CQL containing bind markers. Must not be empty or {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values. Must not be {@literal null}.
+	 * @param entityClass Class type of the elements in the {@link Iterator} stream. Must not be {@literal null}.
+	 * @return an {@link Iterator} (stream) over the elements in the query result set.
+	 * @since 1.6
+	 */
+	<T> Iterator<T> stream(String cql, PreparedStatementBinder psb, Class<T> entityClass);
+
 	/**
 	 * Execute query and convert ResultSet to the list of entities.
 	 *
@@ -95,15 +117,89 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> List<T> select(Select select, Class<T> entityClass);
 
+	/**
+	 * Prepares the given {@code cql} using a {@link org.springframework.cassandra.core.CachedPreparedStatementCreator},
+	 * binds its values with the given {@link PreparedStatementBinder}, executes the query and converts the ResultSet to
+	 * the list of entities.
+	 *
+	 * @param cql CQL containing bind markers, must not be {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values, must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results
+	 * @since 1.6
+	 */
+	<T> List<T> select(String cql, PreparedStatementBinder psb, Class<T> entityClass);
+
+	/**
+	 * Execute query and convert a single result page to a {@link Slice} of entities. The page size is applied as fetch
+	 * size. Pages other than the first one require a {@link CassandraPageRequest} carrying the
+	 * {@link com.datastax.driver.core.PagingState} of the previous {@link Slice}.
+	 *
+	 * @param cql must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted {@link Slice}, its {@link Slice#getPageable()} is a {@link CassandraPageRequest}.
+	 * @since 1.6
+	 * @see CassandraPageRequest
+	 */
+	<T> Slice<T> select(String cql, Pageable pageable, Class<T> entityClass);
+
+	/**
+	 * Execute the Select Query and convert a single result page to a {@link Slice} of entities. The page size is applied
+	 * as fetch size. Pages other than the first one require a {@link CassandraPageRequest} carrying the
+	 * {@link com.datastax.driver.core.PagingState} of the previous {@link Slice}.
+	 *
+	 * @param select must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted {@link Slice}, its {@link Slice#getPageable()} is a {@link CassandraPageRequest}.
+	 * @since 1.6
+	 * @see CassandraPageRequest
+	 */
+	<T> Slice<T> select(Select select, Pageable pageable, Class<T> entityClass);
+
+	/**
+	 * Prepares the given {@code cql}, binds its values with the given {@link PreparedStatementBinder}, executes the query
+	 * and converts a single result page to a {@link Slice} of entities. Pages other than the first one require a
+	 * {@link CassandraPageRequest} carrying the {@link com.datastax.driver.core.PagingState} of the previous
+	 * {@link Slice}.
+	 *
+	 * @param cql CQL containing bind markers, must not be {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values, must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted {@link Slice}, its {@link Slice#getPageable()} is a {@link CassandraPageRequest}.
+	 * @since 1.6
+	 * @see CassandraPageRequest
+	 */
+	<T> Slice<T> select(String cql, PreparedStatementBinder psb, Pageable pageable, Class<T> entityClass);
+
 	/**
 	 * Select objects for the given {@code entityClass} and {@code ids}.
 	 *
 	 * @param entityClass The entity type must not be {@literal null}.
 	 * @param ids must not be {@literal null}.
 	 * @return the converted results
+	 * @see #selectByPartitionKeys(Class, Iterable)
 	 */
 	<T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids);
 
+	/**
+	 * Select objects for the given {@code entityClass} by partition. Instead of a single {@code IN} query, each key is
+	 * read with its own prepared single-partition query that is routed directly to a replica of its partition. Queries
+	 * run concurrently with a bounded number of queries in flight. Keys may be simple ids, composite primary keys,
+	 * {@link org.springframework.data.cassandra.repository.MapId}s or entities and must provide at least all partition
+	 * key columns; a key providing only the partition key selects all rows of its partition.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param keys must not be {@literal null} or contain {@literal null} elements.
+	 * @return the converted results in the order of {@code keys}.
+	 * @throws PartitionReadException if reading any of the partitions failed. The exception carries the results of the
+	 *           remaining partitions.
+	 * @since 1.6
+	 */
+	<T> List<T> selectByPartitionKeys(Class<T> entityClass, Iterable<?> keys);
+
 	/**
 	 * @deprecated Calling this method could result in {@link OutOfMemoryError}, as this is a brute force selection.
 	 * @param entityClass The entity type must not be {@literal null}.
@@ -139,6 +235,19 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	<T> T selectOne(Select select, Class<T> entityClass);
 
+	/**
+	 * Prepares the given {@code cql} using a {@link org.springframework.cassandra.core.CachedPreparedStatementCreator},
+	 * binds its values with the given {@link PreparedStatementBinder}, executes the query and converts the ResultSet to
+	 * the entity.
+	 *
+	 * @param cql CQL containing bind markers, must not be {@literal null}.
+	 * @param psb {@link PreparedStatementBinder} binding the values, must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @since 1.6
+	 */
+	<T> T selectOne(String cql, PreparedStatementBinder psb, Class<T> entityClass);
+
 	/**
 	 * Executes the {@link Select} query asynchronously.
 	 *
@@ -196,6 +305,31 @@ public interface CassandraOperations extends CqlOperations {
 	 */
 	long count(Class<?> entityClass);
 
+	/**
+	 * Returns the number of rows for the given {@code entityClass} by counting the token sub-ranges of its table in
+	 * parallel.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param options the scan options, must not be {@literal null}.
+	 * @return number of rows
+	 * @since 1.6
+	 * @see #count(CqlIdentifier, ScanOptions)
+	 */
+	long count(Class<?> entityClass, ScanOptions options);
+
+	/**
+	 * Reads all rows of the table of the given {@code entityClass} with a parallel token range scan, converts each row
+	 * and passes the entity to {@code consumer}. Entities of different token sub-ranges are passed concurrently and in
+	 * no particular order, so {@code consumer} must be thread-safe. Blocks until all rows are processed.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param consumer the {@link Consumer} accepting each entity, must not be {@literal null}.
+	 * @param options the scan options, must not be {@literal null}.
+	 * @since 1.6
+	 * @see #scan(CqlIdentifier, RowCallbackHandler, ScanOptions)
+	 */
+	<T> void scan(Class<T> entityClass, Consumer<? super T> consumer, ScanOptions options);
+
 	/**
 	 * Insert the given entity.
 	 *
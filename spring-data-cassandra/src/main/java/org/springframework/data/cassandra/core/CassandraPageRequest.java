@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * Cassandra-specific {@link PageRequest} carrying the driver's {@link PagingState}. Cassandra does not support
+ * {@code OFFSET}; pages other than the first one can only be fetched by continuing from the {@link PagingState}
+ * returned with the previous page.
+ * <p>
+ * The {@link org.springframework.data.domain.Slice#getPageable() pageable of a Slice} returned by a paged query is a
+ * {@link CassandraPageRequest} holding the {@link PagingState} to continue with. Its {@link #next()} request fetches
+ * the following page. Stateless servers can hand {@link PagingState#toString()} to clients as opaque continuation
+ * token and resume with {@link #of(Pageable, PagingState)} using {@link PagingState#fromString(String)}.
+ * <p>
+ * Cassandra can only page forward. {@link #previous()} therefore returns the request for the first page. The
+ * {@link PagingState} is serialized in its {@link PagingState#toString() string form} so a serialized
+ * {@link CassandraPageRequest} continues from the same position.
+ *
+ * @since 1.6
+ */
+public class CassandraPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private transient PagingState pagingState;
+
+	private CassandraPageRequest(int page, int size, Sort sort, PagingState pagingState) {
+
+		super(page, size, sort);
+
+		this.pagingState = pagingState;
+	}
+
+	/**
+	 * Creates a new {@link CassandraPageRequest} for the first page of the given {@code size}.
+	 *
+	 * @param size the size of the page, must be greater than zero.
+	 * @return the {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest first(int size) {
+		return new CassandraPageRequest(0, size, null, null);
+	}
+
+	/**
+	 * Creates a new {@link CassandraPageRequest} for the first page of the given {@code size} and {@link Sort}.
+	 *
+	 * @param size the size of the page, must be greater than zero.
+	 * @param sort can be {@literal null}.
+	 * @return the {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest first(int size, Sort sort) {
+		return new CassandraPageRequest(0, size, sort, null);
+	}
+
+	/**
+	 * Creates a new {@link CassandraPageRequest} from {@link Pageable} continuing from the given {@link PagingState}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @param pagingState can be {@literal null} if {@code pageable} requests the first page.
+	 * @return the {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest of(Pageable pageable, PagingState pagingState) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		return new CassandraPageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(),
+				pagingState);
+	}
+
+	/**
+	 * Returns the {@link PagingState} to continue from, {@literal null} for the first page.
+	 *
+	 * @return the {@link PagingState}, may be {@literal null}.
+	 */
+	public PagingState getPagingState() {
+		return pagingState;
+	}
+
+	/**
+	 * Returns whether this request continues a previous query using a {@link PagingState}.
+	 *
+	 * @return {@literal true} if a {@link PagingState} is present.
+	 */
+	public boolean hasPagingState() {
+		return (pagingState != null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public Pageable next() {
+
+		Assert.state(pagingState != null, "Cannot create next page request without PagingState");
+
+		return new CassandraPageRequest(getPageNumber() + 1, getPageSize(), getSort(), pagingState);
+	}
+
+	/**
+	 * Returns the request for the first page. Cassandra cannot navigate to a previous page, {@link PagingState}s of
+	 * previous pages are not retained.
+	 *
+	 * @return the {@link CassandraPageRequest} for the first page.
+	 * @see org.springframework.data.domain.PageRequest#previous()
+	 */
+	@Override
+	public PageRequest previous() {
+		return new CassandraPageRequest(0, getPageSize(), getSort(), null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#first()
+	 */
+	@Override
+	public Pageable first() {
+		return new CassandraPageRequest(0, getPageSize(), getSort(), null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CassandraPageRequest)) {
+			return false;
+		}
+
+		CassandraPageRequest that = (CassandraPageRequest) obj;
+
+		// PagingState does not implement equals, compare its serialized form instead
+		return super.equals(obj) && ObjectUtils.nullSafeEquals(getPagingStateString(), that.getPagingStateString());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + ObjectUtils.nullSafeHashCode(getPagingStateString());
+	}
+
+	private String getPagingStateString() {
+		return (pagingState != null ? pagingState.toString() : null);
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+
+		out.defaultWriteObject();
+		out.writeObject(getPagingStateString());
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+
+		in.defaultReadObject();
+
+		String pagingState = (String) in.readObject();
+
+		this.pagingState = (pagingState != null ? PagingState.fromString(pagingState) : null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Cassandra page request [number: %d, size %d, sort: %s, paging state: %s]", getPageNumber(),
+				getPageSize(), getSort(), pagingState);
+	}
+}
@@ -18,19 +18,32 @@ package org.springframework.data.cassandra.core;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import org.springframework.cassandra.core.AsynchronousQueryListener;
+import org.springframework.cassandra.core.CassandraUncategorizedDataAccessException;
 import org.springframework.cassandra.core.Cancellable;
 import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.FutureCancellable;
+import org.springframework.cassandra.core.PreparedStatementBinder;
 import org.springframework.cassandra.core.QueryForObjectListener;
 import org.springframework.cassandra.core.QueryOptions;
 import org.springframework.cassandra.core.RowCallback;
+import org.springframework.cassandra.core.RowCallbackHandler;
+import org.springframework.cassandra.core.ScanOptions;
+import org.springframework.cassandra.core.SessionCallback;
 import org.springframework.cassandra.core.WriteOptions;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.cassandra.core.support.EmptyResultSet;
 import org.springframework.cassandra.core.util.CollectionUtils;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
@@ -40,15 +53,24 @@ import org.springframework.data.cassandra.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
@@ -57,6 +79,8 @@ import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * The CassandraTemplate is a convenient API for all Cassandra operations using POJOs with their Spring Data Cassandra
@@ -76,6 +100,27 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	protected CassandraConverter cassandraConverter;
 	protected CassandraMappingContext mappingContext;
 
+	private EntityPreparedStatementFactory preparedStatementFactory;
+	private boolean usePreparedStatements;
+
+	private PartitionedBatchWriter partitionedBatchWriter;
+	private boolean usePartitionedBatches;
+	private int maxStatementsPerBatch = PartitionedBatchWriter.DEFAULT_MAX_STATEMENTS_PER_BATCH;
+	private int maxBatchSizeInBytes;
+	private int maxConcurrentBatches = PartitionedBatchWriter.DEFAULT_MAX_CONCURRENT_BATCHES;
+
+	private PartitionReader partitionReader;
+	private int maxConcurrentPartitionReads = PartitionReader.DEFAULT_MAX_CONCURRENT_READS;
+
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong batchedStatementCount = new AtomicLong();
+
+	private int streamPrefetchThreshold;
+	private int streamPrefetchPages = 1;
+
+	private final AtomicLong streamPageWaitCount = new AtomicLong();
+	private final AtomicLong streamPageWaitNanos = new AtomicLong();
+
 	/**
 	 * Default constructor used to wire in the required components later.
 	 */
@@ -131,6 +176,266 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		this.cassandraConverter = cassandraConverter;
 		this.mappingContext = cassandraConverter.getMappingContext();
+		this.preparedStatementFactory = new EntityPreparedStatementFactory(cassandraConverter);
+		this.partitionedBatchWriter = new PartitionedBatchWriter(cassandraConverter);
+		this.partitionReader = new PartitionReader(preparedStatementFactory);
+	}
+
+	/**
+	 * Configure whether entity {@code insert}, {@code update} and {@code delete} operations should use prepared
+	 * statements. If enabled, CQL with bind markers is generated once per entity type and prepared through the
+	 * {@link Session}. Entity values are bound to the cached {@link com.datastax.driver.core.PreparedStatement} instead
+	 * of being rendered into a new CQL string for each operation. Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to use prepared statements for entity write operations.
+	 * @since 1.6
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * Returns whether entity write operations use prepared statements.
+	 *
+	 * @return {@literal true} if entity write operations use prepared statements.
+	 * @since 1.6
+	 */
+	public boolean isUsePreparedStatements() {
+		return usePreparedStatements;
+	}
+
+	/**
+	 * Configure whether batch writes of multiple entities ({@code insert(List)}, {@code update(List)},
+	 * {@code delete(List)} and {@link #batchOps()}) should be grouped by partition. If enabled, entities are grouped by
+	 * table and partition key into {@code UNLOGGED} batches of at most {@link #getMaxStatementsPerBatch()} statements.
+	 * Each batch is routed to a replica of its partition and batches for different partitions run concurrently.
+	 * Disabled by default, in which case all entities are written in a single logged batch.
+	 * <p>
+	 * Partitioned batches are atomic per partition only.
+	 *
+	 * @param usePartitionedBatches {@literal true} to group batch writes by partition.
+	 * @since 1.6
+	 */
+	public void setUsePartitionedBatches(boolean usePartitionedBatches) {
+		this.usePartitionedBatches = usePartitionedBatches;
+	}
+
+	/**
+	 * Returns whether batch writes are grouped by partition.
+	 *
+	 * @return {@literal true} if batch writes are grouped by partition.
+	 * @since 1.6
+	 */
+	public boolean isUsePartitionedBatches() {
+		return usePartitionedBatches;
+	}
+
+	/**
+	 * Sets the maximum number of statements per partitioned or size-limited batch. Partitions with more entities are
+	 * written using multiple batches.
+	 *
+	 * @param maxStatementsPerBatch must be greater than zero.
+	 * @since 1.6
+	 * @see #setUsePartitionedBatches(boolean)
+	 * @see #setMaxBatchSizeInBytes(int)
+	 */
+	public void setMaxStatementsPerBatch(int maxStatementsPerBatch) {
+
+		Assert.isTrue(maxStatementsPerBatch > 0, "Maximum statements per batch must be greater than zero");
+
+		this.maxStatementsPerBatch = maxStatementsPerBatch;
+	}
+
+	/**
+	 * Returns the maximum number of statements per partitioned or size-limited batch.
+	 *
+	 * @return the maximum number of statements per batch.
+	 * @since 1.6
+	 */
+	public int getMaxStatementsPerBatch() {
+		return maxStatementsPerBatch;
+	}
+
+	/**
+	 * Sets the maximum estimated size of a batch in bytes. If set, batch writes of multiple entities are split into
+	 * multiple batches once a batch would exceed either this size or {@link #getMaxStatementsPerBatch()} statements.
+	 * The size should stay below Cassandra's {@code batch_size_fail_threshold_in_kb}. Without
+	 * {@link #setUsePartitionedBatches(boolean) partitioned batches}, each split batch is a logged batch that is atomic
+	 * on its own. Defaults to {@literal 0} which does not limit the size of a batch.
+	 *
+	 * @param maxBatchSizeInBytes maximum batch size in bytes, {@literal 0} to not limit the size.
+	 * @since 1.6
+	 */
+	public void setMaxBatchSizeInBytes(int maxBatchSizeInBytes) {
+
+		Assert.isTrue(maxBatchSizeInBytes >= 0, "Maximum batch size must not be negative");
+
+		this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+	}
+
+	/**
+	 * Returns the maximum estimated size of a batch in bytes.
+	 *
+	 * @return the maximum batch size in bytes, {@literal 0} if the size is not limited.
+	 * @since 1.6
+	 */
+	public int getMaxBatchSizeInBytes() {
+		return maxBatchSizeInBytes;
+	}
+
+	/**
+	 * Sets the maximum number of partitioned or size-limited batches in flight for a single batch write.
+	 *
+	 * @param maxConcurrentBatches must be greater than zero.
+	 * @since 1.6
+	 */
+	public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+
+		Assert.isTrue(maxConcurrentBatches > 0, "Maximum concurrent batches must be greater than zero");
+
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Returns the maximum number of partitioned or size-limited batches in flight for a single batch write.
+	 *
+	 * @return the maximum number of concurrent batches.
+	 * @since 1.6
+	 */
+	public int getMaxConcurrentBatches() {
+		return maxConcurrentBatches;
+	}
+
+	/**
+	 * Sets the maximum number of single-partition queries in flight for a single
+	 * {@link #selectByPartitionKeys(Class, Iterable)} call.
+	 *
+	 * @param maxConcurrentPartitionReads must be greater than zero.
+	 * @since 1.6
+	 */
+	public void setMaxConcurrentPartitionReads(int maxConcurrentPartitionReads) {
+
+		Assert.isTrue(maxConcurrentPartitionReads > 0, "Maximum concurrent partition reads must be greater than zero");
+
+		this.maxConcurrentPartitionReads = maxConcurrentPartitionReads;
+	}
+
+	/**
+	 * Returns the maximum number of single-partition queries in flight for a single
+	 * {@link #selectByPartitionKeys(Class, Iterable)} call.
+	 *
+	 * @return the maximum number of concurrent partition reads.
+	 * @since 1.6
+	 */
+	public int getMaxConcurrentPartitionReads() {
+		return maxConcurrentPartitionReads;
+	}
+
+	/**
+	 * Returns the total number of partitioned or size-limited batches issued by this template. Together with
+	 * {@link #getBatchedStatementCount()} it allows tuning {@link #setMaxStatementsPerBatch(int)} and
+	 * {@link #setMaxBatchSizeInBytes(int)}.
+	 *
+	 * @return the number of issued batches.
+	 * @since 1.6
+	 */
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	/**
+	 * Returns the total number of statements written through partitioned or size-limited batches.
+	 *
+	 * @return the number of batched statements.
+	 * @since 1.6
+	 */
+	public long getBatchedStatementCount() {
+		return batchedStatementCount.get();
+	}
+
+	/**
+	 * Sets the number of locally available rows below which {@code stream} requests the next result page
+	 * asynchronously. Mapping the remaining rows then overlaps with fetching the next page instead of blocking on it
+	 * once the current page is consumed. Defaults to {@literal 0} which fetches pages on demand.
+	 *
+	 * @param streamPrefetchThreshold number of rows, {@literal 0} to disable prefetching.
+	 * @since 1.6
+	 * @see #setStreamPrefetchPages(int)
+	 */
+	public void setStreamPrefetchThreshold(int streamPrefetchThreshold) {
+
+		Assert.isTrue(streamPrefetchThreshold >= 0, "Stream prefetch threshold must not be negative");
+
+		this.streamPrefetchThreshold = streamPrefetchThreshold;
+	}
+
+	/**
+	 * Returns the number of locally available rows below which {@code stream} prefetches the next result page.
+	 *
+	 * @return the prefetch threshold, {@literal 0} if prefetching is disabled.
+	 * @since 1.6
+	 */
+	public int getStreamPrefetchThreshold() {
+		return streamPrefetchThreshold;
+	}
+
+	/**
+	 * Sets the number of result pages {@code stream} buffers ahead of the consumer when
+	 * {@link #setStreamPrefetchThreshold(int) prefetching} is enabled. Each buffered page holds up to the fetch size of
+	 * rows in memory. Defaults to {@literal 1}.
+	 *
+	 * @param streamPrefetchPages must be greater than zero.
+	 * @since 1.6
+	 */
+	public void setStreamPrefetchPages(int streamPrefetchPages) {
+
+		Assert.isTrue(streamPrefetchPages > 0, "Stream prefetch pages must be greater than zero");
+
+		this.streamPrefetchPages = streamPrefetchPages;
+	}
+
+	/**
+	 * Returns the number of result pages {@code stream} buffers ahead of the consumer.
+	 *
+	 * @return the number of prefetched pages.
+	 * @since 1.6
+	 */
+	public int getStreamPrefetchPages() {
+		return streamPrefetchPages;
+	}
+
+	/**
+	 * Returns how often prefetching {@code stream} iterators blocked because the next result page was not yet
+	 * available.
+	 *
+	 * @return the number of blocking page fetches.
+	 * @since 1.6
+	 * @see #setStreamPrefetchThreshold(int)
+	 */
+	public long getStreamPageWaitCount() {
+		return streamPageWaitCount.get();
+	}
+
+	/**
+	 * Returns the total time prefetching {@code stream} iterators spent blocked on result pages.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the accumulated wait time in the given {@link TimeUnit}.
+	 * @since 1.6
+	 * @see #setStreamPrefetchThreshold(int)
+	 */
+	public long getStreamPageWaitTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(streamPageWaitNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns whether batch writes are split into multiple batches, either by partition or by size.
+	 */
+	boolean isSplitBatches() {
+		return (usePartitionedBatches || maxBatchSizeInBytes > 0);
 	}
 
 	/* (non-Javadoc)
@@ -191,6 +496,38 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return count(getTableName(type).toCql());
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#count(java.lang.Class, org.springframework.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public long count(Class<?> entityClass, ScanOptions options) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return count(getTableName(entityClass), options);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scan(java.lang.Class, java.util.function.Consumer, org.springframework.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> void scan(Class<T> entityClass, final Consumer<? super T> consumer, ScanOptions options) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(consumer, "Consumer must not be null");
+
+		final CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		scan(getTableName(entityClass), new RowCallbackHandler() {
+
+			@Override
+			public void processRow(Row row) {
+				consumer.accept(rowCallback.doWith(row));
+			}
+		}, options);
+	}
+
 	@Override
 	public <T> void delete(List<T> entities) {
 		delete(entities, null);
@@ -385,6 +722,120 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return select(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder, java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> select(String cql, PreparedStatementBinder psb, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(psb, "PreparedStatementBinder must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return processResultSet(query(cql, psb, RESULT_SET_RETURNING_EXTRACTOR),
+				new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(java.lang.String, org.springframework.data.domain.Pageable, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> select(String cql, Pageable pageable, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		return selectSlice(new SimpleStatement(logCql(cql)), pageable, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(com.datastax.driver.core.querybuilder.Select, org.springframework.data.domain.Pageable, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> select(Select select, Pageable pageable, Class<T> entityClass) {
+
+		Assert.notNull(select, "Select must not be null");
+
+		return selectSlice(select, pageable, entityClass);
+	}
+
+	private <T> Slice<T> selectSlice(Statement statement, Pageable pageable, Class<T> entityClass) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return toSlice(doExecute(applyPaging(statement, pageable)), pageable, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder, org.springframework.data.domain.Pageable, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> select(String cql, final PreparedStatementBinder psb, final Pageable pageable,
+			Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(psb, "PreparedStatementBinder must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		ResultSet resultSet = query(cql, new PreparedStatementBinder() {
+
+			@Override
+			public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+				return (BoundStatement) applyPaging(psb.bindValues(ps), pageable);
+			}
+		}, RESULT_SET_RETURNING_EXTRACTOR);
+
+		return toSlice(resultSet, pageable, entityClass);
+	}
+
+	/**
+	 * Applies the page size of {@link Pageable} as fetch size and sets the {@link PagingState} of a
+	 * {@link CassandraPageRequest}.
+	 */
+	private static Statement applyPaging(Statement statement, Pageable pageable) {
+
+		CassandraPageRequest pageRequest = (pageable instanceof CassandraPageRequest ? (CassandraPageRequest) pageable
+				: null);
+
+		if (pageable.getPageNumber() > 0 && (pageRequest == null || !pageRequest.hasPagingState())) {
+			throw new IllegalArgumentException(
+					"Paging queries for pages other than the first one require a CassandraPageRequest with a PagingState");
+		}
+
+		statement.setFetchSize(pageable.getPageSize());
+
+		if (pageRequest != null && pageRequest.hasPagingState()) {
+			statement.setPagingState(pageRequest.getPagingState());
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Converts the rows of the current page of {@link ResultSet} without fetching further pages.
+	 */
+	private <T> Slice<T> toSlice(ResultSet resultSet, Pageable pageable, Class<T> entityClass) {
+
+		if (resultSet == null) {
+			return new SliceImpl<T>(Collections.<T> emptyList(), CassandraPageRequest.of(pageable, null), false);
+		}
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		int available = resultSet.getAvailableWithoutFetching();
+		List<T> content = new ArrayList<T>(available);
+
+		for (int index = 0; index < available; index++) {
+			content.add(rowCallback.doWith(resultSet.one()));
+		}
+
+		PagingState pagingState = resultSet.getExecutionInfo().getPagingState();
+
+		return new SliceImpl<T>(content, CassandraPageRequest.of(pageable, pagingState), pagingState != null);
+	}
+
 	@Override
 	public <T> List<T> selectBySimpleIds(Class<T> entityClass, Iterable<?> ids) {
 
@@ -409,6 +860,72 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return select(select, entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectByPartitionKeys(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public <T> List<T> selectByPartitionKeys(final Class<T> entityClass, Iterable<?> keys) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+		Assert.notNull(keys, "Keys must not be null");
+
+		final List<Object> keyList = new ArrayList<Object>();
+
+		for (Object key : keys) {
+
+			Assert.notNull(key, "Keys must not contain null elements");
+
+			keyList.add(key);
+		}
+
+		List<ListenableFuture<ResultSet>> futures = getUninterruptibly(
+				doExecute(new SessionCallback<ListenableFuture<List<ListenableFuture<ResultSet>>>>() {
+
+					@Override
+					public ListenableFuture<List<ListenableFuture<ResultSet>>> doInSession(Session session) {
+
+						List<Statement> queries = partitionReader.createQueries(getPreparedStatementCache(), session, entityClass,
+								keyList);
+
+						logDebug("reading {} partitions of [{}]", queries.size(), entityClass.getName());
+
+						return partitionReader.executeAsync(session, queries, maxConcurrentPartitionReads);
+					}
+				}));
+
+		CassandraConverterRowCallback<T> rowCallback = new CassandraConverterRowCallback<T>(cassandraConverter,
+				entityClass);
+
+		List<T> results = new ArrayList<T>();
+		Map<Object, DataAccessException> failures = new LinkedHashMap<Object, DataAccessException>();
+
+		for (int index = 0; index < futures.size(); index++) {
+
+			try {
+				for (Row row : getUninterruptibly(futures.get(index))) {
+					results.add(rowCallback.doWith(row));
+				}
+			} catch (RuntimeException e) {
+				failures.put(keyList.get(index), toDataAccessException(e));
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw new PartitionReadException(String.format("Failed to read %d of %d partitions of [%s]", failures.size(),
+					keyList.size(), entityClass.getName()), results, failures);
+		}
+
+		return results;
+	}
+
+	private DataAccessException toDataAccessException(RuntimeException e) {
+
+		RuntimeException translated = translateExceptionIfPossible(e);
+
+		return (translated instanceof DataAccessException ? (DataAccessException) translated
+				: new CassandraUncategorizedDataAccessException("Caught Uncategorized Exception", translated));
+	}
+
 	@Override
 	public <T> T selectOneById(Class<T> entityClass, Object id) {
 
@@ -517,6 +1034,33 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return selectOne(select, new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder, java.lang.Class)
+	 */
+	@Override
+	public <T> T selectOne(String cql, PreparedStatementBinder psb, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(psb, "PreparedStatementBinder must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		Iterator<Row> iterator = EmptyResultSet.nullSafeResultSet(query(cql, psb, RESULT_SET_RETURNING_EXTRACTOR))
+				.iterator();
+		T result = null;
+
+		if (iterator.hasNext()) {
+			Row row = iterator.next();
+
+			result = new CassandraConverterRowCallback<T>(cassandraConverter, entityClass).doWith(row);
+
+			if (iterator.hasNext()) {
+				throw new DuplicateKeyException(String.format("found two or more results in query [%s]", cql));
+			}
+		}
+
+		return result;
+	}
+
 	@Override
 	public <T> List<T> update(List<T> entities) {
 		return update(entities, null);
@@ -622,6 +1166,22 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return (resultSet != null ? toIterator(resultSet, entityClass) : Collections.<T>emptyIterator());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#stream(java.lang.String, org.springframework.cassandra.core.PreparedStatementBinder, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterator<T> stream(String cql, PreparedStatementBinder psb, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(psb, "PreparedStatementBinder must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		ResultSet resultSet = query(cql, psb, RESULT_SET_RETURNING_EXTRACTOR);
+
+		return (resultSet != null ? toIterator(resultSet, entityClass) : Collections.<T>emptyIterator());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraTemplate.ResultSetIteratorAdapter
@@ -629,7 +1189,12 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 	@SuppressWarnings("unchecked")
 	private <T> Iterator<T> toIterator(ResultSet resultSet, Class<T> entityClass) {
 
-		return new ResultSetIteratorAdapter(resultSet.iterator(), getExceptionTranslator(),
+		Iterator<Row> rows = (streamPrefetchThreshold > 0
+				? new PrefetchingRowIterator(resultSet, streamPrefetchThreshold, streamPrefetchPages, streamPageWaitCount,
+						streamPageWaitNanos)
+				: resultSet.iterator());
+
+		return new ResultSetIteratorAdapter(rows, getExceptionTranslator(),
 			new CassandraConverterRowCallback<T>(cassandraConverter, entityClass));
 	}
 
@@ -675,6 +1240,12 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 	// TODO: handle possible IndexOutOfBoundsException if the List of entities is empty
 	protected <T> void doBatchDelete(List<T> entities, QueryOptions options) {
+
+		if (isSplitBatches()) {
+			getUninterruptibly(executeBatches(entities, createDeleteStatements(entities, options), options, null));
+			return;
+		}
+
 		execute(createDeleteBatchQuery(getTableName(entities.get(0).getClass()).toCql(), entities, options,
 			cassandraConverter));
 	}
@@ -696,6 +1267,29 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
+		if (isSplitBatches()) {
+
+			final ListenableFuture<List<ResultSet>> future = executeBatches(entities,
+					createDeleteStatements(entities, options), options, null);
+
+			if (listener != null) {
+				future.addListener(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							getUninterruptibly(future);
+							listener.onDeletionComplete(entities);
+						} catch (Exception e) {
+							listener.onException(translateExceptionIfPossible(e));
+						}
+					}
+				}, getListenerExecutor());
+			}
+
+			return new FutureCancellable(future);
+		}
+
 		return executeAsynchronously(createDeleteBatchQuery(
 				getTableName(entities.get(0).getClass()).toCql(), entities, options, cassandraConverter),
 					queryListener);
@@ -705,11 +1299,30 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createInsertQuery(entity, options));
+		execute(createInsertStatement(entity, options));
 
 		return entity;
 	}
 
+	/**
+	 * Creates the {@link Statement} to insert the given {@code entity}. Returns a {@link BoundStatement} if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled, otherwise an {@link Insert}.
+	 */
+	<T> Statement createInsertStatement(final T entity, final WriteOptions options) {
+
+		if (!usePreparedStatements) {
+			return createInsertQuery(entity, options);
+		}
+
+		return doExecute(new SessionCallback<Statement>() {
+
+			@Override
+			public Statement doInSession(Session session) {
+				return preparedStatementFactory.insert(getPreparedStatementCache(), session, entity, options);
+			}
+		});
+	}
+
 	<T> Insert createInsertQuery(T entity, WriteOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
@@ -721,7 +1334,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = createInsertQuery(entity, options);
+		Statement insert = createInsertStatement(entity, options);
 
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 
@@ -737,7 +1350,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(insert, queryListener);
+		return doExecuteAsync(insert, queryListener);
 	}
 
 	protected <T> List<T> doBatchInsert(List<T> entities, WriteOptions options) {
@@ -758,6 +1371,14 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			return entities;
 		}
 
+		if (isSplitBatches()) {
+
+			getUninterruptibly(
+					executeBatches(entities, createWriteStatements(entities, options, insert), options, null));
+
+			return entities;
+		}
+
 		String tableName = getTableName(entities.get(0).getClass()).toCql();
 
 		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
@@ -827,6 +1448,29 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			};
 		}
 
+		if (isSplitBatches()) {
+
+			final ListenableFuture<List<ResultSet>> future = executeBatches(entities,
+					createWriteStatements(entities, options, insert), options, null);
+
+			if (listener != null) {
+				future.addListener(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							getUninterruptibly(future);
+							listener.onWriteComplete(entities);
+						} catch (Exception e) {
+							listener.onException(translateExceptionIfPossible(e));
+						}
+					}
+				}, getListenerExecutor());
+			}
+
+			return new FutureCancellable(future);
+		}
+
 		String tableName = getTableName(entities.get(0).getClass()).toCql();
 
 		Batch batch = (insert ? createInsertBatchQuery(tableName, entities, options, cassandraConverter)
@@ -848,6 +1492,79 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return executeAsynchronously(batch, queryListener);
 	}
 
+	<T> List<Statement> createWriteStatements(List<T> entities, WriteOptions options, boolean insert) {
+
+		List<Statement> statements = new ArrayList<Statement>(entities.size());
+
+		for (T entity : entities) {
+			statements.add(insert ? createInsertStatement(entity, options) : createUpdateStatement(entity, options));
+		}
+
+		return statements;
+	}
+
+	<T> List<Statement> createDeleteStatements(List<T> entities, QueryOptions options) {
+
+		List<Statement> statements = new ArrayList<Statement>(entities.size());
+
+		for (T entity : entities) {
+			statements.add(createDeleteStatement(entity, options));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Executes the given {@code statements} in multiple batches. If {@link #isUsePartitionedBatches() partitioned
+	 * batches} are enabled, statements are grouped into unlogged batches by the partition of the corresponding
+	 * {@code entities}, otherwise they are split into logged batches. Batches are limited by
+	 * {@link #getMaxStatementsPerBatch()} and {@link #getMaxBatchSizeInBytes()} and executed with at most
+	 * {@link #getMaxConcurrentBatches()} batches in flight.
+	 *
+	 * @param entities the entities, must not be {@literal null}.
+	 * @param statements the statements to write each entity, in the same order as {@code entities}.
+	 * @param options {@link QueryOptions} to apply to each batch, may be {@literal null}.
+	 * @param timestamp default timestamp in microseconds to apply to each batch, may be {@literal null}.
+	 * @return a {@link ListenableFuture} completing once all batches are completed.
+	 * @since 1.6
+	 */
+	ListenableFuture<List<ResultSet>> executeBatches(final List<?> entities, final List<? extends Statement> statements,
+			final QueryOptions options, final Long timestamp) {
+
+		final BatchSplitter splitter = new BatchSplitter(maxStatementsPerBatch, maxBatchSizeInBytes);
+
+		return doExecute(new SessionCallback<ListenableFuture<List<ResultSet>>>() {
+
+			@Override
+			public ListenableFuture<List<ResultSet>> doInSession(Session session) {
+
+				List<Statement> batches = (usePartitionedBatches
+						? partitionedBatchWriter.createBatches(session, entities, statements, options, timestamp, splitter)
+						: partitionedBatchWriter.createBatches(session, statements, options, timestamp, splitter));
+
+				batchCount.addAndGet(batches.size());
+				batchedStatementCount.addAndGet(statements.size());
+
+				logDebug("executing {} statements in {} batches", statements.size(), batches.size());
+
+				return partitionedBatchWriter.executeAsync(session, batches, maxConcurrentBatches);
+			}
+		});
+	}
+
+	/**
+	 * Awaits completion of the given {@link Future} and translates a failure using the configured
+	 * {@link PersistenceExceptionTranslator}.
+	 */
+	<T> T getUninterruptibly(Future<T> future) {
+
+		try {
+			return Uninterruptibles.getUninterruptibly(future);
+		} catch (ExecutionException e) {
+			throw translateExceptionIfPossible(e.getCause());
+		}
+	}
+
 	<T> Delete createDeleteQuery(T entity, QueryOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
@@ -855,17 +1572,36 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return createDeleteQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
+	/**
+	 * Creates the {@link Statement} to delete the given {@code entity}. Returns a {@link BoundStatement} if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled, otherwise a {@link Delete}.
+	 */
+	<T> Statement createDeleteStatement(final T entity, final QueryOptions options) {
+
+		if (!usePreparedStatements) {
+			return createDeleteQuery(entity, options);
+		}
+
+		return doExecute(new SessionCallback<Statement>() {
+
+			@Override
+			public Statement doInSession(Session session) {
+				return preparedStatementFactory.delete(getPreparedStatementCache(), session, entity, options);
+			}
+		});
+	}
+
 	protected <T> void doDelete(T entity, QueryOptions options) {
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createDeleteQuery(entity, options));
+		execute(createDeleteStatement(entity, options));
 	}
 
 	protected <T> Cancellable doDeleteAsync(final T entity, final DeletionListener<T> listener, QueryOptions options) {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = createDeleteQuery(entity, options);
+		Statement delete = createDeleteStatement(entity, options);
 
 		AsynchronousQueryListener queryListener = (listener == null ? null : new AsynchronousQueryListener() {
 			@Override
@@ -879,7 +1615,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(delete, queryListener);
+		return doExecuteAsync(delete, queryListener);
 	}
 
 	<T> Update createUpdateQuery(T entity, WriteOptions options) {
@@ -889,10 +1625,29 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 		return createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, cassandraConverter);
 	}
 
+	/**
+	 * Creates the {@link Statement} to update the given {@code entity}. Returns a {@link BoundStatement} if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled, otherwise an {@link Update}.
+	 */
+	<T> Statement createUpdateStatement(final T entity, final WriteOptions options) {
+
+		if (!usePreparedStatements) {
+			return createUpdateQuery(entity, options);
+		}
+
+		return doExecute(new SessionCallback<Statement>() {
+
+			@Override
+			public Statement doInSession(Session session) {
+				return preparedStatementFactory.update(getPreparedStatementCache(), session, entity, options);
+			}
+		});
+	}
+
 	protected <T> T doUpdate(T entity, WriteOptions options) {
 		Assert.notNull(entity, "Entity must not be null");
 
-		execute(createUpdateQuery(entity, options));
+		execute(createUpdateStatement(entity, options));
 
 		return entity;
 	}
@@ -915,7 +1670,7 @@ public class CassandraTemplate extends CqlTemplate implements CassandraOperation
 			}
 		});
 
-		return executeAsynchronously(createUpdateQuery(entity, options), queryListener);
+		return doExecuteAsync(createUpdateStatement(entity, options), queryListener);
 	}
 
 	/*
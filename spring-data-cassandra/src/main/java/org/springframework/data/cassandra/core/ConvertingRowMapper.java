@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.cassandra.core.RowMapper;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+
+import com.datastax.driver.core.Row;
+
+/**
+ * {@link RowMapper} adapter for {@link CassandraConverterRowCallback}.
+ *
+ * @since 1.6
+ */
+class ConvertingRowMapper<T> implements RowMapper<T> {
+
+	private final CassandraConverterRowCallback<T> rowCallback;
+
+	ConvertingRowMapper(CassandraConverter converter, Class<T> entityClass) {
+		this.rowCallback = new CassandraConverterRowCallback<T>(converter, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.RowMapper#mapRow(com.datastax.driver.core.Row, int)
+	 */
+	@Override
+	public T mapRow(Row row, int rowNum) {
+		return rowCallback.doWith(row);
+	}
+}
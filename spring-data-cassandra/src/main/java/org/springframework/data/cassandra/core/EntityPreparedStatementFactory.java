@@ -0,0 +1,624 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.PreparedStatementCache;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Factory for {@link BoundStatement}s that insert, update or delete mapped entities or select them by their key. CQL for
+ * each {@link CassandraPersistentEntity}, statement kind and TTL usage is generated once with bind markers and prepared
+ * through a {@link PreparedStatementCache}. Entity values are written by the converter directly into their bind
+ * positions and serialized with {@link TypeCodec}s that are resolved once per bind marker, so binding does not look up
+ * codecs for each value.
+ * <p>
+ * {@link EntityPreparedStatementFactory} is thread-safe.
+ *
+ * @since 1.6
+ */
+class EntityPreparedStatementFactory {
+
+	private final ConcurrentMap<TemplateKey, StatementTemplate> templates = new ConcurrentHashMap<TemplateKey, StatementTemplate>();
+
+	private final CassandraConverter converter;
+
+	/**
+	 * Creates a new {@link EntityPreparedStatementFactory} given {@link CassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	EntityPreparedStatementFactory(CassandraConverter converter) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Creates a {@link BoundStatement} to insert the given {@code entity}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement insert(PreparedStatementCache cache, Session session, Object entity, WriteOptions options) {
+		return bind(cache, session, entity, StatementKind.INSERT, options, getTtl(options));
+	}
+
+	/**
+	 * Creates a {@link BoundStatement} to update the given {@code entity}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement update(PreparedStatementCache cache, Session session, Object entity, WriteOptions options) {
+		return bind(cache, session, entity, StatementKind.UPDATE, options, getTtl(options));
+	}
+
+	/**
+	 * Creates a {@link BoundStatement} to delete the given {@code entity}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement delete(PreparedStatementCache cache, Session session, Object entity, QueryOptions options) {
+		return bind(cache, session, entity, StatementKind.DELETE, options, null);
+	}
+
+	/**
+	 * Creates a {@link BoundStatement} selecting the rows of the given {@code id}. {@code id} may be a simple id, a
+	 * composite primary key, a {@link org.springframework.data.cassandra.repository.MapId} or an entity and must provide
+	 * at least all partition key columns. All partition key columns are bound, so the driver derives the routing key of
+	 * the statement and a token-aware load balancing policy sends it directly to a replica.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement select(PreparedStatementCache cache, Session session, Class<?> type, Object id) {
+
+		Assert.notNull(cache, "PreparedStatementCache must not be null");
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(id, "Id must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(type);
+
+		// entities would be written with all of their columns, select by their primary key instead
+		Object key = (ClassUtils.isAssignableValue(persistentEntity.getType(), id) ? converter.getId(id, persistentEntity)
+				: id);
+
+		Map<String, Object> columns = new LinkedHashMap<String, Object>();
+		converter.write(key, columns, persistentEntity);
+
+		StatementTemplate template = getTemplate(persistentEntity, columns.keySet());
+		PreparedStatement preparedStatement = cache.getPreparedStatement(session, template.cql);
+
+		return template.bind(preparedStatement, session.getCluster().getConfiguration(),
+				template.getValues(columns, null));
+	}
+
+	private BoundStatement bind(PreparedStatementCache cache, Session session, Object entity, StatementKind kind,
+			QueryOptions options, Integer ttl) {
+
+		Assert.notNull(cache, "PreparedStatementCache must not be null");
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity.getClass());
+		StatementTemplate template = getTemplate(persistentEntity, kind, ttl != null);
+
+		BindValues values = template.newValues(ttl);
+		converter.write(entity, values, persistentEntity);
+
+		PreparedStatement preparedStatement = cache.getPreparedStatement(session, template.cql);
+
+		return CqlTemplate.addQueryOptions(
+				template.bind(preparedStatement, session.getCluster().getConfiguration(), values.getValues()), options);
+	}
+
+	private StatementTemplate getTemplate(CassandraPersistentEntity<?> entity, StatementKind kind, boolean ttl) {
+
+		TemplateKey key = new TemplateKey(entity, kind, ttl, Collections.<String> emptySet());
+		StatementTemplate template = templates.get(key);
+
+		if (template == null) {
+
+			template = StatementTemplate.create(entity, kind, ttl);
+
+			StatementTemplate existing = templates.putIfAbsent(key, template);
+			template = (existing != null ? existing : template);
+		}
+
+		return template;
+	}
+
+	private StatementTemplate getTemplate(CassandraPersistentEntity<?> entity, Set<String> keyColumns) {
+
+		TemplateKey key = new TemplateKey(entity, StatementKind.SELECT, false, keyColumns);
+		StatementTemplate template = templates.get(key);
+
+		if (template == null) {
+
+			template = StatementTemplate.createSelect(entity, keyColumns);
+			key = new TemplateKey(entity, StatementKind.SELECT, false, new HashSet<String>(keyColumns));
+
+			StatementTemplate existing = templates.putIfAbsent(key, template);
+			template = (existing != null ? existing : template);
+		}
+
+		return template;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Class<?> type) {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+
+		if (entity == null) {
+			throw new MappingException(String.format("No mapping metadata found for %s", type.getName()));
+		}
+
+		return entity;
+	}
+
+	private static Integer getTtl(WriteOptions options) {
+		return (options != null ? options.getTtl() : null);
+	}
+
+	enum StatementKind {
+		INSERT, UPDATE, DELETE, SELECT
+	}
+
+	/**
+	 * Parameterized CQL along with the order of its bind markers.
+	 */
+	static class StatementTemplate {
+
+		private final String cql;
+		private final List<String> columns;
+		private final boolean ttlFirst;
+		private final boolean ttlLast;
+		private final Map<String, Integer> indexes;
+		private final AtomicReferenceArray<ResolvedCodec> codecs;
+
+		private StatementTemplate(String cql, List<String> columns, boolean ttlFirst, boolean ttlLast) {
+
+			this.cql = cql;
+			this.columns = columns;
+			this.ttlFirst = ttlFirst;
+			this.ttlLast = ttlLast;
+			this.indexes = new HashMap<String, Integer>(columns.size() * 2);
+			this.codecs = new AtomicReferenceArray<ResolvedCodec>(columns.size() + (ttlFirst || ttlLast ? 1 : 0));
+
+			int offset = (ttlFirst ? 1 : 0);
+
+			for (int i = 0; i < columns.size(); i++) {
+				indexes.put(columns.get(i), offset + i);
+			}
+		}
+
+		/**
+		 * Creates a {@link StatementTemplate} for the given {@link CassandraPersistentEntity}.
+		 *
+		 * @param entity must not be {@literal null}.
+		 * @param kind must not be {@literal null}.
+		 * @param ttl whether to render a {@code USING TTL} bind marker.
+		 * @return the {@link StatementTemplate}.
+		 */
+		static StatementTemplate create(CassandraPersistentEntity<?> entity, StatementKind kind, boolean ttl) {
+
+			String tableName = entity.getTableName().toCql();
+
+			List<String> keyColumns = new ArrayList<String>();
+			List<String> valueColumns = new ArrayList<String>();
+
+			collectColumns(entity, keyColumns, valueColumns);
+
+			List<String> columns = new ArrayList<String>(keyColumns.size() + valueColumns.size());
+
+			switch (kind) {
+
+				case INSERT:
+
+					Insert insert = insertInto(tableName);
+
+					for (String column : keyColumns) {
+						insert.value(column, bindMarker());
+					}
+
+					for (String column : valueColumns) {
+						insert.value(column, bindMarker());
+					}
+
+					if (ttl) {
+						insert.using(ttl(bindMarker()));
+					}
+
+					columns.addAll(keyColumns);
+					columns.addAll(valueColumns);
+
+					return new StatementTemplate(insert.toString(), columns, false, ttl);
+
+				case UPDATE:
+
+					Update update = QueryBuilder.update(tableName);
+
+					if (ttl) {
+						update.using(ttl(bindMarker()));
+					}
+
+					for (String column : valueColumns) {
+						update.with(set(column, bindMarker()));
+					}
+
+					for (String column : keyColumns) {
+						update.where(eq(column, bindMarker()));
+					}
+
+					columns.addAll(valueColumns);
+					columns.addAll(keyColumns);
+
+					return new StatementTemplate(update.toString(), columns, ttl, false);
+
+				case DELETE:
+
+					Delete.Where where = QueryBuilder.delete().from(tableName).where();
+
+					for (String column : keyColumns) {
+						where.and(eq(column, bindMarker()));
+					}
+
+					columns.addAll(keyColumns);
+
+					return new StatementTemplate(where.toString(), columns, false, false);
+			}
+
+			throw new IllegalArgumentException(String.format("Unsupported statement kind [%s]", kind));
+		}
+
+		/**
+		 * Creates a {@link StatementTemplate} selecting rows of the given {@link CassandraPersistentEntity} restricted by
+		 * {@code keyColumns}.
+		 *
+		 * @param entity must not be {@literal null}.
+		 * @param keyColumns primary key columns to restrict, must contain all partition key columns.
+		 * @return the {@link StatementTemplate}.
+		 * @throws InvalidDataAccessApiUsageException if {@code keyColumns} does not contain all partition key columns or
+		 *           contains columns that are not part of the primary key.
+		 */
+		static StatementTemplate createSelect(CassandraPersistentEntity<?> entity, Set<String> keyColumns) {
+
+			List<CassandraPersistentProperty> partitionKeyProperties = new ArrayList<CassandraPersistentProperty>();
+			PartitionedBatchWriter.collectPartitionKeyProperties(entity, partitionKeyProperties);
+
+			for (CassandraPersistentProperty property : partitionKeyProperties) {
+
+				if (!keyColumns.contains(property.getColumnName().toCql())) {
+					throw new InvalidDataAccessApiUsageException(String.format("Partition key column [%s] of [%s] is not provided",
+							property.getColumnName().toCql(), entity.getName()));
+				}
+			}
+
+			List<String> primaryKeyColumns = new ArrayList<String>();
+			collectColumns(entity, primaryKeyColumns, new ArrayList<String>());
+
+			Select.Where where = QueryBuilder.select().all().from(entity.getTableName().toCql()).where();
+			List<String> columns = new ArrayList<String>(keyColumns.size());
+
+			for (String column : primaryKeyColumns) {
+
+				if (keyColumns.contains(column)) {
+					where.and(eq(column, bindMarker()));
+					columns.add(column);
+				}
+			}
+
+			if (columns.size() != keyColumns.size()) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Columns %s are not all primary key columns of [%s]", keyColumns, entity.getName()));
+			}
+
+			return new StatementTemplate(where.toString(), columns, false, false);
+		}
+
+		private static void collectColumns(CassandraPersistentEntity<?> entity, final List<String> keyColumns,
+				final List<String> valueColumns) {
+
+			entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+				@Override
+				public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+					if (property.isCompositePrimaryKey()) {
+						collectColumns(property.getCompositePrimaryKeyEntity(), keyColumns, valueColumns);
+						return;
+					}
+
+					if (property.isPrimaryKeyColumn() || property.isIdProperty()) {
+						keyColumns.add(property.getColumnName().toCql());
+					} else {
+						valueColumns.add(property.getColumnName().toCql());
+					}
+				}
+			});
+		}
+
+		/**
+		 * Returns the CQL containing bind markers.
+		 *
+		 * @return the CQL.
+		 */
+		String getCql() {
+			return cql;
+		}
+
+		/**
+		 * Returns the values to bind in bind marker order.
+		 *
+		 * @param columnValues column values keyed by column name.
+		 * @param ttl the TTL, may be {@literal null} if the template does not render a TTL.
+		 * @return the values to bind.
+		 */
+		Object[] getValues(Map<String, Object> columnValues, Integer ttl) {
+
+			Object[] values = new Object[columns.size() + (ttlFirst || ttlLast ? 1 : 0)];
+			int index = 0;
+
+			if (ttlFirst) {
+				values[index++] = ttl;
+			}
+
+			for (String column : columns) {
+				values[index++] = columnValues.get(column);
+			}
+
+			if (ttlLast) {
+				values[index] = ttl;
+			}
+
+			return values;
+		}
+
+		/**
+		 * Creates new {@link BindValues} that place column values at their bind marker position.
+		 *
+		 * @param ttl the TTL, may be {@literal null} if the template does not render a TTL.
+		 * @return the {@link BindValues}.
+		 */
+		BindValues newValues(Integer ttl) {
+
+			Object[] values = new Object[codecs.length()];
+
+			if (ttlFirst) {
+				values[0] = ttl;
+			}
+
+			if (ttlLast) {
+				values[values.length - 1] = ttl;
+			}
+
+			return new BindValues(indexes, values);
+		}
+
+		/**
+		 * Binds the given values to a new {@link BoundStatement} by serializing each value with the codec of its bind
+		 * marker. Codecs are resolved on first use and reused as long as they accept the bind marker type and the value.
+		 *
+		 * @param preparedStatement must not be {@literal null}.
+		 * @param configuration must not be {@literal null}.
+		 * @param values values in bind marker order.
+		 * @return the {@link BoundStatement}.
+		 */
+		BoundStatement bind(PreparedStatement preparedStatement, Configuration configuration, Object[] values) {
+
+			ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+			CodecRegistry codecRegistry = configuration.getCodecRegistry();
+
+			BoundStatement boundStatement = preparedStatement.bind();
+			ColumnDefinitions variables = preparedStatement.getVariables();
+
+			for (int i = 0; i < values.length; i++) {
+
+				Object value = values[i];
+
+				if (value == null) {
+					boundStatement.setToNull(i);
+					continue;
+				}
+
+				TypeCodec<Object> codec = getCodec(i, variables.getType(i), value, codecRegistry);
+
+				boundStatement.setBytesUnsafe(i, codec.serialize(value, protocolVersion));
+			}
+
+			return boundStatement;
+		}
+
+		private TypeCodec<Object> getCodec(int index, DataType dataType, Object value, CodecRegistry codecRegistry) {
+
+			ResolvedCodec resolved = codecs.get(index);
+
+			if (resolved == null || resolved.codecRegistry != codecRegistry || !resolved.codec.accepts(dataType)
+					|| !resolved.codec.accepts(value)) {
+				resolved = new ResolvedCodec(codecRegistry, codecRegistry.<Object> codecFor(dataType, value));
+				codecs.set(index, resolved);
+			}
+
+			return resolved.codec;
+		}
+	}
+
+	/**
+	 * {@link TypeCodec} along with the {@link CodecRegistry} it was resolved from. Sessions with a different
+	 * {@link CodecRegistry} may resolve a different codec for the same bind marker.
+	 */
+	private static class ResolvedCodec {
+
+		private final CodecRegistry codecRegistry;
+		private final TypeCodec<Object> codec;
+
+		ResolvedCodec(CodecRegistry codecRegistry, TypeCodec<Object> codec) {
+			this.codecRegistry = codecRegistry;
+			this.codec = codec;
+		}
+	}
+
+	/**
+	 * Write target for the converter placing column values directly at the bind marker position of their column. Values
+	 * of columns that are not bound by the statement are ignored.
+	 */
+	static class BindValues extends AbstractMap<String, Object> {
+
+		private final Map<String, Integer> indexes;
+		private final Object[] values;
+
+		BindValues(Map<String, Integer> indexes, Object[] values) {
+
+			this.indexes = indexes;
+			this.values = values;
+		}
+
+		/**
+		 * @return the values in bind marker order.
+		 */
+		Object[] getValues() {
+			return values;
+		}
+
+		@Override
+		public Object put(String column, Object value) {
+
+			Integer index = indexes.get(column);
+
+			if (index == null) {
+				return null;
+			}
+
+			Object previous = values[index];
+			values[index] = value;
+
+			return previous;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+
+			Set<Entry<String, Object>> entries = new LinkedHashSet<Entry<String, Object>>();
+
+			for (Entry<String, Integer> entry : indexes.entrySet()) {
+				entries.add(new SimpleImmutableEntry<String, Object>(entry.getKey(), values[entry.getValue()]));
+			}
+
+			return entries;
+		}
+	}
+
+	static class TemplateKey {
+
+		private final CassandraPersistentEntity<?> entity;
+		private final StatementKind kind;
+		private final boolean ttl;
+		private final Set<String> columns;
+
+		TemplateKey(CassandraPersistentEntity<?> entity, StatementKind kind, boolean ttl, Set<String> columns) {
+
+			this.entity = entity;
+			this.kind = kind;
+			this.ttl = ttl;
+			this.columns = columns;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof TemplateKey)) {
+				return false;
+			}
+
+			TemplateKey that = (TemplateKey) obj;
+
+			return this.entity == that.entity && this.kind == that.kind && this.ttl == that.ttl
+					&& this.columns.equals(that.columns);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int result = ObjectUtils.nullSafeHashCode(entity);
+			result = 31 * result + kind.hashCode();
+			result = 31 * result + (ttl ? 1 : 0);
+			result = 31 * result + columns.hashCode();
+
+			return result;
+		}
+	}
+}
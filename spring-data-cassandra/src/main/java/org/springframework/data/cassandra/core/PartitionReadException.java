@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Exception thrown when reading some of the partitions requested by
+ * {@link CassandraOperations#selectByPartitionKeys(Class, Iterable)} failed. Carries the entities read from the
+ * remaining partitions and the failure for each partition key that could not be read.
+ *
+ * @since 1.6
+ */
+public class PartitionReadException extends DataAccessException {
+
+	private static final long serialVersionUID = -2538434569428744377L;
+
+	private final List<?> results;
+	private final Map<Object, DataAccessException> failures;
+
+	/**
+	 * Creates a new {@link PartitionReadException}.
+	 *
+	 * @param msg the detail message.
+	 * @param results entities read from the successful partitions in key order.
+	 * @param failures failures keyed by the partition key that could not be read, must not be empty.
+	 */
+	public PartitionReadException(String msg, List<?> results, Map<Object, DataAccessException> failures) {
+
+		super(msg, failures.values().iterator().next());
+
+		this.results = Collections.unmodifiableList(results);
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+
+	/**
+	 * Returns the entities read from the partitions that did not fail, in the order of the requested keys.
+	 *
+	 * @return the partial results.
+	 */
+	public List<?> getResults() {
+		return results;
+	}
+
+	/**
+	 * Returns the failure for each partition key that could not be read, in the order of the requested keys.
+	 *
+	 * @return the failures keyed by partition key.
+	 */
+	public Map<Object, DataAccessException> getFailures() {
+		return failures;
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.cassandra.core.PreparedStatementCache;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Reads entities partition by partition instead of using a single {@code IN} query. Each partition key is selected
+ * with its own prepared single-partition query binding all partition key columns, so a token-aware load balancing
+ * policy routes each query directly to a replica of its partition. Queries are executed with a bounded number of
+ * queries in flight and a failing query does not prevent reading the remaining partitions.
+ * <p>
+ * {@link PartitionReader} is thread-safe.
+ *
+ * @since 1.6
+ */
+class PartitionReader {
+
+	/**
+	 * Default maximum number of partition queries in flight.
+	 */
+	static final int DEFAULT_MAX_CONCURRENT_READS = 32;
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private final EntityPreparedStatementFactory statementFactory;
+
+	/**
+	 * Creates a new {@link PartitionReader} given {@link EntityPreparedStatementFactory}.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 */
+	PartitionReader(EntityPreparedStatementFactory statementFactory) {
+
+		Assert.notNull(statementFactory, "EntityPreparedStatementFactory must not be null");
+
+		this.statementFactory = statementFactory;
+	}
+
+	/**
+	 * Creates one single-partition query for each of the given {@code keys}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param session must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @param keys partition keys, must not be {@literal null} or contain {@literal null} elements.
+	 * @return the queries in the order of {@code keys}.
+	 */
+	List<Statement> createQueries(PreparedStatementCache cache, Session session, Class<?> entityClass, List<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		List<Statement> queries = new ArrayList<Statement>(keys.size());
+
+		for (Object key : keys) {
+			queries.add(statementFactory.select(cache, session, entityClass, key));
+		}
+
+		return queries;
+	}
+
+	/**
+	 * Executes {@code queries} with at most {@code maxConcurrentReads} queries in flight. Once a query completes, the
+	 * next query is submitted regardless of the outcome of the completed query. Cancelling the returned future cancels
+	 * all queries in flight and does not submit further queries.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param queries must not be {@literal null}.
+	 * @param maxConcurrentReads maximum number of queries in flight, must be greater than zero.
+	 * @return a {@link ListenableFuture} completing once all queries are completed with the completed future of each
+	 *         query in query order.
+	 */
+	ListenableFuture<List<ListenableFuture<ResultSet>>> executeAsync(Session session, List<Statement> queries,
+			int maxConcurrentReads) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(queries, "Queries must not be null");
+		Assert.isTrue(maxConcurrentReads > 0, "Maximum concurrent reads must be greater than zero");
+
+		return new BoundedReadExecution(session, queries).start(maxConcurrentReads);
+	}
+
+	/**
+	 * Execution of queries keeping a bounded number of queries in flight. Completion of a query submits the next one on
+	 * the completing thread.
+	 */
+	static class BoundedReadExecution {
+
+		private final SettableFuture<List<ListenableFuture<ResultSet>>> result = SettableFuture.create();
+		private final Queue<ListenableFuture<ResultSet>> inFlight = new ConcurrentLinkedQueue<ListenableFuture<ResultSet>>();
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger remaining;
+		private final AtomicReferenceArray<ListenableFuture<ResultSet>> futures;
+
+		private final Session session;
+		private final List<Statement> queries;
+
+		BoundedReadExecution(Session session, List<Statement> queries) {
+
+			this.session = session;
+			this.queries = queries;
+			this.remaining = new AtomicInteger(queries.size());
+			this.futures = new AtomicReferenceArray<ListenableFuture<ResultSet>>(queries.size());
+		}
+
+		ListenableFuture<List<ListenableFuture<ResultSet>>> start(int maxConcurrentReads) {
+
+			if (queries.isEmpty()) {
+				result.set(Collections.<ListenableFuture<ResultSet>> emptyList());
+				return result;
+			}
+
+			result.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					if (result.isCancelled()) {
+						for (ListenableFuture<ResultSet> future : inFlight) {
+							future.cancel(true);
+						}
+					}
+				}
+			}, DIRECT_EXECUTOR);
+
+			for (int i = 0; i < Math.min(maxConcurrentReads, queries.size()); i++) {
+				submitNext();
+			}
+
+			return result;
+		}
+
+		private void submitNext() {
+
+			if (result.isDone()) {
+				return;
+			}
+
+			final int index = next.getAndIncrement();
+
+			if (index >= queries.size()) {
+				return;
+			}
+
+			ListenableFuture<ResultSet> submitted;
+
+			try {
+				submitted = session.executeAsync(queries.get(index));
+			} catch (Throwable t) {
+				submitted = Futures.immediateFailedFuture(t);
+			}
+
+			final ListenableFuture<ResultSet> future = submitted;
+
+			futures.set(index, future);
+			inFlight.add(future);
+
+			// the result may have been cancelled before the future was registered and its cancellation listener missed it
+			if (result.isCancelled()) {
+				future.cancel(true);
+			}
+
+			future.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					inFlight.remove(future);
+
+					if (remaining.decrementAndGet() == 0) {
+						result.set(toList(futures));
+					} else {
+						submitNext();
+					}
+				}
+			}, DIRECT_EXECUTOR);
+		}
+
+		private static List<ListenableFuture<ResultSet>> toList(AtomicReferenceArray<ListenableFuture<ResultSet>> futures) {
+
+			List<ListenableFuture<ResultSet>> list = new ArrayList<ListenableFuture<ResultSet>>(futures.length());
+
+			for (int i = 0; i < futures.length(); i++) {
+				list.add(futures.get(i));
+			}
+
+			return list;
+		}
+	}
+}
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cassandra.core.CqlTemplate;
+import org.springframework.cassandra.core.QueryOptions;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.mapping.CassandraPersistentPropertyComparator;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.StatementWrapper;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Writes entity statements as {@link BatchStatement.Type#UNLOGGED unlogged} batches grouped by table and partition.
+ * Each batch contains only statements targeting the same partition, so Cassandra applies it atomically without
+ * writing to the batchlog. Batches carry the routing key of their partition so a token-aware load balancing policy
+ * sends them directly to a replica. Batches are split by a {@link BatchSplitter} to stay below size limits and executed
+ * with a bounded number of batches in flight.
+ * <p>
+ * Routing keys are taken from the statements if they provide one, which is the case for statements bound to a
+ * {@link com.datastax.driver.core.PreparedStatement}. Otherwise, routing keys are computed from the partition key
+ * properties of each entity. Statements of entities with a {@literal null} partition key value are grouped per table
+ * without routing information.
+ * <p>
+ * {@link PartitionedBatchWriter} is thread-safe.
+ *
+ * @since 1.6
+ */
+class PartitionedBatchWriter {
+
+	/**
+	 * Default maximum number of statements per batch.
+	 */
+	static final int DEFAULT_MAX_STATEMENTS_PER_BATCH = 100;
+
+	/**
+	 * Default maximum number of batches in flight.
+	 */
+	static final int DEFAULT_MAX_CONCURRENT_BATCHES = 16;
+
+	private static final Logger log = LoggerFactory.getLogger(PartitionedBatchWriter.class);
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private final ConcurrentMap<CassandraPersistentEntity<?>, List<CassandraPersistentProperty>> partitionKeys = new ConcurrentHashMap<CassandraPersistentEntity<?>, List<CassandraPersistentProperty>>();
+
+	private final CassandraConverter converter;
+
+	/**
+	 * Creates a new {@link PartitionedBatchWriter} given {@link CassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	PartitionedBatchWriter(CassandraConverter converter) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Groups {@code statements} by table and partition of the corresponding {@code entities} into unlogged batches.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param statements statements to write each entity, in the same order as {@code entities}.
+	 * @param options may be {@literal null}.
+	 * @param timestamp default timestamp in microseconds to apply to each batch, may be {@literal null}.
+	 * @param splitter {@link BatchSplitter} limiting the size of each batch, must not be {@literal null}.
+	 * @return the batches to execute.
+	 */
+	List<Statement> createBatches(Session session, List<?> entities, List<? extends Statement> statements,
+			QueryOptions options, Long timestamp, BatchSplitter splitter) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(statements, "Statements must not be null");
+		Assert.isTrue(entities.size() == statements.size(), "Entities and statements must be of the same size");
+		Assert.notNull(splitter, "BatchSplitter must not be null");
+
+		Configuration configuration = session.getCluster().getConfiguration();
+		ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+		CodecRegistry codecRegistry = configuration.getCodecRegistry();
+
+		Map<BatchKey, List<Statement>> partitions = new LinkedHashMap<BatchKey, List<Statement>>();
+
+		for (int i = 0; i < entities.size(); i++) {
+
+			Object entity = entities.get(i);
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity.getClass());
+
+			Statement statement = statements.get(i);
+
+			BatchKey key = new BatchKey(persistentEntity.getTableName().toCql(),
+					getRoutingKey(entity, statement, persistentEntity, protocolVersion, codecRegistry));
+
+			List<Statement> partition = partitions.get(key);
+
+			if (partition == null) {
+				partition = new ArrayList<Statement>();
+				partitions.put(key, partition);
+			}
+
+			partition.add(statement);
+		}
+
+		List<Statement> batches = new ArrayList<Statement>();
+		String keyspace = session.getLoggedKeyspace();
+
+		for (Map.Entry<BatchKey, List<Statement>> entry : partitions.entrySet()) {
+
+			for (BatchStatement batch : splitter.split(entry.getValue(), BatchStatement.Type.UNLOGGED, protocolVersion,
+					codecRegistry)) {
+
+				batches.add(new RoutedStatement(prepareBatch(batch, options, timestamp), entry.getKey().routingKey, keyspace));
+			}
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug("Grouped {} statements into {} unlogged batches for {} partitions", statements.size(), batches.size(),
+					partitions.size());
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Splits {@code statements} into {@link BatchStatement.Type#LOGGED logged} batches without grouping them by
+	 * partition. Each batch is atomic on its own.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statements must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @param timestamp default timestamp in microseconds to apply to each batch, may be {@literal null}.
+	 * @param splitter {@link BatchSplitter} limiting the size of each batch, must not be {@literal null}.
+	 * @return the batches to execute.
+	 */
+	List<Statement> createBatches(Session session, List<? extends Statement> statements, QueryOptions options,
+			Long timestamp, BatchSplitter splitter) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statements, "Statements must not be null");
+		Assert.notNull(splitter, "BatchSplitter must not be null");
+
+		Configuration configuration = session.getCluster().getConfiguration();
+
+		List<Statement> batches = new ArrayList<Statement>();
+
+		for (BatchStatement batch : splitter.split(statements, BatchStatement.Type.LOGGED,
+				configuration.getProtocolOptions().getProtocolVersion(), configuration.getCodecRegistry())) {
+			batches.add(prepareBatch(batch, options, timestamp));
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug("Split {} statements into {} logged batches", statements.size(), batches.size());
+		}
+
+		return batches;
+	}
+
+	private static Statement prepareBatch(BatchStatement batch, QueryOptions options, Long timestamp) {
+
+		if (timestamp != null) {
+			batch.setDefaultTimestamp(timestamp);
+		}
+
+		return CqlTemplate.addQueryOptions(batch, options);
+	}
+
+	/**
+	 * Executes {@code batches} with at most {@code maxConcurrentBatches} batches in flight. Once a batch completes, the
+	 * next batch is submitted. No further batches are submitted after a batch failed or the returned future was
+	 * cancelled. Cancelling the returned future cancels all batches in flight.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param batches must not be {@literal null}.
+	 * @param maxConcurrentBatches maximum number of batches in flight, must be greater than zero.
+	 * @return a {@link ListenableFuture} completing with the {@link ResultSet}s in batch order once all batches are
+	 *         completed or failing with the first failure.
+	 */
+	ListenableFuture<List<ResultSet>> executeAsync(Session session, List<Statement> batches, int maxConcurrentBatches) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(batches, "Batches must not be null");
+		Assert.isTrue(maxConcurrentBatches > 0, "Maximum concurrent batches must be greater than zero");
+
+		return new BoundedBatchExecution(session, batches).start(maxConcurrentBatches);
+	}
+
+	/**
+	 * Returns the routing key of the given {@link Statement} or computes it from the partition key properties of the
+	 * given {@code entity} if the {@link Statement} does not provide a routing key.
+	 *
+	 * @return the routing key or {@literal null} if a partition key value is {@literal null}.
+	 */
+	ByteBuffer getRoutingKey(Object entity, Statement statement, CassandraPersistentEntity<?> persistentEntity,
+			ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+
+		// bound statements compute the routing key from their already converted partition key values
+		ByteBuffer routingKey = statement.getRoutingKey(protocolVersion, codecRegistry);
+
+		if (routingKey != null) {
+			return routingKey;
+		}
+
+		List<CassandraPersistentProperty> properties = getPartitionKeyProperties(persistentEntity);
+		List<ByteBuffer> components = new ArrayList<ByteBuffer>(properties.size());
+
+		for (CassandraPersistentProperty property : properties) {
+
+			Object value = getPartitionKeyValue(entity, persistentEntity, property);
+
+			if (value == null) {
+				return null;
+			}
+
+			TypeCodec<Object> codec = codecRegistry.codecFor(property.getDataType(), value);
+			components.add(codec.serialize(value, protocolVersion));
+		}
+
+		return compose(components);
+	}
+
+	/**
+	 * Reads and converts the value of a partition key {@code property} that is either declared by the entity itself or by
+	 * its composite primary key.
+	 */
+	private Object getPartitionKeyValue(Object entity, CassandraPersistentEntity<?> persistentEntity,
+			CassandraPersistentProperty property) {
+
+		Object source = entity;
+
+		if (!persistentEntity.equals(property.getOwner())) {
+
+			source = persistentEntity.getPropertyAccessor(entity).getProperty(persistentEntity.getIdProperty());
+
+			if (source == null) {
+				return null;
+			}
+		}
+
+		Object value = property.getOwner().getPropertyAccessor(source).getProperty(property);
+
+		return converter.convertToCassandraColumn(value, property.getTypeInformation());
+	}
+
+	private List<CassandraPersistentProperty> getPartitionKeyProperties(CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = partitionKeys.get(entity);
+
+		if (properties == null) {
+
+			properties = new ArrayList<CassandraPersistentProperty>();
+			collectPartitionKeyProperties(entity, properties);
+			properties = Collections.unmodifiableList(properties);
+
+			partitionKeys.putIfAbsent(entity, properties);
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Collects the partition key properties of the given {@link CassandraPersistentEntity} in the order of their
+	 * {@link org.springframework.data.cassandra.mapping.PrimaryKeyColumn#ordinal() ordinal}, including partition key
+	 * properties of a composite primary key.
+	 */
+	static void collectPartitionKeyProperties(CassandraPersistentEntity<?> entity,
+			final List<CassandraPersistentProperty> properties) {
+
+		final List<CassandraPersistentProperty> partitionKeyProperties = new ArrayList<CassandraPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+
+				if (property.isCompositePrimaryKey()) {
+
+					for (CassandraPersistentProperty keyProperty : property.getCompositePrimaryKeyProperties()) {
+						if (keyProperty.isPartitionKeyColumn()) {
+							partitionKeyProperties.add(keyProperty);
+						}
+					}
+
+					return;
+				}
+
+				if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+					partitionKeyProperties.add(property);
+				}
+			}
+		});
+
+		Collections.sort(partitionKeyProperties, CassandraPersistentPropertyComparator.INSTANCE);
+		properties.addAll(partitionKeyProperties);
+	}
+
+	/**
+	 * Composes the routing key from its serialized partition key components. Single-column partition keys are used as-is,
+	 * multi-column partition keys use the composite encoding expected by Cassandra's partitioner.
+	 */
+	static ByteBuffer compose(List<ByteBuffer> components) {
+
+		if (components.isEmpty()) {
+			return null;
+		}
+
+		if (components.size() == 1) {
+			return components.get(0);
+		}
+
+		int size = 0;
+
+		for (ByteBuffer component : components) {
+			size += 2 + component.remaining() + 1;
+		}
+
+		ByteBuffer routingKey = ByteBuffer.allocate(size);
+
+		for (ByteBuffer component : components) {
+
+			routingKey.putShort((short) component.remaining());
+			routingKey.put(component.duplicate());
+			routingKey.put((byte) 0);
+		}
+
+		routingKey.flip();
+
+		return routingKey;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Class<?> type) {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(type);
+
+		if (entity == null) {
+			throw new MappingException(String.format("No mapping metadata found for %s", type.getName()));
+		}
+
+		return entity;
+	}
+
+	/**
+	 * {@link StatementWrapper} exposing the routing key and keyspace of a partition to the load balancing policy.
+	 */
+	static class RoutedStatement extends StatementWrapper {
+
+		private final Statement statement;
+		private final ByteBuffer routingKey;
+		private final String keyspace;
+
+		RoutedStatement(Statement statement, ByteBuffer routingKey, String keyspace) {
+
+			super(statement);
+
+			this.statement = statement;
+			this.routingKey = routingKey;
+			this.keyspace = keyspace;
+		}
+
+		/**
+		 * @return the wrapped {@link Statement}.
+		 */
+		Statement getStatement() {
+			return statement;
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.StatementWrapper#getRoutingKey(com.datastax.driver.core.ProtocolVersion, com.datastax.driver.core.CodecRegistry)
+		 */
+		@Override
+		public ByteBuffer getRoutingKey(ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+			return (routingKey != null ? routingKey.duplicate() : super.getRoutingKey(protocolVersion, codecRegistry));
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.StatementWrapper#getKeyspace()
+		 */
+		@Override
+		public String getKeyspace() {
+
+			String keyspace = super.getKeyspace();
+
+			return (keyspace != null ? keyspace : this.keyspace);
+		}
+	}
+
+	/**
+	 * Execution of batches keeping a bounded number of batches in flight. Completion of a batch submits the next one on
+	 * the completing thread.
+	 */
+	static class BoundedBatchExecution {
+
+		private final SettableFuture<List<ResultSet>> result = SettableFuture.create();
+		private final Queue<ResultSetFuture> inFlight = new ConcurrentLinkedQueue<ResultSetFuture>();
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger remaining;
+		private final AtomicReferenceArray<ResultSet> resultSets;
+
+		private final Session session;
+		private final List<Statement> batches;
+
+		BoundedBatchExecution(Session session, List<Statement> batches) {
+
+			this.session = session;
+			this.batches = batches;
+			this.remaining = new AtomicInteger(batches.size());
+			this.resultSets = new AtomicReferenceArray<ResultSet>(batches.size());
+		}
+
+		ListenableFuture<List<ResultSet>> start(int maxConcurrentBatches) {
+
+			if (batches.isEmpty()) {
+				result.set(Collections.<ResultSet> emptyList());
+				return result;
+			}
+
+			result.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					if (result.isCancelled()) {
+						for (ResultSetFuture future : inFlight) {
+							future.cancel(true);
+						}
+					}
+				}
+			}, DIRECT_EXECUTOR);
+
+			for (int i = 0; i < Math.min(maxConcurrentBatches, batches.size()); i++) {
+				submitNext();
+			}
+
+			return result;
+		}
+
+		private void submitNext() {
+
+			if (result.isDone()) {
+				return;
+			}
+
+			final int index = next.getAndIncrement();
+
+			if (index >= batches.size()) {
+				return;
+			}
+
+			final ResultSetFuture future;
+
+			try {
+				future = session.executeAsync(batches.get(index));
+			} catch (Throwable t) {
+				result.setException(t);
+				return;
+			}
+
+			inFlight.add(future);
+
+			// the result may have been cancelled before the future was registered and its cancellation listener missed it
+			if (result.isCancelled()) {
+				future.cancel(true);
+			}
+
+			future.addListener(new Runnable() {
+
+				@Override
+				public void run() {
+
+					inFlight.remove(future);
+
+					try {
+						resultSets.set(index, Uninterruptibles.getUninterruptibly(future));
+					} catch (ExecutionException e) {
+						result.setException(e.getCause());
+						return;
+					} catch (Throwable t) {
+						result.setException(t);
+						return;
+					}
+
+					if (remaining.decrementAndGet() == 0) {
+						result.set(toList(resultSets));
+					} else {
+						submitNext();
+					}
+				}
+			}, DIRECT_EXECUTOR);
+		}
+
+		private static List<ResultSet> toList(AtomicReferenceArray<ResultSet> resultSets) {
+
+			List<ResultSet> list = new ArrayList<ResultSet>(resultSets.length());
+
+			for (int i = 0; i < resultSets.length(); i++) {
+				list.add(resultSets.get(i));
+			}
+
+			return list;
+		}
+	}
+
+	/**
+	 * Groups statements by table and routing key.
+	 */
+	static class BatchKey {
+
+		private final String tableName;
+		private final ByteBuffer routingKey;
+
+		BatchKey(String tableName, ByteBuffer routingKey) {
+
+			this.tableName = tableName;
+			this.routingKey = routingKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+
+			return this.tableName.equals(that.tableName) && ObjectUtils.nullSafeEquals(this.routingKey, that.routingKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * tableName.hashCode() + ObjectUtils.nullSafeHashCode(routingKey);
+		}
+	}
+}
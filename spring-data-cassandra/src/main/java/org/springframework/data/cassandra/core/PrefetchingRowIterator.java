@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * {@link Iterator} over the {@link Row}s of a {@link ResultSet} that requests the next pages asynchronously using
+ * {@link ResultSet#fetchMoreResults()} once the locally available rows fall below a threshold. Mapping rows of the
+ * current page overlaps with fetching the next pages so the consuming thread blocks only if it outpaces the cluster.
+ * Time spent blocked on pages is recorded.
+ *
+ * @since 1.6
+ */
+class PrefetchingRowIterator implements Iterator<Row> {
+
+	private final ResultSet resultSet;
+	private final int prefetchThreshold;
+	private final int prefetchPages;
+	private final AtomicLong pageWaitCount;
+	private final AtomicLong pageWaitNanos;
+
+	private int pageSize;
+
+	/**
+	 * Creates a new {@link PrefetchingRowIterator}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param prefetchThreshold number of locally available rows below which the next page is requested, must be greater
+	 *          than zero.
+	 * @param prefetchPages number of pages to buffer ahead, must be greater than zero.
+	 * @param pageWaitCount counter for blocking page fetches, must not be {@literal null}.
+	 * @param pageWaitNanos accumulated time spent blocked on page fetches, must not be {@literal null}.
+	 */
+	PrefetchingRowIterator(ResultSet resultSet, int prefetchThreshold, int prefetchPages, AtomicLong pageWaitCount,
+			AtomicLong pageWaitNanos) {
+
+		Assert.notNull(resultSet, "ResultSet must not be null");
+		Assert.isTrue(prefetchThreshold > 0, "Prefetch threshold must be greater than zero");
+		Assert.isTrue(prefetchPages > 0, "Prefetch pages must be greater than zero");
+		Assert.notNull(pageWaitCount, "Page wait count must not be null");
+		Assert.notNull(pageWaitNanos, "Page wait time must not be null");
+
+		this.resultSet = resultSet;
+		this.prefetchThreshold = prefetchThreshold;
+		this.prefetchPages = prefetchPages;
+		this.pageWaitCount = pageWaitCount;
+		this.pageWaitNanos = pageWaitNanos;
+		this.pageSize = resultSet.getAvailableWithoutFetching();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		int available = resultSet.getAvailableWithoutFetching();
+
+		if (available > 0) {
+			prefetch(available);
+			return true;
+		}
+
+		if (resultSet.isFullyFetched()) {
+			return false;
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return !resultSet.isExhausted();
+		} finally {
+			pageWaitCount.incrementAndGet();
+			pageWaitNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public Row next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return resultSet.one();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private void prefetch(int available) {
+
+		if (resultSet.isFullyFetched()) {
+			return;
+		}
+
+		if (pageSize == 0) {
+			pageSize = available;
+		}
+
+		// each completed fetch appends a page, requesting again while a fetch is in flight is a no-op
+		if (available <= prefetchThreshold + (long) (prefetchPages - 1) * pageSize) {
+			resultSet.fetchMoreResults();
+		}
+	}
+}
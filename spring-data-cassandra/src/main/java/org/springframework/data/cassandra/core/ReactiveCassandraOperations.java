@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.core.ReactiveCqlOperations;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Non-blocking variant of {@link CassandraOperations} returning Reactive Streams {@link Publisher}s. Rows are read
+ * page by page as the subscriber signals demand and converted into entities using the {@link CassandraConverter}.
+ *
+ * @since 1.6
+ * @see CassandraOperations
+ * @see ReactiveCqlOperations
+ */
+public interface ReactiveCassandraOperations {
+
+	/**
+	 * Selects all entities of the given type.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the converted entities.
+	 */
+	<T> Publisher<T> selectAll(Class<T> entityClass);
+
+	/**
+	 * Executes the given CQL query and converts each row into an entity of the given type.
+	 *
+	 * @param cql static CQL query, must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the converted entities.
+	 */
+	<T> Publisher<T> select(String cql, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Select} query and converts each row into an entity of the given type.
+	 *
+	 * @param select the {@link Select} query, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Publisher} emitting the converted entities.
+	 */
+	<T> Publisher<T> select(Select select, Class<T> entityClass);
+
+	/**
+	 * Returns the underlying {@link ReactiveCqlOperations}.
+	 *
+	 * @return the {@link ReactiveCqlOperations}.
+	 */
+	ReactiveCqlOperations getReactiveCqlOperations();
+
+	/**
+	 * Returns the underlying {@link CassandraConverter}.
+	 *
+	 * @return the {@link CassandraConverter}.
+	 */
+	CassandraConverter getConverter();
+}
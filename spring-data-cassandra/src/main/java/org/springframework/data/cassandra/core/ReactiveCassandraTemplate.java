@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.core.ReactiveCqlOperations;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Default implementation of {@link ReactiveCassandraOperations} delegating query execution to
+ * {@link ReactiveCqlOperations} and converting rows with a {@link CassandraConverter}.
+ *
+ * @since 1.6
+ * @see ReactiveCassandraOperations
+ * @see CassandraTemplate
+ */
+public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
+
+	private final ReactiveCqlOperations reactiveCqlOperations;
+	private final CassandraConverter cassandraConverter;
+
+	/**
+	 * Creates a new {@link ReactiveCassandraTemplate}.
+	 *
+	 * @param reactiveCqlOperations must not be {@literal null}.
+	 * @param cassandraConverter must not be {@literal null}.
+	 */
+	public ReactiveCassandraTemplate(ReactiveCqlOperations reactiveCqlOperations, CassandraConverter cassandraConverter) {
+
+		Assert.notNull(reactiveCqlOperations, "ReactiveCqlOperations must not be null");
+		Assert.notNull(cassandraConverter, "CassandraConverter must not be null");
+
+		this.reactiveCqlOperations = reactiveCqlOperations;
+		this.cassandraConverter = cassandraConverter;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> selectAll(Class<T> entityClass) {
+
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		CassandraPersistentEntity<?> entity = cassandraConverter.getMappingContext().getPersistentEntity(entityClass);
+
+		if (entity == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("No Persistent Entity information found for the class [%s]", entityClass.getName()));
+		}
+
+		return select(QueryBuilder.select().all().from(entity.getTableName().toCql()), entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(java.lang.String, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> select(String cql, Class<T> entityClass) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return reactiveCqlOperations.query(cql, new ConvertingRowMapper<T>(cassandraConverter, entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(com.datastax.driver.core.querybuilder.Select, java.lang.Class)
+	 */
+	@Override
+	public <T> Publisher<T> select(Select select, Class<T> entityClass) {
+
+		Assert.notNull(select, "Select must not be null");
+		Assert.notNull(entityClass, "EntityClass must not be null");
+
+		return reactiveCqlOperations.query(select, new ConvertingRowMapper<T>(cassandraConverter, entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getReactiveCqlOperations()
+	 */
+	@Override
+	public ReactiveCqlOperations getReactiveCqlOperations() {
+		return reactiveCqlOperations;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getConverter()
+	 */
+	@Override
+	public CassandraConverter getConverter() {
+		return cassandraConverter;
+	}
+}
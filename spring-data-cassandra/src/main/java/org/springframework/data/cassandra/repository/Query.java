@@ -43,4 +43,14 @@ public @interface Query {
 	 * @return
 	 */
 	String value() default "";
+
+	/**
+	 * Whether to execute the query as prepared statement. Placeholders are replaced with bind markers and the arguments
+	 * are bound as values instead of being rendered as CQL literals. Placeholders must therefore be used where CQL
+	 * accepts a bind marker, e.g. {@code IN ?0} with a collection argument instead of {@code IN (?0)}.
+	 *
+	 * @return {@literal true} to execute the query as prepared statement.
+	 * @since 1.6
+	 */
+	boolean prepared() default false;
 }
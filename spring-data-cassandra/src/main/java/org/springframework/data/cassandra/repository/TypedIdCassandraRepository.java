@@ -17,12 +17,15 @@ package org.springframework.data.cassandra.repository;
 
 import java.io.Serializable;
 
+import org.springframework.data.cassandra.core.CassandraPageRequest;
 import org.springframework.data.cassandra.mapping.PrimaryKey;
 import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
 import org.springframework.data.cassandra.mapping.Table;
 import org.springframework.data.cassandra.repository.support.BasicMapId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -66,4 +69,17 @@ import org.springframework.data.repository.NoRepositoryBean;
  * @author Matthew T. Adams
  */
 @NoRepositoryBean
-public interface TypedIdCassandraRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {}
+public interface TypedIdCassandraRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {
+
+	/**
+	 * Returns a {@link Slice} of entities meeting the paging restriction provided in the {@code Pageable} object. Pages
+	 * other than the first one require a {@link CassandraPageRequest} carrying the paging state of the previous
+	 * {@link Slice}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @return a {@link Slice} of entities.
+	 * @since 1.6
+	 * @see CassandraPageRequest
+	 */
+	Slice<T> findAll(Pageable pageable);
+}
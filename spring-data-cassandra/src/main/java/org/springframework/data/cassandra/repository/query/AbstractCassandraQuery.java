@@ -39,6 +39,7 @@ import org.springframework.data.cassandra.repository.query.CassandraQueryExecuti
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultSetQuery;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.StreamExecution;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -100,15 +101,19 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		ResultProcessor resultProcessor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		String query = createQuery(parameterAccessor);
-
-		CassandraQueryExecution queryExecution = getExecution(query, parameterAccessor,
-				new ResultProcessingConverter(resultProcessor, template.getConverter().getMappingContext(), instantiators));
-
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				template.getConverter().getCustomConversions());
 
-		Class<?> resultType = (returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
+		RowProjection projection = (returnedType.isProjecting() && !queryMethod.isResultSetQuery()
+				? getRowProjection(resultProcessor.getReturnedType()) : null);
+
+		BindableQuery query = createBindableQuery(parameterAccessor, projection);
+
+		CassandraQueryExecution queryExecution = getExecution(query, parameterAccessor, new ResultProcessingConverter(
+				resultProcessor, template.getConverter().getMappingContext(), instantiators, projection));
+
+		Class<?> resultType = (projection != null ? Row.class
+				: returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
 
 		return queryExecution.execute(query, resultType);
 	}
@@ -120,7 +125,7 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 * @param accessor must not be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private CassandraQueryExecution getExecution(String query, CassandraParameterAccessor accessor,
+	private CassandraQueryExecution getExecution(BindableQuery query, CassandraParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing) {
 
 		return new ResultProcessingExecution(getExecutionToWrap(accessor, resultProcessing), resultProcessing);
@@ -129,7 +134,9 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	private CassandraQueryExecution getExecutionToWrap(CassandraParameterAccessor accessor,
 			Converter<Object, Object> resultProcessing) {
 
-		if (queryMethod.isCollectionQuery()) {
+		if (queryMethod.isSliceQuery()) {
+			return new SlicedExecution(template, accessor.getPageable());
+		} else if (queryMethod.isCollectionQuery()) {
 			return new CollectionExecution(template);
 		} else if (queryMethod.isResultSetQuery()) {
 			return new ResultSetQuery(template);
@@ -242,6 +249,60 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 */
 	protected abstract String createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Creates the {@link BindableQuery} to execute using the given {@link ParameterAccessor}. Defaults to the
+	 * {@link #createQuery(CassandraParameterAccessor) string query} with its values rendered as literals.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link BindableQuery} to execute.
+	 * @since 1.6
+	 */
+	BindableQuery createBindableQuery(CassandraParameterAccessor accessor) {
+		return BindableQuery.of(createQuery(accessor));
+	}
+
+	/**
+	 * Creates the {@link BindableQuery} to execute using the given {@link ParameterAccessor} selecting the columns of
+	 * the given {@link RowProjection}. Defaults to {@link #createBindableQuery(CassandraParameterAccessor)} for queries
+	 * that do not support column selection.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param projection the projection to read, may be {@literal null}.
+	 * @return the {@link BindableQuery} to execute.
+	 * @since 1.6
+	 */
+	BindableQuery createBindableQuery(CassandraParameterAccessor accessor, RowProjection projection) {
+		return createBindableQuery(accessor);
+	}
+
+	/**
+	 * Returns the {@link RowProjection} to read the given {@link ReturnedType} directly from selected columns. Queries
+	 * that do not control their select list return {@literal null} to read projections through the domain type.
+	 *
+	 * @param returnedType must not be {@literal null}.
+	 * @return the {@link RowProjection} or {@literal null}.
+	 * @since 1.6
+	 */
+	RowProjection getRowProjection(ReturnedType returnedType) {
+		return null;
+	}
+
+	/**
+	 * @return the {@link CassandraOperations} used by this query.
+	 * @since 1.6
+	 */
+	CassandraOperations getOperations() {
+		return template;
+	}
+
+	/**
+	 * @return the {@link EntityInstantiators} used by this query.
+	 * @since 1.6
+	 */
+	EntityInstantiators getInstantiators() {
+		return instantiators;
+	}
+
 	@RequiredArgsConstructor
 	private class CassandraReturnedType {
 
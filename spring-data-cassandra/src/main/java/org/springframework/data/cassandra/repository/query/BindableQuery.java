@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.cassandra.core.PreparedStatementBinder;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * CQL query along with values for its bind markers. Queries {@link #isPrepared() using bind markers} are executed as
+ * {@link PreparedStatement}s so Cassandra parses their CQL only once. Queries without bind markers carry their values
+ * as literals and are executed as plain CQL.
+ *
+ * @since 1.6
+ */
+class BindableQuery implements PreparedStatementBinder {
+
+	private final String cql;
+	private final List<Object> values;
+	private final boolean prepared;
+
+	private BindableQuery(String cql, List<Object> values, boolean prepared) {
+
+		this.cql = cql;
+		this.values = values;
+		this.prepared = prepared;
+	}
+
+	/**
+	 * Creates a {@link BindableQuery} for CQL without bind markers.
+	 *
+	 * @param cql must not be empty.
+	 * @return the {@link BindableQuery}.
+	 */
+	static BindableQuery of(String cql) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		return new BindableQuery(cql, Collections.<Object> emptyList(), false);
+	}
+
+	/**
+	 * Creates a {@link BindableQuery} for CQL containing bind markers along with their {@code values}.
+	 *
+	 * @param cql must not be empty.
+	 * @param values values for the bind markers in the order of their bind markers, must not be {@literal null}.
+	 * @return the {@link BindableQuery}.
+	 */
+	static BindableQuery prepared(String cql, List<Object> values) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(values, "Values must not be null");
+
+		return new BindableQuery(cql, values, true);
+	}
+
+	/**
+	 * @return the CQL.
+	 */
+	String getCql() {
+		return cql;
+	}
+
+	/**
+	 * @return the values to bind.
+	 */
+	List<Object> getValues() {
+		return values;
+	}
+
+	/**
+	 * @return {@literal true} if the CQL contains bind markers and should be executed as {@link PreparedStatement}.
+	 */
+	boolean isPrepared() {
+		return prepared;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.cassandra.core.PreparedStatementBinder#bindValues(com.datastax.driver.core.PreparedStatement)
+	 */
+	@Override
+	public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+		return ps.bind(values.toArray());
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return cql;
+	}
+}
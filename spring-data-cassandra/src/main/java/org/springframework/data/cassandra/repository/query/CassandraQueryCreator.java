@@ -16,7 +16,9 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -41,6 +43,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.util.Assert;
 
 /**
@@ -59,6 +62,8 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	private final CassandraPersistentEntity<?> entity;
 	private final CqlIdentifier tableName;
 	private final WhereBuilder whereBuilder = new WhereBuilder();
+	private final List<Object> bindValues;
+	private final List<CqlIdentifier> columnNames;
 
 	/**
 	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor}
@@ -71,15 +76,93 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 	 */
 	public CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor,
 			CassandraMappingContext mappingContext, CassandraEntityMetadata<?> entityMetadata) {
+		this(tree, accessor, mappingContext, entityMetadata, false);
+	}
+
+	/**
+	 * Creates a new {@link CassandraQueryCreator} from the given {@link PartTree}, {@link ConvertingParameterAccessor}
+	 * and {@link MappingContext}. If {@code useBindMarkers} is {@literal true}, parameter values are replaced with bind
+	 * markers and collected in {@link #getBindValues()} instead of being rendered as literals.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param useBindMarkers whether to render bind markers for parameter values.
+	 * @since 1.6
+	 */
+	CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor, CassandraMappingContext mappingContext,
+			CassandraEntityMetadata<?> entityMetadata, boolean useBindMarkers) {
+		this(tree, accessor, mappingContext, entityMetadata, useBindMarkers, Collections.<CqlIdentifier> emptyList());
+	}
+
+	/**
+	 * Creates a new {@link CassandraQueryCreator} selecting only the given {@code columnNames}. An empty list of column
+	 * names selects all columns.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param useBindMarkers whether to render bind markers for parameter values.
+	 * @param columnNames the columns to select, must not be {@literal null}.
+	 * @since 1.6
+	 */
+	CassandraQueryCreator(PartTree tree, CassandraParameterAccessor accessor, CassandraMappingContext mappingContext,
+			CassandraEntityMetadata<?> entityMetadata, boolean useBindMarkers, List<CqlIdentifier> columnNames) {
 
 		super(tree, accessor);
 
 		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
 		Assert.notNull(entityMetadata, "CassandraEntityMetadata must not be null");
+		Assert.notNull(columnNames, "Column names must not be null");
 
 		this.mappingContext = mappingContext;
 		this.entity = mappingContext.getPersistentEntity(entityMetadata.getJavaType());
 		this.tableName = entityMetadata.getTableName();
+		this.bindValues = (useBindMarkers ? new ArrayList<Object>() : null);
+		this.columnNames = columnNames;
+	}
+
+	/**
+	 * Returns the values for the bind markers of the created query in bind marker order.
+	 *
+	 * @return the bind values, empty if the query was created without bind markers.
+	 * @since 1.6
+	 */
+	List<Object> getBindValues() {
+		return (bindValues != null ? bindValues : Collections.<Object> emptyList());
+	}
+
+	/**
+	 * Extracts the bind values for the query created from {@code tree} with bind markers without creating the query
+	 * itself. Values are returned in the same order as {@link #getBindValues()}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param properties the leaf {@link CassandraPersistentProperty} of each {@link Part} in {@code tree} order, must
+	 *          not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return the bind values.
+	 * @since 1.6
+	 */
+	static List<Object> getBindValues(PartTree tree, List<CassandraPersistentProperty> properties,
+			PotentiallyConvertingIterator parameters) {
+
+		List<Object> values = new ArrayList<Object>();
+		int index = 0;
+
+		for (OrPart node : tree) {
+			for (Part part : node) {
+
+				CassandraPersistentProperty property = properties.get(index++);
+
+				if (part.getType() != Type.TRUE && part.getType() != Type.FALSE) {
+					values.add(toBindValue(part.getType(), nextValue(part.getType(), property, parameters)));
+				}
+			}
+		}
+
+		return values;
 	}
 
 	/* (non-Javadoc)
@@ -132,7 +215,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 			whereBuilder.and(criteria);
 		}
 
-		Select select = StatementBuilder.select(entity, tableName, whereBuilder, sort);
+		Select select = StatementBuilder.select(entity, tableName, columnNames, whereBuilder, sort);
 
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Created query {}", select);
@@ -146,50 +229,103 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		Type type = part.getType();
 
 		switch (type) {
+			case TRUE:
+				return QueryBuilder.eq(columnName(property), true);
+			case FALSE:
+				return QueryBuilder.eq(columnName(property), false);
 			case AFTER:
 			case GREATER_THAN:
-				return QueryBuilder.gt(columnName(property), parameters.nextConverted(property));
 			case GREATER_THAN_EQUAL:
-				return QueryBuilder.gte(columnName(property), parameters.nextConverted(property));
 			case BEFORE:
 			case LESS_THAN:
-				return QueryBuilder.lt(columnName(property), parameters.nextConverted(property));
 			case LESS_THAN_EQUAL:
-				return QueryBuilder.lte(columnName(property), parameters.nextConverted(property));
 			case IN:
-				return QueryBuilder.in(columnName(property), nextAsArray(property, parameters));
 			case LIKE:
 			case STARTING_WITH:
 			case ENDING_WITH:
-				return QueryBuilder.like(columnName(property), like(type, parameters.nextConverted(property)));
 			case CONTAINING:
-				return containing(property, parameters.nextConverted(property));
-			case TRUE:
-				return QueryBuilder.eq(columnName(property), true);
-			case FALSE:
-				return QueryBuilder.eq(columnName(property), false);
 			case SIMPLE_PROPERTY:
-				return QueryBuilder.eq(columnName(property), parameters.nextConverted(property));
+				break;
 			default:
 				throw new InvalidDataAccessApiUsageException(String.format(
 					"Unsupported keyword [%s] in part [%s]", type, part));
 		}
+
+		Object value = nextValue(type, property, parameters);
+		Object bindable = bind(type, value);
+
+		switch (type) {
+			case AFTER:
+			case GREATER_THAN:
+				return QueryBuilder.gt(columnName(property), bindable);
+			case GREATER_THAN_EQUAL:
+				return QueryBuilder.gte(columnName(property), bindable);
+			case BEFORE:
+			case LESS_THAN:
+				return QueryBuilder.lt(columnName(property), bindable);
+			case LESS_THAN_EQUAL:
+				return QueryBuilder.lte(columnName(property), bindable);
+			case IN:
+				return (bindValues != null ? QueryBuilder.in(columnName(property), bindable)
+						: QueryBuilder.in(columnName(property), (Object[]) value));
+			case CONTAINING:
+				if (property.isCollectionLike() || property.isMapLike()) {
+					return QueryBuilder.contains(columnName(property), bindable);
+				}
+			default:
+				return (type == Type.SIMPLE_PROPERTY ? QueryBuilder.eq(columnName(property), bindable)
+						: QueryBuilder.like(columnName(property), bindable));
+		}
 	}
 
-	private static String columnName(CassandraPersistentProperty property) {
-		return property.getColumnName().toCql();
+	/**
+	 * Returns a bind marker and registers {@code value} as bind value if this creator uses bind markers, otherwise
+	 * returns {@code value} to be rendered as literal.
+	 */
+	private Object bind(Type type, Object value) {
+
+		if (bindValues == null) {
+			return value;
+		}
+
+		bindValues.add(toBindValue(type, value));
+
+		return QueryBuilder.bindMarker();
 	}
 
-	private Clause containing(CassandraPersistentProperty property, Object bindableValue) {
+	/**
+	 * Returns the next parameter value for the given {@link Type}, converted to its Cassandra representation. Values for
+	 * {@code IN} are returned as array, values for {@code LIKE} queries as pattern.
+	 */
+	private static Object nextValue(Type type, CassandraPersistentProperty property,
+			PotentiallyConvertingIterator parameters) {
 
-		if (property.isCollectionLike() || property.isMapLike()) {
-			return QueryBuilder.contains(columnName(property), bindableValue);
+		switch (type) {
+			case IN:
+				return nextAsArray(property, parameters);
+			case LIKE:
+			case STARTING_WITH:
+			case ENDING_WITH:
+				return like(type, parameters.nextConverted(property));
+			case CONTAINING:
+
+				Object value = parameters.nextConverted(property);
+
+				return (property.isCollectionLike() || property.isMapLike() ? value : like(Type.CONTAINING, value));
+			default:
+				return parameters.nextConverted(property);
 		}
+	}
 
-		return QueryBuilder.like(columnName(property), like(Type.CONTAINING, bindableValue));
+	private static Object toBindValue(Type type, Object value) {
+		return (type == Type.IN ? Arrays.asList((Object[]) value) : value);
 	}
 
-	private Object like(Type type, Object value) {
+	private static String columnName(CassandraPersistentProperty property) {
+		return property.getColumnName().toCql();
+	}
+
+	private static Object like(Type type, Object value) {
 
 		if (value != null) {
 			switch (type) {
@@ -209,7 +345,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		return null;
 	}
 
-	private Object[] nextAsArray(CassandraPersistentProperty property, PotentiallyConvertingIterator iterator) {
+	private static Object[] nextAsArray(CassandraPersistentProperty property, PotentiallyConvertingIterator iterator) {
 
 		Object next = iterator.nextConverted(property);
 
@@ -255,8 +391,20 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 		 * for {@link Sort} using the {@link CassandraPersistentEntity}.
 		 */
 		static Select select(CassandraPersistentEntity<?> entity, CqlIdentifier tableName, WhereBuilder whereBuilder, Sort sort) {
+			return select(entity, tableName, Collections.<CqlIdentifier> emptyList(), whereBuilder, sort);
+		}
+
+		/**
+		 * Build a {@link Select} statement selecting {@code columnNames} from the given {@link WhereBuilder} and
+		 * {@link Sort}. Selects all columns if {@code columnNames} is empty.
+		 *
+		 * @since 1.6
+		 */
+		static Select select(CassandraPersistentEntity<?> entity, CqlIdentifier tableName,
+				List<CqlIdentifier> columnNames, WhereBuilder whereBuilder, Sort sort) {
 
-			Select select = QueryBuilder.select().from(tableName.toCql());
+			Select select = (columnNames.isEmpty() ? QueryBuilder.select() : QueryBuilder.select(toCql(columnNames)))
+					.from(tableName.toCql());
 
 			whereBuilder.build(select.where());
 
@@ -277,6 +425,17 @@ class CassandraQueryCreator extends AbstractQueryCreator<Select, Clause> {
 			return select;
 		}
 
+		private static String[] toCql(List<CqlIdentifier> columnNames) {
+
+			String[] columns = new String[columnNames.size()];
+
+			for (int i = 0; i < columns.length; i++) {
+				columns[i] = columnNames.get(i).toCql();
+			}
+
+			return columns;
+		}
+
 		private static CassandraPersistentProperty getPersistentProperty(CassandraPersistentEntity<?> entity,
 				String dotPath) {
 
@@ -16,17 +16,25 @@
 
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
 
+import org.springframework.cassandra.core.ResultSetExtractor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.ResultSet;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
@@ -38,7 +46,7 @@ import lombok.RequiredArgsConstructor;
  */
 interface CassandraQueryExecution {
 
-	Object execute(String query, Class<?> type);
+	Object execute(BindableQuery query, Class<?> type);
 
 	/**
 	 * {@link CassandraQueryExecution} for a Stream.
@@ -52,12 +60,15 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> resultProcessing;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
+		public Object execute(BindableQuery query, Class<?> type) {
+
+			Iterator<?> iterator = (query.isPrepared() ? operations.stream(query.getCql(), query, type)
+					: operations.stream(query.getCql(), type));
 
-			return StreamUtils.createStreamFromIterator(operations.stream(query, type)).map(new Function<Object, Object>() {
+			return StreamUtils.createStreamFromIterator(iterator).map(new Function<Object, Object>() {
 
 				@Override
 				public Object apply(Object t) {
@@ -67,6 +78,37 @@ interface CassandraQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link CassandraQueryExecution} for {@link Slice} queries using the driver's paging state.
+	 *
+	 * @since 1.6
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final Pageable pageable;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object execute(BindableQuery query, Class<?> type) {
+
+			if (pageable == null) {
+
+				List<?> content = (query.isPrepared() ? operations.select(query.getCql(), query, type)
+						: operations.select(query.getCql(), type));
+
+				return new SliceImpl(content);
+			}
+
+			return (query.isPrepared() ? operations.select(query.getCql(), query, pageable, type)
+					: operations.select(query.getCql(), pageable, type));
+		}
+	}
+
 	/**
 	 * {@link CassandraQueryExecution} for collection returning queries.
 	 *
@@ -78,11 +120,13 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.select(query, type);
+		public Object execute(BindableQuery query, Class<?> type) {
+
+			return (query.isPrepared() ? operations.select(query.getCql(), query, type)
+					: operations.select(query.getCql(), type));
 		}
 	}
 
@@ -97,11 +141,13 @@ interface CassandraQueryExecution {
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.selectOne(query, type);
+		public Object execute(BindableQuery query, Class<?> type) {
+
+			return (query.isPrepared() ? operations.selectOne(query.getCql(), query, type)
+					: operations.selectOne(query.getCql(), type));
 		}
 	}
 
@@ -113,14 +159,24 @@ interface CassandraQueryExecution {
 	@RequiredArgsConstructor
 	final class ResultSetQuery implements CassandraQueryExecution {
 
+		private static final ResultSetExtractor<ResultSet> RESULT_SET_EXTRACTOR = new ResultSetExtractor<ResultSet>() {
+
+			@Override
+			public ResultSet extractData(ResultSet resultSet) {
+				return resultSet;
+			}
+		};
+
 		private final @NonNull CassandraOperations operations;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
-			return operations.query(query);
+		public Object execute(BindableQuery query, Class<?> type) {
+
+			return (query.isPrepared() ? operations.query(query.getCql(), query, RESULT_SET_EXTRACTOR)
+					: operations.query(query.getCql()));
 		}
 	}
 
@@ -136,16 +192,17 @@ interface CassandraQueryExecution {
 		private final @NonNull Converter<Object, Object> converter;
 
 		/* (non-Javadoc)
-		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(org.springframework.data.cassandra.repository.query.BindableQuery, java.lang.Class)
 		 */
 		@Override
-		public Object execute(String query, Class<?> type) {
+		public Object execute(BindableQuery query, Class<?> type) {
 			return converter.convert(delegate.execute(query, type));
 		}
 	}
 
 	/**
-	 * A {@link Converter} to post-process all source objects using the given {@link ResultProcessor}.
+	 * A {@link Converter} to post-process all source objects using the given {@link ResultProcessor}. Rows selected for
+	 * a {@link RowProjection} are converted by the projection.
 	 *
 	 * @author Mark Paluch
 	 */
@@ -155,6 +212,12 @@ interface CassandraQueryExecution {
 		private final @NonNull ResultProcessor processor;
 		private final @NonNull CassandraMappingContext mappingContext;
 		private final @NonNull EntityInstantiators instantiators;
+		private final RowProjection projection;
+
+		ResultProcessingConverter(ResultProcessor processor, CassandraMappingContext mappingContext,
+				EntityInstantiators instantiators) {
+			this(processor, mappingContext, instantiators, null);
+		}
 
 		/* (non-Javadoc)
 		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
@@ -172,6 +235,10 @@ interface CassandraQueryExecution {
 				return source;
 			}
 
+			if (projection != null) {
+				return processor.processResult(source, projection);
+			}
+
 			Converter<Object, Object> converter = new DtoInstantiatingConverter(returnedType.getReturnedType(),
 					mappingContext, instantiators);
 
@@ -72,14 +72,14 @@ public class CassandraQueryMethod extends QueryMethod {
 	}
 
 	/**
-	 * Validates that this query is not a page or slice query.
+	 * Validates that this query is not a page query. Cassandra cannot count results efficiently, use {@link
+	 * org.springframework.data.domain.Slice} instead.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
 
-		// TODO: support Page & Slice queries
-		if (isSliceQuery() || isPageQuery()) {
-			throw new InvalidDataAccessApiUsageException("Slice and Page queries are not supported");
+		if (isPageQuery()) {
+			throw new InvalidDataAccessApiUsageException("Page queries are not supported. Use a Slice query.");
 		}
 	}
 
@@ -149,6 +149,20 @@ public class CassandraQueryMethod extends QueryMethod {
 		return (StringUtils.hasText(query) ? query : null);
 	}
 
+	/**
+	 * Returns whether the annotated query should be executed as prepared statement.
+	 *
+	 * @return {@literal true} if the {@link Query} annotation requests prepared statement execution.
+	 * @since 1.6
+	 * @see Query#prepared()
+	 */
+	public boolean isPreparedQuery() {
+
+		Query query = getQueryAnnotation();
+
+		return (query != null && query.prepared());
+	}
+
 	/**
 	 * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
 	 *
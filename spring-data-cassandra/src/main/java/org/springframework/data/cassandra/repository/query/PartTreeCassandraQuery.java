@@ -15,12 +15,26 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.query.ConvertingParameterAccessor.PotentiallyConvertingIterator;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
@@ -30,10 +44,20 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
+	private static final Object UNSORTED = new Object();
+
+	private static final Object NO_PROJECTION = new Object();
+
 	private final CassandraMappingContext mappingContext;
 
 	private final PartTree tree;
 
+	private final List<CassandraPersistentProperty> properties;
+
+	private final ConcurrentMap<Object, String> preparedQueries = new ConcurrentHashMap<Object, String>();
+
+	private final ConcurrentMap<Class<?>, Object> projections = new ConcurrentHashMap<Class<?>, Object>();
+
 	/**
 	 * Creates a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -46,6 +70,21 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		this.mappingContext = operations.getConverter().getMappingContext();
+		this.properties = getLeafProperties(tree, mappingContext);
+	}
+
+	private static List<CassandraPersistentProperty> getLeafProperties(PartTree tree,
+			CassandraMappingContext mappingContext) {
+
+		List<CassandraPersistentProperty> properties = new ArrayList<CassandraPersistentProperty>();
+
+		for (OrPart node : tree) {
+			for (Part part : node) {
+				properties.add(mappingContext.getPersistentPropertyPath(part.getProperty()).getLeafProperty());
+			}
+		}
+
+		return Collections.unmodifiableList(properties);
 	}
 
 	/**
@@ -69,4 +108,64 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 		return queryCreator.createQuery().toString();
 	}
+
+	/**
+	 * Creates a {@link BindableQuery} using bind markers. The CQL is rendered once per {@link Sort} variant and reused
+	 * for subsequent invocations so only the parameter values are converted on each call and Cassandra can execute the
+	 * cached {@link com.datastax.driver.core.PreparedStatement}.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createBindableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	BindableQuery createBindableQuery(CassandraParameterAccessor parameterAccessor) {
+		return createBindableQuery(parameterAccessor, null);
+	}
+
+	/**
+	 * Creates a {@link BindableQuery} using bind markers selecting only the columns of the given {@link RowProjection}.
+	 * The CQL is rendered once per {@link Sort} and projection variant.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createBindableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, org.springframework.data.cassandra.repository.query.RowProjection)
+	 */
+	@Override
+	BindableQuery createBindableQuery(CassandraParameterAccessor parameterAccessor, RowProjection projection) {
+
+		Sort sort = parameterAccessor.getSort();
+		Object cacheKey = Arrays.asList(sort != null ? sort : UNSORTED,
+				projection != null ? projection.getTargetType() : NO_PROJECTION);
+		String cql = preparedQueries.get(cacheKey);
+
+		if (cql != null) {
+			return BindableQuery.prepared(cql, CassandraQueryCreator.getBindValues(tree, properties,
+					(PotentiallyConvertingIterator) parameterAccessor.iterator()));
+		}
+
+		CassandraQueryCreator queryCreator = new CassandraQueryCreator(tree, parameterAccessor, mappingContext,
+				getQueryMethod().getEntityInformation(), true,
+				projection != null ? projection.getColumnNames() : Collections.<CqlIdentifier> emptyList());
+
+		cql = queryCreator.createQuery().toString();
+		preparedQueries.putIfAbsent(cacheKey, cql);
+
+		return BindableQuery.prepared(cql, queryCreator.getBindValues());
+	}
+
+	/**
+	 * Resolves the {@link RowProjection} once per projection type.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#getRowProjection(org.springframework.data.repository.query.ReturnedType)
+	 */
+	@Override
+	RowProjection getRowProjection(ReturnedType returnedType) {
+
+		Object projection = projections.get(returnedType.getReturnedType());
+
+		if (projection == null) {
+
+			projection = RowProjection.create(returnedType, getOperations().getConverter(), getInstantiators());
+			projections.putIfAbsent(returnedType.getReturnedType(), projection != null ? projection : NO_PROJECTION);
+		}
+
+		return (projection instanceof RowProjection ? (RowProjection) projection : null);
+	}
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.ColumnReader;
+import org.springframework.data.cassandra.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Projection reading DTOs and closed interface projections directly from a {@link Row} that contains only the columns
+ * backing the projected properties. DTOs are instantiated from the column values without materializing the domain
+ * object, interface projections are backed by a {@link Map} of property values.
+ * <p>
+ * Projections are only created if each projected property maps to a single column of a simple type. Projections
+ * that require SpEL evaluation, user-defined types or composite primary key classes are read through the domain
+ * object instead.
+ *
+ * @since 1.6
+ */
+class RowProjection implements Converter<Object, Object> {
+
+	private final Class<?> targetType;
+
+	private final Map<String, CassandraPersistentProperty> properties;
+
+	private final Map<String, TypeDescriptor> targetTypes;
+
+	private final CassandraPersistentEntity<?> dtoEntity;
+
+	private final EntityInstantiator instantiator;
+
+	private final ConversionService conversionService;
+
+	private final Map<ColumnDefinitions, int[]> columnIndexes = new ConcurrentReferenceHashMap<ColumnDefinitions, int[]>(
+			16, ReferenceType.WEAK);
+
+	private RowProjection(Class<?> targetType, Map<String, CassandraPersistentProperty> properties,
+			Map<String, TypeDescriptor> targetTypes, CassandraPersistentEntity<?> dtoEntity,
+			EntityInstantiator instantiator, ConversionService conversionService) {
+
+		this.targetType = targetType;
+		this.properties = properties;
+		this.targetTypes = targetTypes;
+		this.dtoEntity = dtoEntity;
+		this.instantiator = instantiator;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Creates a {@link RowProjection} for the given {@link ReturnedType}.
+	 *
+	 * @param returnedType must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param instantiators must not be {@literal null}.
+	 * @return the {@link RowProjection} or {@literal null} if the projection cannot be read from selected columns.
+	 */
+	static RowProjection create(ReturnedType returnedType, CassandraConverter converter,
+			EntityInstantiators instantiators) {
+
+		Assert.notNull(returnedType, "ReturnedType must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+		Assert.notNull(instantiators, "EntityInstantiators must not be null");
+
+		CassandraMappingContext mappingContext = converter.getMappingContext();
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(returnedType.getDomainType());
+		Class<?> targetType = returnedType.getReturnedType();
+
+		if (entity == null) {
+			return null;
+		}
+
+		Map<String, TypeDescriptor> targetTypes = new LinkedHashMap<String, TypeDescriptor>();
+		CassandraPersistentEntity<?> dtoEntity = null;
+
+		if (targetType.isInterface()) {
+
+			// open projections evaluate SpEL against the domain object and do not declare all of their input properties
+			if (!returnedType.needsCustomConstruction()) {
+				return null;
+			}
+
+			for (String propertyName : returnedType.getInputProperties()) {
+				targetTypes.put(propertyName, null);
+			}
+		} else {
+
+			dtoEntity = mappingContext.getPersistentEntity(targetType);
+
+			for (CassandraPersistentProperty property : getProperties(dtoEntity)) {
+				targetTypes.put(property.getName(), getTypeDescriptor(property));
+			}
+		}
+
+		if (targetTypes.isEmpty()) {
+			return null;
+		}
+
+		Map<String, CassandraPersistentProperty> properties = new LinkedHashMap<String, CassandraPersistentProperty>();
+
+		for (Map.Entry<String, TypeDescriptor> entry : targetTypes.entrySet()) {
+
+			CassandraPersistentProperty property = entity.getPersistentProperty(entry.getKey());
+
+			if (!isReadableFromColumn(property, mappingContext)) {
+				return null;
+			}
+
+			properties.put(entry.getKey(), property);
+
+			if (entry.getValue() == null) {
+				entry.setValue(getTypeDescriptor(property));
+			}
+		}
+
+		EntityInstantiator instantiator = (dtoEntity != null ? instantiators.getInstantiatorFor(dtoEntity) : null);
+
+		return new RowProjection(targetType, properties, targetTypes, dtoEntity, instantiator,
+				converter.getConversionService());
+	}
+
+	/**
+	 * @return the projected type.
+	 */
+	Class<?> getTargetType() {
+		return targetType;
+	}
+
+	/**
+	 * @return the names of the columns backing the projected properties.
+	 */
+	List<CqlIdentifier> getColumnNames() {
+
+		List<CqlIdentifier> columnNames = new ArrayList<CqlIdentifier>(properties.size());
+
+		for (CassandraPersistentProperty property : properties.values()) {
+			if (!columnNames.contains(property.getColumnName())) {
+				columnNames.add(property.getColumnName());
+			}
+		}
+
+		return columnNames;
+	}
+
+	/**
+	 * Reads the projection from a {@link Row}. Other objects are returned as-is.
+	 *
+	 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+	 */
+	@Override
+	public Object convert(Object source) {
+
+		if (!(source instanceof Row)) {
+			return source;
+		}
+
+		Map<String, Object> values = readValues((Row) source);
+
+		return (dtoEntity != null ? instantiate(values) : values);
+	}
+
+	private Map<String, Object> readValues(Row row) {
+
+		ColumnReader reader = new ColumnReader(row);
+		int[] indexes = getColumnIndexes(row.getColumnDefinitions());
+		Map<String, Object> values = new LinkedHashMap<String, Object>(properties.size());
+		int i = 0;
+
+		for (Map.Entry<String, CassandraPersistentProperty> entry : properties.entrySet()) {
+
+			int index = indexes[i++];
+			Object value = (index != -1 ? reader.get(index) : reader.get(entry.getValue().getColumnName()));
+
+			if (value != null) {
+				value = conversionService.convert(value, TypeDescriptor.forObject(value), targetTypes.get(entry.getKey()));
+			}
+
+			values.put(entry.getKey(), value);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Returns the column index of each projected property in property order, resolved once per
+	 * {@link ColumnDefinitions}. Rows of a result set share their {@link ColumnDefinitions}.
+	 */
+	private int[] getColumnIndexes(ColumnDefinitions columns) {
+
+		int[] indexes = columnIndexes.get(columns);
+
+		if (indexes == null) {
+
+			indexes = new int[properties.size()];
+			int i = 0;
+
+			for (CassandraPersistentProperty property : properties.values()) {
+				indexes[i++] = columns.getIndexOf(property.getColumnName().toCql());
+			}
+
+			columnIndexes.put(columns, indexes);
+		}
+
+		return indexes;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Object instantiate(final Map<String, Object> values) {
+
+		Object dto = instantiator.createInstance((CassandraPersistentEntity) dtoEntity, new ParameterValueProvider() {
+
+			@Override
+			public Object getParameterValue(Parameter parameter) {
+				return values.get(parameter.getName());
+			}
+		});
+
+		PersistentPropertyAccessor accessor = dtoEntity.getPropertyAccessor(dto);
+		PreferredConstructor<?, CassandraPersistentProperty> constructor = dtoEntity.getPersistenceConstructor();
+
+		for (CassandraPersistentProperty property : getProperties(dtoEntity)) {
+			if (constructor == null || !constructor.isConstructorParameter(property)) {
+				accessor.setProperty(property, values.get(property.getName()));
+			}
+		}
+
+		return dto;
+	}
+
+	private static boolean isReadableFromColumn(CassandraPersistentProperty property,
+			CassandraMappingContext mappingContext) {
+
+		if (property == null || property.isCompositePrimaryKey() || property.getSpelExpression() != null) {
+			return false;
+		}
+
+		CassandraPersistentEntity<?> propertyEntity = mappingContext.getPersistentEntity(property.getActualType());
+
+		return (propertyEntity == null || !propertyEntity.isUserDefinedType());
+	}
+
+	private static List<CassandraPersistentProperty> getProperties(CassandraPersistentEntity<?> entity) {
+
+		if (entity == null) {
+			return Collections.emptyList();
+		}
+
+		final List<CassandraPersistentProperty> properties = new ArrayList<CassandraPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<CassandraPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(CassandraPersistentProperty property) {
+				properties.add(property);
+			}
+		});
+
+		return properties;
+	}
+
+	private static TypeDescriptor getTypeDescriptor(CassandraPersistentProperty property) {
+		return (property.getField() != null ? new TypeDescriptor(property.getField())
+				: TypeDescriptor.valueOf(property.getType()));
+	}
+}
@@ -35,7 +35,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.TupleValue;
 import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.querybuilder.BindMarker;
 
 /**
@@ -62,6 +64,10 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final String query;
 
+	private final QueryTemplate queryTemplate;
+
+	private final String preparedQuery;
+
 	/**
 	 * Creates a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -98,6 +104,8 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 				this.queryParameterBindings);
 		this.parameterBinder = new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider);
 		this.codecRegistry = operations.getSession().getCluster().getConfiguration().getCodecRegistry();
+		this.queryTemplate = ParameterBinder.INSTANCE.compile(this.query, this.codecRegistry);
+		this.preparedQuery = (queryMethod.isPreparedQuery() ? ParameterBinder.INSTANCE.bindMarkers(this.query) : null);
 	}
 
 	/* (non-Javadoc)
@@ -110,7 +118,7 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 			List<Object> arguments = this.parameterBinder.bind(parameterAccessor,
 					new BindingContext(getQueryMethod(), queryParameterBindings));
 
-			String boundQuery = bind(query, arguments);
+			String boundQuery = queryTemplate.bind(arguments);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", boundQuery));
@@ -122,8 +130,32 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		}
 	}
 
-	private String bind(String query, List<Object> arguments) {
-		return ParameterBinder.INSTANCE.bind(query, codecRegistry, arguments);
+	/**
+	 * Creates a {@link BindableQuery} using bind markers if the query method {@link CassandraQueryMethod#isPreparedQuery()
+	 * requests prepared execution}. The arguments are bound as values through the {@link CodecRegistry} of the cluster
+	 * instead of being rendered into the CQL string.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createBindableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	BindableQuery createBindableQuery(CassandraParameterAccessor parameterAccessor) {
+
+		if (preparedQuery == null) {
+			return super.createBindableQuery(parameterAccessor);
+		}
+
+		try {
+			List<Object> arguments = this.parameterBinder.bind(parameterAccessor,
+					new BindingContext(getQueryMethod(), queryParameterBindings));
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Created prepared query [%s] with arguments %s.", preparedQuery, arguments));
+			}
+
+			return BindableQuery.prepared(preparedQuery, arguments);
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
 	}
 
 	/**
@@ -138,39 +170,51 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
-		public String bind(String input, CodecRegistry codecRegistry, List<Object> parameters) {
+		/**
+		 * Replaces all argument placeholders in {@code input} with positional bind markers.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @return the query using bind markers.
+		 */
+		public String bindMarkers(String input) {
+			return ARGUMENT_PLACEHOLDER_PATTERN.matcher(input).replaceAll("?");
+		}
 
-			if (parameters.isEmpty()) {
-				return input;
-			}
+		public String bind(String input, CodecRegistry codecRegistry, List<Object> parameters) {
+			return compile(input, codecRegistry).bind(parameters);
+		}
 
-			StringBuilder result = new StringBuilder();
+		/**
+		 * Parses {@code input} into a {@link QueryTemplate} of literal segments and argument slots.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @param codecRegistry must not be {@literal null}.
+		 * @return the compiled {@link QueryTemplate}.
+		 * @since 1.6
+		 */
+		public QueryTemplate compile(String input, CodecRegistry codecRegistry) {
 
-			int startIndex = 0;
+			List<String> segments = new ArrayList<String>();
 			int currentPosition = 0;
-			int parameterIndex = 0;
 
 			Matcher matcher = ARGUMENT_PLACEHOLDER_PATTERN.matcher(input);
 
-			while (currentPosition < input.length()) {
-
-				if (!matcher.find()) {
-					break;
-				}
-
-				int exprStart = matcher.start();
-
-				result.append(input.subSequence(startIndex, exprStart));
-				result = appendValue(parameters.get(parameterIndex++), codecRegistry, result);
-
+			while (matcher.find()) {
+				segments.add(input.substring(currentPosition, matcher.start()));
 				currentPosition = matcher.end();
-				startIndex = currentPosition;
 			}
 
-			return result.append(input.subSequence(currentPosition, input.length())).toString();
+			segments.add(input.substring(currentPosition));
+
+			return new QueryTemplate(input, segments.toArray(new String[segments.size()]), codecRegistry);
 		}
 
 		static StringBuilder appendValue(Object value, CodecRegistry codecRegistry, StringBuilder builder) {
+			return appendValue(value, codecRegistry, null, builder);
+		}
+
+		private static StringBuilder appendValue(Object value, CodecRegistry codecRegistry, Slot slot,
+				StringBuilder builder) {
 
 			if (value == null) {
 				builder.append("null");
@@ -186,7 +230,7 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 				// bind variables are not supported inside collection literals
 				appendMap((Map<?, ?>) value, codecRegistry, builder);
 			} else if (isSerializable(value)) {
-				TypeCodec<Object> codec = codecRegistry.codecFor(value);
+				TypeCodec<Object> codec = (slot != null ? slot.codecFor(value) : codecRegistry.codecFor(value));
 				builder.append(codec.format(value));
 			} else {
 				throw new IllegalArgumentException(String.format("Argument value [%s] is not serializable", value.toString()));
@@ -298,6 +342,104 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		}
 	}
 
+	/**
+	 * Immutable query template consisting of literal segments and argument slots. Argument slots remember the
+	 * {@link TypeCodec} resolved for the last argument type so subsequent invocations skip the {@link CodecRegistry}
+	 * lookup.
+	 *
+	 * @since 1.6
+	 */
+	static class QueryTemplate {
+
+		private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
+		private final String input;
+		private final String[] segments;
+		private final Slot[] slots;
+		private final CodecRegistry codecRegistry;
+		private final int estimatedLength;
+
+		QueryTemplate(String input, String[] segments, CodecRegistry codecRegistry) {
+
+			this.input = input;
+			this.segments = segments;
+			this.slots = new Slot[segments.length - 1];
+			this.codecRegistry = codecRegistry;
+
+			for (int index = 0; index < slots.length; index++) {
+				slots[index] = new Slot(codecRegistry);
+			}
+
+			this.estimatedLength = input.length() + slots.length * ESTIMATED_ARGUMENT_LENGTH;
+		}
+
+		/**
+		 * Renders the query by appending {@code parameters} as CQL literals in place of the argument slots.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return the rendered query.
+		 */
+		String bind(List<Object> parameters) {
+
+			if (parameters.isEmpty() || slots.length == 0) {
+				return input;
+			}
+
+			StringBuilder result = new StringBuilder(estimatedLength);
+
+			for (int index = 0; index < slots.length; index++) {
+				result.append(segments[index]);
+				ParameterBinder.appendValue(parameters.get(index), codecRegistry, slots[index], result);
+			}
+
+			return result.append(segments[slots.length]).toString();
+		}
+	}
+
+	/**
+	 * Argument slot caching the {@link TypeCodec} for the most recently bound argument type.
+	 */
+	private static class Slot {
+
+		private final CodecRegistry codecRegistry;
+
+		private volatile CachedCodec cachedCodec;
+
+		Slot(CodecRegistry codecRegistry) {
+			this.codecRegistry = codecRegistry;
+		}
+
+		TypeCodec<Object> codecFor(Object value) {
+
+			// codecs for UDT and tuple values depend on the value's type definition
+			if (value instanceof UDTValue || value instanceof TupleValue) {
+				return codecRegistry.codecFor(value);
+			}
+
+			CachedCodec cachedCodec = this.cachedCodec;
+
+			if (cachedCodec != null && cachedCodec.type == value.getClass()) {
+				return cachedCodec.codec;
+			}
+
+			TypeCodec<Object> codec = codecRegistry.codecFor(value);
+			this.cachedCodec = new CachedCodec(value.getClass(), codec);
+
+			return codec;
+		}
+	}
+
+	private static class CachedCodec {
+
+		private final Class<?> type;
+		private final TypeCodec<Object> codec;
+
+		CachedCodec(Class<?> type, TypeCodec<Object> codec) {
+			this.type = type;
+			this.codec = codec;
+		}
+	}
+
 	/**
 	 * A parser that extracts the parameter bindings from a given query string.
 	 *
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MapId} storing its values in an array whose slots are defined by a shared {@link MapIdLayout}. Keys of the
+ * layout are read and written by slot index without hashing or allocating map entries. Keys that are not part of the
+ * layout are kept in an additional map that is created on first use.
+ * <p>
+ * {@link ArrayMapId} is equal to any {@link Map} containing the same entries, including {@link BasicMapId}.
+ *
+ * @since 1.6
+ * @see MapIdLayout
+ */
+@SuppressWarnings("serial")
+public class ArrayMapId extends AbstractMap<String, Serializable> implements MapId {
+
+	private final MapIdLayout layout;
+
+	private final Serializable[] values;
+
+	private int slotCount;
+
+	private Map<String, Serializable> additionalValues;
+
+	/**
+	 * Creates a new, empty {@link ArrayMapId} using the given {@link MapIdLayout}.
+	 *
+	 * @param layout must not be {@literal null}.
+	 */
+	public ArrayMapId(MapIdLayout layout) {
+
+		Assert.notNull(layout, "MapIdLayout must not be null");
+
+		this.layout = layout;
+		this.values = new Serializable[layout.size()];
+
+		Arrays.fill(values, Absent.INSTANCE);
+	}
+
+	/**
+	 * @return the {@link MapIdLayout} of this id.
+	 */
+	public MapIdLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * @param index the slot index.
+	 * @return {@literal true} if the slot at {@code index} holds a value, which may be {@literal null}.
+	 */
+	public boolean hasValue(int index) {
+		return values[index] != Absent.INSTANCE;
+	}
+
+	/**
+	 * @param index the slot index.
+	 * @return the value of the slot at {@code index}, may be {@literal null}.
+	 */
+	public Serializable getValue(int index) {
+
+		Serializable value = values[index];
+
+		return (value != Absent.INSTANCE ? value : null);
+	}
+
+	/**
+	 * Sets the value of the slot at {@code index}.
+	 *
+	 * @param index the slot index.
+	 * @param value the value, may be {@literal null}.
+	 * @return the previous value of the slot, may be {@literal null}.
+	 */
+	public Serializable setValue(int index, Serializable value) {
+
+		Serializable previous = values[index];
+		values[index] = value;
+
+		if (previous == Absent.INSTANCE) {
+			slotCount++;
+			return null;
+		}
+
+		return previous;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.MapId#with(java.lang.String, java.io.Serializable)
+	 */
+	@Override
+	public ArrayMapId with(String name, Serializable value) {
+
+		put(name, value);
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Serializable get(Object name) {
+
+		int index = layout.indexOf(name);
+
+		if (index != -1) {
+			return getValue(index);
+		}
+
+		return (additionalValues != null ? additionalValues.get(name) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(Object name) {
+
+		int index = layout.indexOf(name);
+
+		if (index != -1) {
+			return hasValue(index);
+		}
+
+		return (additionalValues != null && additionalValues.containsKey(name));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public Serializable put(String name, Serializable value) {
+
+		int index = layout.indexOf(name);
+
+		if (index != -1) {
+			return setValue(index, value);
+		}
+
+		if (additionalValues == null) {
+			additionalValues = new LinkedHashMap<String, Serializable>();
+		}
+
+		return additionalValues.put(name, value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#remove(java.lang.Object)
+	 */
+	@Override
+	public Serializable remove(Object name) {
+
+		int index = layout.indexOf(name);
+
+		if (index != -1) {
+			return removeValue(index);
+		}
+
+		return (additionalValues != null ? additionalValues.remove(name) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#clear()
+	 */
+	@Override
+	public void clear() {
+
+		Arrays.fill(values, Absent.INSTANCE);
+		slotCount = 0;
+		additionalValues = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return slotCount + (additionalValues != null ? additionalValues.size() : 0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Entry<String, Serializable>> entrySet() {
+
+		return new AbstractSet<Entry<String, Serializable>>() {
+
+			@Override
+			public Iterator<Entry<String, Serializable>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return ArrayMapId.this.size();
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractMap#toString()
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder s = new StringBuilder("{ ");
+
+		boolean first = true;
+		for (Map.Entry<String, Serializable> entry : entrySet()) {
+
+			if (first) {
+				first = false;
+			} else {
+				s.append(", ");
+			}
+
+			s.append(entry.getKey()).append(" : ").append(entry.getValue());
+		}
+
+		return s.append(" }").toString();
+	}
+
+	private Serializable removeValue(int index) {
+
+		Serializable previous = values[index];
+
+		if (previous == Absent.INSTANCE) {
+			return null;
+		}
+
+		values[index] = Absent.INSTANCE;
+		slotCount--;
+
+		return previous;
+	}
+
+	/**
+	 * Marker for slots without a value. Enum to retain identity across serialization.
+	 */
+	private enum Absent {
+		INSTANCE
+	}
+
+	/**
+	 * Iterates over the slot entries in layout order followed by the additional entries.
+	 */
+	private class EntryIterator implements Iterator<Entry<String, Serializable>> {
+
+		private int next = -1;
+		private int current = -1;
+		private Iterator<Entry<String, Serializable>> additional;
+
+		EntryIterator() {
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < values.length || (additional != null && additional.hasNext());
+		}
+
+		@Override
+		public Entry<String, Serializable> next() {
+
+			if (next < values.length) {
+
+				current = next;
+				advance();
+
+				return new SlotEntry(current);
+			}
+
+			if (additional == null) {
+				throw new NoSuchElementException();
+			}
+
+			current = -1;
+
+			return additional.next();
+		}
+
+		@Override
+		public void remove() {
+
+			if (current != -1) {
+				Assert.state(hasValue(current), "Entry already removed");
+				removeValue(current);
+			} else if (additional != null) {
+				additional.remove();
+			} else {
+				throw new IllegalStateException("No entry to remove");
+			}
+		}
+
+		private void advance() {
+
+			do {
+				next++;
+			} while (next < values.length && !hasValue(next));
+
+			if (next == values.length && additional == null && additionalValues != null) {
+				additional = additionalValues.entrySet().iterator();
+			}
+		}
+	}
+
+	/**
+	 * {@link Entry} writing through to its slot.
+	 */
+	private class SlotEntry implements Entry<String, Serializable> {
+
+		private final int index;
+
+		SlotEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return layout.getName(index);
+		}
+
+		@Override
+		public Serializable getValue() {
+			return ArrayMapId.this.getValue(index);
+		}
+
+		@Override
+		public Serializable setValue(Serializable value) {
+			return ArrayMapId.this.setValue(index, value);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (!(obj instanceof Entry)) {
+				return false;
+			}
+
+			Entry<?, ?> that = (Entry<?, ?>) obj;
+
+			return getKey().equals(that.getKey()) && ObjectUtils.nullSafeEquals(getValue(), that.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ ObjectUtils.nullSafeHashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
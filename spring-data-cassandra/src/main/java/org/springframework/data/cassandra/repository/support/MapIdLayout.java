@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable key layout of an {@link ArrayMapId} assigning each key name a fixed slot. Layouts are intended to be
+ * created once, for example per entity or per id interface, and shared by all ids using the same keys.
+ *
+ * @since 1.6
+ * @see ArrayMapId
+ */
+@SuppressWarnings("serial")
+public final class MapIdLayout implements Serializable {
+
+	private final String[] names;
+
+	private final Map<String, Integer> indexes;
+
+	private MapIdLayout(String[] names) {
+
+		this.names = names;
+		this.indexes = new HashMap<String, Integer>(names.length * 2);
+
+		for (int i = 0; i < names.length; i++) {
+
+			Assert.hasText(names[i], "Key name must not be empty");
+			Assert.isTrue(!indexes.containsKey(names[i]), String.format("Duplicate key name [%s]", names[i]));
+
+			indexes.put(names[i], i);
+		}
+	}
+
+	/**
+	 * Creates a new {@link MapIdLayout} for the given key {@code names}.
+	 *
+	 * @param names must not be {@literal null} and must not contain duplicates.
+	 * @return the {@link MapIdLayout}.
+	 */
+	public static MapIdLayout of(String... names) {
+
+		Assert.notNull(names, "Key names must not be null");
+
+		return new MapIdLayout(names.clone());
+	}
+
+	/**
+	 * Creates a new {@link MapIdLayout} for the given key {@code names}.
+	 *
+	 * @param names must not be {@literal null} and must not contain duplicates.
+	 * @return the {@link MapIdLayout}.
+	 */
+	public static MapIdLayout of(Collection<String> names) {
+
+		Assert.notNull(names, "Key names must not be null");
+
+		return new MapIdLayout(names.toArray(new String[names.size()]));
+	}
+
+	/**
+	 * @return the number of slots.
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * @param index the slot index.
+	 * @return the key name of the slot at {@code index}.
+	 */
+	public String getName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * @param name the key name, may be {@literal null}.
+	 * @return the slot index of the key {@code name} or {@literal -1} if the layout does not contain the key.
+	 */
+	public int indexOf(Object name) {
+
+		Integer index = indexes.get(name);
+
+		return (index != null ? index : -1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof MapIdLayout)) {
+			return false;
+		}
+
+		return Arrays.equals(names, ((MapIdLayout) obj).names);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(names);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return Arrays.toString(names);
+	}
+}
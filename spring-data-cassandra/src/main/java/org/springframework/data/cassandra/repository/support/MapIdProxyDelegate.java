@@ -5,13 +5,20 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
- * Delegate class for dynamic proxies of id interfaces; delegates to {@link BasicMapId}.
+ * Delegate class for dynamic proxies of id interfaces; delegates to an {@link ArrayMapId} whose layout contains the
+ * properties of the id interface. Method names are parsed once per id interface and method, invocations of getters and
+ * setters access the property slot directly.
  * 
  * @see MapIdFactory#id(Class)
  * @see MapIdFactory#id(Class, ClassLoader)
@@ -21,6 +28,8 @@ class MapIdProxyDelegate implements InvocationHandler {
 
 	private static final Map<Signature, Signature> MAP_ID_SIGNATURES;
 
+	private static final Map<Class<?>, IdInterfaceMetadata> METADATA = new ConcurrentReferenceHashMap<Class<?>, IdInterfaceMetadata>();
+
 	static {
 		Method[] mapIdMethods = MapId.class.getMethods();
 		MAP_ID_SIGNATURES = new HashMap<Signature, Signature>(mapIdMethods.length);
@@ -30,76 +39,181 @@ class MapIdProxyDelegate implements InvocationHandler {
 		}
 	}
 
-	private MapId delegate = new BasicMapId();
-	private Class<?> idInterface;
+	private final IdInterfaceMetadata metadata;
+	private final ArrayMapId delegate;
 
 	public MapIdProxyDelegate(Class<?> idInterface) {
-		this.idInterface = idInterface;
+		this.metadata = getMetadata(idInterface);
+		this.delegate = new ArrayMapId(metadata.layout);
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		if (isMapIdMethod(method)) {
-			return method.invoke(delegate, args);
-		}
 
-		if (args != null && args.length > 1) {
-			throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must take zero or one argument",
-					method, idInterface));
-		}
-		boolean isSetter = args != null && args.length == 1;
+		IdMethod idMethod = metadata.getIdMethod(method);
 
-		if (isSetter) {
-			invokeSetter(method, args[0]);
-			return void.class.equals(method.getReturnType()) ? null : proxy;
+		switch (idMethod.kind) {
+			case MAP_ID:
+				return method.invoke(delegate, args);
+			case GETTER:
+				return idMethod.get(delegate);
+			case SETTER:
+				idMethod.set(delegate, args[0]);
+				return idMethod.returnsVoid ? null : proxy;
+			default:
+				throw new IllegalArgumentException(idMethod.error);
 		}
-
-		return invokeGetter(method);
 	}
 
-	public boolean isMapIdMethod(Method method) {
+	public static boolean isMapIdMethod(Method method) {
 		return MAP_ID_SIGNATURES.containsKey(new Signature(method, true));
 	}
 
-	public Serializable invokeGetter(Method method) {
-		String name = method.getName();
-		if (name.startsWith("get")) {
-			if (name.length() == 3) {
-				throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must be of form "
-						+ "'<PropertyType> get<PropertyName>()' or " + "'<PropertyType> <propertyName>()'", name, idInterface));
+	private static IdInterfaceMetadata getMetadata(Class<?> idInterface) {
+
+		IdInterfaceMetadata metadata = METADATA.get(idInterface);
+
+		if (metadata == null) {
+			metadata = new IdInterfaceMetadata(idInterface);
+			METADATA.put(idInterface, metadata);
+		}
+
+		return metadata;
+	}
+
+	/**
+	 * Property slots and resolved methods of an id interface. Slots are laid out for the getters and setters declared by
+	 * the id interface and its super-interfaces, excluding {@link MapId} methods.
+	 */
+	static class IdInterfaceMetadata {
+
+		private final Class<?> idInterface;
+		private final MapIdLayout layout;
+		private final ConcurrentMap<Method, IdMethod> methods = new ConcurrentHashMap<Method, IdMethod>();
+
+		IdInterfaceMetadata(Class<?> idInterface) {
+
+			MapIdLayout empty = MapIdLayout.of();
+			Set<String> propertyNames = new LinkedHashSet<String>();
+
+			for (Method method : idInterface.getMethods()) {
+
+				if (isMapIdMethod(method)) {
+					continue;
+				}
+
+				IdMethod idMethod = IdMethod.resolve(method, idInterface, empty);
+
+				if (idMethod.kind == IdMethod.Kind.GETTER || idMethod.kind == IdMethod.Kind.SETTER) {
+					propertyNames.add(idMethod.name);
+				}
 			}
-			name = StringUtils.uncapitalize(name.substring(3));
+
+			this.idInterface = idInterface;
+			this.layout = MapIdLayout.of(propertyNames);
 		}
 
-		return delegate.get(name);
+		IdMethod getIdMethod(Method method) {
+
+			IdMethod idMethod = methods.get(method);
+
+			if (idMethod == null) {
+				idMethod = IdMethod.resolve(method, idInterface, layout);
+				methods.put(method, idMethod);
+			}
+
+			return idMethod;
+		}
 	}
 
-	public void invokeSetter(Method method, Object value) {
-		String name = method.getName();
-		int minLength = 1;
-		boolean isSet = name.startsWith("set");
-		boolean isWith = name.startsWith("with");
-		minLength += isSet ? 3 : isWith ? 4 : 0;
-		int length = name.length();
-		if (isSet || isWith) {
-			if (length < minLength) {
-				throw new IllegalArgumentException(String.format("Method [%s] on interface [%s] must be of form "
-						+ "'<IdType|void> set<PropertyName>(<PropertyType>)', "
-						+ "'<IdType|void> with<PropertyName>(<PropertyType>)' or "
-						+ "'<IdType|void> <propertyName>(<PropertyType>)'", name, idInterface));
+	/**
+	 * Method of an id interface resolved to the {@link MapId} method, getter or setter and the property slot it accesses.
+	 */
+	static class IdMethod {
+
+		enum Kind {
+			MAP_ID, GETTER, SETTER, INVALID
+		}
+
+		final Kind kind;
+		final String name;
+		final int index;
+		final boolean returnsVoid;
+		final String error;
+
+		private IdMethod(Kind kind, String name, int index, boolean returnsVoid, String error) {
+			this.kind = kind;
+			this.name = name;
+			this.index = index;
+			this.returnsVoid = returnsVoid;
+			this.error = error;
+		}
+
+		static IdMethod resolve(Method method, Class<?> idInterface, MapIdLayout layout) {
+
+			if (isMapIdMethod(method)) {
+				return new IdMethod(Kind.MAP_ID, null, -1, false, null);
 			}
-			name = StringUtils.uncapitalize(name.substring(minLength - 1));
+
+			String name = method.getName();
+			int parameterCount = method.getParameterTypes().length;
+
+			if (parameterCount > 1) {
+				return invalid(String.format("Method [%s] on interface [%s] must take zero or one argument", method,
+						idInterface));
+			}
+
+			if (parameterCount == 0) {
+
+				if (name.startsWith("get")) {
+					if (name.length() == 3) {
+						return invalid(String.format("Method [%s] on interface [%s] must be of form "
+								+ "'<PropertyType> get<PropertyName>()' or " + "'<PropertyType> <propertyName>()'", name, idInterface));
+					}
+					name = StringUtils.uncapitalize(name.substring(3));
+				}
+
+				return new IdMethod(Kind.GETTER, name, layout.indexOf(name), false, null);
+			}
+
+			int minLength = 1;
+			boolean isSet = name.startsWith("set");
+			boolean isWith = name.startsWith("with");
+			minLength += isSet ? 3 : isWith ? 4 : 0;
+			if (isSet || isWith) {
+				if (name.length() < minLength) {
+					return invalid(String.format("Method [%s] on interface [%s] must be of form "
+							+ "'<IdType|void> set<PropertyName>(<PropertyType>)', "
+							+ "'<IdType|void> with<PropertyName>(<PropertyType>)' or "
+							+ "'<IdType|void> <propertyName>(<PropertyType>)'", name, idInterface));
+				}
+				name = StringUtils.uncapitalize(name.substring(minLength - 1));
+			}
+
+			return new IdMethod(Kind.SETTER, name, layout.indexOf(name), void.class.equals(method.getReturnType()), null);
+		}
+
+		private static IdMethod invalid(String error) {
+			return new IdMethod(Kind.INVALID, null, -1, false, error);
 		}
 
-		if (value == null) {
-			delegate.put(name, null);
-			return;
+		Serializable get(ArrayMapId id) {
+			return (index != -1 ? id.getValue(index) : id.get(name));
 		}
-		if (!(value instanceof Serializable)) {
-			throw new IllegalArgumentException(String.format("Given object [%s] must implement %s", value,
-					Serializable.class.getName()));
+
+		void set(ArrayMapId id, Object value) {
+
+			if (value != null && !(value instanceof Serializable)) {
+				throw new IllegalArgumentException(String.format("Given object [%s] must implement %s", value,
+						Serializable.class.getName()));
+			}
+
+			if (index != -1) {
+				id.setValue(index, (Serializable) value);
+			} else {
+				id.put(name, (Serializable) value);
+			}
 		}
-		delegate.put(name, (Serializable) value);
 	}
 }
 
@@ -23,8 +23,11 @@ import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.repository.TypedIdCassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
@@ -105,9 +108,24 @@ public class SimpleCassandraRepository<T, ID extends Serializable> implements Ty
 		return operations.selectAll(entityInformation.getJavaType());
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#findAll(java.lang.Iterable)
+	 */
 	@Override
 	public Iterable<T> findAll(Iterable<ID> ids) {
-		return operations.selectBySimpleIds(entityInformation.getJavaType(), ids);
+		return operations.selectByPartitionKeys(entityInformation.getJavaType(), ids);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.TypedIdCassandraRepository#findAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Slice<T> findAll(Pageable pageable) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		return operations.select(QueryBuilder.select().all().from(entityInformation.getTableName().toCql()), pageable,
+				entityInformation.getJavaType());
 	}
 
 	protected List<T> findAll(Select query) {
@@ -19,6 +19,8 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.nio.ByteBuffer;
+
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.util.Assert;
@@ -108,6 +110,15 @@ public class RowMockUtil {
 			}
 		});
 
+		when(rowMock.getBytesUnsafe(anyInt())).thenAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+
+				Object value = columns[(Integer) invocation.getArguments()[0]].value;
+				return (value instanceof ByteBuffer ? ((ByteBuffer) value).duplicate() : null);
+			}
+		});
+
 		when(rowMock.getObject(anyString())).thenAnswer(new Answer<Object>() {
 			@Override
 			public Object answer(InvocationOnMock invocation) throws Throwable {
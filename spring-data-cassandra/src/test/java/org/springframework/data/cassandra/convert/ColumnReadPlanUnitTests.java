@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+
+/**
+ * Unit tests for {@link ColumnReadPlan}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnReadPlanUnitTests {
+
+	@Mock ColumnDefinitions columns;
+	@Mock CassandraPersistentProperty property;
+
+	ColumnReadPlan plan;
+
+	@Before
+	public void setUp() {
+
+		when(columns.size()).thenReturn(2);
+		when(columns.getIndexOf("firstname")).thenReturn(1);
+		when(columns.getIndexOf("lastname")).thenReturn(-1);
+
+		plan = new ColumnReadPlan(columns);
+	}
+
+	@Test
+	public void shouldResolvePropertyIndexOnce() {
+
+		when(property.getColumnName()).thenReturn(CqlIdentifier.cqlId("firstname"));
+
+		assertThat(plan.getIndex(property)).isEqualTo(1);
+		assertThat(plan.getIndex(property)).isEqualTo(1);
+
+		verify(property, times(1)).getColumnName();
+		verify(columns, times(1)).getIndexOf("firstname");
+	}
+
+	@Test
+	public void shouldCacheMissingColumns() {
+
+		assertThat(plan.getIndex("lastname")).isEqualTo(-1);
+		assertThat(plan.getIndex("lastname")).isEqualTo(-1);
+
+		verify(columns, times(1)).getIndexOf("lastname");
+	}
+
+	@Test
+	public void shouldResolveCollectionElementTypesOnce() {
+
+		when(columns.getType(0)).thenReturn(DataType.map(DataType.text(), DataType.bigint()));
+
+		assertThat(plan.getElementTypes(0, CodecRegistry.DEFAULT_INSTANCE)).containsExactly(String.class, Long.class);
+		assertThat(plan.getElementTypes(0, CodecRegistry.DEFAULT_INSTANCE)).containsExactly(String.class, Long.class);
+
+		verify(columns, times(1)).getType(0);
+	}
+}
@@ -19,14 +19,18 @@ package org.springframework.data.cassandra.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.core.convert.converter.Converter;
 
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 
 /**
@@ -89,4 +93,80 @@ public class ColumnReaderUnitTests {
 			assertThat(e.getMessage()).isEqualTo("Column does not exist in Cassandra table: " + NON_EXISTENT_COLUMN);
 		}
 	}
+
+	@Test
+	public void shouldReadBlobWithoutCodec() {
+
+		ByteBuffer bytes = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+
+		given(columnDefinitions.getType(0)).willReturn(DataType.blob());
+		given(row.getBytesUnsafe(0)).willReturn(bytes);
+
+		assertThat(underTest.get(0)).isSameAs(bytes);
+		verify(row, never()).getObject(0);
+	}
+
+	@Test
+	public void shouldReturnReadOnlyViewOverBytes() {
+
+		byte[] payload = { 1, 2, 3 };
+
+		given(columnDefinitions.getIndexOf("payload")).willReturn(0);
+		given(row.getBytesUnsafe(0)).willReturn(ByteBuffer.wrap(payload));
+
+		ByteBuffer bytes = underTest.getBytes("payload");
+
+		assertThat(bytes.isReadOnly()).isTrue();
+		assertThat(bytes.remaining()).isEqualTo(3);
+
+		payload[0] = 42;
+
+		assertThat(bytes.get(0)).isEqualTo((byte) 42);
+	}
+
+	@Test
+	public void shouldReuseColumnLookupsOfReadPlan() {
+
+		given(columnDefinitions.size()).willReturn(1);
+		given(columnDefinitions.getIndexOf("payload")).willReturn(0);
+		given(row.getBytesUnsafe(0)).willReturn(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+		ColumnReadPlan plan = new ColumnReadPlan(columnDefinitions);
+
+		new ColumnReader(row, plan).getBytes("payload");
+		new ColumnReader(row, plan).getBytes("payload");
+
+		verify(columnDefinitions, times(1)).getIndexOf("payload");
+	}
+
+	@Test
+	public void shouldDecodeBytes() {
+
+		given(columnDefinitions.getIndexOf("payload")).willReturn(0);
+		given(row.getBytesUnsafe(0)).willReturn(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+		Integer length = underTest.decode("payload", new Converter<ByteBuffer, Integer>() {
+
+			@Override
+			public Integer convert(ByteBuffer source) {
+				return source.remaining();
+			}
+		});
+
+		assertThat(length).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldNotDecodeNullValue() {
+
+		given(columnDefinitions.getIndexOf("payload")).willReturn(0);
+
+		assertThat(underTest.decode("payload", new Converter<ByteBuffer, Object>() {
+
+			@Override
+			public Object convert(ByteBuffer source) {
+				throw new UnsupportedOperationException();
+			}
+		})).isNull();
+	}
 }
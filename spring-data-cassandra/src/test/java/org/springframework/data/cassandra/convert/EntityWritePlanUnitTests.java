@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.convert.EntityWritePlan.ColumnWriter;
+import org.springframework.data.cassandra.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.mapping.CassandraType;
+import org.springframework.data.cassandra.mapping.PrimaryKey;
+import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.convert.WritingConverter;
+
+import com.datastax.driver.core.DataType.Name;
+
+/**
+ * Unit tests for {@link EntityWritePlan} resolution in {@link MappingCassandraConverter}.
+ */
+public class EntityWritePlanUnitTests {
+
+	BasicCassandraMappingContext mappingContext;
+	MappingCassandraConverter converter;
+
+	@Before
+	public void setUp() throws Exception {
+
+		mappingContext = new BasicCassandraMappingContext();
+
+		converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	public void shouldResolveWritePlanOnce() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(WritePlanEntity.class);
+
+		assertThat(converter.getWritePlan(entity)).isSameAs(converter.getWritePlan(entity));
+	}
+
+	@Test
+	public void shouldWriteFinalSimpleTypesAsIs() {
+
+		EntityWritePlan plan = getWritePlan(WritePlanEntity.class);
+
+		assertThat(getWriter(plan, "id").isSimpleValue()).isTrue();
+		assertThat(getWriter(plan, "id").isPrimaryKeyPart()).isTrue();
+		assertThat(getWriter(plan, "age").isSimpleValue()).isTrue();
+		assertThat(getWriter(plan, "age").isPrimaryKeyPart()).isFalse();
+	}
+
+	@Test
+	public void shouldNotWriteEnumsAsIs() {
+		assertThat(getWriter(getWritePlan(WritePlanEntity.class), "condition").isSimpleValue()).isFalse();
+	}
+
+	@Test
+	public void shouldNotWriteCassandraTypePropertiesAsIs() {
+		assertThat(getWriter(getWritePlan(WritePlanEntity.class), "description").isSimpleValue()).isFalse();
+	}
+
+	@Test
+	public void shouldNotWriteNonFinalTypesAsIs() {
+		assertThat(getWriter(getWritePlan(WritePlanEntity.class), "lastModified").isSimpleValue()).isFalse();
+	}
+
+	@Test
+	public void shouldNotWriteCompositePrimaryKeysAsIs() {
+
+		ColumnWriter writer = getWriter(getWritePlan(TypeWithFinalKeyClass.class), "key");
+
+		assertThat(writer.isSimpleValue()).isFalse();
+		assertThat(writer.getCompositePrimaryKeyEntity()).isNotNull();
+	}
+
+	@Test
+	public void shouldNotWriteFinalSimpleTypesWithCustomWriteConverterAsIs() {
+
+		converter.setCustomConversions(
+				new CustomConversions(Collections.singletonList(StringToUpperCaseConverter.INSTANCE)));
+
+		EntityWritePlan plan = getWritePlan(WritePlanEntity.class);
+
+		assertThat(getWriter(plan, "id").isSimpleValue()).isFalse();
+		assertThat(getWriter(plan, "age").isSimpleValue()).isTrue();
+	}
+
+	@Test
+	public void setCustomConversionsShouldClearWritePlans() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(WritePlanEntity.class);
+		EntityWritePlan plan = converter.getWritePlan(entity);
+
+		converter.setCustomConversions(new CustomConversions(Collections.emptyList()));
+
+		assertThat(converter.getWritePlan(entity)).isNotSameAs(plan);
+	}
+
+	private EntityWritePlan getWritePlan(Class<?> type) {
+		return converter.getWritePlan(mappingContext.getPersistentEntity(type));
+	}
+
+	private static ColumnWriter getWriter(EntityWritePlan plan, String propertyName) {
+
+		for (ColumnWriter writer : plan.getWriters()) {
+			if (writer.getProperty().getName().equals(propertyName)) {
+				return writer;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format("No ColumnWriter for property %s", propertyName));
+	}
+
+	enum Condition {
+		MINT, USED
+	}
+
+	@Table
+	static class WritePlanEntity {
+
+		@Id String id;
+		int age;
+		Condition condition;
+		@CassandraType(type = Name.VARCHAR) String description;
+		Date lastModified;
+	}
+
+	@Table
+	static class TypeWithFinalKeyClass {
+
+		@PrimaryKey FinalKeyClass key;
+	}
+
+	@PrimaryKeyClass
+	static final class FinalKeyClass implements Serializable {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 1) String firstname;
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 2) String lastname;
+	}
+
+	@WritingConverter
+	enum StringToUpperCaseConverter implements Converter<String, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(String source) {
+			return source.toUpperCase();
+		}
+	}
+}
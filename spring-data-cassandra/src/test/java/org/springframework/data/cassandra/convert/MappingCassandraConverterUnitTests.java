@@ -66,6 +66,9 @@ import org.springframework.data.cassandra.mapping.PrimaryKey;
 import org.springframework.data.cassandra.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
 import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.data.cassandra.repository.support.ArrayMapId;
+import org.springframework.data.cassandra.repository.support.MapIdLayout;
 import org.springframework.data.util.Version;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -255,6 +258,40 @@ public class MappingCassandraConverterUnitTests {
 		assertThat(getWhereValues(where)).contains((Object) "MINT");
 	}
 
+	@Test
+	public void shouldReadEntityUsingDirectEntityReader() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.varchar()),
+				column("firstname", "Walter", DataType.varchar()), column("lastname", null, DataType.varchar()));
+
+		when(rowMock.getString(0)).thenReturn("my-id");
+		when(rowMock.getString(1)).thenReturn("Walter");
+		when(rowMock.isNull(2)).thenReturn(true);
+
+		mappingCassandraConverter.setDirectEntityReading(true);
+
+		Person result = mappingCassandraConverter.readRow(Person.class, rowMock);
+
+		assertThat(result.getId()).isEqualTo("my-id");
+		assertThat(result.getFirstname()).isEqualTo("Walter");
+		assertThat(result.getLastname()).isNull();
+		verify(rowMock, never()).getObject(anyInt());
+	}
+
+	@Test
+	public void shouldFallBackToMappingForUnsupportedEntityWithDirectEntityReading() {
+
+		Row rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localDate", LocalDate.fromYearMonthDay(2010, 7, 4), DataType.date()));
+
+		mappingCassandraConverter.setDirectEntityReading(true);
+
+		TypeWithLocalDateMappedToDate result = mappingCassandraConverter.readRow(TypeWithLocalDateMappedToDate.class,
+				rowMock);
+
+		assertThat(result.localDate.getYear()).isEqualTo(2010);
+	}
+
 	@Test // DATACASS-280
 	public void shouldReadStringCorrectly() {
 
@@ -839,6 +876,44 @@ public class MappingCassandraConverterUnitTests {
 				mappingContext.getPersistentEntity(TypeWithMapId.class));
 	}
 
+	@Test
+	public void shouldCreateArrayMapIdForEntityWithoutIdProperty() {
+
+		TypeWithCompositeKey entity = new TypeWithCompositeKey();
+		entity.setFirstname("Walter");
+		entity.setLastname("White");
+
+		Object id = mappingCassandraConverter.getId(entity,
+				mappingContext.getPersistentEntity(TypeWithCompositeKey.class));
+
+		assertThat(id).isInstanceOf(ArrayMapId.class).isEqualTo(id("firstname", "Walter").with("lastname", "White"));
+	}
+
+	@Test
+	public void shouldWriteWhereConditionUsingArrayMapIdOfOtherLayout() {
+
+		Delete delete = QueryBuilder.delete().from("table");
+
+		MapId id = new ArrayMapId(MapIdLayout.of("lastname", "firstname")).with("firstname", "Walter")
+				.with("lastname", "White");
+
+		mappingCassandraConverter.write(id, delete.where(), mappingContext.getPersistentEntity(TypeWithKeyClass.class));
+
+		assertThat(getWherePredicates(delete)).containsEntry("firstname", "Walter");
+		assertThat(getWherePredicates(delete)).containsEntry("lastname", "White");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldFailWhereConditionUsingArrayMapIdHavingUnknownProperty() {
+
+		Delete delete = QueryBuilder.delete().from("table");
+
+		MapId id = new ArrayMapId(MapIdLayout.of("firstname", "lastname")).with("firstname", "Walter")
+				.with("unknown", "White");
+
+		mappingCassandraConverter.write(id, delete.where(), mappingContext.getPersistentEntity(TypeWithMapId.class));
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> List<T> getListValue(Insert statement) {
 		List<Object> values = getValues(statement);
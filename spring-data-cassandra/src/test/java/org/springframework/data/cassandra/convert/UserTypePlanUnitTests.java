@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.model.SpELContext;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.UserType.Field;
+
+/**
+ * Unit tests for {@link UserTypePlan}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserTypePlanUnitTests {
+
+	@Mock CassandraPersistentProperty property;
+
+	UserType userType;
+	UserTypePlan plan;
+
+	@Before
+	public void setUp() {
+
+		userType = createUserType("address", Arrays.asList(createField("city", DataType.varchar()),
+				createField("zip", DataType.cint()), createField("Country", DataType.varchar())));
+
+		plan = new UserTypePlan(userType, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	@Test
+	public void shouldResolvePropertyIndexOnce() {
+
+		when(property.getColumnName()).thenReturn(CqlIdentifier.cqlId("zip"));
+
+		assertThat(plan.getIndex(property)).isEqualTo(1);
+		assertThat(plan.getIndex(property)).isEqualTo(1);
+
+		verify(property, times(1)).getColumnName();
+	}
+
+	@Test
+	public void shouldResolveFieldNamesLikeUdtValue() {
+
+		when(property.getColumnName()).thenReturn(CqlIdentifier.cqlId("Country", true));
+
+		assertThat(plan.getIndex(property)).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldReturnMissingIndexForUnknownField() {
+
+		when(property.getColumnName()).thenReturn(CqlIdentifier.cqlId("street"));
+
+		assertThat(plan.getIndex(property)).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldResolveFieldCodecsOnce() {
+
+		assertThat(plan.getCodec(1).getJavaType().getRawType()).isEqualTo(Integer.class);
+		assertThat(plan.getCodec(1)).isSameAs(plan.getCodec(1));
+	}
+
+	@Test
+	public void shouldReadUdtValueByFieldIndex() {
+
+		UDTValue udtValue = userType.newValue().setString("city", "Hamburg").setInt("zip", 20097);
+
+		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue,
+				new SpELContext(RowReaderPropertyAccessor.INSTANCE), plan);
+
+		when(property.getColumnName()).thenReturn(CqlIdentifier.cqlId("zip"));
+
+		assertThat(valueProvider.hasProperty(property)).isTrue();
+		assertThat(valueProvider.getPropertyValue(property)).isEqualTo(20097);
+	}
+
+	private static Field createField(String fieldName, DataType dataType) {
+
+		try {
+			Constructor<Field> constructor = Field.class.getDeclaredConstructor(String.class, DataType.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(fieldName, dataType);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static UserType createUserType(String typeName, Collection<Field> fields) {
+
+		try {
+			Constructor<UserType> constructor = UserType.class.getDeclaredConstructor(String.class, String.class,
+					Collection.class, ProtocolVersion.class, CodecRegistry.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(typeName, typeName, fields, ProtocolVersion.NEWEST_SUPPORTED,
+					CodecRegistry.DEFAULT_INSTANCE);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.AsyncCqlOperations;
+import org.springframework.cassandra.core.RowMapper;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link AsyncCassandraTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncCassandraTemplateUnitTests {
+
+	@Mock AsyncCqlOperations asyncCqlOperations;
+
+	AsyncCassandraTemplate template;
+
+	@Before
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		template = new AsyncCassandraTemplate(asyncCqlOperations, converter);
+	}
+
+	@Test
+	public void insertShouldCompleteWithEntity() throws Exception {
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		when(asyncCqlOperations.execute(captor.capture())).thenReturn(CompletableFuture.completedFuture(true));
+
+		Book book = new Book("isbn");
+
+		assertThat(template.insert(book).get()).isSameAs(book);
+		assertThat(captor.getValue().toString()).startsWith("INSERT INTO book");
+	}
+
+	@Test
+	public void batchInsertShouldCompleteWithEntities() throws Exception {
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		when(asyncCqlOperations.execute(captor.capture())).thenReturn(CompletableFuture.completedFuture(true));
+
+		List<Book> books = Arrays.asList(new Book("isbn-1"), new Book("isbn-2"));
+
+		assertThat(template.insert(books).get()).isSameAs(books);
+		assertThat(captor.getValue().toString()).startsWith("BEGIN BATCH INSERT INTO book");
+	}
+
+	@Test
+	public void batchDeleteShouldCompleteEmptyListWithoutExecuting() throws Exception {
+
+		List<Book> books = Collections.emptyList();
+
+		assertThat(template.delete(books).get()).isSameAs(books);
+		verifyZeroInteractions(asyncCqlOperations);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void selectOneShouldCompleteWithNullForEmptyResult() throws Exception {
+
+		when(asyncCqlOperations.query(any(Statement.class), any(RowMapper.class), eq(2)))
+				.thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+		assertThat(template.selectOne("SELECT * FROM book", Book.class).get()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void selectOneShouldFailForMultipleResults() throws Exception {
+
+		when(asyncCqlOperations.query(any(Statement.class), any(RowMapper.class), eq(2)))
+				.thenReturn(CompletableFuture.completedFuture(Arrays.asList(new Book(), new Book())));
+
+		try {
+			template.selectOne("SELECT * FROM book", Book.class).get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(IncorrectResultSizeDataAccessException.class);
+		}
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void cancelShouldPropagateToQuery() {
+
+		CompletableFuture<List<Object>> query = new CompletableFuture<List<Object>>();
+		when(asyncCqlOperations.query(any(Statement.class), any(RowMapper.class), eq(2))).thenReturn((CompletableFuture) query);
+
+		template.selectOne("SELECT * FROM book", Book.class).cancel(true);
+
+		assertThat(query.isCancelled()).isTrue();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link BatchSplitter}.
+ */
+public class BatchSplitterUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectZeroStatementsPerBatch() {
+		new BatchSplitter(0, 0);
+	}
+
+	@Test
+	public void shouldEstimateSizeOfRegularStatement() {
+
+		int size = estimateSize(new SimpleStatement("INSERT INTO book (isbn) VALUES ('1');"));
+
+		assertThat(size).isEqualTo(1 + 4 + 37 + 2);
+	}
+
+	@Test
+	public void shouldEstimateSizeIncludingValues() {
+
+		int size = estimateSize(new SimpleStatement("INSERT INTO book (isbn) VALUES (?);", "12345"));
+
+		assertThat(size).isEqualTo(1 + 4 + 35 + 2 + 4 + 5);
+	}
+
+	@Test
+	public void shouldEstimateSizeOfBatchFromItsStatements() {
+
+		BatchStatement batch = new BatchStatement();
+		batch.add(statementOfSize(100));
+		batch.add(statementOfSize(50));
+
+		assertThat(estimateSize(batch)).isEqualTo(150);
+	}
+
+	@Test
+	public void shouldSplitByStatementCount() {
+
+		List<BatchStatement> batches = split(new BatchSplitter(2, 0), statements(5, 100));
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(0).size()).isEqualTo(2);
+		assertThat(batches.get(2).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldSplitBySize() {
+
+		List<BatchStatement> batches = split(new BatchSplitter(100, 250), statements(5, 100));
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(0).size()).isEqualTo(2);
+		assertThat(batches.get(1).size()).isEqualTo(2);
+		assertThat(batches.get(2).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldWriteOversizedStatementInOwnBatch() {
+
+		List<BatchStatement> batches = split(new BatchSplitter(100, 250),
+				Arrays.asList(statementOfSize(100), statementOfSize(400), statementOfSize(100)));
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(1).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRetainBatchType() {
+
+		List<BatchStatement> batches = split(new BatchSplitter(100, 0), statements(1, 100));
+
+		assertThat(batches.get(0).getBatchType()).isEqualTo(BatchStatement.Type.UNLOGGED);
+	}
+
+	private static List<BatchStatement> split(BatchSplitter splitter, List<Statement> statements) {
+		return splitter.split(statements, BatchStatement.Type.UNLOGGED, ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	private static int estimateSize(Statement statement) {
+		return BatchSplitter.estimateSize(statement, ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	private static List<Statement> statements(int count, int size) {
+
+		List<Statement> statements = new ArrayList<Statement>(count);
+
+		for (int i = 0; i < count; i++) {
+			statements.add(statementOfSize(size));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Creates a {@link SimpleStatement} whose estimated size is {@code size} bytes.
+	 */
+	private static Statement statementOfSize(int size) {
+
+		StringBuilder cql = new StringBuilder();
+
+		for (int i = 0; i < size - 7; i++) {
+			cql.append('x');
+		}
+
+		return new SimpleStatement(cql.toString());
+	}
+}
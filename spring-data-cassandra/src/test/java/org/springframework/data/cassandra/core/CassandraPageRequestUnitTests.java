@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.SerializationUtils;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link CassandraPageRequest}.
+ */
+public class CassandraPageRequestUnitTests {
+
+	@Test
+	public void firstShouldNotHavePagingState() {
+
+		CassandraPageRequest request = CassandraPageRequest.first(10);
+
+		assertThat(request.getPageNumber()).isZero();
+		assertThat(request.getPageSize()).isEqualTo(10);
+		assertThat(request.hasPagingState()).isFalse();
+	}
+
+	@Test
+	public void nextShouldRetainPagingState() {
+
+		PagingState pagingState = mock(PagingState.class);
+
+		Pageable next = CassandraPageRequest.of(new PageRequest(0, 10), pagingState).next();
+
+		assertThat(next).isInstanceOf(CassandraPageRequest.class);
+		assertThat(next.getPageNumber()).isEqualTo(1);
+		assertThat(((CassandraPageRequest) next).getPagingState()).isSameAs(pagingState);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nextShouldRequirePagingState() {
+		CassandraPageRequest.first(10).next();
+	}
+
+	@Test
+	public void firstShouldDiscardPagingState() {
+
+		Pageable first = CassandraPageRequest.of(new PageRequest(3, 10), mock(PagingState.class)).first();
+
+		assertThat(first.getPageNumber()).isZero();
+		assertThat(((CassandraPageRequest) first).hasPagingState()).isFalse();
+	}
+
+	@Test
+	public void previousShouldReturnFirstPage() {
+
+		Pageable previous = CassandraPageRequest.of(new PageRequest(3, 10), mock(PagingState.class)).previous();
+
+		assertThat(previous.getPageNumber()).isZero();
+		assertThat(previous.getPageSize()).isEqualTo(10);
+		assertThat(((CassandraPageRequest) previous).hasPagingState()).isFalse();
+	}
+
+	@Test
+	public void serializationShouldRetainPagingState() {
+
+		PagingState pagingState = createPagingState(new byte[] { 1, 2, 3 });
+		CassandraPageRequest request = CassandraPageRequest.of(new PageRequest(2, 10), pagingState);
+
+		CassandraPageRequest deserialized = (CassandraPageRequest) SerializationUtils
+				.deserialize(SerializationUtils.serialize(request));
+
+		assertThat(deserialized).isEqualTo(request);
+		assertThat(deserialized.getPagingState().toString()).isEqualTo(pagingState.toString());
+	}
+
+	@Test
+	public void serializationShouldRetainFirstPageWithoutPagingState() {
+
+		CassandraPageRequest request = CassandraPageRequest.first(10);
+
+		CassandraPageRequest deserialized = (CassandraPageRequest) SerializationUtils
+				.deserialize(SerializationUtils.serialize(request));
+
+		assertThat(deserialized).isEqualTo(request);
+		assertThat(deserialized.hasPagingState()).isFalse();
+	}
+
+	private static PagingState createPagingState(byte[] state) {
+
+		try {
+			Constructor<PagingState> constructor = PagingState.class.getDeclaredConstructor(ByteBuffer.class,
+					Statement.class, ProtocolVersion.class, CodecRegistry.class);
+			constructor.setAccessible(true);
+			return constructor.newInstance(ByteBuffer.wrap(state), new SimpleStatement("SELECT * FROM person"),
+					ProtocolVersion.NEWEST_SUPPORTED, CodecRegistry.DEFAULT_INSTANCE);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
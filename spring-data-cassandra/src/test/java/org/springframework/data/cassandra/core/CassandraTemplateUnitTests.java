@@ -27,15 +27,27 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.support.exception.CassandraReadTimeoutException;
 import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.PartitionedBatchWriterUnitTests.SettableResultSetFuture;
 import org.springframework.data.cassandra.test.integration.simpletons.Book;
-
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Select;
 
@@ -157,4 +169,82 @@ public class CassandraTemplateUnitTests {
 
 		verify(mockSession).execute(Mockito.any(Batch.class));
 	}
+
+	@Test
+	public void insertShouldExecuteBoundStatementWhenUsingPreparedStatements() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		PreparedStatementMockUtil.stubPrepare(mockSession, preparedStatement);
+		when(preparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(boundStatement);
+
+		template.setUsePreparedStatements(true);
+		template.insert(new Book("isbn"));
+
+		verify(mockSession).execute(boundStatement);
+	}
+
+	@Test
+	public void selectWithPageableShouldReturnCurrentPageOnly() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		PagingState pagingState = mock(PagingState.class);
+		Row rowOne = mockRow("RowOne");
+		Row rowTwo = mockRow("RowTwo");
+
+		when(mockSession.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(resultSet.one()).thenReturn(rowOne, rowTwo);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+
+		Slice<Row> slice = template.select("SELECT * FROM Test", CassandraPageRequest.first(2), Row.class);
+
+		assertThat(slice.getContent()).containsExactly(rowOne, rowTwo);
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(((CassandraPageRequest) slice.nextPageable()).getPagingState()).isSameAs(pagingState);
+		assertThat(slice.nextPageable().getPageNumber()).isEqualTo(1);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(mockSession).execute(captor.capture());
+		assertThat(captor.getValue().getFetchSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void selectByPartitionKeysShouldReportFailedPartitions() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement first = mock(BoundStatement.class);
+		BoundStatement second = mock(BoundStatement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+
+		SettableResultSetFuture succeeded = new SettableResultSetFuture();
+		succeeded.set(resultSet);
+		SettableResultSetFuture failed = new SettableResultSetFuture();
+		failed.setException(new ReadTimeoutException(ConsistencyLevel.ONE, 0, 1, false));
+
+		PreparedStatementMockUtil.stubPrepare(mockSession, preparedStatement);
+		when(preparedStatement.bind(Mockito.<Object> anyVararg())).thenReturn(first, second);
+		when(mockSession.executeAsync(first)).thenReturn(succeeded);
+		when(mockSession.executeAsync(second)).thenReturn(failed);
+		when(resultSet.iterator()).thenReturn(Collections.<Row> emptyIterator());
+
+		try {
+			template.selectByPartitionKeys(Book.class, Arrays.asList("isbn-1", "isbn-2"));
+			fail("Missing PartitionReadException");
+		} catch (PartitionReadException e) {
+			assertThat(e.getResults()).isEmpty();
+			assertThat(e.getFailures()).containsOnlyKeys("isbn-2");
+			assertThat(e.getFailures().get("isbn-2")).isInstanceOf(CassandraReadTimeoutException.class);
+		}
+
+		verify(mockSession, times(1)).prepare(anyString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void selectWithPageableShouldRejectFollowingPageWithoutPagingState() {
+		template.select("SELECT * FROM Test", new PageRequest(1, 10), Row.class);
+	}
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.core.PreparedStatementMockUtil.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.LruPreparedStatementCache;
+import org.springframework.cassandra.core.PreparedStatementCache;
+import org.springframework.cassandra.core.WriteOptions;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.EntityPreparedStatementFactory.StatementKind;
+import org.springframework.data.cassandra.core.EntityPreparedStatementFactory.StatementTemplate;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Session;
+
+/**
+ * Unit tests for {@link EntityPreparedStatementFactory}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EntityPreparedStatementFactoryUnitTests {
+
+	@Mock Session session;
+	@Mock BoundStatement boundStatement;
+
+	MappingCassandraConverter converter;
+	EntityPreparedStatementFactory factory;
+	Object[] boundValues;
+	List<DataType> boundTypes;
+	PreparedStatementCache cache = new LruPreparedStatementCache();
+
+	Answer<PreparedStatement> preparing = new Answer<PreparedStatement>() {
+
+		@Override
+		public PreparedStatement answer(InvocationOnMock invocation) throws Throwable {
+			return prepare((String) invocation.getArguments()[0]);
+		}
+	};
+
+	@Before
+	public void setUp() {
+
+		converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		factory = new EntityPreparedStatementFactory(converter);
+
+		stubConfiguration(session);
+
+		when(session.prepare(anyString())).thenAnswer(preparing);
+		when(boundStatement.setBytesUnsafe(anyInt(), any(ByteBuffer.class))).thenAnswer(new Answer<BoundStatement>() {
+
+			@Override
+			public BoundStatement answer(InvocationOnMock invocation) throws Throwable {
+
+				int index = (Integer) invocation.getArguments()[0];
+				ByteBuffer bytes = (ByteBuffer) invocation.getArguments()[1];
+
+				boundValues[index] = CodecRegistry.DEFAULT_INSTANCE.codecFor(boundTypes.get(index)).deserialize(bytes,
+						ProtocolVersion.V4);
+
+				return boundStatement;
+			}
+		});
+	}
+
+	@Test
+	public void shouldRenderInsertWithBindMarkers() {
+
+		StatementTemplate template = StatementTemplate.create(getEntity(Book.class), StatementKind.INSERT, true);
+
+		assertThat(template.getCql()).startsWith("INSERT INTO book (").contains("isbn").contains("title")
+				.endsWith("USING TTL ?;");
+		assertThat(template.getCql()).doesNotContain("'");
+	}
+
+	@Test
+	public void shouldRenderUpdateWithCompositeKeyInWhereClause() {
+
+		StatementTemplate template = StatementTemplate.create(getEntity(Group.class), StatementKind.UPDATE, false);
+
+		assertThat(template.getCql()).startsWith("UPDATE ").contains(" SET ").contains("email=?").contains("age=?")
+				.contains("groupname=?").contains("hash_prefix=?").contains("username=?");
+		assertThat(template.getCql().indexOf("email=?")).isLessThan(template.getCql().indexOf("WHERE"));
+		assertThat(template.getCql().indexOf("username=?")).isGreaterThan(template.getCql().indexOf("WHERE"));
+	}
+
+	@Test
+	public void shouldRenderDeleteForKeyColumns() {
+
+		StatementTemplate template = StatementTemplate.create(getEntity(Group.class), StatementKind.DELETE, false);
+
+		assertThat(template.getCql()).startsWith("DELETE FROM ").contains(" WHERE ").contains("groupname=?")
+				.doesNotContain("email");
+	}
+
+	@Test
+	public void shouldBindInsertValuesAndTtl() {
+
+		Book book = new Book("isbn-1");
+		book.setTitle("Spring Data");
+
+		WriteOptions options = new WriteOptions();
+		options.setTtl(42);
+
+		BoundStatement result = factory.insert(cache, session, book, options);
+
+		assertThat(result).isSameAs(boundStatement);
+		assertThat(boundValues).contains("isbn-1", "Spring Data");
+		assertThat(boundValues[boundValues.length - 1]).isEqualTo(42);
+	}
+
+	@Test
+	public void shouldBindDeleteKeyValues() {
+
+		Group group = new Group(new GroupKey("users", "0x1", "walter"));
+		group.setEmail("walter@white.com");
+
+		factory.delete(cache, session, group, null);
+
+		assertThat(boundValues).containsOnly("users", "0x1", "walter");
+	}
+
+	@Test
+	public void shouldBindNullValues() {
+
+		factory.insert(cache, session, new Book("isbn-1"), null);
+
+		assertThat(boundValues).contains("isbn-1", 0, false);
+		verify(boundStatement, atLeastOnce()).setToNull(anyInt());
+	}
+
+	@Test
+	public void shouldPrepareStatementOnce() {
+
+		Session otherSession = mock(Session.class);
+		stubConfiguration(otherSession);
+		when(otherSession.prepare(anyString())).thenAnswer(preparing);
+
+		factory.update(cache, otherSession, new Book("isbn-1"), null);
+		factory.update(cache, otherSession, new Book("isbn-2"), null);
+
+		verify(otherSession, times(1)).prepare(anyString());
+	}
+
+	@Test
+	public void shouldResolveCodecsFromCodecRegistryOfSession() {
+
+		CodecRegistry codecRegistry = spy(new CodecRegistry());
+		Session otherSession = mock(Session.class);
+		stubConfiguration(otherSession, codecRegistry);
+		when(otherSession.prepare(anyString())).thenAnswer(preparing);
+
+		factory.insert(cache, session, new Book("isbn-1"), null);
+		factory.insert(cache, otherSession, new Book("isbn-2"), null);
+
+		assertThat(boundValues).contains("isbn-2");
+		verify(codecRegistry, atLeastOnce()).codecFor(any(DataType.class), any());
+	}
+
+	@Test
+	public void shouldBindSelectForSimpleId() {
+
+		BoundStatement result = factory.select(cache, session, Book.class, "isbn-1");
+
+		assertThat(result).isSameAs(boundStatement);
+		assertThat(boundValues).containsExactly("isbn-1");
+		verify(session).prepare("SELECT * FROM book WHERE isbn=?;");
+	}
+
+	@Test
+	public void shouldBindSelectForPartitionKeyOfMapId() {
+
+		factory.select(cache, session, Group.class, id("groupname", "users").with("hashPrefix", "0x1"));
+
+		assertThat(boundValues).containsExactly("users", "0x1");
+		verify(session).prepare(contains(" WHERE groupname=? AND hash_prefix=?;"));
+	}
+
+	@Test
+	public void shouldBindSelectForCompositePrimaryKey() {
+
+		factory.select(cache, session, Group.class, new GroupKey("users", "0x1", "walter"));
+
+		assertThat(boundValues).containsExactly("users", "0x1", "walter");
+	}
+
+	@Test
+	public void shouldBindSelectForEntity() {
+
+		Book book = new Book("isbn-1");
+		book.setTitle("Breaking Bad");
+
+		factory.select(cache, session, Book.class, book);
+
+		assertThat(boundValues).containsExactly("isbn-1");
+		verify(session).prepare("SELECT * FROM book WHERE isbn=?;");
+	}
+
+	@Test
+	public void shouldBindSelectForEntityWithCompositePrimaryKey() {
+
+		Group group = new Group(new GroupKey("users", "0x1", "walter"));
+		group.setEmail("walter@white.com");
+
+		factory.select(cache, session, Group.class, group);
+
+		assertThat(boundValues).containsExactly("users", "0x1", "walter");
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void selectShouldRejectIncompletePartitionKey() {
+		factory.select(cache, session, Group.class, id("groupname", "users"));
+	}
+
+	private CassandraPersistentEntity<?> getEntity(Class<?> type) {
+		return converter.getMappingContext().getPersistentEntity(type);
+	}
+
+	/**
+	 * Creates a {@link PreparedStatement} mock for the given {@code cql}. Bind marker types are derived from the column
+	 * names, {@link BoundStatement} values are deserialized into {@link #boundValues}.
+	 */
+	private PreparedStatement prepare(String cql) {
+
+		final List<DataType> types = getBindMarkerTypes(cql);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		ColumnDefinitions variables = getVariables(types);
+
+		when(preparedStatement.getQueryString()).thenReturn(cql);
+		when(preparedStatement.getVariables()).thenReturn(variables);
+		when(preparedStatement.bind()).thenAnswer(new Answer<BoundStatement>() {
+
+			@Override
+			public BoundStatement answer(InvocationOnMock invocation) throws Throwable {
+
+				boundTypes = types;
+				boundValues = new Object[types.size()];
+
+				return boundStatement;
+			}
+		});
+
+		return preparedStatement;
+	}
+}
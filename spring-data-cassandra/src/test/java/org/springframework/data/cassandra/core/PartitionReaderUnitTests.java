@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.PartitionedBatchWriterUnitTests.SettableResultSetFuture;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link PartitionReader}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionReaderUnitTests {
+
+	@Mock Session session;
+
+	List<SettableResultSetFuture> futures = new ArrayList<SettableResultSetFuture>();
+	PartitionReader reader;
+
+	@Before
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		reader = new PartitionReader(new EntityPreparedStatementFactory(converter));
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				futures.add(future);
+
+				return future;
+			}
+		});
+	}
+
+	@Test
+	public void shouldLimitQueriesInFlight() throws Exception {
+
+		List<Statement> queries = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		ListenableFuture<List<ListenableFuture<ResultSet>>> result = reader.executeAsync(session, queries, 2);
+
+		assertThat(futures).hasSize(2);
+
+		futures.get(1).set(mock(ResultSet.class));
+
+		assertThat(futures).hasSize(3);
+		assertThat(result.isDone()).isFalse();
+
+		futures.get(2).set(mock(ResultSet.class));
+		futures.get(0).set(mock(ResultSet.class));
+
+		assertThat(result.get()).containsExactly(futures.get(0), futures.get(1), futures.get(2));
+	}
+
+	@Test
+	public void shouldContinueReadingAfterFailure() throws Exception {
+
+		ResultSet resultSet = mock(ResultSet.class);
+
+		ListenableFuture<List<ListenableFuture<ResultSet>>> result = reader.executeAsync(session,
+				Arrays.asList(mock(Statement.class), mock(Statement.class)), 1);
+
+		futures.get(0).setException(new IllegalStateException("Read timeout"));
+
+		assertThat(futures).hasSize(2);
+
+		futures.get(1).set(resultSet);
+
+		List<ListenableFuture<ResultSet>> completed = result.get();
+
+		try {
+			completed.get(0).get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+		}
+
+		assertThat(completed.get(1).get()).isSameAs(resultSet);
+	}
+
+	@Test
+	public void cancelShouldCancelQueriesInFlight() {
+
+		ListenableFuture<List<ListenableFuture<ResultSet>>> result = reader.executeAsync(session,
+				Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class)), 2);
+
+		result.cancel(true);
+
+		assertThat(futures).hasSize(2);
+		assertThat(futures.get(0).isCancelled()).isTrue();
+		assertThat(futures.get(1).isCancelled()).isTrue();
+	}
+
+	@Test
+	public void shouldCancelQuerySubmittedWhileCancelling() {
+
+		final AtomicReference<ListenableFuture<List<ListenableFuture<ResultSet>>>> result = new AtomicReference<ListenableFuture<List<ListenableFuture<ResultSet>>>>();
+
+		doAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				if (!futures.isEmpty()) {
+					result.get().cancel(true);
+				}
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				futures.add(future);
+
+				return future;
+			}
+		}).when(session).executeAsync(any(Statement.class));
+
+		result.set(reader.executeAsync(session, Arrays.asList(mock(Statement.class), mock(Statement.class)), 1));
+
+		futures.get(0).set(mock(ResultSet.class));
+
+		assertThat(result.get().isCancelled()).isTrue();
+		assertThat(futures).hasSize(2);
+		assertThat(futures.get(1).isCancelled()).isTrue();
+	}
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.cassandra.core.PrimaryKeyType;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.PartitionedBatchWriter.RoutedStatement;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.mapping.Table;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Unit tests for {@link PartitionedBatchWriter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionedBatchWriterUnitTests {
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	@Mock Session session;
+	@Mock Cluster cluster;
+	@Mock Configuration configuration;
+	@Mock ProtocolOptions protocolOptions;
+
+	PartitionedBatchWriter writer;
+
+	@Before
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		writer = new PartitionedBatchWriter(converter);
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.getLoggedKeyspace()).thenReturn("library");
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+		when(configuration.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+	}
+
+	@Test
+	public void shouldGroupStatementsByPartition() {
+
+		List<Book> books = Arrays.asList(new Book("isbn-1"), new Book("isbn-2"), new Book("isbn-1"));
+		List<Statement> statements = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		List<Statement> batches = writer.createBatches(session, books, statements, null, null, new BatchSplitter(100, 0));
+
+		assertThat(batches).hasSize(2);
+		assertThat(getBatch(batches.get(0)).size()).isEqualTo(2);
+		assertThat(getBatch(batches.get(0)).getBatchType()).isEqualTo(BatchStatement.Type.UNLOGGED);
+		assertThat(getBatch(batches.get(1)).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRouteBatchByPartitionKey() {
+
+		List<Statement> batches = writer.createBatches(session, Arrays.asList(new Book("isbn-1")),
+				Arrays.asList(mock(Statement.class)), null, null, new BatchSplitter(100, 0));
+
+		RoutedStatement batch = (RoutedStatement) batches.get(0);
+
+		assertThat(batch.getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE))
+				.isEqualTo(ByteBuffer.wrap("isbn-1".getBytes(UTF8)));
+		assertThat(batch.getKeyspace()).isEqualTo("library");
+	}
+
+	@Test
+	public void shouldComposeRoutingKeyOfCompositePartitionKey() {
+
+		List<Group> groups = Arrays.asList(new Group(new GroupKey("users", "0x1", "walter")),
+				new Group(new GroupKey("users", "0x1", "jesse")), new Group(new GroupKey("admins", "0x1", "walter")));
+		List<Statement> statements = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		List<Statement> batches = writer.createBatches(session, groups, statements, null, null, new BatchSplitter(100, 0));
+
+		assertThat(batches).hasSize(2);
+
+		ByteBuffer expected = PartitionedBatchWriter.compose(
+				Arrays.asList(ByteBuffer.wrap("users".getBytes(UTF8)), ByteBuffer.wrap("0x1".getBytes(UTF8))));
+
+		assertThat(batches.get(0).getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE)).isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldUseRoutingKeyProvidedByStatement() {
+
+		ByteBuffer routingKey = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+		Statement statement = mock(Statement.class);
+
+		when(statement.getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE)).thenReturn(routingKey);
+
+		List<Statement> batches = writer.createBatches(session, Arrays.asList(new Book("isbn-1")),
+				Arrays.asList(statement), null, null, new BatchSplitter(100, 0));
+
+		assertThat(batches.get(0).getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE)).isEqualTo(routingKey);
+	}
+
+	@Test
+	public void shouldComposeRoutingKeyInPartitionKeyOrdinalOrder() {
+
+		List<Statement> batches = writer.createBatches(session, Arrays.asList(new Reading("sensor-1", "2017-01")),
+				Arrays.asList(mock(Statement.class)), null, null, new BatchSplitter(100, 0));
+
+		ByteBuffer expected = PartitionedBatchWriter.compose(
+				Arrays.asList(ByteBuffer.wrap("sensor-1".getBytes(UTF8)), ByteBuffer.wrap("2017-01".getBytes(UTF8))));
+
+		assertThat(batches.get(0).getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE)).isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldPropagateRoutingKeyConversionFailures() {
+
+		Statement statement = mock(Statement.class);
+
+		when(statement.getRoutingKey(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE))
+				.thenThrow(new IllegalStateException("Cannot serialize"));
+
+		try {
+			writer.createBatches(session, Arrays.asList(new Book("isbn-1")), Arrays.asList(statement), null, null,
+					new BatchSplitter(100, 0));
+			fail("Missing IllegalStateException");
+		} catch (IllegalStateException e) {
+			assertThat(e).hasMessage("Cannot serialize");
+		}
+	}
+
+	@Test
+	public void shouldSplitPartitionsExceedingMaximumBatchSize() {
+
+		List<Book> books = Arrays.asList(new Book("isbn-1"), new Book("isbn-1"), new Book("isbn-1"));
+		List<Statement> statements = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		List<Statement> batches = writer.createBatches(session, books, statements, null, 1234L, new BatchSplitter(2, 0));
+
+		assertThat(batches).hasSize(2);
+		assertThat(getBatch(batches.get(0)).size()).isEqualTo(2);
+		assertThat(getBatch(batches.get(1)).size()).isEqualTo(1);
+		assertThat(getBatch(batches.get(0)).getDefaultTimestamp()).isEqualTo(1234L);
+	}
+
+	@Test
+	public void composeShouldEncodeCompositeRoutingKey() {
+
+		ByteBuffer composite = PartitionedBatchWriter.compose(
+				Arrays.asList(ByteBuffer.wrap(new byte[] { 1, 2 }), ByteBuffer.wrap(new byte[] { 3 })));
+
+		assertThat(composite).isEqualTo(ByteBuffer.wrap(new byte[] { 0, 2, 1, 2, 0, 0, 1, 3, 0 }));
+	}
+
+	@Test
+	public void composeShouldReturnSingleComponentAsIs() {
+
+		ByteBuffer component = ByteBuffer.wrap(new byte[] { 1, 2 });
+
+		assertThat(PartitionedBatchWriter.compose(Arrays.asList(component))).isSameAs(component);
+	}
+
+	@Test
+	public void shouldSplitUnpartitionedStatementsIntoLoggedBatches() {
+
+		List<Statement> statements = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		List<Statement> batches = writer.createBatches(session, statements, null, null, new BatchSplitter(2, 0));
+
+		assertThat(batches).hasSize(2);
+		assertThat(((BatchStatement) batches.get(0)).getBatchType()).isEqualTo(BatchStatement.Type.LOGGED);
+		assertThat(((BatchStatement) batches.get(0)).size()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldLimitBatchesInFlight() throws Exception {
+
+		final List<SettableResultSetFuture> futures = new ArrayList<SettableResultSetFuture>();
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				futures.add(future);
+
+				return future;
+			}
+		});
+
+		List<Statement> batches = Arrays.asList(mock(Statement.class), mock(Statement.class), mock(Statement.class));
+
+		ListenableFuture<List<ResultSet>> result = writer.executeAsync(session, batches, 2);
+
+		assertThat(futures).hasSize(2);
+
+		futures.get(0).set(mock(ResultSet.class));
+
+		assertThat(futures).hasSize(3);
+		assertThat(result.isDone()).isFalse();
+
+		futures.get(1).set(mock(ResultSet.class));
+		futures.get(2).set(mock(ResultSet.class));
+
+		assertThat(result.get()).hasSize(3);
+		verify(session).executeAsync(batches.get(2));
+	}
+
+	@Test
+	public void shouldStopSubmittingBatchesAfterFailure() throws Exception {
+
+		final List<SettableResultSetFuture> futures = new ArrayList<SettableResultSetFuture>();
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				futures.add(future);
+
+				return future;
+			}
+		});
+
+		ListenableFuture<List<ResultSet>> result = writer.executeAsync(session,
+				Arrays.asList(mock(Statement.class), mock(Statement.class)), 1);
+
+		futures.get(0).setException(new IllegalStateException("Batch too large"));
+
+		assertThat(futures).hasSize(1);
+
+		try {
+			result.get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	public void shouldCancelBatchSubmittedWhileCancelling() {
+
+		final List<SettableResultSetFuture> futures = new ArrayList<SettableResultSetFuture>();
+		final AtomicReference<ListenableFuture<List<ResultSet>>> result = new AtomicReference<ListenableFuture<List<ResultSet>>>();
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+
+			@Override
+			public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+
+				if (!futures.isEmpty()) {
+					result.get().cancel(true);
+				}
+
+				SettableResultSetFuture future = new SettableResultSetFuture();
+				futures.add(future);
+
+				return future;
+			}
+		});
+
+		result.set(writer.executeAsync(session, Arrays.asList(mock(Statement.class), mock(Statement.class)), 1));
+
+		futures.get(0).set(mock(ResultSet.class));
+
+		assertThat(result.get().isCancelled()).isTrue();
+		assertThat(futures).hasSize(2);
+		assertThat(futures.get(1).isCancelled()).isTrue();
+	}
+
+	@Test
+	public void shouldCompleteEmptyExecution() throws Exception {
+		assertThat(writer.executeAsync(session, Collections.<Statement> emptyList(), 2).get()).isEmpty();
+	}
+
+	private static BatchStatement getBatch(Statement statement) {
+		return (BatchStatement) ((RoutedStatement) statement).getStatement();
+	}
+
+	@Table
+	static class Reading {
+
+		@PrimaryKeyColumn(ordinal = 2, type = PrimaryKeyType.PARTITIONED) String month;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.PARTITIONED) String sensor;
+
+		Reading(String sensor, String month) {
+			this.sensor = sensor;
+			this.month = month;
+		}
+	}
+
+	static class SettableResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+		@Override
+		public boolean set(ResultSet value) {
+			return super.set(value);
+		}
+
+		@Override
+		public boolean setException(Throwable throwable) {
+			return super.setException(throwable);
+		}
+
+		@Override
+		public ResultSet getUninterruptibly() {
+
+			try {
+				return Uninterruptibles.getUninterruptibly(this);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+
+		@Override
+		public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+
+			try {
+				return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+}
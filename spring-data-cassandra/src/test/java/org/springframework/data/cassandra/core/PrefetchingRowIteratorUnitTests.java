@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link PrefetchingRowIterator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PrefetchingRowIteratorUnitTests {
+
+	@Mock ResultSet resultSet;
+	@Mock Row row;
+
+	AtomicLong waitCount = new AtomicLong();
+	AtomicLong waitNanos = new AtomicLong();
+
+	@Test
+	public void shouldNotPrefetchAboveThreshold() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(100);
+		when(resultSet.one()).thenReturn(row);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 1, waitCount, waitNanos);
+
+		assertThat(iterator.next()).isSameAs(row);
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldPrefetchBelowThreshold() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(100, 10);
+		when(resultSet.one()).thenReturn(row);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 1, waitCount, waitNanos);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(resultSet).fetchMoreResults();
+		assertThat(waitCount.get()).isZero();
+	}
+
+	@Test
+	public void shouldPrefetchMultiplePagesAhead() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(100, 150);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 3, waitCount, waitNanos);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(resultSet).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldNotPrefetchFullyFetchedResult() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 1, waitCount, waitNanos);
+
+		assertThat(iterator.hasNext()).isTrue();
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void shouldRecordBlockingPageFetch() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+		when(resultSet.isExhausted()).thenReturn(false);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 1, waitCount, waitNanos);
+
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(waitCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldCompleteWhenFullyFetched() {
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		PrefetchingRowIterator iterator = new PrefetchingRowIterator(resultSet, 10, 1, waitCount, waitNanos);
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(waitCount.get()).isZero();
+	}
+}
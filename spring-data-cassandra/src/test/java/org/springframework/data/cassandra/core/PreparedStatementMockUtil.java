@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Session;
+
+/**
+ * Utility to stub {@link Session} configuration and {@link PreparedStatement} bind markers for entity statements.
+ */
+class PreparedStatementMockUtil {
+
+	private static final Map<String, DataType> COLUMN_TYPES = new HashMap<String, DataType>();
+
+	static {
+		COLUMN_TYPES.put("pages", DataType.cint());
+		COLUMN_TYPES.put("age", DataType.cint());
+		COLUMN_TYPES.put("saledate", DataType.timestamp());
+		COLUMN_TYPES.put("isinstock", DataType.cboolean());
+	}
+
+	/**
+	 * Stubs the {@link Configuration} of the given {@link Session} with the default codec registry.
+	 */
+	static void stubConfiguration(Session session) {
+		stubConfiguration(session, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	/**
+	 * Stubs the {@link Configuration} of the given {@link Session} with the given {@link CodecRegistry}.
+	 */
+	static void stubConfiguration(Session session, CodecRegistry codecRegistry) {
+
+		Cluster cluster = mock(Cluster.class);
+		Configuration configuration = mock(Configuration.class);
+		ProtocolOptions protocolOptions = mock(ProtocolOptions.class);
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+		when(configuration.getCodecRegistry()).thenReturn(codecRegistry);
+		when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+	}
+
+	/**
+	 * Stubs {@link Session#prepare(String)} to return the given {@link PreparedStatement} mock reporting the bind marker
+	 * types of the prepared CQL.
+	 */
+	static void stubPrepare(Session session, final PreparedStatement preparedStatement) {
+
+		final List<DataType> types = new ArrayList<DataType>();
+		ColumnDefinitions variables = getVariables(types);
+
+		stubConfiguration(session);
+
+		when(preparedStatement.getVariables()).thenReturn(variables);
+		when(session.prepare(anyString())).thenAnswer(new Answer<PreparedStatement>() {
+
+			@Override
+			public PreparedStatement answer(InvocationOnMock invocation) throws Throwable {
+
+				types.clear();
+				types.addAll(getBindMarkerTypes((String) invocation.getArguments()[0]));
+
+				return preparedStatement;
+			}
+		});
+	}
+
+	/**
+	 * Creates a {@link ColumnDefinitions} mock reporting the given bind marker {@code types}.
+	 */
+	static ColumnDefinitions getVariables(final List<DataType> types) {
+
+		ColumnDefinitions variables = mock(ColumnDefinitions.class);
+
+		when(variables.size()).thenReturn(types.size());
+		when(variables.getType(anyInt())).thenAnswer(new Answer<DataType>() {
+
+			@Override
+			public DataType answer(InvocationOnMock invocation) throws Throwable {
+				return types.get((Integer) invocation.getArguments()[0]);
+			}
+		});
+
+		return variables;
+	}
+
+	/**
+	 * Derives the bind marker types of the given {@code cql} from its column names.
+	 */
+	static List<DataType> getBindMarkerTypes(String cql) {
+
+		List<DataType> types = new ArrayList<DataType>();
+		boolean ttl = cql.contains("USING TTL ?");
+
+		if (cql.startsWith("INSERT")) {
+
+			for (String column : cql.substring(cql.indexOf('(') + 1, cql.indexOf(')')).split(",")) {
+				types.add(getColumnType(column));
+			}
+
+			if (ttl) {
+				types.add(DataType.cint());
+			}
+
+			return types;
+		}
+
+		if (ttl) {
+			types.add(DataType.cint());
+		}
+
+		Matcher matcher = Pattern.compile("(\\w+)=\\?").matcher(cql);
+
+		while (matcher.find()) {
+			types.add(getColumnType(matcher.group(1)));
+		}
+
+		return types;
+	}
+
+	private static DataType getColumnType(String column) {
+
+		DataType type = COLUMN_TYPES.get(column.trim().toLowerCase());
+
+		return (type != null ? type : DataType.text());
+	}
+}
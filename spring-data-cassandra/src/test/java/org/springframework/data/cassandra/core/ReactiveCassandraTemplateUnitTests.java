@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.springframework.cassandra.core.ReactiveCqlOperations;
+import org.springframework.cassandra.core.RowMapper;
+import org.springframework.data.cassandra.convert.CassandraConverter;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.test.integration.simpletons.Book;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link ReactiveCassandraTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCassandraTemplateUnitTests {
+
+	@Mock ReactiveCqlOperations reactiveCqlOperations;
+	@Mock CassandraConverter converter;
+	@Mock Publisher<Object> publisher;
+	@Mock Row row;
+
+	ReactiveCassandraTemplate template;
+
+	@Before
+	public void setUp() {
+		template = new ReactiveCassandraTemplate(reactiveCqlOperations, converter);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void selectShouldConvertRows() throws Exception {
+
+		ArgumentCaptor<RowMapper> captor = ArgumentCaptor.forClass(RowMapper.class);
+		when(reactiveCqlOperations.query(eq("SELECT * FROM book"), captor.capture())).thenReturn((Publisher) publisher);
+		when(converter.read(Book.class, row)).thenReturn(new Book());
+
+		assertThat(template.select("SELECT * FROM book", Book.class)).isSameAs(publisher);
+		assertThat(captor.getValue().mapRow(row, 0)).isInstanceOf(Book.class);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void selectAllShouldQueryEntityTable() {
+
+		MappingCassandraConverter mappingConverter = new MappingCassandraConverter();
+		mappingConverter.afterPropertiesSet();
+		template = new ReactiveCassandraTemplate(reactiveCqlOperations, mappingConverter);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		when(reactiveCqlOperations.query(captor.capture(), any(RowMapper.class))).thenReturn((Publisher) publisher);
+
+		template.selectAll(Book.class);
+
+		assertThat(captor.getValue().toString()).isEqualTo("SELECT * FROM book;");
+	}
+}
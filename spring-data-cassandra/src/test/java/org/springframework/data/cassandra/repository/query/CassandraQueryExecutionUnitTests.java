@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraPageRequest;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Unit tests for {@link CassandraQueryExecution}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraQueryExecutionUnitTests {
+
+	@Mock CassandraOperations operations;
+
+	@Test
+	public void slicedExecutionShouldSelectSliceOfPage() {
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.first(10);
+		BindableQuery query = BindableQuery.of("SELECT * FROM person");
+		Slice<Person> slice = new SliceImpl<Person>(Collections.<Person> emptyList());
+
+		when(operations.select("SELECT * FROM person", pageRequest, Person.class)).thenReturn(slice);
+
+		assertThat(new SlicedExecution(operations, pageRequest).execute(query, Person.class)).isSameAs(slice);
+	}
+
+	@Test
+	public void slicedExecutionShouldBindPreparedQuery() {
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.first(10);
+		BindableQuery query = BindableQuery.prepared("SELECT * FROM person WHERE id = ?",
+				Arrays.<Object> asList("walter"));
+		Slice<Person> slice = new SliceImpl<Person>(Collections.<Person> emptyList());
+
+		when(operations.select("SELECT * FROM person WHERE id = ?", query, pageRequest, Person.class)).thenReturn(slice);
+
+		assertThat(new SlicedExecution(operations, pageRequest).execute(query, Person.class)).isSameAs(slice);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void slicedExecutionShouldReturnSingleSliceWithoutPageable() {
+
+		Person person = new Person();
+		BindableQuery query = BindableQuery.of("SELECT * FROM person");
+
+		when(operations.select("SELECT * FROM person", Person.class)).thenReturn(Arrays.asList(person));
+
+		Slice<Person> slice = (Slice<Person>) new SlicedExecution(operations, null).execute(query, Person.class);
+
+		assertThat(slice.getContent()).containsExactly(person);
+		assertThat(slice.hasNext()).isFalse();
+	}
+}
@@ -17,11 +17,13 @@ package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -30,6 +32,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cassandra.core.cql.CqlIdentifier;
 import org.springframework.data.cassandra.convert.CassandraConverter;
 import org.springframework.data.cassandra.convert.MappingCassandraConverter;
@@ -45,6 +48,7 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 
@@ -149,6 +153,114 @@ public class PartTreeCassandraQueryUnitTests {
 		assertThat(query).isEqualTo("SELECT * FROM person WHERE mainaddress IN ({});");
 	}
 
+	@Test
+	public void shouldDeriveBindableQueryWithBindMarkers() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findByFirstnameAndLastname", String.class,
+				String.class);
+
+		BindableQuery first = deriveBindableQuery(partTreeQuery, "foo", "bar");
+		BindableQuery second = deriveBindableQuery(partTreeQuery, "baz", "qux");
+
+		assertThat(first.isPrepared()).isTrue();
+		assertThat(first.getCql()).isEqualTo("SELECT * FROM person WHERE firstname=? AND lastname=?;");
+		assertThat(first.getValues()).containsExactly("foo", "bar");
+		assertThat(second.getCql()).isSameAs(first.getCql());
+		assertThat(second.getValues()).containsExactly("baz", "qux");
+	}
+
+	@Test
+	public void shouldDeriveBindableInQuery() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findByFirstnameIn", Collection.class);
+
+		BindableQuery first = deriveBindableQuery(partTreeQuery, Arrays.asList("Hank", "Walter"));
+		BindableQuery second = deriveBindableQuery(partTreeQuery, Collections.singleton("Jesse"));
+
+		assertThat(first.getCql()).isEqualTo("SELECT * FROM person WHERE firstname IN ?;");
+		assertThat(first.getValues()).containsExactly(Arrays.<Object> asList("Hank", "Walter"));
+		assertThat(second.getValues()).containsExactly(Collections.<Object> singletonList("Jesse"));
+	}
+
+	@Test
+	public void shouldSelectColumnsOfInterfaceProjection() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findPersonProjectedBy");
+		RowProjection projection = getRowProjection(partTreeQuery);
+
+		BindableQuery query = partTreeQuery.createBindableQuery(getAccessor(partTreeQuery), projection);
+
+		assertThat(query.getCql()).isEqualTo("SELECT firstname,lastname FROM person;");
+
+		Object values = projection.convert(newRowMock(column("firstname", "Walter", DataType.varchar()),
+				column("lastname", "White", DataType.varchar())));
+
+		assertThat(values).isInstanceOf(Map.class);
+		assertThat((Map<?, ?>) values).containsEntry("firstname", "Walter").containsEntry("lastname", "White");
+	}
+
+	@Test
+	public void shouldReadDtoProjectionFromRow() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findPersonDtoByLastname", String.class);
+		RowProjection projection = getRowProjection(partTreeQuery);
+
+		BindableQuery query = partTreeQuery.createBindableQuery(getAccessor(partTreeQuery, "White"), projection);
+
+		assertThat(query.getCql()).isEqualTo("SELECT firstname,lastname FROM person WHERE lastname=?;");
+
+		Object dto = projection.convert(newRowMock(column("firstname", "Walter", DataType.varchar()),
+				column("lastname", "White", DataType.varchar())));
+
+		assertThat(dto).isInstanceOf(PersonDto.class);
+		assertThat(((PersonDto) dto).firstname).isEqualTo("Walter");
+		assertThat(((PersonDto) dto).lastname).isEqualTo("White");
+	}
+
+	@Test
+	public void shouldNotProjectColumnsForEntityResults() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findPersonBy");
+
+		assertThat(getRowProjection(partTreeQuery)).isNull();
+	}
+
+	@Test
+	public void shouldNotProjectUserDefinedTypes() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findAddressProjectedBy");
+
+		assertThat(getRowProjection(partTreeQuery)).isNull();
+	}
+
+	@Test
+	public void shouldNotProjectColumnsForOpenInterfaceProjection() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod("findOpenProjectedBy");
+
+		assertThat(getRowProjection(partTreeQuery)).isNull();
+		assertThat(partTreeQuery.createBindableQuery(getAccessor(partTreeQuery)).getCql())
+				.isEqualTo("SELECT * FROM person;");
+	}
+
+	private RowProjection getRowProjection(PartTreeCassandraQuery partTreeQuery) {
+		return partTreeQuery.getRowProjection(partTreeQuery.getQueryMethod().getResultProcessor().getReturnedType());
+	}
+
+	private ConvertingParameterAccessor getAccessor(PartTreeCassandraQuery partTreeQuery, Object... args) {
+		return new ConvertingParameterAccessor(mockCassandraOperations.getConverter(),
+				new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(), args));
+	}
+
+	private BindableQuery deriveBindableQuery(PartTreeCassandraQuery partTreeQuery, Object... args) {
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(),
+				args);
+
+		return partTreeQuery
+				.createBindableQuery(new ConvertingParameterAccessor(mockCassandraOperations.getConverter(), accessor));
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -211,6 +323,11 @@ public class PartTreeCassandraQueryUnitTests {
 
 		<T> T findDynamicallyProjectedBy(Class<T> type);
 
+		PersonDto findPersonDtoByLastname(String lastname);
+
+		AddressProjection findAddressProjectedBy();
+
+		OpenProjection findOpenProjectedBy();
 	}
 
 	interface PersonProjection {
@@ -219,4 +336,28 @@ public class PartTreeCassandraQueryUnitTests {
 
 		String getLastname();
 	}
+
+	interface OpenProjection {
+
+		String getFirstname();
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullName();
+	}
+
+	interface AddressProjection {
+
+		Address getMainAddress();
+	}
+
+	static class PersonDto {
+
+		final String firstname, lastname;
+
+		PersonDto(String firstname, String lastname) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.cassandra.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link RowProjection}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RowProjectionUnitTests {
+
+	@Mock ColumnDefinitions columns;
+	@Mock Row first;
+	@Mock Row second;
+
+	RowProjection projection;
+
+	@Before
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		projection = RowProjection.create(
+				ReturnedType.of(PersonProjection.class, Person.class, new SpelAwareProxyProjectionFactory()), converter,
+				new EntityInstantiators());
+
+		when(columns.getIndexOf("firstname")).thenReturn(0);
+		when(columns.getType(0)).thenReturn(DataType.varchar());
+		when(first.getColumnDefinitions()).thenReturn(columns);
+		when(first.getObject(0)).thenReturn("Walter");
+		when(second.getColumnDefinitions()).thenReturn(columns);
+		when(second.getObject(0)).thenReturn("Skyler");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldResolveColumnIndexesOncePerColumnDefinitions() {
+
+		assertThat((Map<String, Object>) projection.convert(first)).containsEntry("firstname", "Walter");
+		assertThat((Map<String, Object>) projection.convert(second)).containsEntry("firstname", "Skyler");
+
+		verify(columns, times(1)).getIndexOf("firstname");
+	}
+
+	interface PersonProjection {
+
+		String getFirstname();
+	}
+}
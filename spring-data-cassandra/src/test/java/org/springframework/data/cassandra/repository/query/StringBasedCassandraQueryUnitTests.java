@@ -344,6 +344,49 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery).isEqualTo("SELECT * FROM person WHERE address={city:NULL,country:NULL};");
 	}
 
+	@Test
+	public void reusesQueryTemplateAcrossInvocations() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastnameAndFirstname", String.class,
+				String.class);
+
+		String first = cassandraQuery.createQuery(
+				new CassandraParametersParameterAccessor(cassandraQuery.getQueryMethod(), "White", "Walter"));
+		String second = cassandraQuery.createQuery(
+				new CassandraParametersParameterAccessor(cassandraQuery.getQueryMethod(), "Pink", "Jesse"));
+
+		assertThat(first).isEqualTo("SELECT * FROM person WHERE lastname='White' AND firstname='Walter';");
+		assertThat(second).isEqualTo("SELECT * FROM person WHERE lastname='Pink' AND firstname='Jesse';");
+	}
+
+	@Test
+	public void bindsParametersAsBindMarkersForPreparedQuery() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findPreparedByLastnameAndFirstname", String.class,
+				String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White", "Walter");
+
+		BindableQuery query = cassandraQuery.createBindableQuery(accessor);
+
+		assertThat(query.isPrepared()).isTrue();
+		assertThat(query.getCql()).isEqualTo("SELECT * FROM person WHERE lastname=? AND firstname=? AND age=?;");
+		assertThat(query.getValues()).containsExactly("White", "Walter", 42);
+	}
+
+	@Test
+	public void createsLiteralQueryIfNotPrepared() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		BindableQuery query = cassandraQuery.createBindableQuery(accessor);
+
+		assertThat(query.isPrepared()).isFalse();
+		assertThat(query.getCql()).isEqualTo("SELECT * FROM person WHERE lastname = 'Matthews';");
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
 		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
@@ -420,6 +463,10 @@ public class StringBasedCassandraQueryUnitTests {
 		@Query("SELECT * FROM person WHERE address=?0;")
 		Person findByMainAddress(UDTValue udtValue);
 
+		@Query(value = "SELECT * FROM person WHERE lastname=?0 AND firstname=:firstname AND age=:#{42};",
+				prepared = true)
+		Person findPreparedByLastnameAndFirstname(String lastname, @Param("firstname") String firstname);
+
 		@ComposedQueryAnnotation
 		Person findByComposedQueryAnnotation(String lastname);
 	}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * Unit tests for {@link ArrayMapId}.
+ */
+public class ArrayMapIdUnitTests {
+
+	MapIdLayout layout = MapIdLayout.of("firstname", "lastname");
+
+	@Test
+	public void shouldStoreValuesInLayoutSlots() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("lastname", "White");
+
+		assertThat(id.hasValue(0)).isFalse();
+		assertThat(id.getValue(1)).isEqualTo("White");
+		assertThat(id.get("lastname")).isEqualTo("White");
+		assertThat(id.containsKey("firstname")).isFalse();
+		assertThat(id).hasSize(1);
+	}
+
+	@Test
+	public void shouldRetainNullValues() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("firstname", null);
+
+		assertThat(id.containsKey("firstname")).isTrue();
+		assertThat(id.get("firstname")).isNull();
+		assertThat(id).hasSize(1);
+	}
+
+	@Test
+	public void shouldKeepKeysOutsideOfLayout() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("firstname", "Walter").with("nickname", "Heisenberg");
+
+		assertThat(id).hasSize(2).containsEntry("nickname", "Heisenberg");
+		assertThat(id.getLayout()).isSameAs(layout);
+		assertThat(id.remove("nickname")).isEqualTo("Heisenberg");
+		assertThat(id).hasSize(1);
+	}
+
+	@Test
+	public void shouldBeEqualToBasicMapId() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("firstname", "Walter").with("lastname", "White");
+		MapIdLayout reversed = MapIdLayout.of("lastname", "firstname");
+
+		assertThat(id).isEqualTo(id("firstname", "Walter").with("lastname", "White"));
+		assertThat(id("firstname", "Walter").with("lastname", "White")).isEqualTo(id);
+		assertThat(id.hashCode()).isEqualTo(id("firstname", "Walter").with("lastname", "White").hashCode());
+		assertThat(id).isEqualTo(new ArrayMapId(reversed).with("lastname", "White").with("firstname", "Walter"));
+	}
+
+	@Test
+	public void shouldRemoveEntriesThroughIterator() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("firstname", "Walter").with("lastname", "White").with("nickname",
+				"Heisenberg");
+
+		Iterator<Entry<String, Serializable>> iterator = id.entrySet().iterator();
+
+		assertThat(iterator.next().getKey()).isEqualTo("firstname");
+		iterator.remove();
+		assertThat(iterator.next().getKey()).isEqualTo("lastname");
+		assertThat(iterator.next().getKey()).isEqualTo("nickname");
+		iterator.remove();
+		assertThat(iterator.hasNext()).isFalse();
+
+		assertThat(id).hasSize(1).containsEntry("lastname", "White");
+	}
+
+	@Test
+	public void shouldSerializeId() {
+
+		ArrayMapId id = new ArrayMapId(layout).with("lastname", "White");
+
+		ArrayMapId deserialized = (ArrayMapId) SerializationUtils.deserialize(SerializationUtils.serialize(id));
+
+		assertThat(deserialized).isEqualTo(id).hasSize(1);
+		assertThat(deserialized.hasValue(0)).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectDuplicateKeyNames() {
+		MapIdLayout.of("firstname", "firstname");
+	}
+}
@@ -263,6 +263,29 @@ public class MapIdFactoryUnitTests {
 		void string(Object o);
 	}
 
+	interface ExtendingHappyInterface extends HappyExtendingMapIdAndSerializable {
+
+		ExtendingHappyInterface name(String name);
+
+		String name();
+	}
+
+	@Test
+	public void shouldResolvePropertiesOfSuperInterfaces() {
+
+		ExtendingHappyInterface id = id(ExtendingHappyInterface.class);
+
+		id.setString("foo");
+		id.setNumber(42);
+		assertThat(id.name("bar")).isSameAs(id);
+
+		assertThat(id.getString()).isEqualTo("foo");
+		assertThat(id.number()).isEqualTo(42);
+		assertThat(id.name()).isEqualTo("bar");
+		assertThat(id.get("string")).isEqualTo("foo");
+		assertThat(id.size()).isEqualTo(3);
+	}
+
 	@Test
 	public void testUnhappies() {
 		Class<?>[] interfaces = new Class<?>[] { IdClass.class, IdExtendingNotMapId.class, LiteralGet.class,
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.cassandra.core.cql.CqlIdentifier;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraPageRequest;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Unit tests for {@link SimpleCassandraRepository}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SimpleCassandraRepositoryUnitTests {
+
+	@Mock CassandraOperations operations;
+	@Mock CassandraEntityInformation<Person, String> entityInformation;
+
+	SimpleCassandraRepository<Person, String> repository;
+
+	@Before
+	public void setUp() {
+
+		when(entityInformation.getTableName()).thenReturn(CqlIdentifier.cqlId("person"));
+		when(entityInformation.getJavaType()).thenReturn(Person.class);
+
+		repository = new SimpleCassandraRepository<Person, String>(entityInformation, operations);
+	}
+
+	@Test
+	public void findAllShouldSelectSliceOfTable() {
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.first(10);
+		Slice<Person> slice = new SliceImpl<Person>(Collections.<Person> emptyList());
+		ArgumentCaptor<Select> captor = ArgumentCaptor.forClass(Select.class);
+
+		when(operations.select(captor.capture(), eq(pageRequest), eq(Person.class))).thenReturn(slice);
+
+		assertThat(repository.findAll(pageRequest)).isSameAs(slice);
+		assertThat(captor.getValue().toString()).isEqualTo("SELECT * FROM person;");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findAllShouldRejectNullPageable() {
+		repository.findAll((CassandraPageRequest) null);
+	}
+}